@@ -2,8 +2,8 @@ package com.giozar04.accountCashbackSettings.infrastructure.handlers;
 
 import com.giozar04.accountCashbackSettings.application.services.AccountCashbackSettingService;
 import com.giozar04.accountCashbackSettings.infrastructure.controllers.AccountCashbackSettingControllers;
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 
 public class AccountCashbackSettingHandlers implements ServerRegisterHandlers {
 
@@ -14,7 +14,7 @@ public class AccountCashbackSettingHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(
             AccountCashbackSettingControllers.MessageTypes.CREATE_ACCOUNT_CASHBACK_SETTING,
             AccountCashbackSettingControllers.createSettingController(service)
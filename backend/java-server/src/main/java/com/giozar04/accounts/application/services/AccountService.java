@@ -1,6 +1,7 @@
 package com.giozar04.accounts.application.services;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.giozar04.accounts.domain.entities.Account;
 import com.giozar04.accounts.domain.interfaces.AccountRepositoryInterface;
@@ -37,4 +38,9 @@ public class AccountService implements AccountRepositoryInterface {
     public List<Account> getAllAccounts() {
         return accountRepository.getAllAccounts();
     }
+
+    @Override
+    public void forEachAccount(Consumer<? super Account> action) {
+        accountRepository.forEachAccount(action);
+    }
 }
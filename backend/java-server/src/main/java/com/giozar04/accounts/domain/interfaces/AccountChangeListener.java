@@ -0,0 +1,12 @@
+package com.giozar04.accounts.domain.interfaces;
+
+import java.util.Set;
+
+/**
+ * Recibe los ids de las cuentas cuyas filas cambiaron, ya confirmadas en la base de datos,
+ * ya sea por una escritura directa o por los triggers de saldos.
+ */
+@FunctionalInterface
+public interface AccountChangeListener {
+    void accountsChanged(Set<Long> accountIds);
+}
@@ -1,6 +1,7 @@
 package com.giozar04.accounts.domain.interfaces;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.giozar04.accounts.domain.entities.Account;
 
@@ -10,4 +11,5 @@ public interface AccountRepositoryInterface {
     Account updateAccountById(long id, Account account);
     void deleteAccountById(long id);
     List<Account> getAllAccounts();
+    void forEachAccount(Consumer<? super Account> action);
 }
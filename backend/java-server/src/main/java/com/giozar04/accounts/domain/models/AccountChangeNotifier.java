@@ -0,0 +1,65 @@
+package com.giozar04.accounts.domain.models;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.giozar04.accounts.domain.interfaces.AccountChangeListener;
+import com.giozar04.databases.domain.models.TransactionScope;
+
+/**
+ * Avisa a los interesados (la caché de cuentas) de qué cuentas cambiaron.
+ *
+ * Los saldos cambian sobre todo por los triggers de transactions y wallet_transaction_details,
+ * no por AccountRepositoryMySQL, así que los repositorios que escriben esas tablas reciben este
+ * objeto y avisan con los ids de cuenta que tocan. El aviso se da después del commit, para que
+ * una lectura posterior no vuelva a cargar los datos anteriores.
+ */
+public class AccountChangeNotifier {
+
+    private final List<AccountChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    public void addListener(AccountChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @return true si alguien escucha; si no, los repositorios pueden ahorrarse las consultas
+     *         que solo sirven para saber qué cuentas cambiaron.
+     */
+    public boolean hasListeners() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Avisa de inmediato; para escrituras ya confirmadas. Los ids null se ignoran.
+     */
+    public void accountsChanged(Long... accountIds) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Long id : accountIds) {
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<Long> changed = Set.copyOf(ids);
+        for (AccountChangeListener listener : listeners) {
+            listener.accountsChanged(changed);
+        }
+    }
+
+    /**
+     * Avisa cuando el scope se confirme; si termina en rollback no hay aviso.
+     */
+    public void accountsChangedAfterCommit(TransactionScope scope, Long... accountIds) {
+        if (!listeners.isEmpty()) {
+            scope.afterCommit(() -> accountsChanged(accountIds));
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.giozar04.accounts.domain.models;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import com.giozar04.accounts.domain.entities.Account;
 import com.giozar04.accounts.domain.enums.AccountTypes;
 import com.giozar04.accounts.domain.interfaces.AccountRepositoryInterface;
 import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
 import com.giozar04.logging.CustomLogger;
 
 
@@ -14,10 +16,20 @@ public abstract class AccountRepositoryAbstract implements AccountRepositoryInte
 
     protected final DatabaseConnectionInterface databaseConnection;
     protected final CustomLogger logger = CustomLogger.getInstance();
+    protected final AccountChangeNotifier accountChanges;
 
     protected AccountRepositoryAbstract(DatabaseConnectionInterface databaseConnection) {
+        this(databaseConnection, new AccountChangeNotifier());
+    }
+
+    /**
+     * @param accountChanges Recibe los ids de las cuentas que cambian con cada escritura
+     *        confirmada (por ejemplo, para invalidar la caché de cuentas).
+     */
+    protected AccountRepositoryAbstract(DatabaseConnectionInterface databaseConnection, AccountChangeNotifier accountChanges) {
         this.databaseConnection = Objects.requireNonNull(databaseConnection, 
             "La conexión a la base de datos no puede ser nula");
+        this.accountChanges = Objects.requireNonNull(accountChanges, "El notificador de cambios de cuentas no puede ser nulo");
     }
 
     protected void validateAccount(Account account) {
@@ -95,4 +107,15 @@ public abstract class AccountRepositoryAbstract implements AccountRepositoryInte
 
     @Override
     public abstract List<Account> getAllAccounts();
+
+    @Override
+    public abstract void forEachAccount(Consumer<? super Account> action);
+
+    // Variantes que participan en una unidad de trabajo: no confirman, lo hace quien abrió el scope
+
+    public abstract Account createAccount(Account account, TransactionScope scope);
+
+    public abstract Account updateAccountById(long id, Account account, TransactionScope scope);
+
+    public abstract void deleteAccountById(long id, TransactionScope scope);
 }
@@ -1,8 +1,6 @@
 package com.giozar04.accounts.infrastructure.controllers;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import com.giozar04.accounts.application.services.AccountService;
 import com.giozar04.accounts.application.utils.AccountUtils;
@@ -11,6 +9,7 @@ import com.giozar04.logging.CustomLogger;
 import com.giozar04.messages.domain.models.Message;
 import com.giozar04.servers.domain.handlers.MessageHandler;
 import com.giozar04.servers.domain.models.ClientConnection;
+import com.giozar04.servers.domain.models.StreamedResponse;
 
 public class AccountControllers {
 
@@ -24,23 +23,21 @@ public class AccountControllers {
         public static final String GET_ALL_ACCOUNTS = "GET_ALL_ACCOUNTS";
     }
 
-    @SuppressWarnings("unchecked")
     public static MessageHandler createAccountController(AccountService accountService) {
         return (ClientConnection clientConnection, Message message) -> {
             LOGGER.info("Procesando solicitud de creación de cuenta");
 
-            Map<String, Object> data = (Map<String, Object>) message.getData("account");
-            if (data == null) {
+            Account account = AccountUtils.dataToAccount(message.getData("account"));
+            if (account == null) {
                 return Message.createErrorMessage(AccountMessageTypes.CREATE_ACCOUNT,
                         "Datos de cuenta no proporcionados");
             }
 
-            Account account = AccountUtils.mapToAccount(data);
             Account created = accountService.createAccount(account);
 
             Message response = Message.createSuccessMessage(AccountMessageTypes.CREATE_ACCOUNT,
                     "Cuenta creada exitosamente");
-            response.addData("account", AccountUtils.accountToMap(created));
+            response.addData("account", created);
             return response;
         };
     }
@@ -58,7 +55,7 @@ public class AccountControllers {
             Account account = accountService.getAccountById(id);
             Message response = Message.createSuccessMessage(AccountMessageTypes.GET_ACCOUNT,
                     "Cuenta obtenida exitosamente");
-            response.addData("account", AccountUtils.accountToMap(account));
+            response.addData("account", account);
             return response;
         };
     }
@@ -73,19 +70,17 @@ public class AccountControllers {
                         "ID de cuenta inválido o no proporcionado");
             }
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) message.getData("account");
-            if (data == null) {
+            Account account = AccountUtils.dataToAccount(message.getData("account"));
+            if (account == null) {
                 return Message.createErrorMessage(AccountMessageTypes.UPDATE_ACCOUNT,
                         "Datos de cuenta no proporcionados");
             }
 
-            Account account = AccountUtils.mapToAccount(data);
             Account updated = accountService.updateAccountById(id, account);
 
             Message response = Message.createSuccessMessage(AccountMessageTypes.UPDATE_ACCOUNT,
                     "Cuenta actualizada exitosamente");
-            response.addData("account", AccountUtils.accountToMap(updated));
+            response.addData("account", updated);
             return response;
         };
     }
@@ -111,17 +106,17 @@ public class AccountControllers {
         return (ClientConnection clientConnection, Message message) -> {
             LOGGER.info("Procesando solicitud de obtención de todas las cuentas");
 
-            List<Account> accounts = accountService.getAllAccounts();
-            List<Map<String, Object>> list = new ArrayList<>();
-
-            for (Account account : accounts) {
-                list.add(AccountUtils.accountToMap(account));
+            if (message.isStreamRequested()) {
+                return new StreamedResponse<Account>(AccountMessageTypes.GET_ALL_ACCOUNTS,
+                        "Cuentas obtenidas exitosamente", "accounts", accountService::forEachAccount);
             }
 
+            List<Account> accounts = accountService.getAllAccounts();
+
             Message response = Message.createSuccessMessage(AccountMessageTypes.GET_ALL_ACCOUNTS,
                     "Cuentas obtenidas exitosamente");
-            response.addData("accounts", list);
-            response.addData("count", list.size());
+            response.addData("accounts", accounts);
+            response.addData("count", accounts.size());
 
             return response;
         };
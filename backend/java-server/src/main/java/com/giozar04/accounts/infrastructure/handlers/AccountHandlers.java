@@ -2,8 +2,8 @@ package com.giozar04.accounts.infrastructure.handlers;
 
 import com.giozar04.accounts.application.services.AccountService;
 import com.giozar04.accounts.infrastructure.controllers.AccountControllers;
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 
 public class AccountHandlers implements ServerRegisterHandlers {
 
@@ -14,7 +14,7 @@ public class AccountHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(
             AccountControllers.AccountMessageTypes.CREATE_ACCOUNT,
             AccountControllers.createAccountController(accountService)
@@ -0,0 +1,91 @@
+package com.giozar04.accounts.infrastructure.repositories;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import com.giozar04.accounts.domain.entities.Account;
+import com.giozar04.accounts.domain.interfaces.AccountChangeListener;
+import com.giozar04.accounts.domain.interfaces.AccountRepositoryInterface;
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
+import com.giozar04.caches.domain.models.CacheRegistry;
+import com.giozar04.caches.domain.models.CacheStats;
+import com.giozar04.caches.domain.models.ReferenceDataCache;
+
+/**
+ * Decorador con caché en memoria de cuentas sobre AccountRepositoryMySQL, que evita repetir
+ * la consulta con los cinco LEFT JOIN de detalles en cada lectura.
+ *
+ * Los saldos cambian por los triggers de transacciones y de detalles wallet, así que la caché
+ * no se invalida en sus propias escrituras sino con los avisos de AccountChangeNotifier: los
+ * repositorios de cuentas, transacciones y detalles wallet avisan de las cuentas que tocan
+ * después de cada commit. MySQL sigue siendo la fuente de verdad.
+ */
+public class AccountRepositoryCached implements AccountRepositoryInterface, AccountChangeListener {
+
+    private final AccountRepositoryInterface delegate;
+    private final ReferenceDataCache<Account> cache;
+
+    /**
+     * @param delegate El repositorio real; debe avisar a accountChanges de sus escrituras.
+     * @param accountChanges Avisos de cuentas modificadas; esta caché se registra en él.
+     * @param maxEntries Máximo de cuentas en memoria.
+     */
+    public AccountRepositoryCached(AccountRepositoryInterface delegate, AccountChangeNotifier accountChanges,
+            int maxEntries) {
+        this.delegate = delegate;
+        this.cache = new ReferenceDataCache<>("accounts", maxEntries, Account::getId, Account::getUserId);
+        CacheRegistry.register(cache);
+        accountChanges.addListener(this);
+    }
+
+    @Override
+    public void accountsChanged(Set<Long> accountIds) {
+        for (long id : accountIds) {
+            cache.invalidate(id);
+        }
+    }
+
+    @Override
+    public Account createAccount(Account account) {
+        return delegate.createAccount(account);
+    }
+
+    @Override
+    public Account getAccountById(long id) {
+        return cache.getById(id, delegate::getAccountById);
+    }
+
+    @Override
+    public Account updateAccountById(long id, Account account) {
+        return delegate.updateAccountById(id, account);
+    }
+
+    @Override
+    public void deleteAccountById(long id) {
+        delegate.deleteAccountById(id);
+    }
+
+    @Override
+    public List<Account> getAllAccounts() {
+        return cache.getAll(delegate::getAllAccounts);
+    }
+
+    /**
+     * Si la lista completa está en memoria se recorre desde ahí; si no, se lee por partes de
+     * la base de datos sin llenar la caché.
+     */
+    @Override
+    public void forEachAccount(Consumer<? super Account> action) {
+        List<Account> cached = cache.peekAll();
+        if (cached != null) {
+            cached.forEach(action);
+        } else {
+            delegate.forEachAccount(action);
+        }
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+}
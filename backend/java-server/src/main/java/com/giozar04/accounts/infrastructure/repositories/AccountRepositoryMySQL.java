@@ -10,12 +10,15 @@ import java.sql.Types;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.giozar04.accounts.domain.entities.Account;
 import com.giozar04.accounts.domain.enums.AccountTypes;
 import com.giozar04.accounts.domain.exceptions.AccountExceptions;
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
 import com.giozar04.accounts.domain.models.AccountRepositoryAbstract;
 import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
 
 public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
 
@@ -38,6 +41,20 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
         UPDATE accounts SET user_id = ?, name = ?, type = ?, current_balance = ?, updated_at = ? WHERE id = ?
     """;
 
+    // Saldo inicial para la conciliación de saldos (balanceReconciliation). Un cambio de saldo
+    // a mano mueve el saldo inicial en la misma cantidad, igual que quitar credit_details al
+    // cambiar de tipo una cuenta de crédito (su deuda deja de contar en el saldo neto)
+    private static final String SQL_INSERT_BASELINE =
+        "INSERT INTO account_balance_baselines (account_id, opening_balance) VALUES (?, ?)";
+
+    private static final String SQL_ADJUST_BASELINE = """
+        UPDATE account_balance_baselines b
+        JOIN accounts a ON a.id = b.account_id
+        LEFT JOIN credit_details cd ON cd.account_id = a.id
+        SET b.opening_balance = b.opening_balance + (? - a.current_balance) + IF(?, 0, COALESCE(cd.credit_used, 0))
+        WHERE b.account_id = ?
+    """;
+
     private static final String SQL_UPDATE_BANK = """
         INSERT INTO bank_details (account_id, bank_client_id, clabe, account_number, can_transfer_out, created_at, updated_at)
         VALUES (?, ?, ?, ?, ?, ?, ?)
@@ -72,8 +89,11 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
         VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
     """;
 
+    // Una cuenta puede tener varias posiciones (las vencidas y sus reinversiones); la cuenta
+    // expone y edita solo la más reciente. La tabla derivada evita el error 1093 de MySQL.
     private static final String SQL_UPDATE_INVESTMENT = """
-        UPDATE investment_details
+        UPDATE investment_details inv
+        JOIN (SELECT MAX(id) AS id FROM investment_details WHERE account_id = ?) cur ON cur.id = inv.id
         SET instrument_type       = ?,
             term_days             = ?,
             principal_amount      = ?,
@@ -86,7 +106,6 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
             reinvest_term_days    = ?,
             reinvest_annual_yield = ?,
             updated_at            = ?
-        WHERE account_id = ?
     """;
 
 
@@ -109,7 +128,9 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
         LEFT JOIN bank_details bd ON a.id = bd.account_id
         LEFT JOIN credit_details cd ON a.id = cd.account_id
         LEFT JOIN savings_details sd ON a.id = sd.account_id
-        LEFT JOIN investment_details inv ON a.id = inv.account_id
+        LEFT JOIN investment_details inv ON inv.id = (
+            SELECT MAX(cur.id) FROM investment_details cur WHERE cur.account_id = a.id
+        )
     """;
 
 
@@ -122,8 +143,28 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
         super(databaseConnection);
     }
 
+    public AccountRepositoryMySQL(DatabaseConnectionInterface databaseConnection, AccountChangeNotifier accountChanges) {
+        super(databaseConnection, accountChanges);
+    }
+
     @Override
     public Account createAccount(Account account) {
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            Account created = createAccount(account, scope);
+            scope.commit();
+            logger.info("Cuenta creada con ID: " + created.getId());
+            return created;
+        } catch (SQLException e) {
+            logger.error("Error al crear cuenta: " + e.getMessage(), e);
+            throw new AccountExceptions.AccountCreationException("Error al crear la cuenta", e);
+        }
+    }
+
+    /**
+     * Inserta la cuenta y sus detalles dentro del scope recibido, sin confirmar.
+     */
+    @Override
+    public Account createAccount(Account account, TransactionScope scope) {
         validateAccount(account);
 
         if (account.getCreatedAt() == null) account.setCreatedAt(ZonedDateTime.now());
@@ -132,8 +173,8 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
         Timestamp createdTs = Timestamp.valueOf(account.getCreatedAt().toLocalDateTime());
         Timestamp updatedTs = Timestamp.valueOf(account.getUpdatedAt().toLocalDateTime());
 
-        try (Connection conn = databaseConnection.getConnection()) {
-            
+        Connection conn = scope.getConnection();
+        try {
             // 1. Insert Base Account
             try (PreparedStatement stmt = conn.prepareStatement(SQL_INSERT_ACCOUNT, Statement.RETURN_GENERATED_KEYS)) {
                 stmt.setLong(1, account.getUserId());
@@ -153,6 +194,12 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
                 }
             }
 
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_INSERT_BASELINE)) {
+                stmt.setLong(1, account.getId());
+                stmt.setDouble(2, account.getCurrentBalance());
+                stmt.executeUpdate();
+            }
+
             // 2. Insert Details Based on Type
             boolean isLinked = account.getType() != AccountTypes.CASH
                             && account.getType() != AccountTypes.SAVINGS
@@ -233,17 +280,14 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
                 }
             }
 
-            databaseConnection.commitTransaction();
-            logger.info("Cuenta creada con ID: " + account.getId());
+            accountChanges.accountsChangedAfterCommit(scope, account.getId());
             return account;
 
         } catch (SQLException e) {
             logger.error("Error al crear cuenta: " + e.getMessage(), e);
-            rollback();
             throw new AccountExceptions.AccountCreationException("Error al crear la cuenta", e);
         } catch (IllegalArgumentException e) {
             logger.error("Error de formato (probablemente de fecha) al crear cuenta: " + e.getMessage(), e);
-            rollback();
             throw new AccountExceptions.AccountCreationException("Error en el formato de los datos", e);
         }
     }
@@ -271,6 +315,21 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
 
     @Override
     public Account updateAccountById(long id, Account account) {
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            Account updated = updateAccountById(id, account, scope);
+            scope.commit();
+            return updated;
+        } catch (SQLException e) {
+            logger.error("Error al actualizar cuenta con ID " + id + ": " + e.getMessage(), e);
+            throw new AccountExceptions.AccountUpdateException("Error al actualizar cuenta con ID: " + id, e);
+        }
+    }
+
+    /**
+     * Actualiza la cuenta y sus detalles dentro del scope recibido, sin confirmar.
+     */
+    @Override
+    public Account updateAccountById(long id, Account account, TransactionScope scope) {
         validateId(id);
         validateAccount(account);
         account.setUpdatedAt(ZonedDateTime.now());
@@ -278,7 +337,15 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
         Timestamp createdTs = Timestamp.valueOf(account.getCreatedAt() != null ? account.getCreatedAt().toLocalDateTime() : ZonedDateTime.now().toLocalDateTime());
         Timestamp updatedTs = Timestamp.valueOf(account.getUpdatedAt().toLocalDateTime());
 
-        try (Connection conn = databaseConnection.getConnection()) {
+        Connection conn = scope.getConnection();
+        try {
+            // Antes del UPDATE, mientras accounts y credit_details tienen los valores anteriores
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_ADJUST_BASELINE)) {
+                stmt.setDouble(1, account.getCurrentBalance());
+                stmt.setBoolean(2, account.getType() == AccountTypes.CREDIT);
+                stmt.setLong(3, id);
+                stmt.executeUpdate();
+            }
 
             try (PreparedStatement stmt = conn.prepareStatement(SQL_UPDATE_ACCOUNT)) {
                 stmt.setLong(1, account.getUserId());
@@ -363,49 +430,57 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
 
             if (isInvestment) {
                 try (PreparedStatement stmt = conn.prepareStatement(SQL_UPDATE_INVESTMENT)) {
-                    stmt.setString(1, account.getInstrumentType());
-                    if (account.getTermDays() != null) stmt.setInt(2, account.getTermDays()); else stmt.setNull(2, Types.INTEGER);
-                    stmt.setDouble(3, account.getPrincipalAmount());
-                    stmt.setDouble(4, account.getInvestmentAnnualYield());
-                    stmt.setInt(5, account.getDayCountBasis() != null ? account.getDayCountBasis() : 360);
+                    stmt.setLong(1, id);  // posición más reciente de la cuenta
+                    stmt.setString(2, account.getInstrumentType());
+                    if (account.getTermDays() != null) stmt.setInt(3, account.getTermDays()); else stmt.setNull(3, Types.INTEGER);
+                    stmt.setDouble(4, account.getPrincipalAmount());
+                    stmt.setDouble(5, account.getInvestmentAnnualYield());
+                    stmt.setInt(6, account.getDayCountBasis() != null ? account.getDayCountBasis() : 360);
 
                     String sd = account.getStartDate();
-                    if (sd != null && !sd.trim().isEmpty()) stmt.setDate(6, java.sql.Date.valueOf(sd.trim())); else stmt.setNull(6, Types.DATE);
+                    if (sd != null && !sd.trim().isEmpty()) stmt.setDate(7, java.sql.Date.valueOf(sd.trim())); else stmt.setNull(7, Types.DATE);
 
                     String md = account.getMaturityDate();
-                    if (md != null && !md.trim().isEmpty()) stmt.setDate(7, java.sql.Date.valueOf(md.trim())); else stmt.setNull(7, Types.DATE);
-
-                    stmt.setString(8, account.getInvestmentStatus() != null ? account.getInvestmentStatus() : "ACTIVE");
-                    stmt.setBoolean(9, account.getAutoReinvest() != null ? account.getAutoReinvest() : false);
-                    if (account.getReinvestTermDays() != null) stmt.setInt(10, account.getReinvestTermDays()); else stmt.setNull(10, Types.INTEGER);
-                    if (account.getReinvestAnnualYield() != null) stmt.setDouble(11, account.getReinvestAnnualYield()); else stmt.setNull(11, Types.DECIMAL);
-                    stmt.setTimestamp(12, updatedTs);
-                    stmt.setLong(13, id);  // WHERE account_id = ?
+                    if (md != null && !md.trim().isEmpty()) stmt.setDate(8, java.sql.Date.valueOf(md.trim())); else stmt.setNull(8, Types.DATE);
+
+                    stmt.setString(9, account.getInvestmentStatus() != null ? account.getInvestmentStatus() : "ACTIVE");
+                    stmt.setBoolean(10, account.getAutoReinvest() != null ? account.getAutoReinvest() : false);
+                    if (account.getReinvestTermDays() != null) stmt.setInt(11, account.getReinvestTermDays()); else stmt.setNull(11, Types.INTEGER);
+                    if (account.getReinvestAnnualYield() != null) stmt.setDouble(12, account.getReinvestAnnualYield()); else stmt.setNull(12, Types.DECIMAL);
+                    stmt.setTimestamp(13, updatedTs);
                     stmt.executeUpdate();
                 }
             }
 
-            databaseConnection.commitTransaction();
             account.setId(id);
+            accountChanges.accountsChangedAfterCommit(scope, id);
             return account;
 
         } catch (SQLException e) {
             logger.error("Error al actualizar cuenta con ID " + id + ": " + e.getMessage(), e);
-            rollback();
             throw new AccountExceptions.AccountUpdateException("Error al actualizar cuenta con ID: " + id, e);
         } catch (IllegalArgumentException e) {
             logger.error("Error de formato (probablemente de fecha) al actualizar cuenta con ID " + id + ": " + e.getMessage(), e);
-            rollback();
             throw new AccountExceptions.AccountUpdateException("Error en el formato de los datos", e);
         }
     }
 
     @Override
     public void deleteAccountById(long id) {
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            deleteAccountById(id, scope);
+            scope.commit();
+            logger.info("Cuenta eliminada con ID: " + id);
+        } catch (SQLException e) {
+            throw new AccountExceptions.AccountDeletionException("Error al eliminar cuenta con ID: " + id, e);
+        }
+    }
+
+    @Override
+    public void deleteAccountById(long id, TransactionScope scope) {
         validateId(id);
 
-        try (Connection conn = databaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SQL_DELETE)) {
+        try (PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_DELETE)) {
 
             stmt.setLong(1, id);
 
@@ -413,12 +488,9 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
             if (affected == 0) {
                 throw new AccountExceptions.AccountNotFoundException("Cuenta no encontrada con ID: " + id, null);
             }
-
-            databaseConnection.commitTransaction();
-            logger.info("Cuenta eliminada con ID: " + id);
+            accountChanges.accountsChangedAfterCommit(scope, id);
 
         } catch (SQLException e) {
-            rollback();
             throw new AccountExceptions.AccountDeletionException("Error al eliminar cuenta con ID: " + id, e);
         }
     }
@@ -446,11 +518,29 @@ public class AccountRepositoryMySQL extends AccountRepositoryAbstract {
         }
     }
 
-    private void rollback() {
-        try {
-            databaseConnection.rollbackTransaction();
-        } catch (SQLException ex) {
-            logger.error("Error al hacer rollback: " + ex.getMessage());
+    /**
+     * Entrega las cuentas una por una mientras se leen del ResultSet, sin construir la lista.
+     * La conexión queda ocupada hasta que la acción procesa la última fila.
+     */
+    @Override
+    public void forEachAccount(Consumer<? super Account> action) {
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = databaseConnection.prepareStreamingStatement(conn, SQL_SELECT_ALL);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                Account account;
+                try {
+                    account = mapResultSetToAccount(rs);
+                } catch (IllegalArgumentException e) {
+                    logger.error("Omitiendo cuenta inválida (posiblemente un tipo antiguo): " + e.getMessage());
+                    continue;
+                }
+                action.accept(account);
+            }
+
+        } catch (SQLException e) {
+            throw new AccountExceptions.AccountRetrievalException("Error al obtener todas las cuentas", e);
         }
     }
 
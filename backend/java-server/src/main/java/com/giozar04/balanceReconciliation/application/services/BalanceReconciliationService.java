@@ -0,0 +1,163 @@
+package com.giozar04.balanceReconciliation.application.services;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationMode;
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationPhase;
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationStatus;
+import com.giozar04.balanceReconciliation.domain.interfaces.BalanceReconciliationRepositoryInterface;
+import com.giozar04.balanceReconciliation.domain.models.BalanceCheck;
+import com.giozar04.balanceReconciliation.domain.models.BalanceReconciliationRun;
+import com.giozar04.balanceReconciliation.domain.models.ReconciliationOptions;
+import com.giozar04.logging.CustomLogger;
+
+/**
+ * Recorre todas las cuentas y después todos los usuarios en bloques de chunkSize ids.
+ *
+ * Cada bloque se reparte en un ForkJoinPool en tareas de leafSize ids; cada tarea revisa sus
+ * cuentas con una sola consulta en su propia transacción de lectura, así que no se bloquea
+ * ninguna fila mientras se revisa. En modo REPAIR las diferencias del bloque se corrigen una
+ * por una, cada una en una transacción corta; las estructurales solo se reportan. Al terminar el bloque se guardan juntos el
+ * cursor, los contadores y las diferencias; si la ejecución se interrumpe, resume(id) la
+ * continúa desde el último bloque guardado.
+ */
+public class BalanceReconciliationService {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    private final BalanceReconciliationRepositoryInterface repository;
+    private final ReconciliationOptions options;
+
+    public BalanceReconciliationService(BalanceReconciliationRepositoryInterface repository, ReconciliationOptions options) {
+        options.validate();
+        this.repository = repository;
+        this.options = options;
+    }
+
+    /**
+     * Inicia y ejecuta una conciliación completa.
+     */
+    public BalanceReconciliationRun reconcile(ReconciliationMode mode) {
+        return execute(repository.startRun(mode));
+    }
+
+    /**
+     * Continúa una conciliación interrumpida o fallida desde su último bloque guardado.
+     *
+     * @throws IllegalStateException Si la conciliación ya terminó.
+     */
+    public BalanceReconciliationRun resume(long runId) {
+        BalanceReconciliationRun run = repository.getRunById(runId);
+        if (run.getStatus() == ReconciliationStatus.COMPLETED) {
+            throw new IllegalStateException("La conciliación " + runId + " ya terminó");
+        }
+        run.setStatus(ReconciliationStatus.RUNNING);
+        LOGGER.info("Continuando la conciliación " + runId + " desde " + run.getPhase());
+        return execute(run);
+    }
+
+    private BalanceReconciliationRun execute(BalanceReconciliationRun run) {
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(options.getParallelism());
+        try {
+            if (run.getPhase() == ReconciliationPhase.ACCOUNTS) {
+                processPhase(run, pool, run::getLastAccountId, run::setLastAccountId,
+                        repository::getNextAccountIds, repository::checkAccounts, repository::repairAccount);
+                run.setPhase(ReconciliationPhase.USERS);
+                repository.saveProgress(run, List.of());
+            }
+            if (run.getPhase() == ReconciliationPhase.USERS) {
+                processPhase(run, pool, run::getLastUserId, run::setLastUserId,
+                        repository::getNextUserIds, repository::checkUsers, repository::repairUser);
+            }
+
+            run.setPhase(ReconciliationPhase.DONE);
+            run.setStatus(ReconciliationStatus.COMPLETED);
+            run.setFinishedAt(ZonedDateTime.now());
+            repository.saveProgress(run, List.of());
+            LOGGER.info(run + " en " + (System.nanoTime() - start) / 1_000_000 + " ms");
+            return run;
+
+        } catch (RuntimeException e) {
+            run.setStatus(ReconciliationStatus.FAILED);
+            try {
+                repository.saveProgress(run, List.of());
+            } catch (RuntimeException saveError) {
+                e.addSuppressed(saveError);
+            }
+            LOGGER.error("La conciliación " + run.getId() + " falló; se puede continuar con su ID. " + run, e);
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private interface NextIds {
+        List<Long> after(long afterId, int limit);
+    }
+
+    private void processPhase(BalanceReconciliationRun run, ForkJoinPool pool, LongSupplier lastId, LongConsumer setLastId,
+                              NextIds nextIds, Function<List<Long>, List<BalanceCheck>> check,
+                              Consumer<BalanceCheck> repair) {
+        List<Long> ids;
+        while (!(ids = nextIds.after(lastId.getAsLong(), options.getChunkSize())).isEmpty()) {
+            List<BalanceCheck> checks = pool.invoke(new CheckTask(ids, options.getLeafSize(), check));
+
+            List<BalanceCheck> findings = new ArrayList<>();
+            for (BalanceCheck result : checks) {
+                if (!result.isDrifted()) continue;
+                if (result.isStructural()) {
+                    result.setMessage("Diferencia estructural de los triggers de crédito o wallet; no se corrige");
+                } else if (run.getMode() == ReconciliationMode.REPAIR) {
+                    repair.accept(result);
+                }
+                findings.add(result);
+            }
+
+            run.count(checks);
+            setLastId.accept(ids.get(ids.size() - 1));
+            repository.saveProgress(run, findings);
+            if (!findings.isEmpty()) {
+                LOGGER.info(() -> "Conciliación " + run.getId() + ": " + findings.size() + " diferencias hasta el ID " + lastId.getAsLong());
+            }
+        }
+    }
+
+    /**
+     * Divide la lista de ids a la mitad hasta que cada parte cabe en una consulta.
+     */
+    private static final class CheckTask extends RecursiveTask<List<BalanceCheck>> {
+
+        private final List<Long> ids;
+        private final int leafSize;
+        private final Function<List<Long>, List<BalanceCheck>> check;
+
+        CheckTask(List<Long> ids, int leafSize, Function<List<Long>, List<BalanceCheck>> check) {
+            this.ids = ids;
+            this.leafSize = leafSize;
+            this.check = check;
+        }
+
+        @Override
+        protected List<BalanceCheck> compute() {
+            if (ids.size() <= leafSize) {
+                return check.apply(ids);
+            }
+            int middle = ids.size() / 2;
+            CheckTask left = new CheckTask(ids.subList(0, middle), leafSize, check);
+            CheckTask right = new CheckTask(ids.subList(middle, ids.size()), leafSize, check);
+            left.fork();
+            List<BalanceCheck> results = new ArrayList<>(right.compute());
+            results.addAll(0, left.join());
+            return results;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.giozar04.balanceReconciliation.domain.enums;
+
+public enum ReconciliationMode {
+    REPORT("REPORT", "Solo reportar"),
+    REPAIR("REPAIR", "Reportar y corregir");
+
+    private final String value;
+    private final String label;
+
+    ReconciliationMode(String value, String label) {
+        this.value = value;
+        this.label = label;
+    }
+
+    public String getValue() { return value; }
+    public String getLabel() { return label; }
+
+    @Override
+    public String toString() { return label; }
+
+    public static ReconciliationMode fromValue(String value) {
+        for (ReconciliationMode mode : values()) {
+            if (mode.getValue().equalsIgnoreCase(value)) return mode;
+        }
+        throw new IllegalArgumentException("Modo de conciliación no válido: " + value);
+    }
+}
@@ -0,0 +1,26 @@
+package com.giozar04.balanceReconciliation.domain.enums;
+
+/**
+ * Etapas de una conciliación, en orden: primero las cuentas y después el saldo global de los
+ * usuarios, que depende de los saldos ya corregidos.
+ */
+public enum ReconciliationPhase {
+    ACCOUNTS("ACCOUNTS"),
+    USERS("USERS"),
+    DONE("DONE");
+
+    private final String value;
+
+    ReconciliationPhase(String value) {
+        this.value = value;
+    }
+
+    public String getValue() { return value; }
+
+    public static ReconciliationPhase fromValue(String value) {
+        for (ReconciliationPhase phase : values()) {
+            if (phase.getValue().equalsIgnoreCase(value)) return phase;
+        }
+        throw new IllegalArgumentException("Etapa de conciliación no válida: " + value);
+    }
+}
@@ -0,0 +1,22 @@
+package com.giozar04.balanceReconciliation.domain.enums;
+
+public enum ReconciliationStatus {
+    RUNNING("RUNNING"),
+    COMPLETED("COMPLETED"),
+    FAILED("FAILED");
+
+    private final String value;
+
+    ReconciliationStatus(String value) {
+        this.value = value;
+    }
+
+    public String getValue() { return value; }
+
+    public static ReconciliationStatus fromValue(String value) {
+        for (ReconciliationStatus status : values()) {
+            if (status.getValue().equalsIgnoreCase(value)) return status;
+        }
+        throw new IllegalArgumentException("Estado de conciliación no válido: " + value);
+    }
+}
@@ -0,0 +1,20 @@
+package com.giozar04.balanceReconciliation.domain.exceptions;
+
+public class BalanceReconciliationExceptions {
+
+    public static class RetrievalException extends RuntimeException {
+        public RetrievalException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class CheckException extends RuntimeException {
+        public CheckException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class ProgressException extends RuntimeException {
+        public ProgressException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class NotFoundException extends RuntimeException {
+        public NotFoundException(String message, Throwable cause) { super(message, cause); }
+    }
+}
@@ -0,0 +1,19 @@
+package com.giozar04.balanceReconciliation.domain.interfaces;
+
+import java.util.List;
+
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationMode;
+import com.giozar04.balanceReconciliation.domain.models.BalanceCheck;
+import com.giozar04.balanceReconciliation.domain.models.BalanceReconciliationRun;
+
+public interface BalanceReconciliationRepositoryInterface {
+    BalanceReconciliationRun startRun(ReconciliationMode mode);
+    BalanceReconciliationRun getRunById(long id);
+    List<Long> getNextAccountIds(long afterId, int limit);
+    List<Long> getNextUserIds(long afterId, int limit);
+    List<BalanceCheck> checkAccounts(List<Long> accountIds);
+    List<BalanceCheck> checkUsers(List<Long> userIds);
+    void repairAccount(BalanceCheck check);
+    void repairUser(BalanceCheck check);
+    void saveProgress(BalanceReconciliationRun run, List<BalanceCheck> findings);
+}
@@ -0,0 +1,87 @@
+package com.giozar04.balanceReconciliation.domain.models;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado de revisar el saldo de una cuenta o el saldo global de un usuario.
+ *
+ * En una cuenta de crédito lo que se compara es el saldo neto (current_balance - credit_used);
+ * el saldo y el crédito usado esperados son ese neto repartido como lo hacen los triggers
+ * (saldo a favor si es positivo, crédito usado si es negativo). En las demás cuentas y en los
+ * usuarios el crédito usado es null.
+ *
+ * Una diferencia estructural es la que los triggers producen por diseño y el saldo esperado no
+ * modela (ver BalanceReconciliationRepositoryMySQL): se reporta, pero no se corrige, porque
+ * los triggers la volverían a producir en la siguiente escritura.
+ */
+public class BalanceCheck {
+
+    public enum SubjectType { ACCOUNT, USER }
+
+    private final SubjectType subjectType;
+    private final long subjectId;
+    private final BigDecimal observedBalance;
+    private final BigDecimal expectedBalance;
+    private final BigDecimal observedCreditUsed;
+    private final BigDecimal expectedCreditUsed;
+    private boolean baselined;
+    private boolean structural;
+    private boolean repaired;
+    private String message;
+
+    public BalanceCheck(SubjectType subjectType, long subjectId, BigDecimal observedBalance, BigDecimal expectedBalance,
+                        BigDecimal observedCreditUsed, BigDecimal expectedCreditUsed) {
+        this.subjectType = subjectType;
+        this.subjectId = subjectId;
+        this.observedBalance = observedBalance;
+        this.expectedBalance = expectedBalance;
+        this.observedCreditUsed = observedCreditUsed;
+        this.expectedCreditUsed = expectedCreditUsed;
+    }
+
+    /**
+     * @return true si el saldo neto no coincide con el esperado.
+     */
+    public boolean isDrifted() {
+        return getNetDifference().signum() != 0;
+    }
+
+    /**
+     * @return Diferencia del saldo neto (saldo menos crédito usado) respecto al esperado.
+     */
+    public BigDecimal getNetDifference() {
+        BigDecimal difference = observedBalance.subtract(expectedBalance);
+        if (expectedCreditUsed != null) {
+            difference = difference.subtract(observedCreditUsed.subtract(expectedCreditUsed));
+        }
+        return difference;
+    }
+
+    public SubjectType getSubjectType() { return subjectType; }
+    public long getSubjectId() { return subjectId; }
+    public BigDecimal getObservedBalance() { return observedBalance; }
+    public BigDecimal getExpectedBalance() { return expectedBalance; }
+    public BigDecimal getObservedCreditUsed() { return observedCreditUsed; }
+    public BigDecimal getExpectedCreditUsed() { return expectedCreditUsed; }
+
+    public boolean isBaselined() { return baselined; }
+    public void setBaselined(boolean baselined) { this.baselined = baselined; }
+
+    public boolean isStructural() { return structural; }
+    public void setStructural(boolean structural) { this.structural = structural; }
+
+    public boolean isRepaired() { return repaired; }
+    public void setRepaired(boolean repaired) { this.repaired = repaired; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    @Override
+    public String toString() {
+        return subjectType + " " + subjectId + ": saldo " + observedBalance + " (esperado " + expectedBalance + ")"
+                + (expectedCreditUsed != null ? ", crédito usado " + observedCreditUsed + " (esperado " + expectedCreditUsed + ")" : "")
+                + (structural && isDrifted() ? ", estructural" : "")
+                + (repaired ? ", corregido" : "")
+                + (message != null ? ", " + message : "");
+    }
+}
@@ -0,0 +1,90 @@
+package com.giozar04.balanceReconciliation.domain.models;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationMode;
+import com.giozar04.balanceReconciliation.domain.interfaces.BalanceReconciliationRepositoryInterface;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.logging.CustomLogger;
+
+public abstract class BalanceReconciliationRepositoryAbstract implements BalanceReconciliationRepositoryInterface {
+
+    protected final DatabaseConnectionInterface databaseConnection;
+    protected final AccountChangeNotifier accountChanges;
+    protected final CustomLogger logger = CustomLogger.getInstance();
+
+    protected BalanceReconciliationRepositoryAbstract(DatabaseConnectionInterface databaseConnection, AccountChangeNotifier accountChanges) {
+        this.databaseConnection = Objects.requireNonNull(databaseConnection, "La conexión a la base de datos no puede ser nula");
+        this.accountChanges = Objects.requireNonNull(accountChanges, "El notificador de cambios no puede ser nulo");
+    }
+
+    protected void validateIds(List<Long> ids) {
+        Objects.requireNonNull(ids, "La lista de ids no puede ser nula");
+        if (ids.isEmpty()) throw new IllegalArgumentException("La lista de ids no puede estar vacía");
+    }
+
+    protected void validateCheck(BalanceCheck check, BalanceCheck.SubjectType expectedType) {
+        Objects.requireNonNull(check, "La revisión no puede ser nula");
+        if (check.getSubjectType() != expectedType)
+            throw new IllegalArgumentException("La revisión no corresponde a " + expectedType);
+    }
+
+    /**
+     * Revisión de una cuenta con el saldo neto esperado. En una cuenta de crédito
+     * (observedCreditUsed no null) el neto se reparte en saldo a favor o crédito usado.
+     */
+    protected static BalanceCheck accountCheck(long accountId, BigDecimal observedBalance, BigDecimal observedCreditUsed,
+                                               BigDecimal expectedNet) {
+        if (observedCreditUsed == null) {
+            return new BalanceCheck(BalanceCheck.SubjectType.ACCOUNT, accountId, observedBalance, expectedNet, null, null);
+        }
+        return new BalanceCheck(BalanceCheck.SubjectType.ACCOUNT, accountId, observedBalance, expectedNet.max(BigDecimal.ZERO),
+                observedCreditUsed, expectedNet.negate().max(BigDecimal.ZERO));
+    }
+
+    @Override
+    public abstract BalanceReconciliationRun startRun(ReconciliationMode mode);
+
+    @Override
+    public abstract BalanceReconciliationRun getRunById(long id);
+
+    @Override
+    public abstract List<Long> getNextAccountIds(long afterId, int limit);
+
+    @Override
+    public abstract List<Long> getNextUserIds(long afterId, int limit);
+
+    /**
+     * Compara el saldo de cada cuenta con su saldo inicial más sus movimientos, todo leído en
+     * la misma transacción. Las cuentas sin saldo inicial lo reciben (observado menos
+     * movimientos) y se marcan como baselined en lugar de compararse.
+     */
+    @Override
+    public abstract List<BalanceCheck> checkAccounts(List<Long> accountIds);
+
+    /**
+     * Compara global_balance de cada usuario con la suma de los saldos de sus cuentas.
+     */
+    @Override
+    public abstract List<BalanceCheck> checkUsers(List<Long> userIds);
+
+    /**
+     * Corrige el saldo de la cuenta por la diferencia encontrada. Se aplica sobre el saldo
+     * actual, así que los movimientos registrados después de la revisión se conservan. Si la
+     * corrección no cabe (por ejemplo, supera el límite de crédito) queda en el mensaje.
+     */
+    @Override
+    public abstract void repairAccount(BalanceCheck check);
+
+    @Override
+    public abstract void repairUser(BalanceCheck check);
+
+    /**
+     * Guarda el cursor, los contadores y las diferencias de un bloque en una sola transacción.
+     */
+    @Override
+    public abstract void saveProgress(BalanceReconciliationRun run, List<BalanceCheck> findings);
+}
@@ -0,0 +1,106 @@
+package com.giozar04.balanceReconciliation.domain.models;
+
+import java.time.ZonedDateTime;
+
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationMode;
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationPhase;
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationStatus;
+
+/**
+ * Estado de una ejecución de la conciliación (fila de balance_reconciliation_runs).
+ */
+public class BalanceReconciliationRun {
+
+    private long id;
+    private ReconciliationMode mode;
+    private ReconciliationStatus status = ReconciliationStatus.RUNNING;
+    private ReconciliationPhase phase = ReconciliationPhase.ACCOUNTS;
+
+    // Cursor: último id revisado en cada etapa
+    private long lastAccountId;
+    private long lastUserId;
+
+    private int accountsChecked;
+    private int accountsBaselined;
+    private int accountsDrifted;
+    private int accountsRepaired;
+    private int usersChecked;
+    private int usersDrifted;
+    private int usersRepaired;
+
+    private ZonedDateTime startedAt;
+    private ZonedDateTime finishedAt;
+
+    /**
+     * Suma los resultados de un bloque a los contadores.
+     */
+    public void count(Iterable<BalanceCheck> checks) {
+        for (BalanceCheck check : checks) {
+            boolean account = check.getSubjectType() == BalanceCheck.SubjectType.ACCOUNT;
+            if (account) accountsChecked++; else usersChecked++;
+            if (check.isBaselined()) accountsBaselined++;
+            if (check.isDrifted()) {
+                if (account) accountsDrifted++; else usersDrifted++;
+            }
+            if (check.isRepaired()) {
+                if (account) accountsRepaired++; else usersRepaired++;
+            }
+        }
+    }
+
+    // Getters y setters
+
+    public long getId() { return id; }
+    public void setId(long id) { this.id = id; }
+
+    public ReconciliationMode getMode() { return mode; }
+    public void setMode(ReconciliationMode mode) { this.mode = mode; }
+
+    public ReconciliationStatus getStatus() { return status; }
+    public void setStatus(ReconciliationStatus status) { this.status = status; }
+
+    public ReconciliationPhase getPhase() { return phase; }
+    public void setPhase(ReconciliationPhase phase) { this.phase = phase; }
+
+    public long getLastAccountId() { return lastAccountId; }
+    public void setLastAccountId(long lastAccountId) { this.lastAccountId = lastAccountId; }
+
+    public long getLastUserId() { return lastUserId; }
+    public void setLastUserId(long lastUserId) { this.lastUserId = lastUserId; }
+
+    public int getAccountsChecked() { return accountsChecked; }
+    public void setAccountsChecked(int accountsChecked) { this.accountsChecked = accountsChecked; }
+
+    public int getAccountsBaselined() { return accountsBaselined; }
+    public void setAccountsBaselined(int accountsBaselined) { this.accountsBaselined = accountsBaselined; }
+
+    public int getAccountsDrifted() { return accountsDrifted; }
+    public void setAccountsDrifted(int accountsDrifted) { this.accountsDrifted = accountsDrifted; }
+
+    public int getAccountsRepaired() { return accountsRepaired; }
+    public void setAccountsRepaired(int accountsRepaired) { this.accountsRepaired = accountsRepaired; }
+
+    public int getUsersChecked() { return usersChecked; }
+    public void setUsersChecked(int usersChecked) { this.usersChecked = usersChecked; }
+
+    public int getUsersDrifted() { return usersDrifted; }
+    public void setUsersDrifted(int usersDrifted) { this.usersDrifted = usersDrifted; }
+
+    public int getUsersRepaired() { return usersRepaired; }
+    public void setUsersRepaired(int usersRepaired) { this.usersRepaired = usersRepaired; }
+
+    public ZonedDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(ZonedDateTime startedAt) { this.startedAt = startedAt; }
+
+    public ZonedDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(ZonedDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    @Override
+    public String toString() {
+        return "Conciliación " + id + " (" + mode + ", " + status + ", " + phase + "): "
+                + accountsChecked + " cuentas revisadas, " + accountsDrifted + " con diferencias, "
+                + accountsRepaired + " corregidas, " + accountsBaselined + " con saldo inicial nuevo; "
+                + usersChecked + " usuarios revisados, " + usersDrifted + " con diferencias, "
+                + usersRepaired + " corregidos";
+    }
+}
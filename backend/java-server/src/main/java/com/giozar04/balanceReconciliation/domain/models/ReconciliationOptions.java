@@ -0,0 +1,31 @@
+package com.giozar04.balanceReconciliation.domain.models;
+
+/**
+ * Tamaños de la conciliación.
+ *
+ * - chunkSize: cuentas (o usuarios) por bloque. Cada bloque guarda su avance al terminar, así
+ *   que una ejecución interrumpida se continúa desde el último bloque completo.
+ * - leafSize: cuentas que revisa cada tarea del ForkJoinPool con una sola consulta.
+ * - parallelism: tareas simultáneas; cada una ocupa una conexión del pool mientras consulta.
+ */
+public class ReconciliationOptions {
+
+    private int chunkSize = 2_000;
+    private int leafSize = 200;
+    private int parallelism = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    public void validate() {
+        if (chunkSize <= 0) throw new IllegalArgumentException("El tamaño de bloque debe ser mayor que cero");
+        if (leafSize <= 0) throw new IllegalArgumentException("El tamaño de tarea debe ser mayor que cero");
+        if (parallelism <= 0) throw new IllegalArgumentException("El paralelismo debe ser mayor que cero");
+    }
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public int getLeafSize() { return leafSize; }
+    public void setLeafSize(int leafSize) { this.leafSize = leafSize; }
+
+    public int getParallelism() { return parallelism; }
+    public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+}
@@ -0,0 +1,478 @@
+package com.giozar04.balanceReconciliation.infrastructure.repositories;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationMode;
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationPhase;
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationStatus;
+import com.giozar04.balanceReconciliation.domain.exceptions.BalanceReconciliationExceptions;
+import com.giozar04.balanceReconciliation.domain.models.BalanceCheck;
+import com.giozar04.balanceReconciliation.domain.models.BalanceReconciliationRepositoryAbstract;
+import com.giozar04.balanceReconciliation.domain.models.BalanceReconciliationRun;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
+
+/**
+ * Conciliación de los saldos que mantienen los triggers de schemas.sql.
+ *
+ * El saldo neto esperado de una cuenta es su saldo inicial (account_balance_baselines) más los
+ * movimientos que aplican los triggers 2 y 5: egresos y transferencias salientes restan,
+ * ingresos y transferencias entrantes suman (sin los pagos WALLET) y los detalles de wallet
+ * restan a la cuenta wallet o a la cuenta de la tarjeta vinculada. Los movimientos se suman
+ * en MySQL con los índices por cuenta, así que por cada grupo de cuentas viaja una fila por
+ * cuenta y no una por transacción.
+ *
+ * Hay cuentas cuyo saldo los triggers desvían por diseño, y sus diferencias se marcan como
+ * estructurales (se reportan, no se corrigen):
+ * - Cuentas CREDIT: tr_after_transaction_credit_balance vuelve a aplicar sobre el saldo ya
+ *   actualizado por tr_after_transaction_insert, y el resultado depende del saldo en cada
+ *   momento, así que no se puede expresar como una suma de movimientos.
+ * - Cuentas WALLET y cuentas de tarjetas vinculadas a una wallet: ningún trigger devuelve el
+ *   cargo de un detalle de wallet que se elimina (directamente o con su transacción).
+ * Corregirlas no serviría: la siguiente escritura las vuelve a desviar.
+ */
+public class BalanceReconciliationRepositoryMySQL extends BalanceReconciliationRepositoryAbstract {
+
+    private static final String SQL_INSERT_RUN = """
+        INSERT INTO balance_reconciliation_runs (mode, status, phase, started_at, updated_at)
+        VALUES (?, ?, ?, ?, ?)
+    """;
+
+    private static final String SQL_SELECT_RUN = "SELECT * FROM balance_reconciliation_runs WHERE id = ?";
+
+    private static final String SQL_UPDATE_RUN = """
+        UPDATE balance_reconciliation_runs SET
+            status = ?, phase = ?, last_account_id = ?, last_user_id = ?,
+            accounts_checked = ?, accounts_baselined = ?, accounts_drifted = ?, accounts_repaired = ?,
+            users_checked = ?, users_drifted = ?, users_repaired = ?,
+            updated_at = ?, finished_at = ?
+        WHERE id = ?
+    """;
+
+    private static final String SQL_INSERT_FINDING = """
+        INSERT INTO balance_reconciliation_findings (
+            run_id, subject_type, subject_id, observed_balance, expected_balance,
+            observed_credit_used, expected_credit_used, repaired, message
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private static final String SQL_NEXT_ACCOUNT_IDS = "SELECT id FROM accounts WHERE id > ? ORDER BY id LIMIT ?";
+    private static final String SQL_NEXT_USER_IDS = "SELECT id FROM users WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String SQL_SELECT_ACCOUNTS = """
+        SELECT a.id, a.type, a.current_balance, cd.credit_used, b.opening_balance,
+               EXISTS (SELECT 1 FROM cards c JOIN wallet_card_links l ON l.card_id = c.id
+                       WHERE c.account_id = a.id) AS wallet_linked
+        FROM accounts a
+        LEFT JOIN credit_details cd ON cd.account_id = a.id
+        LEFT JOIN account_balance_baselines b ON b.account_id = a.id
+        WHERE a.id IN (%s)
+    """;
+
+    // Mismas condiciones que tr_after_transaction_insert y tr_after_wallet_detail_insert
+    private static final String SQL_SUM_MOVEMENTS = """
+        SELECT account_id, SUM(delta) AS movement
+        FROM (
+            SELECT source_account_id AS account_id, -amount AS delta
+            FROM transactions
+            WHERE source_account_id IN (%1$s)
+              AND payment_method <> 'wallet'
+              AND (operation_type = 'expense' OR (operation_type = 'transfer' AND destination_account_id IS NOT NULL))
+            UNION ALL
+            SELECT destination_account_id, amount
+            FROM transactions
+            WHERE destination_account_id IN (%1$s)
+              AND payment_method <> 'wallet'
+              AND (operation_type = 'income' OR (operation_type = 'transfer' AND source_account_id IS NOT NULL))
+            UNION ALL
+            SELECT wallet_account_id, -amount
+            FROM wallet_transaction_details
+            WHERE wallet_account_id IN (%1$s) AND source_type = 'WALLET_BALANCE'
+            UNION ALL
+            SELECT c.account_id, -w.amount
+            FROM wallet_transaction_details w
+            JOIN cards c ON c.id = w.card_id
+            WHERE c.account_id IN (%1$s) AND w.source_type = 'LINKED_CARD'
+        ) m
+        GROUP BY account_id
+    """;
+
+    private static final String SQL_INSERT_BASELINE =
+        "INSERT IGNORE INTO account_balance_baselines (account_id, opening_balance) VALUES (?, ?)";
+
+    private static final String SQL_LOCK_ACCOUNT = """
+        SELECT a.current_balance, cd.credit_used
+        FROM accounts a
+        LEFT JOIN credit_details cd ON cd.account_id = a.id
+        WHERE a.id = ?
+        FOR UPDATE
+    """;
+    private static final String SQL_REPAIR_BALANCE = "UPDATE accounts SET current_balance = ? WHERE id = ?";
+    private static final String SQL_REPAIR_CREDIT_USED = "UPDATE credit_details SET credit_used = ? WHERE account_id = ?";
+
+    private static final String SQL_SELECT_USERS = """
+        SELECT u.id, COALESCE(u.global_balance, 0) AS global_balance, COALESCE(SUM(a.current_balance), 0) AS accounts_balance
+        FROM users u
+        LEFT JOIN accounts a ON a.user_id = u.id
+        WHERE u.id IN (%s)
+        GROUP BY u.id, u.global_balance
+    """;
+
+    // Misma expresión que tr_sync_global_balance
+    private static final String SQL_REPAIR_USER = """
+        UPDATE users
+        SET global_balance = (SELECT COALESCE(SUM(current_balance), 0.00) FROM accounts WHERE user_id = ?)
+        WHERE id = ?
+    """;
+
+    public BalanceReconciliationRepositoryMySQL(DatabaseConnectionInterface databaseConnection) {
+        this(databaseConnection, new AccountChangeNotifier());
+    }
+
+    public BalanceReconciliationRepositoryMySQL(DatabaseConnectionInterface databaseConnection, AccountChangeNotifier accountChanges) {
+        super(databaseConnection, accountChanges);
+    }
+
+    @Override
+    public BalanceReconciliationRun startRun(ReconciliationMode mode) {
+        BalanceReconciliationRun run = new BalanceReconciliationRun();
+        run.setMode(mode);
+        run.setStartedAt(ZonedDateTime.now());
+        Timestamp now = Timestamp.valueOf(run.getStartedAt().toLocalDateTime());
+
+        try (TransactionScope scope = databaseConnection.beginTransaction();
+             PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_INSERT_RUN, Statement.RETURN_GENERATED_KEYS)) {
+
+            stmt.setString(1, mode.getValue());
+            stmt.setString(2, run.getStatus().getValue());
+            stmt.setString(3, run.getPhase().getValue());
+            stmt.setTimestamp(4, now);
+            stmt.setTimestamp(5, now);
+            stmt.executeUpdate();
+
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                if (keys.next()) {
+                    run.setId(keys.getLong(1));
+                }
+            }
+            scope.commit();
+            logger.info("Conciliación de saldos iniciada con ID: " + run.getId() + " (" + mode + ")");
+            return run;
+
+        } catch (SQLException e) {
+            logger.error("Error al iniciar la conciliación: " + e.getMessage(), e);
+            throw new BalanceReconciliationExceptions.ProgressException("Error al iniciar la conciliación de saldos", e);
+        }
+    }
+
+    @Override
+    public BalanceReconciliationRun getRunById(long id) {
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_RUN)) {
+
+            stmt.setLong(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new BalanceReconciliationExceptions.NotFoundException("Conciliación no encontrada con ID: " + id, null);
+                }
+                return mapResultSetToRun(rs);
+            }
+
+        } catch (SQLException e) {
+            throw new BalanceReconciliationExceptions.RetrievalException("Error al obtener la conciliación con ID: " + id, e);
+        }
+    }
+
+    @Override
+    public List<Long> getNextAccountIds(long afterId, int limit) {
+        return nextIds(SQL_NEXT_ACCOUNT_IDS, afterId, limit);
+    }
+
+    @Override
+    public List<Long> getNextUserIds(long afterId, int limit) {
+        return nextIds(SQL_NEXT_USER_IDS, afterId, limit);
+    }
+
+    private List<Long> nextIds(String sql, long afterId, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setLong(1, afterId);
+            stmt.setInt(2, limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+            return ids;
+
+        } catch (SQLException e) {
+            throw new BalanceReconciliationExceptions.RetrievalException("Error al obtener el siguiente bloque de ids", e);
+        }
+    }
+
+    @Override
+    public List<BalanceCheck> checkAccounts(List<Long> accountIds) {
+        validateIds(accountIds);
+        String placeholders = String.join(", ", Collections.nCopies(accountIds.size(), "?"));
+
+        // Una sola transacción: las lecturas ven la misma foto de accounts y transactions
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            Connection conn = scope.getConnection();
+
+            Map<Long, BigDecimal> movements = new HashMap<>();
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_SUM_MOVEMENTS.formatted(placeholders))) {
+                int index = 1;
+                for (int branch = 0; branch < 4; branch++) {
+                    for (Long id : accountIds) {
+                        stmt.setLong(index++, id);
+                    }
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        movements.put(rs.getLong("account_id"), rs.getBigDecimal("movement"));
+                    }
+                }
+            }
+
+            List<BalanceCheck> checks = new ArrayList<>(accountIds.size());
+            Map<Long, BigDecimal> newBaselines = new HashMap<>();
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_ACCOUNTS.formatted(placeholders))) {
+                for (int i = 0; i < accountIds.size(); i++) {
+                    stmt.setLong(i + 1, accountIds.get(i));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        long id = rs.getLong("id");
+                        BigDecimal balance = rs.getBigDecimal("current_balance");
+                        BigDecimal creditUsed = rs.getBigDecimal("credit_used");
+                        BigDecimal baseline = rs.getBigDecimal("opening_balance");
+                        BigDecimal movement = movements.getOrDefault(id, BigDecimal.ZERO);
+
+                        BalanceCheck check;
+                        if (baseline == null) {
+                            // Sin saldo inicial: se toma el actual como correcto
+                            BigDecimal net = creditUsed != null ? balance.subtract(creditUsed) : balance;
+                            check = accountCheck(id, balance, creditUsed, net);
+                            check.setBaselined(true);
+                            newBaselines.put(id, net.subtract(movement));
+                        } else {
+                            check = accountCheck(id, balance, creditUsed, baseline.add(movement));
+                        }
+                        String type = rs.getString("type");
+                        check.setStructural("CREDIT".equalsIgnoreCase(type) || "WALLET".equalsIgnoreCase(type)
+                                || rs.getBoolean("wallet_linked"));
+                        checks.add(check);
+                    }
+                }
+            }
+
+            if (!newBaselines.isEmpty()) {
+                try (PreparedStatement stmt = conn.prepareStatement(SQL_INSERT_BASELINE)) {
+                    for (Map.Entry<Long, BigDecimal> baseline : newBaselines.entrySet()) {
+                        stmt.setLong(1, baseline.getKey());
+                        stmt.setBigDecimal(2, baseline.getValue());
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                }
+            }
+            scope.commit();
+            return checks;
+
+        } catch (SQLException e) {
+            logger.error("Error al revisar los saldos de " + accountIds.size() + " cuentas: " + e.getMessage(), e);
+            throw new BalanceReconciliationExceptions.CheckException("Error al revisar los saldos de las cuentas", e);
+        }
+    }
+
+    @Override
+    public List<BalanceCheck> checkUsers(List<Long> userIds) {
+        validateIds(userIds);
+        String sql = SQL_SELECT_USERS.formatted(String.join(", ", Collections.nCopies(userIds.size(), "?")));
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            for (int i = 0; i < userIds.size(); i++) {
+                stmt.setLong(i + 1, userIds.get(i));
+            }
+            List<BalanceCheck> checks = new ArrayList<>(userIds.size());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    checks.add(new BalanceCheck(BalanceCheck.SubjectType.USER, rs.getLong("id"),
+                            rs.getBigDecimal("global_balance"), rs.getBigDecimal("accounts_balance"), null, null));
+                }
+            }
+            return checks;
+
+        } catch (SQLException e) {
+            logger.error("Error al revisar el saldo global de " + userIds.size() + " usuarios: " + e.getMessage(), e);
+            throw new BalanceReconciliationExceptions.CheckException("Error al revisar el saldo global de los usuarios", e);
+        }
+    }
+
+    @Override
+    public void repairAccount(BalanceCheck check) {
+        validateCheck(check, BalanceCheck.SubjectType.ACCOUNT);
+        long id = check.getSubjectId();
+
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            Connection conn = scope.getConnection();
+
+            BigDecimal balance;
+            BigDecimal creditUsed;
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_LOCK_ACCOUNT)) {
+                stmt.setLong(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        check.setMessage("La cuenta ya no existe");
+                        return;
+                    }
+                    balance = rs.getBigDecimal("current_balance");
+                    creditUsed = rs.getBigDecimal("credit_used");
+                }
+            }
+
+            // Saldo actual menos la diferencia: conserva lo que cambió después de la revisión
+            BigDecimal net = (creditUsed != null ? balance.subtract(creditUsed) : balance).subtract(check.getNetDifference());
+            BigDecimal newBalance = creditUsed != null ? net.max(BigDecimal.ZERO) : net;
+
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_REPAIR_BALANCE)) {
+                stmt.setBigDecimal(1, newBalance);
+                stmt.setLong(2, id);
+                stmt.executeUpdate();
+            }
+            if (creditUsed != null) {
+                try (PreparedStatement stmt = conn.prepareStatement(SQL_REPAIR_CREDIT_USED)) {
+                    stmt.setBigDecimal(1, net.negate().max(BigDecimal.ZERO));
+                    stmt.setLong(2, id);
+                    stmt.executeUpdate();
+                }
+            }
+
+            accountChanges.accountsChangedAfterCommit(scope, id);
+            scope.commit();
+            check.setRepaired(true);
+            logger.info("Saldo corregido en la cuenta " + id + " por " + check.getNetDifference().negate());
+
+        } catch (SQLException e) {
+            // Por ejemplo chk_credit_used_limit: se reporta y se sigue con las demás cuentas
+            logger.warn("No se pudo corregir el saldo de la cuenta " + id + ": " + e.getMessage());
+            check.setMessage(truncate("No se pudo corregir: " + e.getMessage()));
+        }
+    }
+
+    @Override
+    public void repairUser(BalanceCheck check) {
+        validateCheck(check, BalanceCheck.SubjectType.USER);
+        long id = check.getSubjectId();
+
+        try (TransactionScope scope = databaseConnection.beginTransaction();
+             PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_REPAIR_USER)) {
+
+            stmt.setLong(1, id);
+            stmt.setLong(2, id);
+            boolean updated = stmt.executeUpdate() > 0;
+            scope.commit();
+            check.setRepaired(updated);
+
+        } catch (SQLException e) {
+            logger.warn("No se pudo corregir el saldo global del usuario " + id + ": " + e.getMessage());
+            check.setMessage(truncate("No se pudo corregir: " + e.getMessage()));
+        }
+    }
+
+    @Override
+    public void saveProgress(BalanceReconciliationRun run, List<BalanceCheck> findings) {
+        ZonedDateTime now = ZonedDateTime.now();
+
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            Connection conn = scope.getConnection();
+
+            if (!findings.isEmpty()) {
+                try (PreparedStatement stmt = conn.prepareStatement(SQL_INSERT_FINDING)) {
+                    for (BalanceCheck finding : findings) {
+                        stmt.setLong(1, run.getId());
+                        stmt.setString(2, finding.getSubjectType().name());
+                        stmt.setLong(3, finding.getSubjectId());
+                        stmt.setBigDecimal(4, finding.getObservedBalance());
+                        stmt.setBigDecimal(5, finding.getExpectedBalance());
+                        if (finding.getObservedCreditUsed() != null) stmt.setBigDecimal(6, finding.getObservedCreditUsed()); else stmt.setNull(6, Types.DECIMAL);
+                        if (finding.getExpectedCreditUsed() != null) stmt.setBigDecimal(7, finding.getExpectedCreditUsed()); else stmt.setNull(7, Types.DECIMAL);
+                        stmt.setBoolean(8, finding.isRepaired());
+                        stmt.setString(9, finding.getMessage());
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                }
+            }
+
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_UPDATE_RUN)) {
+                stmt.setString(1, run.getStatus().getValue());
+                stmt.setString(2, run.getPhase().getValue());
+                stmt.setLong(3, run.getLastAccountId());
+                stmt.setLong(4, run.getLastUserId());
+                stmt.setInt(5, run.getAccountsChecked());
+                stmt.setInt(6, run.getAccountsBaselined());
+                stmt.setInt(7, run.getAccountsDrifted());
+                stmt.setInt(8, run.getAccountsRepaired());
+                stmt.setInt(9, run.getUsersChecked());
+                stmt.setInt(10, run.getUsersDrifted());
+                stmt.setInt(11, run.getUsersRepaired());
+                stmt.setTimestamp(12, Timestamp.valueOf(now.toLocalDateTime()));
+                if (run.getFinishedAt() != null) stmt.setTimestamp(13, Timestamp.valueOf(run.getFinishedAt().toLocalDateTime())); else stmt.setNull(13, Types.TIMESTAMP);
+                stmt.setLong(14, run.getId());
+                stmt.executeUpdate();
+            }
+
+            scope.commit();
+
+        } catch (SQLException e) {
+            logger.error("Error al guardar el avance de la conciliación " + run.getId() + ": " + e.getMessage(), e);
+            throw new BalanceReconciliationExceptions.ProgressException("Error al guardar el avance de la conciliación", e);
+        }
+    }
+
+    private BalanceReconciliationRun mapResultSetToRun(ResultSet rs) throws SQLException {
+        ZoneId zone = ZoneId.systemDefault();
+        BalanceReconciliationRun run = new BalanceReconciliationRun();
+        run.setId(rs.getLong("id"));
+        run.setMode(ReconciliationMode.fromValue(rs.getString("mode")));
+        run.setStatus(ReconciliationStatus.fromValue(rs.getString("status")));
+        run.setPhase(ReconciliationPhase.fromValue(rs.getString("phase")));
+        run.setLastAccountId(rs.getLong("last_account_id"));
+        run.setLastUserId(rs.getLong("last_user_id"));
+        run.setAccountsChecked(rs.getInt("accounts_checked"));
+        run.setAccountsBaselined(rs.getInt("accounts_baselined"));
+        run.setAccountsDrifted(rs.getInt("accounts_drifted"));
+        run.setAccountsRepaired(rs.getInt("accounts_repaired"));
+        run.setUsersChecked(rs.getInt("users_checked"));
+        run.setUsersDrifted(rs.getInt("users_drifted"));
+        run.setUsersRepaired(rs.getInt("users_repaired"));
+        run.setStartedAt(ZonedDateTime.of(rs.getTimestamp("started_at").toLocalDateTime(), zone));
+        Timestamp finishedAt = rs.getTimestamp("finished_at");
+        if (finishedAt != null) run.setFinishedAt(ZonedDateTime.of(finishedAt.toLocalDateTime(), zone));
+        return run;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > 255 ? message.substring(0, 255) : message;
+    }
+}
@@ -0,0 +1,52 @@
+-- Saldo neto (current_balance - credit_used) que tendría cada cuenta sin movimientos. Se
+-- guarda al crear la cuenta y se ajusta cuando el saldo se cambia a mano (UPDATE_ACCOUNT);
+-- las cuentas que no lo tienen lo reciben en su primera conciliación.
+CREATE TABLE account_balance_baselines (
+    account_id BIGINT PRIMARY KEY,
+    opening_balance DECIMAL(14,2) NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_baseline_account FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE
+);
+
+-- Una ejecución de la conciliación; el cursor permite continuarla después de un error
+CREATE TABLE balance_reconciliation_runs (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    mode VARCHAR(10) NOT NULL,                        -- 'REPORT' o 'REPAIR'
+    status VARCHAR(10) NOT NULL,                      -- 'RUNNING', 'COMPLETED' o 'FAILED'
+    phase VARCHAR(10) NOT NULL,                       -- 'ACCOUNTS', 'USERS' o 'DONE'
+    last_account_id BIGINT NOT NULL DEFAULT 0,
+    last_user_id BIGINT NOT NULL DEFAULT 0,
+
+    accounts_checked INT NOT NULL DEFAULT 0,
+    accounts_baselined INT NOT NULL DEFAULT 0,
+    accounts_drifted INT NOT NULL DEFAULT 0,
+    accounts_repaired INT NOT NULL DEFAULT 0,
+    users_checked INT NOT NULL DEFAULT 0,
+    users_drifted INT NOT NULL DEFAULT 0,
+    users_repaired INT NOT NULL DEFAULT 0,
+
+    started_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    finished_at DATETIME NULL
+);
+
+-- Diferencias encontradas en cada ejecución
+CREATE TABLE balance_reconciliation_findings (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    run_id BIGINT NOT NULL,
+    subject_type VARCHAR(10) NOT NULL,                -- 'ACCOUNT' o 'USER'
+    subject_id BIGINT NOT NULL,
+    observed_balance DECIMAL(14,2) NOT NULL,
+    expected_balance DECIMAL(14,2) NOT NULL,
+    observed_credit_used DECIMAL(12,2) NULL,
+    expected_credit_used DECIMAL(12,2) NULL,
+    repaired BOOLEAN NOT NULL DEFAULT FALSE,
+    message VARCHAR(255) NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_finding_run FOREIGN KEY (run_id) REFERENCES balance_reconciliation_runs(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_finding_run_subject ON balance_reconciliation_findings(run_id, subject_type, subject_id);
@@ -0,0 +1,53 @@
+package com.giozar04.balanceReconciliation.test;
+
+import java.sql.SQLException;
+
+import com.giozar04.balanceReconciliation.application.services.BalanceReconciliationService;
+import com.giozar04.balanceReconciliation.domain.enums.ReconciliationMode;
+import com.giozar04.balanceReconciliation.domain.models.BalanceReconciliationRun;
+import com.giozar04.balanceReconciliation.domain.models.ReconciliationOptions;
+import com.giozar04.balanceReconciliation.infrastructure.repositories.BalanceReconciliationRepositoryMySQL;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.infrastructure.repositories.DatabaseConnectionMySQL;
+
+/**
+ * Revisa los saldos de todas las cuentas y el saldo global de todos los usuarios contra las
+ * transacciones. Las diferencias quedan en balance_reconciliation_findings.
+ *
+ * Uso: BalanceReconciliationApp [report|repair] [idConciliación]
+ *
+ * Con un id se continúa esa conciliación, con su modo original, en lugar de iniciar otra. La
+ * primera ejecución solo registra el saldo inicial de las cuentas que no lo tienen. Las
+ * correcciones del modo repair se hacen fuera del servidor, así que su caché de cuentas no se
+ * entera: conviene reiniciarlo después.
+ */
+public class BalanceReconciliationApp {
+
+    private static final String DB_HOST = "localhost";
+    private static final String DB_PORT = "3306";
+    private static final String DB_NAME = "finanzas";
+    private static final String DB_USER = "giovanni";
+    private static final String DB_PASSWORD = "finanzas123";
+
+    public static void main(String[] args) throws SQLException {
+        ReconciliationMode mode = args.length > 0 ? ReconciliationMode.fromValue(args[0]) : ReconciliationMode.REPORT;
+
+        DatabaseConnectionInterface dbConnection = DatabaseConnectionMySQL.getInstance(
+            DB_HOST, DB_PORT, DB_NAME, DB_USER, DB_PASSWORD
+        );
+        dbConnection.connect();
+        BalanceReconciliationService service = new BalanceReconciliationService(
+            new BalanceReconciliationRepositoryMySQL(dbConnection), new ReconciliationOptions()
+        );
+
+        try {
+            long start = System.nanoTime();
+            BalanceReconciliationRun run = args.length > 1
+                ? service.resume(Long.parseLong(args[1]))
+                : service.reconcile(mode);
+            System.out.printf("%s%nTiempo: %d ms%n", run, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            dbConnection.disconnect();
+        }
+    }
+}
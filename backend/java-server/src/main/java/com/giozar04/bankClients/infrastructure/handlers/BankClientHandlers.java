@@ -2,8 +2,8 @@ package com.giozar04.bankClients.infrastructure.handlers;
 
 import com.giozar04.bankClients.application.services.BankClientService;
 import com.giozar04.bankClients.infrastructure.controllers.BankClientControllers;
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 
 public class BankClientHandlers implements ServerRegisterHandlers {
 
@@ -14,7 +14,7 @@ public class BankClientHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(BankClientControllers.BankClientMessageTypes.CREATE_BANK_CLIENT,
                 BankClientControllers.createBankClientController(service));
 
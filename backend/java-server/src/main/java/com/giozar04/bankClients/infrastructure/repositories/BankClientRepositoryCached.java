@@ -0,0 +1,70 @@
+package com.giozar04.bankClients.infrastructure.repositories;
+
+import java.util.List;
+
+import com.giozar04.caches.domain.models.CacheRegistry;
+import com.giozar04.caches.domain.models.CacheStats;
+import com.giozar04.caches.domain.models.ReferenceDataCache;
+import com.giozar04.bankClient.domain.entities.BankClient;
+import com.giozar04.bankClients.domain.interfaces.BankClientRepositoryInterface;
+
+/**
+ * Decorador con caché en memoria de clientes de bancos sobre otro BankClientRepositoryInterface
+ * (normalmente BankClientRepositoryMySQL). Las lecturas se sirven desde memoria y cada escritura
+ * invalida solo lo que cambió (ver ReferenceDataCache).
+ */
+public class BankClientRepositoryCached implements BankClientRepositoryInterface {
+
+    private final BankClientRepositoryInterface delegate;
+    private final ReferenceDataCache<BankClient> cache;
+
+    public BankClientRepositoryCached(BankClientRepositoryInterface delegate, int maxEntries) {
+        this.delegate = delegate;
+        this.cache = new ReferenceDataCache<>("bankClients", maxEntries, BankClient::getId, BankClient::getUserId);
+        CacheRegistry.register(cache);
+    }
+
+    @Override
+    public BankClient createBankClient(BankClient bankClient) {
+        BankClient created = delegate.createBankClient(bankClient);
+        cache.created(created);
+        return created;
+    }
+
+    @Override
+    public BankClient getBankClientById(long id) {
+        return cache.getById(id, delegate::getBankClientById);
+    }
+
+    @Override
+    public List<BankClient> getBankClientsByUserId(long userId) {
+        return cache.getByUser(userId, delegate::getBankClientsByUserId);
+    }
+
+    @Override
+    public BankClient updateBankClientById(long id, BankClient bankClient) {
+        try {
+            return delegate.updateBankClientById(id, bankClient);
+        } finally {
+            cache.updated(id, bankClient);
+        }
+    }
+
+    @Override
+    public void deleteBankClientById(long id) {
+        try {
+            delegate.deleteBankClientById(id);
+        } finally {
+            cache.deleted(id);
+        }
+    }
+
+    @Override
+    public List<BankClient> getAllBankClients() {
+        return cache.getAll(delegate::getAllBankClients);
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+}
@@ -4,12 +4,15 @@ import java.io.IOException;
 import java.util.List;
 
 import com.giozar04.accounts.application.services.AccountService;
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
 import com.giozar04.accounts.domain.interfaces.AccountRepositoryInterface;
 import com.giozar04.accounts.infrastructure.handlers.AccountHandlers;
+import com.giozar04.accounts.infrastructure.repositories.AccountRepositoryCached;
 import com.giozar04.accounts.infrastructure.repositories.AccountRepositoryMySQL;
 import com.giozar04.bankClients.application.services.BankClientService;
 import com.giozar04.bankClients.domain.interfaces.BankClientRepositoryInterface;
 import com.giozar04.bankClients.infrastructure.handlers.BankClientHandlers;
+import com.giozar04.bankClients.infrastructure.repositories.BankClientRepositoryCached;
 import com.giozar04.bankClients.infrastructure.repositories.BankClientRepositoryMySQL;
 import com.giozar04.cardTransactionDetails.application.services.CardTransactionDetailService;
 import com.giozar04.cardTransactionDetails.domain.interfaces.CardTransactionDetailRepositoryInterface;
@@ -22,21 +25,55 @@ import com.giozar04.cards.infrastructure.repositories.CardRepositoryMySQL;
 import com.giozar04.categories.application.services.CategoryService;
 import com.giozar04.categories.domain.interfaces.CategoryRepositoryInterface;
 import com.giozar04.categories.infrastructure.handlers.CategoryHandlers;
+import com.giozar04.categories.infrastructure.repositories.CategoryRepositoryCached;
 import com.giozar04.categories.infrastructure.repositories.CategoryRepositoryMySQL;
+import com.giozar04.configs.CacheConfig;
+import com.giozar04.configs.CreditStatementConfig;
 import com.giozar04.configs.DatabaseConfig;
+import com.giozar04.configs.InvestmentMaturityConfig;
+import com.giozar04.configs.LoggingConfig;
+import com.giozar04.configs.MetricsConfig;
+import com.giozar04.configs.SavingsYieldConfig;
 import com.giozar04.configs.ServerConfig;
+import com.giozar04.creditStatements.application.services.CreditStatementService;
+import com.giozar04.creditStatements.domain.interfaces.CreditStatementRepositoryInterface;
+import com.giozar04.creditStatements.domain.models.CreditStatementOptions;
+import com.giozar04.creditStatements.infrastructure.handlers.CreditStatementHandlers;
+import com.giozar04.creditStatements.infrastructure.repositories.CreditStatementRepositoryMySQL;
 import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
 import com.giozar04.externalEntities.application.services.ExternalEntityService;
 import com.giozar04.externalEntities.domain.interfaces.ExternalEntityRepositoryInterface;
 import com.giozar04.externalEntities.infrastructure.handlers.ExternalEntityHandlers;
+import com.giozar04.externalEntities.infrastructure.repositories.ExternalEntityRepositoryCached;
 import com.giozar04.externalEntities.infrastructure.repositories.ExternalEntityRepositoryMySQL;
+import com.giozar04.investmentMaturities.application.services.InvestmentMaturityService;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityOptions;
+import com.giozar04.investmentMaturities.infrastructure.repositories.InvestmentMaturityRepositoryMySQL;
+import com.giozar04.jobs.application.services.DailyJobScheduler;
 import com.giozar04.logging.CustomLogger;
-import com.giozar04.servers.application.services.ServerService;
+import com.giozar04.metrics.application.services.HealthCheckService;
+import com.giozar04.metrics.application.services.MetricsDumpScheduler;
+import com.giozar04.metrics.application.services.MetricsHttpServer;
+import com.giozar04.metrics.application.services.PrometheusMetricsService;
+import com.giozar04.metrics.application.services.ServerMetricsService;
+import com.giozar04.metrics.domain.models.InstrumentedRepository;
+import com.giozar04.metrics.domain.models.MetricsRegistry;
+import com.giozar04.metrics.infrastructure.handlers.ServerMetricsHandlers;
+import com.giozar04.monthlySummaries.application.services.MonthlySummaryService;
+import com.giozar04.monthlySummaries.domain.interfaces.MonthlySummaryRepositoryInterface;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRepositoryAbstract;
+import com.giozar04.monthlySummaries.infrastructure.handlers.MonthlySummaryHandlers;
+import com.giozar04.monthlySummaries.infrastructure.repositories.MonthlySummaryRepositoryMySQL;
+import com.giozar04.savingsYields.application.services.SavingsYieldService;
+import com.giozar04.savingsYields.domain.models.SavingsYieldOptions;
+import com.giozar04.savingsYields.infrastructure.repositories.SavingsYieldRepositoryMySQL;
 import com.giozar04.servers.domain.exceptions.ServerOperationException;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 import com.giozar04.tags.application.services.TagService;
 import com.giozar04.tags.domain.interfaces.TagRepositoryInterface;
 import com.giozar04.tags.infrastructure.handlers.TagHandlers;
+import com.giozar04.tags.infrastructure.repositories.TagRepositoryCached;
 import com.giozar04.tags.infrastructure.repositories.TagRepositoryMySQL;
 import com.giozar04.transactions.application.services.TransactionService;
 import com.giozar04.transactions.domain.interfaces.TransactionRepositoryInterface;
@@ -63,75 +100,160 @@ public class ApplicationInitializer {
     private final CustomLogger logger = CustomLogger.getInstance();
 
     public void start() {
+        logger.configure(new LoggingConfig().getLoggerConfig());
         logger.info("Iniciando aplicación...");
 
         DatabaseConfig databaseConfig = new DatabaseConfig();
         ServerConfig serverConfig = new ServerConfig();
+        CacheConfig cacheConfig = new CacheConfig();
+        SavingsYieldConfig savingsYieldConfig = new SavingsYieldConfig();
+        InvestmentMaturityConfig investmentMaturityConfig = new InvestmentMaturityConfig();
+        CreditStatementConfig creditStatementConfig = new CreditStatementConfig();
+        MetricsConfig metricsConfig = new MetricsConfig();
+        MetricsRegistry.setEnabled(metricsConfig.isEnabled());
 
         DatabaseInitializer dbInitializer = new DatabaseInitializer(databaseConfig, logger);
         DatabaseConnectionInterface dbConnection = dbInitializer.initialize();
 
+        // Avisos de cuentas modificadas (escrituras directas y triggers de saldos) para la caché de cuentas
+        AccountChangeNotifier accountChanges = new AccountChangeNotifier();
+
         // Inicializar repositorios y servicios de usuarios
         UserRepositoryInterface userRepository =
                 new UserRepositoryMySQL(dbConnection);
-        UserService userService = new UserService(userRepository);
+        UserService userService = new UserService(instrumented(UserRepositoryInterface.class, userRepository));
 
         // Inicializar repositorios y servicios de clientes de bancos
         BankClientRepositoryInterface bankClientRepository =
                 new BankClientRepositoryMySQL(dbConnection);
-        BankClientService bankClientService = new BankClientService(bankClientRepository);
+        if (cacheConfig.isReferenceDataEnabled()) {
+            bankClientRepository = new BankClientRepositoryCached(bankClientRepository,
+                    cacheConfig.getReferenceDataMaxEntries());
+        }
+        BankClientService bankClientService = new BankClientService(
+                instrumented(BankClientRepositoryInterface.class, bankClientRepository));
 
         // Inicializar repositorios y servicios de cuentas
         AccountRepositoryInterface accountRepository =
-                new AccountRepositoryMySQL(dbConnection);
-        AccountService accountService = new AccountService(accountRepository);
+                new AccountRepositoryMySQL(dbConnection, accountChanges);
+        if (cacheConfig.isAccountsEnabled()) {
+            accountRepository = new AccountRepositoryCached(accountRepository, accountChanges,
+                    cacheConfig.getAccountsMaxEntries());
+        }
+        AccountService accountService = new AccountService(
+                instrumented(AccountRepositoryInterface.class, accountRepository));
 
         // Inicializar repositorios y servicios de tarjetas
         CardRepositoryInterface cardRepository =
                 new CardRepositoryMySQL(dbConnection);
-        CardService cardService = new CardService(cardRepository);
+        CardService cardService = new CardService(instrumented(CardRepositoryInterface.class, cardRepository));
 
         // Inicializar repositorios y servicios de categorías
         CategoryRepositoryInterface categoryRepository =
                 new CategoryRepositoryMySQL(dbConnection);
-        CategoryService categoryService = new CategoryService(categoryRepository);
+        if (cacheConfig.isReferenceDataEnabled()) {
+            categoryRepository = new CategoryRepositoryCached(categoryRepository,
+                    cacheConfig.getReferenceDataMaxEntries());
+        }
+        CategoryService categoryService = new CategoryService(
+                instrumented(CategoryRepositoryInterface.class, categoryRepository));
 
         // Inicializar repositorios y servicios de etiquetas
         TagRepositoryInterface tagRepository =
                 new TagRepositoryMySQL(dbConnection);
-        TagService tagService = new TagService(tagRepository);
+        if (cacheConfig.isReferenceDataEnabled()) {
+            tagRepository = new TagRepositoryCached(tagRepository, cacheConfig.getReferenceDataMaxEntries());
+        }
+        TagService tagService = new TagService(instrumented(TagRepositoryInterface.class, tagRepository));
 
         // Inicializar repositorios y servicios de entidades externas
         ExternalEntityRepositoryInterface externalEntityRepository =
                 new ExternalEntityRepositoryMySQL(dbConnection);
-        ExternalEntityService externalEntityService = new ExternalEntityService(externalEntityRepository);
+        if (cacheConfig.isReferenceDataEnabled()) {
+            externalEntityRepository = new ExternalEntityRepositoryCached(externalEntityRepository,
+                    cacheConfig.getReferenceDataMaxEntries());
+        }
+        ExternalEntityService externalEntityService = new ExternalEntityService(
+                instrumented(ExternalEntityRepositoryInterface.class, externalEntityRepository));
+
+        // Inicializar repositorios y servicios de resúmenes mensuales (los mantiene el repositorio de transacciones)
+        MonthlySummaryRepositoryAbstract monthlySummaryRepository =
+                new MonthlySummaryRepositoryMySQL(dbConnection);
+        MonthlySummaryService monthlySummaryService = new MonthlySummaryService(
+                instrumented(MonthlySummaryRepositoryInterface.class, monthlySummaryRepository));
 
         // Inicializar repositorios y servicios de transacciones
-        TransactionRepositoryInterface transactionRepository =
-                new TransactionRepositoryMySQL(dbConnection);
+        TransactionRepositoryMySQL transactionRepository =
+                new TransactionRepositoryMySQL(dbConnection, accountChanges, monthlySummaryRepository);
         TransactionService transactionService =
-                new TransactionService(transactionRepository);
+                new TransactionService(instrumented(TransactionRepositoryInterface.class, transactionRepository));
 
         // Inicializar repositorios y servicios de detalles de transacciones con tarjeta
         CardTransactionDetailRepositoryInterface cardTransactionDetailRepository =
                 new CardTransactionDetailRepositoryMySQL(dbConnection);
-        CardTransactionDetailService cardTransactionDetailService = new CardTransactionDetailService(cardTransactionDetailRepository);
+        CardTransactionDetailService cardTransactionDetailService = new CardTransactionDetailService(
+                instrumented(CardTransactionDetailRepositoryInterface.class, cardTransactionDetailRepository));
 
         // Inicializar repositorios y servicios de detalles de transacciones de wallet
         WalletTransactionDetailRepositoryInterface walletTransactionDetailRepository =
-                new WalletTransactionDetailRepositoryMySQL(dbConnection);
-        WalletTransactionDetailService walletTransactionDetailService = new WalletTransactionDetailService(walletTransactionDetailRepository);
+                new WalletTransactionDetailRepositoryMySQL(dbConnection, accountChanges);
+        WalletTransactionDetailService walletTransactionDetailService = new WalletTransactionDetailService(
+                instrumented(WalletTransactionDetailRepositoryInterface.class, walletTransactionDetailRepository));
 
         // Inicializar repositorios y servicios de vínculos wallet-tarjeta
         WalletCardLinkRepositoryInterface walletCardLinkRepository =
                 new WalletCardLinkRepositoryMySQL(dbConnection);
-        WalletCardLinkService walletCardLinkService = new WalletCardLinkService(walletCardLinkRepository);
+        WalletCardLinkService walletCardLinkService = new WalletCardLinkService(
+                instrumented(WalletCardLinkRepositoryInterface.class, walletCardLinkRepository));
 
         // Inicializar repositorios y servicios de configuraciones de cashback
         AccountCashbackSettingRepositoryInterface accountCashbackSettingRepository =
                 new AccountCashbackSettingRepositoryMySQL(dbConnection);
         AccountCashbackSettingService accountCashbackSettingService =
-                new AccountCashbackSettingService(accountCashbackSettingRepository);
+                new AccountCashbackSettingService(
+                        instrumented(AccountCashbackSettingRepositoryInterface.class, accountCashbackSettingRepository));
+
+        // Rendimientos de cuentas de ahorro: se calculan cada noche con los días pendientes
+        if (savingsYieldConfig.isEnabled()) {
+            SavingsYieldOptions savingsYieldOptions = new SavingsYieldOptions();
+            savingsYieldOptions.setThreads(savingsYieldConfig.getThreads());
+            savingsYieldOptions.setBatchSize(savingsYieldConfig.getBatchSize());
+            savingsYieldOptions.setCategory(savingsYieldConfig.getCategory());
+            savingsYieldOptions.setDaysPerYear(savingsYieldConfig.getDaysPerYear());
+            SavingsYieldService savingsYieldService = new SavingsYieldService(
+                    new SavingsYieldRepositoryMySQL(dbConnection, transactionRepository), savingsYieldOptions);
+            new DailyJobScheduler("savings-yield", "rendimientos de ahorro", savingsYieldService::accrueThroughYesterday,
+                    savingsYieldConfig.getRunAt(), savingsYieldOptions.getZone()).start();
+        }
+
+        // Vencimiento de inversiones: interés a la cuenta contenedora y reinversión automática
+        if (investmentMaturityConfig.isEnabled()) {
+            InvestmentMaturityOptions investmentMaturityOptions = new InvestmentMaturityOptions();
+            investmentMaturityOptions.setThreads(investmentMaturityConfig.getThreads());
+            investmentMaturityOptions.setBatchSize(investmentMaturityConfig.getBatchSize());
+            investmentMaturityOptions.setCategory(investmentMaturityConfig.getCategory());
+            InvestmentMaturityService investmentMaturityService = new InvestmentMaturityService(
+                    new InvestmentMaturityRepositoryMySQL(dbConnection, transactionRepository, accountChanges),
+                    investmentMaturityOptions);
+            new DailyJobScheduler("investment-maturity", "vencimientos de inversiones",
+                    investmentMaturityService::matureThroughToday, investmentMaturityConfig.getRunAt(),
+                    investmentMaturityOptions.getZone()).start();
+        }
+
+        // Estados de cuenta de crédito: se generan al cerrar cada ciclo y al consultarlos
+        CreditStatementOptions creditStatementOptions = new CreditStatementOptions();
+        creditStatementOptions.setMinimumPaymentRate(creditStatementConfig.getMinimumPaymentRate());
+        creditStatementOptions.setBackfillCycles(creditStatementConfig.getBackfillCycles());
+        CreditStatementService creditStatementService = new CreditStatementService(
+                instrumented(CreditStatementRepositoryInterface.class, new CreditStatementRepositoryMySQL(dbConnection)),
+                creditStatementOptions);
+        if (creditStatementConfig.isEnabled()) {
+            new DailyJobScheduler("credit-statement", "estados de cuenta", creditStatementService::generateAllThroughToday,
+                    creditStatementConfig.getRunAt(), creditStatementOptions.getZone()).start();
+        }
+
+        // Métricas del servidor (GET_SERVER_METRICS y volcado a archivo)
+        ServerMetricsService serverMetricsService = new ServerMetricsService(dbConnection);
 
         // Se registran todos los servicios
         List<ServerRegisterHandlers> featureServices = List.of(
@@ -143,10 +265,13 @@ public class ApplicationInitializer {
                 new TagHandlers(tagService),
                 new ExternalEntityHandlers(externalEntityService),
                 new TransactionHandlers(transactionService),
+                new MonthlySummaryHandlers(monthlySummaryService),
+                new CreditStatementHandlers(creditStatementService),
                 new CardTransactionDetailHandlers(cardTransactionDetailService),
                 new WalletTransactionDetailHandlers(walletTransactionDetailService),
                 new WalletCardLinkHandlers(walletCardLinkService),
-                new AccountCashbackSettingHandlers(accountCashbackSettingService)
+                new AccountCashbackSettingHandlers(accountCashbackSettingService),
+                new ServerMetricsHandlers(serverMetricsService)
         );
 
         logger.info("Servicios inicializados correctamente.");
@@ -154,9 +279,16 @@ public class ApplicationInitializer {
         ServerInitializer serverInitializer = new ServerInitializer(serverConfig);
         try {
 
-            ServerService server = serverInitializer.initialize(featureServices);
+            ServerAbstract server = serverInitializer.initialize(featureServices);
             server.startServer();
             logger.info("Servidor iniciado correctamente en " + serverConfig.getHost() + ":" + serverConfig.getPort());
+            if (metricsConfig.isDumpEnabled()) {
+                new MetricsDumpScheduler(serverMetricsService, server, metricsConfig.getDumpFile(),
+                        metricsConfig.getDumpInterval()).start();
+            }
+            if (metricsConfig.isHttpEnabled()) {
+                startMetricsHttpServer(metricsConfig, dbConnection, server);
+            }
             
             // Mantener el servidor en ejecución
             keepServerRunning();
@@ -166,6 +298,26 @@ public class ApplicationInitializer {
         }
     }
 
+    /**
+     * Un error al abrir el puerto de métricas no detiene el servidor de sockets.
+     */
+    private void startMetricsHttpServer(MetricsConfig metricsConfig, DatabaseConnectionInterface dbConnection,
+            ServerAbstract server) {
+        try {
+            new MetricsHttpServer(metricsConfig.getHttpHost(), metricsConfig.getHttpPort(),
+                    new PrometheusMetricsService(dbConnection), new HealthCheckService(dbConnection), server).start();
+        } catch (IOException e) {
+            logger.error("No se pudo abrir el puerto HTTP de métricas " + metricsConfig.getHttpPort(), e);
+        }
+    }
+
+    /**
+     * Envuelve el repositorio para medir sus llamadas si las métricas están habilitadas.
+     */
+    private static <T> T instrumented(Class<T> type, T repository) {
+        return MetricsRegistry.isEnabled() ? InstrumentedRepository.wrap(type, repository) : repository;
+    }
+
     private void keepServerRunning() {
         logger.info("Servidor en ejecución. Presiona Ctrl+C para detener.");
         final Object lock = new Object();
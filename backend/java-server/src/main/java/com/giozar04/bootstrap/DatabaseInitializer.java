@@ -20,7 +20,9 @@ public class DatabaseInitializer {
                 dbConfig.getPort(),
                 dbConfig.getName(),
                 dbConfig.getUsername(),
-                dbConfig.getPassword()
+                dbConfig.getPassword(),
+                dbConfig.getPoolSettings(),
+                dbConfig.getQueryMonitorSettings()
         );
         logger.info("Conexión a la base de datos establecida exitosamente.");
         return connection;
@@ -4,31 +4,33 @@ import java.io.IOException;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.giozar04.configs.ServerConfig;
 import com.giozar04.logging.CustomLogger;
+import com.giozar04.servers.application.services.ServerNioService;
 import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.exceptions.ServerOperationException;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
+import com.giozar04.threads.utils.VirtualThreads;
 
 public class ServerInitializer {
         private final ServerConfig serverConfig;
         private final CustomLogger logger = CustomLogger.getInstance();
-        private final ExecutorService threadPool;
     
         public ServerInitializer(ServerConfig serverConfig) {
             this.serverConfig = serverConfig;
-            this.threadPool = Executors.newCachedThreadPool();
         }
     
-        public ServerService initialize(List<ServerRegisterHandlers> featureRegistrars)
+        public ServerAbstract initialize(List<ServerRegisterHandlers> featureRegistrars)
                 throws ServerOperationException, IOException {
     
-            ServerService server = ServerService.getInstance(
-                    serverConfig.getHost(),
-                    serverConfig.getPort(),
-                    threadPool
-            );
+            ServerAbstract server = createServer();
     
             for (ServerRegisterHandlers registrar : featureRegistrars) {
                 registrar.register(server);
@@ -38,5 +40,97 @@ public class ServerInitializer {
     
             return server;
         }
+
+        /**
+         * Crea el servidor según el modo configurado en server.mode.
+         */
+        private ServerAbstract createServer() throws ServerOperationException {
+            String mode = serverConfig.getMode().toLowerCase();
+            switch (mode) {
+                case "blocking":
+                    logger.info("Modo de servidor: un hilo por cliente");
+                    return ServerService.getInstance(
+                            serverConfig.getHost(),
+                            serverConfig.getPort(),
+                            Executors.newCachedThreadPool(),
+                            createRequestPool(false),
+                            serverConfig.getMaxInFlightRequests(),
+                            serverConfig.isBinaryProtocol(),
+                            serverConfig.getCompression()
+                    );
+                case "virtual":
+                    return ServerService.getInstance(
+                            serverConfig.getHost(),
+                            serverConfig.getPort(),
+                            createVirtualThreadPool(),
+                            createRequestPool(true),
+                            serverConfig.getMaxInFlightRequests(),
+                            serverConfig.isBinaryProtocol(),
+                            serverConfig.getCompression()
+                    );
+                case "nio":
+                    logger.info("Modo de servidor: selector NIO con " + serverConfig.getWorkerThreads() + " workers");
+                    return ServerNioService.getInstance(
+                            serverConfig.getHost(),
+                            serverConfig.getPort(),
+                            createWorkerPool("nio-worker-")
+                    );
+                default:
+                    throw new ServerOperationException("Modo de servidor no soportado: " + serverConfig.getMode());
+            }
+        }
+
+        /**
+         * Un hilo virtual por cliente; el código bloqueante de ServerService no cambia.
+         * Si la JVM no soporta hilos virtuales se usa el pool de hilos de plataforma.
+         */
+        private ExecutorService createVirtualThreadPool() {
+            ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("client-vt-");
+            if (executor == null) {
+                logger.warn("La JVM no soporta hilos virtuales (requiere Java 21+), se usan hilos de plataforma");
+                return Executors.newCachedThreadPool();
+            }
+            logger.info("Modo de servidor: un hilo virtual por cliente. Para detectar hilos fijados (pinning) "
+                    + "ejecute con -Djdk.tracePinnedThreads=short");
+            return executor;
+        }
+
+        /**
+         * Pool para procesar en paralelo las solicitudes de cada cliente, o null si
+         * server.requests.concurrent no está activo. En modo virtual cada solicitud usa su propio
+         * hilo virtual; el límite lo pone server.requests.maxInFlight por cliente.
+         */
+        private ExecutorService createRequestPool(boolean virtual) {
+            if (!serverConfig.isConcurrentRequests()) {
+                return null;
+            }
+            logger.info("Solicitudes en paralelo por cliente, máximo " + serverConfig.getMaxInFlightRequests() + " en curso");
+            if (virtual) {
+                ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("request-vt-");
+                if (executor != null) {
+                    return executor;
+                }
+            }
+            return createWorkerPool("request-worker-");
+        }
+
+        /**
+         * Pool acotado de workers: hilos fijos y cola limitada para no crecer sin control.
+         */
+        private ExecutorService createWorkerPool(String threadNamePrefix) {
+            AtomicInteger counter = new AtomicInteger(0);
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, threadNamePrefix + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return new ThreadPoolExecutor(
+                    serverConfig.getWorkerThreads(),
+                    serverConfig.getWorkerThreads(),
+                    60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(serverConfig.getWorkerQueueCapacity()),
+                    threadFactory
+            );
+        }
     }
-    
\ No newline at end of file
+    
@@ -0,0 +1,26 @@
+package com.giozar04.caches.domain.models;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registro de las cachés del servidor, para consultar sus estadísticas en un solo lugar.
+ */
+public final class CacheRegistry {
+
+    private static final List<ReferenceDataCache<?>> CACHES = new CopyOnWriteArrayList<>();
+
+    private CacheRegistry() {
+    }
+
+    public static void register(ReferenceDataCache<?> cache) {
+        CACHES.add(cache);
+    }
+
+    /**
+     * @return Las estadísticas actuales de cada caché registrada.
+     */
+    public static List<CacheStats> getStats() {
+        return CACHES.stream().map(ReferenceDataCache::getStats).toList();
+    }
+}
@@ -0,0 +1,65 @@
+package com.giozar04.caches.domain.models;
+
+/**
+ * Instantánea inmutable de las estadísticas de una caché.
+ */
+public class CacheStats {
+
+    private final String name;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+    private final int size;
+
+    public CacheStats(String name, long hits, long misses, long evictions, long invalidations, int size) {
+        this.name = name;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+        this.size = size;
+    }
+
+    /** @return Nombre de la caché. */
+    public String getName() {
+        return name;
+    }
+
+    /** @return Consultas servidas desde memoria. */
+    public long getHits() {
+        return hits;
+    }
+
+    /** @return Consultas que tuvieron que ir a la base de datos. */
+    public long getMisses() {
+        return misses;
+    }
+
+    /** @return Entradas descartadas por superar el tamaño máximo. */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /** @return Entradas descartadas por escrituras. */
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    /** @return Entidades en memoria en este momento. */
+    public int getSize() {
+        return size;
+    }
+
+    /** @return Proporción de aciertos entre 0 y 1, o 0 si aún no hubo consultas. */
+    public double getHitRatio() {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[hits=%d, misses=%d, hitRatio=%.2f, evictions=%d, invalidations=%d, size=%d]",
+                name, hits, misses, getHitRatio(), evictions, invalidations, size);
+    }
+}
@@ -0,0 +1,286 @@
+package com.giozar04.caches.domain.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Caché en memoria de datos de referencia (categorías, etiquetas, ...) para los decoradores
+ * XxxRepositoryCached.
+ *
+ * - Guarda entidades por id, la lista completa y las listas por usuario.
+ * - Las entidades por id se descartan por antigüedad de uso (LRU) al superar el máximo; las
+ *   listas que no caben en ese máximo no se guardan.
+ * - Cada escritura invalida solo lo que toca: la entidad, su usuario (el anterior y el nuevo
+ *   si cambió) y la lista completa.
+ * - Una lectura que empezó antes de una escritura no guarda su resultado, para no volver a
+ *   meter en memoria datos que la escritura ya cambió.
+ *
+ * Las entidades se comparten entre quienes las piden y no deben modificarse; las listas que
+ * se devuelven son copias.
+ *
+ * @param <T> Tipo de la entidad.
+ */
+public class ReferenceDataCache<T> {
+
+    private static final int MAX_USER_LISTS = 256;
+
+    private final String name;
+    private final int maxEntries;
+    private final ToLongFunction<T> idOf;
+    private final ToLongFunction<T> userIdOf;
+
+    // Los LinkedHashMap en orden de acceso cambian al leer, así que todo va bajo el bloqueo
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, T> byId;
+    private final Map<Long, List<T>> byUser;
+    private List<T> all;
+    private long version;
+    private long evictions;
+    private long invalidations;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param name Nombre para las estadísticas.
+     * @param maxEntries Máximo de entidades en memoria.
+     * @param idOf Obtiene el id de una entidad.
+     * @param userIdOf Obtiene el id del usuario dueño de una entidad.
+     */
+    public ReferenceDataCache(String name, int maxEntries, ToLongFunction<T> idOf, ToLongFunction<T> userIdOf) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo de la caché debe ser mayor que cero");
+        }
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.idOf = idOf;
+        this.userIdOf = userIdOf;
+        this.byId = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, T> eldest) {
+                if (size() > ReferenceDataCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.byUser = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<T>> eldest) {
+                return size() > MAX_USER_LISTS;
+            }
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return La entidad en memoria, o la que devuelva el cargador (que se guarda). Las
+     *         excepciones del cargador se propagan sin guardar nada.
+     */
+    public T getById(long id, LongFunction<T> loader) {
+        long startVersion;
+        lock.lock();
+        try {
+            T cached = byId.get(id);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+            startVersion = version;
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        T loaded = loader.apply(id);
+        if (loaded != null) {
+            lock.lock();
+            try {
+                if (version == startVersion) {
+                    byId.put(id, loaded);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * @return Una copia de la lista completa en memoria, o de la que devuelva el cargador.
+     */
+    public List<T> getAll(Supplier<List<T>> loader) {
+        long startVersion;
+        lock.lock();
+        try {
+            if (all != null) {
+                hits.increment();
+                return new ArrayList<>(all);
+            }
+            startVersion = version;
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        List<T> loaded = loader.get();
+        if (loaded.size() <= maxEntries) {
+            lock.lock();
+            try {
+                if (version == startVersion) {
+                    all = Collections.unmodifiableList(new ArrayList<>(loaded));
+                    for (T entity : loaded) {
+                        byId.put(idOf.applyAsLong(entity), entity);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * @return Una copia de la lista del usuario en memoria, o de la que devuelva el cargador.
+     */
+    public List<T> getByUser(long userId, LongFunction<List<T>> loader) {
+        long startVersion;
+        lock.lock();
+        try {
+            List<T> cached = byUser.get(userId);
+            if (cached != null) {
+                hits.increment();
+                return new ArrayList<>(cached);
+            }
+            startVersion = version;
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        List<T> loaded = loader.apply(userId);
+        if (loaded.size() <= maxEntries) {
+            lock.lock();
+            try {
+                if (version == startVersion) {
+                    byUser.put(userId, Collections.unmodifiableList(new ArrayList<>(loaded)));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * @return Una copia de la lista completa si está en memoria, o null si no lo está.
+     */
+    public List<T> peekAll() {
+        lock.lock();
+        try {
+            if (all == null) {
+                return null;
+            }
+            hits.increment();
+            return new ArrayList<>(all);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Guarda una entidad recién creada; ya trae el id y las fechas que asignó la base de datos.
+     */
+    public void created(T entity) {
+        lock.lock();
+        try {
+            version++;
+            byId.put(idOf.applyAsLong(entity), entity);
+            invalidateLists(userIdOf.applyAsLong(entity));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Descarta la entidad actualizada (la de entrada no trae todos los campos de la fila) y las
+     * listas de su usuario anterior y del nuevo.
+     *
+     * @param entity La entidad con los datos nuevos, o null si no se conocen.
+     */
+    public void updated(long id, T entity) {
+        lock.lock();
+        try {
+            version++;
+            T previous = byId.remove(id);
+            invalidations++;
+            if (previous == null) {
+                // Sin la versión anterior no se sabe a qué usuario pertenecía
+                byUser.clear();
+                all = null;
+                return;
+            }
+            invalidateLists(userIdOf.applyAsLong(previous));
+            if (entity != null) {
+                byUser.remove(userIdOf.applyAsLong(entity));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Descarta la entidad eliminada y las listas que la contenían.
+     */
+    public void deleted(long id) {
+        updated(id, null);
+    }
+
+    /**
+     * Descarta la entidad porque su fila cambió fuera del repositorio decorado (por ejemplo,
+     * por un trigger), junto con las listas que la contenían.
+     */
+    public void invalidate(long id) {
+        updated(id, null);
+    }
+
+    /** Descarta todo el contenido. */
+    public void clear() {
+        lock.lock();
+        try {
+            version++;
+            invalidations += byId.size();
+            byId.clear();
+            byUser.clear();
+            all = null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void invalidateLists(long userId) {
+        byUser.remove(userId);
+        all = null;
+    }
+
+    public CacheStats getStats() {
+        lock.lock();
+        try {
+            return new CacheStats(name, hits.sum(), misses.sum(), evictions, invalidations, byId.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
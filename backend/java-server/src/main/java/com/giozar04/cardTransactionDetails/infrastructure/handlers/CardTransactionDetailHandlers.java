@@ -2,8 +2,8 @@ package com.giozar04.cardTransactionDetails.infrastructure.handlers;
 
 import com.giozar04.cardTransactionDetails.application.services.CardTransactionDetailService;
 import com.giozar04.cardTransactionDetails.infrastructure.controllers.CardTransactionDetailControllers;
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 
 public class CardTransactionDetailHandlers implements ServerRegisterHandlers {
 
@@ -14,7 +14,7 @@ public class CardTransactionDetailHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(
             CardTransactionDetailControllers.MessageTypes.CREATE_DETAIL,
             CardTransactionDetailControllers.createDetailController(service)
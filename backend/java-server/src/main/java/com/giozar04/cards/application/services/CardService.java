@@ -1,6 +1,7 @@
 package com.giozar04.cards.application.services;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.giozar04.card.domain.entities.Card;
 import com.giozar04.cards.domain.interfaces.CardRepositoryInterface;
@@ -37,4 +38,9 @@ public class CardService implements CardRepositoryInterface {
     public List<Card> getAllCards() {
         return cardRepository.getAllCards();
     }
+
+    @Override
+    public void forEachCard(Consumer<? super Card> action) {
+        cardRepository.forEachCard(action);
+    }
 }
@@ -1,6 +1,7 @@
 package com.giozar04.cards.domain.interfaces;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.giozar04.card.domain.entities.Card;
 
@@ -10,4 +11,5 @@ public interface CardRepositoryInterface {
     Card updateCardById(long id, Card card);
     void deleteCardById(long id);
     List<Card> getAllCards();
+    void forEachCard(Consumer<? super Card> action);
 }
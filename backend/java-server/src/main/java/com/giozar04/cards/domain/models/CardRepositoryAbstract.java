@@ -2,6 +2,7 @@ package com.giozar04.cards.domain.models;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import com.giozar04.card.domain.entities.Card;
 import com.giozar04.card.domain.enums.CardTypes;
@@ -73,4 +74,7 @@ public abstract class CardRepositoryAbstract implements CardRepositoryInterface
 
     @Override
     public abstract List<Card> getAllCards();
+
+    @Override
+    public abstract void forEachCard(Consumer<? super Card> action);
 }
@@ -1,8 +1,6 @@
 package com.giozar04.cards.infrastructure.controllers;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import com.giozar04.card.application.utils.CardUtils;
 import com.giozar04.card.domain.entities.Card;
@@ -11,6 +9,7 @@ import com.giozar04.logging.CustomLogger;
 import com.giozar04.messages.domain.models.Message;
 import com.giozar04.servers.domain.handlers.MessageHandler;
 import com.giozar04.servers.domain.models.ClientConnection;
+import com.giozar04.servers.domain.models.StreamedResponse;
 
 public class CardControllers {
 
@@ -24,19 +23,16 @@ public class CardControllers {
         public static final String GET_ALL_CARDS = "GET_ALL_CARDS";
     }
 
-    @SuppressWarnings("unchecked")
     public static MessageHandler createCardController(CardService cardService) {
         return (ClientConnection clientConnection, Message message) -> {
             LOGGER.info("Procesando solicitud de creación de tarjeta");
 
             try {
-                Map<String, Object> data = (Map<String, Object>) message.getData("card");
-                if (data == null) {
+                Card card = CardUtils.dataToCard(message.getData("card"));
+                if (card == null) {
                     return Message.createErrorMessage(CardMessageTypes.CREATE_CARD, "Datos de tarjeta no proporcionados");
                 }
 
-                LOGGER.info("Datos recibidos para crear tarjeta: " + data);
-                Card card = CardUtils.mapToCard(data);
                 LOGGER.info("Tarjeta parseada: accountId=" + card.getAccountId()
                         + " name=" + card.getName()
                         + " cardType=" + card.getCardType()
@@ -46,7 +42,7 @@ public class CardControllers {
                 Card created = cardService.createCard(card);
 
                 Message response = Message.createSuccessMessage(CardMessageTypes.CREATE_CARD, "Tarjeta creada exitosamente");
-                response.addData("card", CardUtils.cardToMap(created));
+                response.addData("card", created);
                 return response;
 
             } catch (Exception e) {
@@ -68,12 +64,11 @@ public class CardControllers {
 
             Card card = cardService.getCardById(id);
             Message response = Message.createSuccessMessage(CardMessageTypes.GET_CARD, "Tarjeta obtenida exitosamente");
-            response.addData("card", CardUtils.cardToMap(card));
+            response.addData("card", card);
             return response;
         };
     }
 
-    @SuppressWarnings("unchecked")
     public static MessageHandler updateCardController(CardService cardService) {
         return (ClientConnection clientConnection, Message message) -> {
             LOGGER.info("Procesando solicitud de actualización de tarjeta");
@@ -83,16 +78,15 @@ public class CardControllers {
                 return Message.createErrorMessage(CardMessageTypes.UPDATE_CARD, "ID de tarjeta inválido o no proporcionado");
             }
 
-            Map<String, Object> data = (Map<String, Object>) message.getData("card");
-            if (data == null) {
+            Card card = CardUtils.dataToCard(message.getData("card"));
+            if (card == null) {
                 return Message.createErrorMessage(CardMessageTypes.UPDATE_CARD, "Datos de tarjeta no proporcionados");
             }
 
-            Card card = CardUtils.mapToCard(data);
             Card updated = cardService.updateCardById(id, card);
 
             Message response = Message.createSuccessMessage(CardMessageTypes.UPDATE_CARD, "Tarjeta actualizada exitosamente");
-            response.addData("card", CardUtils.cardToMap(updated));
+            response.addData("card", updated);
             return response;
         };
     }
@@ -115,16 +109,16 @@ public class CardControllers {
         return (ClientConnection clientConnection, Message message) -> {
             LOGGER.info("Procesando solicitud de obtención de todas las tarjetas");
 
-            List<Card> cards = cardService.getAllCards();
-            List<Map<String, Object>> list = new ArrayList<>();
-
-            for (Card card : cards) {
-                list.add(CardUtils.cardToMap(card));
+            if (message.isStreamRequested()) {
+                return new StreamedResponse<Card>(CardMessageTypes.GET_ALL_CARDS,
+                        "Tarjetas obtenidas exitosamente", "cards", cardService::forEachCard);
             }
 
+            List<Card> cards = cardService.getAllCards();
+
             Message response = Message.createSuccessMessage(CardMessageTypes.GET_ALL_CARDS, "Tarjetas obtenidas exitosamente");
-            response.addData("cards", list);
-            response.addData("count", list.size());
+            response.addData("cards", cards);
+            response.addData("count", cards.size());
 
             return response;
         };
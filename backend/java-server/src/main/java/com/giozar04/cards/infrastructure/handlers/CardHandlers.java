@@ -2,8 +2,8 @@ package com.giozar04.cards.infrastructure.handlers;
 
 import com.giozar04.cards.application.services.CardService;
 import com.giozar04.cards.infrastructure.controllers.CardControllers;
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 
 public class CardHandlers implements ServerRegisterHandlers {
 
@@ -14,7 +14,7 @@ public class CardHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(
             CardControllers.CardMessageTypes.CREATE_CARD,
             CardControllers.createCardController(cardService)
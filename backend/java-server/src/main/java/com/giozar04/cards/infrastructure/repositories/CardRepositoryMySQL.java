@@ -10,6 +10,7 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.giozar04.card.domain.entities.Card;
 import com.giozar04.card.domain.enums.CardTypes;
@@ -173,6 +174,25 @@ public class CardRepositoryMySQL extends CardRepositoryAbstract {
         }
     }
 
+    /**
+     * Entrega las tarjetas una por una mientras se leen del ResultSet, sin construir la lista.
+     * La conexión queda ocupada hasta que la acción procesa la última fila.
+     */
+    @Override
+    public void forEachCard(Consumer<? super Card> action) {
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = databaseConnection.prepareStreamingStatement(conn, SQL_SELECT_ALL);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                action.accept(mapResultSetToCard(rs));
+            }
+
+        } catch (SQLException e) {
+            throw new CardExceptions.CardRetrievalException("Error al obtener todas las tarjetas", e);
+        }
+    }
+
     private Card mapResultSetToCard(ResultSet rs) throws SQLException {
         Card card = new Card();
         ZoneId zone = ZoneId.systemDefault();
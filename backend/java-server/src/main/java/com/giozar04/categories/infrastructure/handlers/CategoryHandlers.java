@@ -2,8 +2,8 @@ package com.giozar04.categories.infrastructure.handlers;
 
 import com.giozar04.categories.application.services.CategoryService;
 import com.giozar04.categories.infrastructure.controllers.CategoryControllers;
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 
 public class CategoryHandlers implements ServerRegisterHandlers {
 
@@ -14,7 +14,7 @@ public class CategoryHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(
             CategoryControllers.CategoryMessageTypes.CREATE_CATEGORY,
             CategoryControllers.createCategoryController(categoryService)
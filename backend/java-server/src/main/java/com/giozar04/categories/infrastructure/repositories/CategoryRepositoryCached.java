@@ -0,0 +1,65 @@
+package com.giozar04.categories.infrastructure.repositories;
+
+import java.util.List;
+
+import com.giozar04.caches.domain.models.CacheRegistry;
+import com.giozar04.caches.domain.models.CacheStats;
+import com.giozar04.caches.domain.models.ReferenceDataCache;
+import com.giozar04.categories.domain.entities.Category;
+import com.giozar04.categories.domain.interfaces.CategoryRepositoryInterface;
+
+/**
+ * Decorador con caché en memoria de categorías sobre otro CategoryRepositoryInterface
+ * (normalmente CategoryRepositoryMySQL). Las lecturas se sirven desde memoria y cada escritura
+ * invalida solo lo que cambió (ver ReferenceDataCache).
+ */
+public class CategoryRepositoryCached implements CategoryRepositoryInterface {
+
+    private final CategoryRepositoryInterface delegate;
+    private final ReferenceDataCache<Category> cache;
+
+    public CategoryRepositoryCached(CategoryRepositoryInterface delegate, int maxEntries) {
+        this.delegate = delegate;
+        this.cache = new ReferenceDataCache<>("categories", maxEntries, Category::getId, Category::getUserId);
+        CacheRegistry.register(cache);
+    }
+
+    @Override
+    public Category createCategory(Category category) {
+        Category created = delegate.createCategory(category);
+        cache.created(created);
+        return created;
+    }
+
+    @Override
+    public Category getCategoryById(long id) {
+        return cache.getById(id, delegate::getCategoryById);
+    }
+
+    @Override
+    public Category updateCategoryById(long id, Category category) {
+        try {
+            return delegate.updateCategoryById(id, category);
+        } finally {
+            cache.updated(id, category);
+        }
+    }
+
+    @Override
+    public void deleteCategoryById(long id) {
+        try {
+            delegate.deleteCategoryById(id);
+        } finally {
+            cache.deleted(id);
+        }
+    }
+
+    @Override
+    public List<Category> getAllCategories() {
+        return cache.getAll(delegate::getAllCategories);
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+}
@@ -0,0 +1,41 @@
+package com.giozar04.configs;
+
+public class CacheConfig {
+    private final boolean referenceDataEnabled;
+    private final int referenceDataMaxEntries;
+    private final boolean accountsEnabled;
+    private final int accountsMaxEntries;
+
+    public CacheConfig() {
+        this.referenceDataEnabled = Boolean.parseBoolean(AppConfig.getProperty("cache.referenceData.enabled", "true"));
+        this.referenceDataMaxEntries = Integer.parseInt(AppConfig.getProperty("cache.referenceData.maxEntries", "1000"));
+        this.accountsEnabled = Boolean.parseBoolean(AppConfig.getProperty("cache.accounts.enabled", "true"));
+        this.accountsMaxEntries = Integer.parseInt(AppConfig.getProperty("cache.accounts.maxEntries", "1000"));
+    }
+
+    /**
+     * @return true si categorías, etiquetas, entidades externas y clientes de bancos se sirven
+     *         desde la caché en memoria.
+     */
+    public boolean isReferenceDataEnabled() {
+        return referenceDataEnabled;
+    }
+
+    /** @return Máximo de entidades en memoria por cada caché de datos de referencia. */
+    public int getReferenceDataMaxEntries() {
+        return referenceDataMaxEntries;
+    }
+
+    /**
+     * @return true si las cuentas se sirven desde la caché en memoria, que se invalida con
+     *         las escrituras de cuentas, transacciones y detalles wallet.
+     */
+    public boolean isAccountsEnabled() {
+        return accountsEnabled;
+    }
+
+    /** @return Máximo de cuentas en memoria. */
+    public int getAccountsMaxEntries() {
+        return accountsMaxEntries;
+    }
+}
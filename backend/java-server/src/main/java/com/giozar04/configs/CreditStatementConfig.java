@@ -0,0 +1,38 @@
+package com.giozar04.configs;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+
+public class CreditStatementConfig {
+    private final boolean enabled;
+    private final LocalTime runAt;
+    private final BigDecimal minimumPaymentRate;
+    private final int backfillCycles;
+
+    public CreditStatementConfig() {
+        this.enabled = Boolean.parseBoolean(AppConfig.getProperty("credit.statements.enabled", "true"));
+        this.runAt = LocalTime.parse(AppConfig.getProperty("credit.statements.time", "01:00"));
+        this.minimumPaymentRate = new BigDecimal(AppConfig.getProperty("credit.statements.minimumPaymentRate", "0.05"));
+        this.backfillCycles = Integer.parseInt(AppConfig.getProperty("credit.statements.backfillCycles", "24"));
+    }
+
+    /** @return true si el servidor genera cada día los estados de cuenta de los ciclos cerrados. */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** @return Hora del servidor a la que se generan los estados de cuenta. */
+    public LocalTime getRunAt() {
+        return runAt;
+    }
+
+    /** @return Fracción del saldo (sin mensualidades MSI) que se suma al pago mínimo. */
+    public BigDecimal getMinimumPaymentRate() {
+        return minimumPaymentRate;
+    }
+
+    /** @return Ciclos que se generan como máximo para una cuenta sin estados de cuenta. */
+    public int getBackfillCycles() {
+        return backfillCycles;
+    }
+}
@@ -1,11 +1,16 @@
 package com.giozar04.configs;
 
+import com.giozar04.databases.domain.models.ConnectionPoolSettings;
+import com.giozar04.databases.domain.models.QueryMonitorSettings;
+
 public class DatabaseConfig {
     private final String host;
     private final String port;
     private final String name;
     private final String username;
     private final String password;
+    private final ConnectionPoolSettings poolSettings;
+    private final QueryMonitorSettings queryMonitorSettings;
 
     public DatabaseConfig() {
         this.host = AppConfig.getProperty("database.host");
@@ -13,6 +18,36 @@ public class DatabaseConfig {
         this.name = AppConfig.getProperty("database.name");
         this.username = AppConfig.getProperty("database.username");
         this.password = AppConfig.getProperty("database.password");
+
+        ConnectionPoolSettings defaults = ConnectionPoolSettings.defaults();
+        this.poolSettings = new ConnectionPoolSettings(
+                Integer.parseInt(AppConfig.getProperty("database.pool.maxSize",
+                        String.valueOf(defaults.getMaxSize()))),
+                Integer.parseInt(AppConfig.getProperty("database.pool.minIdle",
+                        String.valueOf(defaults.getMinIdle()))),
+                Long.parseLong(AppConfig.getProperty("database.pool.connectionTimeoutMillis",
+                        String.valueOf(defaults.getConnectionTimeoutMillis()))),
+                Long.parseLong(AppConfig.getProperty("database.pool.validationIntervalSeconds",
+                        String.valueOf(defaults.getValidationIntervalSeconds()))),
+                Long.parseLong(AppConfig.getProperty("database.pool.idleTimeoutSeconds",
+                        String.valueOf(defaults.getIdleTimeoutSeconds()))),
+                Long.parseLong(AppConfig.getProperty("database.pool.maxLifetimeSeconds",
+                        String.valueOf(defaults.getMaxLifetimeSeconds())))
+        );
+
+        QueryMonitorSettings queryDefaults = QueryMonitorSettings.defaults();
+        this.queryMonitorSettings = new QueryMonitorSettings(
+                Boolean.parseBoolean(AppConfig.getProperty("database.query.instrument",
+                        String.valueOf(queryDefaults.isEnabled()))),
+                Long.parseLong(AppConfig.getProperty("database.query.slowMillis",
+                        String.valueOf(queryDefaults.getSlowQueryMillis()))),
+                Boolean.parseBoolean(AppConfig.getProperty("database.query.logParameters",
+                        String.valueOf(queryDefaults.isLogParameters()))),
+                Boolean.parseBoolean(AppConfig.getProperty("database.query.explain",
+                        String.valueOf(queryDefaults.isExplainEnabled()))),
+                Long.parseLong(AppConfig.getProperty("database.query.explainIntervalSeconds",
+                        String.valueOf(queryDefaults.getExplainIntervalSeconds())))
+        );
     }
 
     public String getHost() {
@@ -34,4 +69,12 @@ public class DatabaseConfig {
     public String getPassword() {
         return password;
     }
+
+    public ConnectionPoolSettings getPoolSettings() {
+        return poolSettings;
+    }
+
+    public QueryMonitorSettings getQueryMonitorSettings() {
+        return queryMonitorSettings;
+    }
 }
@@ -0,0 +1,44 @@
+package com.giozar04.configs;
+
+import java.time.LocalTime;
+
+public class InvestmentMaturityConfig {
+    private final boolean enabled;
+    private final LocalTime runAt;
+    private final int threads;
+    private final int batchSize;
+    private final String category;
+
+    public InvestmentMaturityConfig() {
+        this.enabled = Boolean.parseBoolean(AppConfig.getProperty("investment.maturity.enabled", "true"));
+        this.runAt = LocalTime.parse(AppConfig.getProperty("investment.maturity.time", "00:45"));
+        this.threads = Integer.parseInt(AppConfig.getProperty("investment.maturity.threads", "4"));
+        this.batchSize = Integer.parseInt(AppConfig.getProperty("investment.maturity.batchSize", "1000"));
+        this.category = AppConfig.getProperty("investment.maturity.category", "Rendimientos");
+    }
+
+    /** @return true si el servidor vence las inversiones cada día. */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** @return Hora del servidor a la que se vencen las posiciones con vencimiento hasta ese día. */
+    public LocalTime getRunAt() {
+        return runAt;
+    }
+
+    /** @return Hilos que vencen posiciones en paralelo (repartidas por cuenta); cada uno usa una conexión. */
+    public int getThreads() {
+        return threads;
+    }
+
+    /** @return Posiciones por página leída de la base de datos. */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /** @return Categoría de las transacciones de interés. */
+    public String getCategory() {
+        return category;
+    }
+}
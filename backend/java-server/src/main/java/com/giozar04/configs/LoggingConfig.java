@@ -0,0 +1,36 @@
+package com.giozar04.configs;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.giozar04.logging.LogLevel;
+import com.giozar04.logging.LoggerConfig;
+
+public class LoggingConfig {
+    private final LoggerConfig loggerConfig;
+
+    public LoggingConfig() {
+        // Las propiedades del sistema (-Dlog.level, ...) tienen prioridad sobre config.properties
+        LoggerConfig defaults = LoggerConfig.fromSystemProperties();
+        String file = getSystemOrAppProperty("log.file", defaults.getFile() != null ? defaults.getFile().toString() : "");
+        Path path = file.isEmpty() || "none".equalsIgnoreCase(file) ? null : Paths.get(file);
+        this.loggerConfig = new LoggerConfig(
+                LogLevel.parse(getSystemOrAppProperty("log.level", defaults.getLevel().name()), defaults.getLevel()),
+                path,
+                Long.parseLong(getSystemOrAppProperty("log.maxFileBytes", String.valueOf(defaults.getMaxFileBytes()))),
+                Integer.parseInt(getSystemOrAppProperty("log.maxFiles", String.valueOf(defaults.getMaxFiles()))),
+                Boolean.parseBoolean(getSystemOrAppProperty("log.console", String.valueOf(defaults.isConsole()))));
+    }
+
+    private static String getSystemOrAppProperty(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        return value == null || value.isBlank() ? AppConfig.getProperty(key, defaultValue) : value.trim();
+    }
+
+    /**
+     * @return Configuración para CustomLogger.configure.
+     */
+    public LoggerConfig getLoggerConfig() {
+        return loggerConfig;
+    }
+}
@@ -0,0 +1,57 @@
+package com.giozar04.configs;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class MetricsConfig {
+    private final boolean enabled;
+    private final Path dumpFile;
+    private final Duration dumpInterval;
+    private final boolean httpEnabled;
+    private final String httpHost;
+    private final int httpPort;
+
+    public MetricsConfig() {
+        this.enabled = Boolean.parseBoolean(AppConfig.getProperty("metrics.enabled", "true"));
+        this.dumpFile = Path.of(AppConfig.getProperty("metrics.dump.file", "logs/metrics.json"));
+        this.dumpInterval = Duration.ofSeconds(Long.parseLong(AppConfig.getProperty("metrics.dump.intervalSeconds", "60")));
+        this.httpEnabled = Boolean.parseBoolean(AppConfig.getProperty("metrics.http.enabled", "true"));
+        this.httpHost = AppConfig.getProperty("metrics.http.host", "127.0.0.1");
+        this.httpPort = Integer.parseInt(AppConfig.getProperty("metrics.http.port", "9464"));
+    }
+
+    /** @return true si el servidor mide los mensajes y las llamadas a los repositorios. */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** @return Archivo donde se vuelcan las métricas. */
+    public Path getDumpFile() {
+        return dumpFile;
+    }
+
+    /** @return Tiempo entre volcados; cero o negativo si no se vuelcan a archivo. */
+    public Duration getDumpInterval() {
+        return dumpInterval;
+    }
+
+    /** @return true si las métricas se vuelcan periódicamente a archivo. */
+    public boolean isDumpEnabled() {
+        return enabled && !dumpInterval.isZero() && !dumpInterval.isNegative();
+    }
+
+    /** @return true si se abre el puerto HTTP con /metrics, /health y /ready. */
+    public boolean isHttpEnabled() {
+        return httpEnabled;
+    }
+
+    /** @return Dirección en la que escucha el puerto HTTP. */
+    public String getHttpHost() {
+        return httpHost;
+    }
+
+    /** @return Puerto HTTP de métricas y salud. */
+    public int getHttpPort() {
+        return httpPort;
+    }
+}
@@ -0,0 +1,51 @@
+package com.giozar04.configs;
+
+import java.time.LocalTime;
+
+public class SavingsYieldConfig {
+    private final boolean enabled;
+    private final LocalTime runAt;
+    private final int threads;
+    private final int batchSize;
+    private final String category;
+    private final int daysPerYear;
+
+    public SavingsYieldConfig() {
+        this.enabled = Boolean.parseBoolean(AppConfig.getProperty("savings.yield.enabled", "true"));
+        this.runAt = LocalTime.parse(AppConfig.getProperty("savings.yield.time", "00:30"));
+        this.threads = Integer.parseInt(AppConfig.getProperty("savings.yield.threads", "4"));
+        this.batchSize = Integer.parseInt(AppConfig.getProperty("savings.yield.batchSize", "500"));
+        this.category = AppConfig.getProperty("savings.yield.category", "Rendimientos");
+        this.daysPerYear = Integer.parseInt(AppConfig.getProperty("savings.yield.daysPerYear", "365"));
+    }
+
+    /** @return true si el servidor calcula los rendimientos de ahorro cada noche. */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** @return Hora del servidor a la que se calculan los rendimientos del día anterior. */
+    public LocalTime getRunAt() {
+        return runAt;
+    }
+
+    /** @return Hilos que calculan y registran bloques en paralelo; cada uno usa una conexión. */
+    public int getThreads() {
+        return threads;
+    }
+
+    /** @return Cuentas de ahorro por bloque (y por transacción de base de datos). */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /** @return Categoría de las transacciones de rendimiento. */
+    public String getCategory() {
+        return category;
+    }
+
+    /** @return Días del año para la tasa diaria (annual_yield / daysPerYear). */
+    public int getDaysPerYear() {
+        return daysPerYear;
+    }
+}
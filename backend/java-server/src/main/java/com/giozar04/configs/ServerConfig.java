@@ -1,12 +1,35 @@
 package com.giozar04.configs;
 
+import com.giozar04.messages.application.io.MessageCompression;
+
 public class ServerConfig {
     private final String host;
     private final int port;
+    private final String mode;
+    private final int workerThreads;
+    private final int workerQueueCapacity;
+    private final boolean concurrentRequests;
+    private final int maxInFlightRequests;
+    private final boolean binaryProtocol;
+    private final MessageCompression compression;
 
     public ServerConfig() {
         this.host = AppConfig.getProperty("server.host");
         this.port = Integer.parseInt(AppConfig.getProperty("server.port"));
+        this.mode = AppConfig.getProperty("server.mode", "blocking");
+        this.workerThreads = Integer.parseInt(AppConfig.getProperty("server.workers.threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors() * 2)));
+        this.workerQueueCapacity = Integer.parseInt(AppConfig.getProperty("server.workers.queueCapacity", "1024"));
+        this.concurrentRequests = Boolean.parseBoolean(AppConfig.getProperty("server.requests.concurrent", "false"));
+        this.maxInFlightRequests = Integer.parseInt(AppConfig.getProperty("server.requests.maxInFlight", "16"));
+        this.binaryProtocol = Boolean.parseBoolean(AppConfig.getProperty("server.protocol.binary", "true"));
+        this.compression = Boolean.parseBoolean(AppConfig.getProperty("server.compression.enabled", "true"))
+                ? MessageCompression.deflate(
+                        Integer.parseInt(AppConfig.getProperty("server.compression.threshold",
+                                String.valueOf(MessageCompression.DEFAULT_THRESHOLD))),
+                        Integer.parseInt(AppConfig.getProperty("server.compression.level",
+                                String.valueOf(MessageCompression.DEFAULT_LEVEL))))
+                : MessageCompression.NONE;
     }
 
     public String getHost() {
@@ -16,4 +39,47 @@ public class ServerConfig {
     public int getPort() {
         return port;
     }
+
+    /**
+     * @return Modo de ejecución del servidor: "blocking" (un hilo por cliente),
+     *         "virtual" (un hilo virtual por cliente) o "nio" (selector).
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public int getWorkerQueueCapacity() {
+        return workerQueueCapacity;
+    }
+
+    /**
+     * @return true si en los modos blocking y virtual las solicitudes con requestId de un mismo
+     *         cliente se procesan en paralelo.
+     */
+    public boolean isConcurrentRequests() {
+        return concurrentRequests;
+    }
+
+    public int getMaxInFlightRequests() {
+        return maxInFlightRequests;
+    }
+
+    /**
+     * @return true si el WELCOME ofrece el protocolo binario (modos blocking y virtual).
+     */
+    public boolean isBinaryProtocol() {
+        return binaryProtocol;
+    }
+
+    /**
+     * @return Compresión que el WELCOME ofrece a los clientes que la pidan (modos blocking y
+     *         virtual), o MessageCompression.NONE si está deshabilitada.
+     */
+    public MessageCompression getCompression() {
+        return compression;
+    }
 }
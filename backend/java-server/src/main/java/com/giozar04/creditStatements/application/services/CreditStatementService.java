@@ -0,0 +1,111 @@
+package com.giozar04.creditStatements.application.services;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.giozar04.creditStatements.domain.entities.CreditStatement;
+import com.giozar04.creditStatements.domain.interfaces.CreditStatementRepositoryInterface;
+import com.giozar04.creditStatements.domain.models.CreditStatementCalculator;
+import com.giozar04.creditStatements.domain.models.CreditStatementOptions;
+import com.giozar04.logging.CustomLogger;
+
+/**
+ * Estados de cuenta de las cuentas de crédito.
+ *
+ * generateAll los genera para todas las cuentas (generateAllThroughToday se programa cada día
+ * con DailyJobScheduler); una cuenta que falla se registra y las demás siguen, y una ejecución
+ * perdida no pierde ciclos: la siguiente genera todos los que falten. getCurrentStatement
+ * genera antes los ciclos que le falten a la cuenta, así que la vista de detalle nunca espera
+ * al proceso diario: si ya está al día solo cuesta leer el último ciclo guardado.
+ */
+public class CreditStatementService implements CreditStatementRepositoryInterface {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    private final CreditStatementRepositoryInterface repository;
+    private final CreditStatementOptions options;
+    private final CreditStatementCalculator calculator;
+
+    public CreditStatementService(CreditStatementRepositoryInterface repository, CreditStatementOptions options) {
+        this.repository = repository;
+        this.options = options;
+        this.calculator = new CreditStatementCalculator(options);
+    }
+
+    @Override
+    public CreditStatement getStatement(long accountId, LocalDate date) {
+        return repository.getStatement(accountId, date);
+    }
+
+    @Override
+    public List<Long> getCreditAccountIds(long afterId, int limit) {
+        return repository.getCreditAccountIds(afterId, limit);
+    }
+
+    @Override
+    public int generateStatements(long accountId, LocalDate asOf, CreditStatementCalculator calculator) {
+        return repository.generateStatements(accountId, asOf, calculator);
+    }
+
+    @Override
+    public int deleteStatements(long accountId) {
+        return repository.deleteStatements(accountId);
+    }
+
+    /**
+     * Estado de cuenta del ciclo que incluye date, o del último ciclo cerrado si date es null,
+     * generando antes los ciclos cerrados que falten.
+     */
+    public CreditStatement getCurrentStatement(long accountId, LocalDate date) {
+        repository.generateStatements(accountId, today(), calculator);
+        return repository.getStatement(accountId, date);
+    }
+
+    /**
+     * Elimina y vuelve a generar los estados de cuenta de una cuenta, después de registrar
+     * movimientos con fecha de ciclos ya cerrados.
+     *
+     * @return Estados de cuenta generados.
+     */
+    public int regenerateStatements(long accountId) {
+        repository.deleteStatements(accountId);
+        return repository.generateStatements(accountId, today(), calculator);
+    }
+
+    /**
+     * Genera los ciclos cerrados que falten en todas las cuentas de crédito.
+     *
+     * @return Estados de cuenta generados.
+     */
+    public int generateAll(LocalDate asOf) {
+        long start = System.nanoTime();
+        int generated = 0;
+        int accounts = 0;
+        int failed = 0;
+        long lastId = 0;
+        List<Long> ids;
+        while (!(ids = repository.getCreditAccountIds(lastId, options.getBatchSize())).isEmpty()) {
+            for (long accountId : ids) {
+                try {
+                    generated += repository.generateStatements(accountId, asOf, calculator);
+                } catch (RuntimeException e) {
+                    failed++;
+                    LOGGER.error("No se generaron los estados de cuenta de la cuenta " + accountId, e);
+                }
+            }
+            accounts += ids.size();
+            lastId = ids.get(ids.size() - 1);
+        }
+        LOGGER.info("Estados de cuenta al " + asOf + ": " + generated + " generados en " + accounts + " cuentas de crédito, "
+                + failed + " con error, " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        return generated;
+    }
+
+    public int generateAllThroughToday() {
+        return generateAll(today());
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(options.getZone());
+    }
+}
@@ -0,0 +1,14 @@
+package com.giozar04.creditStatements.domain.interfaces;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.giozar04.creditStatements.domain.entities.CreditStatement;
+import com.giozar04.creditStatements.domain.models.CreditStatementCalculator;
+
+public interface CreditStatementRepositoryInterface {
+    CreditStatement getStatement(long accountId, LocalDate date);
+    List<Long> getCreditAccountIds(long afterId, int limit);
+    int generateStatements(long accountId, LocalDate asOf, CreditStatementCalculator calculator);
+    int deleteStatements(long accountId);
+}
@@ -0,0 +1,20 @@
+package com.giozar04.creditStatements.domain.models;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Un ciclo de facturación: del día siguiente al corte anterior (periodStart) al día de corte
+ * (periodEnd), inclusive, con su fecha límite de pago.
+ */
+public record CreditCycle(LocalDate periodStart, LocalDate periodEnd, LocalDate paymentDueDate) {
+
+    /** @return Mes del corte; ciclos consecutivos tienen meses consecutivos. */
+    public YearMonth month() {
+        return YearMonth.from(periodEnd);
+    }
+
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(periodStart) && !date.isAfter(periodEnd);
+    }
+}
@@ -0,0 +1,53 @@
+package com.giozar04.creditStatements.domain.models;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Calendario de cortes de una cuenta (cutoff_day y payment_deadline_day de credit_details).
+ *
+ * Un día mayor que los días del mes se recorre al último día (un corte el 31 cae el 28 o 29
+ * de febrero). La fecha límite de pago es el primer payment_deadline_day después del corte:
+ * en el mismo mes si es mayor que el día de corte, o en el mes siguiente.
+ */
+public record CreditCycleCalendar(int cutoffDay, int paymentDay) {
+
+    public CreditCycleCalendar {
+        if (cutoffDay < 1 || cutoffDay > 31) throw new IllegalArgumentException("Día de corte inválido: " + cutoffDay);
+        if (paymentDay < 1 || paymentDay > 31) throw new IllegalArgumentException("Día de pago inválido: " + paymentDay);
+    }
+
+    /** @return El ciclo cuyo corte cae en el mes indicado. */
+    public CreditCycle cycleEndingIn(YearMonth month) {
+        LocalDate end = dayIn(month, cutoffDay);
+        LocalDate start = dayIn(month.minusMonths(1), cutoffDay).plusDays(1);
+        LocalDate due = dayIn(month, paymentDay);
+        if (!due.isAfter(end)) {
+            due = dayIn(month.plusMonths(1), paymentDay);
+        }
+        return new CreditCycle(start, end, due);
+    }
+
+    /** @return El ciclo que incluye la fecha. */
+    public CreditCycle cycleContaining(LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        return date.isAfter(dayIn(month, cutoffDay)) ? cycleEndingIn(month.plusMonths(1)) : cycleEndingIn(month);
+    }
+
+    public CreditCycle next(CreditCycle cycle) {
+        return cycleEndingIn(cycle.month().plusMonths(1));
+    }
+
+    /**
+     * @return El último ciclo cerrado en asOf: un ciclo cierra al terminar su día de corte, así
+     *         que el corte de hoy todavía no cuenta.
+     */
+    public CreditCycle lastClosed(LocalDate asOf) {
+        CreditCycle cycle = cycleContaining(asOf);
+        return cycleEndingIn(cycle.month().minusMonths(1));
+    }
+
+    private static LocalDate dayIn(YearMonth month, int day) {
+        return month.atDay(Math.min(day, month.lengthOfMonth()));
+    }
+}
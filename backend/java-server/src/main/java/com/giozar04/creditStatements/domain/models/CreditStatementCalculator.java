@@ -0,0 +1,125 @@
+package com.giozar04.creditStatements.domain.models;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.giozar04.creditStatements.domain.entities.CreditStatement;
+
+/**
+ * Arma los estados de cuenta de ciclos consecutivos a partir de los movimientos diarios y las
+ * compras a meses sin intereses.
+ *
+ * El saldo al corte de cada ciclo es el inicial del siguiente. El pago para no generar
+ * intereses es el saldo al corte sin las mensualidades de ciclos futuros; el pago mínimo son
+ * las mensualidades del ciclo más minimumPaymentRate del resto, redondeado hacia arriba y
+ * nunca mayor que el pago para no generar intereses.
+ */
+public class CreditStatementCalculator {
+
+    private final BigDecimal minimumPaymentRate;
+    private final int backfillCycles;
+
+    public CreditStatementCalculator(CreditStatementOptions options) {
+        options.validate();
+        this.minimumPaymentRate = options.getMinimumPaymentRate();
+        this.backfillCycles = options.getBackfillCycles();
+    }
+
+    /**
+     * @return El primer ciclo a generar para una cuenta sin estados cuyo primer movimiento es
+     *         firstActivity: su ciclo, o el más antiguo dentro de backfillCycles.
+     */
+    public CreditCycle firstCycle(CreditCycleCalendar calendar, LocalDate firstActivity, CreditCycle lastClosed) {
+        CreditCycle first = calendar.cycleContaining(firstActivity);
+        YearMonth oldest = lastClosed.month().minusMonths(backfillCycles - 1L);
+        return first.month().isBefore(oldest) ? calendar.cycleEndingIn(oldest) : first;
+    }
+
+    /**
+     * @param opening Saldo al corte anterior a first.
+     * @param movements Movimientos de first a last, en orden de día.
+     * @param purchases Compras MSI con mensualidades pendientes al inicio de first.
+     * @return Un estado de cuenta por ciclo, de first a last.
+     */
+    public List<CreditStatement> build(long accountId, CreditCycleCalendar calendar, CreditCycle first, CreditCycle last,
+                                       BigDecimal opening, List<CycleMovement> movements,
+                                       List<InstallmentPurchase> purchases, ZonedDateTime generatedAt) {
+        List<CreditCycle> purchaseCycles = new ArrayList<>(purchases.size());
+        for (InstallmentPurchase purchase : purchases) {
+            purchaseCycles.add(calendar.cycleContaining(purchase.purchaseDate()));
+        }
+
+        List<CreditStatement> statements = new ArrayList<>();
+        BigDecimal balance = opening;
+        int next = 0;
+        for (CreditCycle cycle = first; !cycle.periodEnd().isAfter(last.periodEnd()); cycle = calendar.next(cycle)) {
+            CreditStatement statement = new CreditStatement();
+            statement.setAccountId(accountId);
+            statement.setPeriodStart(cycle.periodStart());
+            statement.setPeriodEnd(cycle.periodEnd());
+            statement.setPaymentDueDate(cycle.paymentDueDate());
+            statement.setOpeningBalance(balance);
+            statement.setGeneratedAt(generatedAt);
+
+            BigDecimal charges = BigDecimal.ZERO;
+            BigDecimal payments = BigDecimal.ZERO;
+            int chargeCount = 0;
+            int paymentCount = 0;
+            while (next < movements.size() && !movements.get(next).day().isAfter(cycle.periodEnd())) {
+                CycleMovement movement = movements.get(next++);
+                if (movement.day().isBefore(cycle.periodStart())) continue;
+                if (movement.charge()) {
+                    charges = charges.add(movement.amount());
+                    chargeCount += movement.count();
+                } else {
+                    payments = payments.add(movement.amount());
+                    paymentCount += movement.count();
+                }
+            }
+
+            BigDecimal installments = BigDecimal.ZERO;
+            BigDecimal deferred = BigDecimal.ZERO;
+            int installmentCount = 0;
+            for (int i = 0; i < purchases.size(); i++) {
+                InstallmentPurchase purchase = purchases.get(i);
+                int number = purchase.installmentNumber(purchaseCycles.get(i), cycle);
+                if (number < 1) continue;
+                if (number <= purchase.months()) {
+                    installments = installments.add(purchase.installment(number));
+                    installmentCount++;
+                }
+                deferred = deferred.add(purchase.remainingAfter(number));
+            }
+
+            balance = balance.add(charges).subtract(payments);
+            BigDecimal noInterest = balance.subtract(deferred).max(BigDecimal.ZERO);
+
+            statement.setCharges(charges);
+            statement.setPayments(payments);
+            statement.setChargeCount(chargeCount);
+            statement.setPaymentCount(paymentCount);
+            statement.setClosingBalance(balance);
+            statement.setInstallmentsBilled(installments);
+            statement.setInstallmentCount(installmentCount);
+            statement.setDeferredBalance(deferred);
+            statement.setNoInterestPayment(noInterest);
+            statement.setMinimumPayment(minimumPayment(noInterest, installments));
+            statements.add(statement);
+        }
+        return statements;
+    }
+
+    private BigDecimal minimumPayment(BigDecimal noInterest, BigDecimal installments) {
+        BigDecimal rest = noInterest.subtract(installments);
+        if (rest.signum() <= 0) {
+            return noInterest;
+        }
+        BigDecimal minimum = installments.add(rest.multiply(minimumPaymentRate)).setScale(2, RoundingMode.CEILING);
+        return minimum.min(noInterest);
+    }
+}
@@ -0,0 +1,42 @@
+package com.giozar04.creditStatements.domain.models;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+
+/**
+ * Parámetros de la generación de estados de cuenta.
+ *
+ * - minimumPaymentRate: fracción del saldo sin mensualidades que se suma a las mensualidades
+ *   del ciclo para el pago mínimo.
+ * - backfillCycles: ciclos cerrados que se generan como máximo para una cuenta sin estados;
+ *   los movimientos anteriores solo cuentan en el saldo inicial.
+ * - batchSize: cuentas por página al generar los estados de todas las cuentas.
+ * - zone: zona de las fechas; "hoy" se toma en ella.
+ */
+public class CreditStatementOptions {
+
+    private BigDecimal minimumPaymentRate = new BigDecimal("0.05");
+    private int backfillCycles = 24;
+    private int batchSize = 500;
+    private ZoneId zone = ZoneId.systemDefault();
+
+    public void validate() {
+        if (minimumPaymentRate == null || minimumPaymentRate.signum() < 0 || minimumPaymentRate.compareTo(BigDecimal.ONE) > 0)
+            throw new IllegalArgumentException("El porcentaje del pago mínimo debe estar entre 0 y 1");
+        if (backfillCycles <= 0) throw new IllegalArgumentException("Los ciclos a generar deben ser mayores que cero");
+        if (batchSize <= 0) throw new IllegalArgumentException("El tamaño de bloque debe ser mayor que cero");
+        if (zone == null) throw new IllegalArgumentException("La zona horaria es obligatoria");
+    }
+
+    public BigDecimal getMinimumPaymentRate() { return minimumPaymentRate; }
+    public void setMinimumPaymentRate(BigDecimal minimumPaymentRate) { this.minimumPaymentRate = minimumPaymentRate; }
+
+    public int getBackfillCycles() { return backfillCycles; }
+    public void setBackfillCycles(int backfillCycles) { this.backfillCycles = backfillCycles; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public ZoneId getZone() { return zone; }
+    public void setZone(ZoneId zone) { this.zone = zone; }
+}
@@ -0,0 +1,49 @@
+package com.giozar04.creditStatements.domain.models;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import com.giozar04.creditStatements.domain.entities.CreditStatement;
+import com.giozar04.creditStatements.domain.interfaces.CreditStatementRepositoryInterface;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.logging.CustomLogger;
+
+public abstract class CreditStatementRepositoryAbstract implements CreditStatementRepositoryInterface {
+
+    protected final DatabaseConnectionInterface databaseConnection;
+    protected final CustomLogger logger = CustomLogger.getInstance();
+
+    protected CreditStatementRepositoryAbstract(DatabaseConnectionInterface databaseConnection) {
+        this.databaseConnection = Objects.requireNonNull(databaseConnection, "La conexión a la base de datos no puede ser nula");
+    }
+
+    /**
+     * Estado de cuenta del ciclo que incluye date, o el más reciente si date es null.
+     *
+     * @throws com.giozar04.creditStatements.domain.exceptions.CreditStatementExceptions.NotFoundException
+     *         Si ese ciclo no tiene estado de cuenta.
+     */
+    @Override
+    public abstract CreditStatement getStatement(long accountId, LocalDate date);
+
+    /** IDs de las cuentas con credit_details mayores que afterId, en orden. */
+    @Override
+    public abstract List<Long> getCreditAccountIds(long afterId, int limit);
+
+    /**
+     * Genera los estados de cuenta de los ciclos cerrados en asOf que la cuenta todavía no
+     * tiene, a partir del último guardado, en una transacción.
+     *
+     * @return Estados de cuenta generados; cero si ya estaba al día.
+     */
+    @Override
+    public abstract int generateStatements(long accountId, LocalDate asOf, CreditStatementCalculator calculator);
+
+    /**
+     * Elimina los estados de cuenta guardados, por ejemplo para regenerarlos después de
+     * registrar movimientos con fecha de ciclos ya cerrados.
+     */
+    @Override
+    public abstract int deleteStatements(long accountId);
+}
@@ -0,0 +1,12 @@
+package com.giozar04.creditStatements.domain.models;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Movimientos de una cuenta de crédito en un día, agrupados por dirección.
+ *
+ * @param charge true para cargos (transacciones desde la cuenta), false para pagos y abonos.
+ */
+public record CycleMovement(LocalDate day, boolean charge, BigDecimal amount, int count) {
+}
@@ -0,0 +1,39 @@
+package com.giozar04.creditStatements.domain.models;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Compra a meses sin intereses (card_transaction_details con interest_free e
+ * installment_months mayor que uno).
+ *
+ * La primera mensualidad se cobra en el ciclo de la compra y las demás en los ciclos
+ * siguientes. Cada mensualidad es amount / months truncado a centavos; la última lleva los
+ * centavos que sobran, así que la suma es exactamente amount.
+ */
+public record InstallmentPurchase(BigDecimal amount, int months, LocalDate purchaseDate) {
+
+    /**
+     * @param purchaseCycle El ciclo que incluye purchaseDate.
+     * @return Número de la mensualidad que corresponde a cycle (1 en el ciclo de la compra);
+     *         cero o negativo si la compra es posterior al ciclo.
+     */
+    public int installmentNumber(CreditCycle purchaseCycle, CreditCycle cycle) {
+        return (int) ChronoUnit.MONTHS.between(purchaseCycle.month(), cycle.month()) + 1;
+    }
+
+    /** @return Monto de la mensualidad number (1 a months). */
+    public BigDecimal installment(int number) {
+        BigDecimal regular = amount.divide(BigDecimal.valueOf(months), 2, RoundingMode.DOWN);
+        return number < months ? regular : amount.subtract(regular.multiply(BigDecimal.valueOf(months - 1)));
+    }
+
+    /** @return Lo que queda por cobrar después de las primeras billed mensualidades. */
+    public BigDecimal remainingAfter(int billed) {
+        if (billed <= 0) return amount;
+        if (billed >= months) return BigDecimal.ZERO;
+        return amount.subtract(installment(1).multiply(BigDecimal.valueOf(billed)));
+    }
+}
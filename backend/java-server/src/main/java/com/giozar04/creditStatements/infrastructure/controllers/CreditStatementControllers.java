@@ -0,0 +1,47 @@
+package com.giozar04.creditStatements.infrastructure.controllers;
+
+import java.time.LocalDate;
+
+import com.giozar04.creditStatements.application.services.CreditStatementService;
+import com.giozar04.creditStatements.application.utils.CreditStatementUtils;
+import com.giozar04.creditStatements.domain.entities.CreditStatement;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.servers.domain.handlers.MessageHandler;
+import com.giozar04.servers.domain.models.ClientConnection;
+import com.giozar04.shared.utils.SharedUtils;
+
+public class CreditStatementControllers {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    public static final class MessageTypes {
+        public static final String GET = "GET_CREDIT_STATEMENT";
+    }
+
+    /**
+     * Datos: accountId y, opcionalmente, date ("AAAA-MM-DD") para el ciclo que incluye esa
+     * fecha; sin date se devuelve el último ciclo cerrado.
+     */
+    public static MessageHandler getCreditStatementController(CreditStatementService service) {
+        return (ClientConnection client, Message message) -> {
+            LOGGER.info("Obteniendo estado de cuenta...");
+
+            Long accountId = SharedUtils.parseNullableLong(message.getData("accountId"));
+            if (accountId == null) {
+                return Message.createErrorMessage(MessageTypes.GET, "accountId inválido");
+            }
+            LocalDate date;
+            try {
+                date = CreditStatementUtils.parseDate(message.getData("date"));
+            } catch (IllegalArgumentException e) {
+                return Message.createErrorMessage(MessageTypes.GET, e.getMessage());
+            }
+
+            CreditStatement statement = service.getCurrentStatement(accountId, date);
+            Message response = Message.createSuccessMessage(MessageTypes.GET, "Estado de cuenta obtenido");
+            CreditStatementUtils.addStatementData(response, statement);
+            return response;
+        };
+    }
+}
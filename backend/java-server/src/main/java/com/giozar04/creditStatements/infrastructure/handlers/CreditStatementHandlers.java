@@ -0,0 +1,20 @@
+package com.giozar04.creditStatements.infrastructure.handlers;
+
+import com.giozar04.creditStatements.application.services.CreditStatementService;
+import com.giozar04.creditStatements.infrastructure.controllers.CreditStatementControllers;
+import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
+
+public class CreditStatementHandlers implements ServerRegisterHandlers {
+
+    private final CreditStatementService service;
+
+    public CreditStatementHandlers(CreditStatementService service) {
+        this.service = service;
+    }
+
+    @Override
+    public void register(ServerAbstract server) {
+        server.registerHandler(CreditStatementControllers.MessageTypes.GET, CreditStatementControllers.getCreditStatementController(service));
+    }
+}
@@ -0,0 +1,352 @@
+package com.giozar04.creditStatements.infrastructure.repositories;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.giozar04.creditStatements.domain.entities.CreditStatement;
+import com.giozar04.creditStatements.domain.exceptions.CreditStatementExceptions;
+import com.giozar04.creditStatements.domain.models.CreditCycle;
+import com.giozar04.creditStatements.domain.models.CreditCycleCalendar;
+import com.giozar04.creditStatements.domain.models.CreditStatementCalculator;
+import com.giozar04.creditStatements.domain.models.CreditStatementRepositoryAbstract;
+import com.giozar04.creditStatements.domain.models.CycleMovement;
+import com.giozar04.creditStatements.domain.models.InstallmentPurchase;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
+
+/**
+ * Estados de cuenta de las cuentas de crédito (credit_statements).
+ *
+ * Generar los ciclos pendientes de una cuenta lee sus movimientos una sola vez, sumados por
+ * día y dirección (cargos desde la cuenta, pagos hacia la cuenta), más sus compras MSI con
+ * mensualidades pendientes, y guarda una fila por ciclo. Leer un estado de cuenta es leer esa
+ * fila por la llave única (account_id, period_end).
+ */
+public class CreditStatementRepositoryMySQL extends CreditStatementRepositoryAbstract {
+
+    private static final String SQL_COLUMNS = """
+        account_id, period_start, period_end, payment_due_date, opening_balance, charges, payments,
+        closing_balance, installments_billed, deferred_balance, no_interest_payment, minimum_payment,
+        charge_count, payment_count, installment_count, generated_at
+    """;
+
+    private static final String SQL_SELECT_FOR_DATE =
+        "SELECT " + SQL_COLUMNS + " FROM credit_statements WHERE account_id = ? AND period_end >= ? AND period_start <= ? "
+        + "ORDER BY period_end LIMIT 1";
+
+    private static final String SQL_SELECT_LATEST =
+        "SELECT " + SQL_COLUMNS + " FROM credit_statements WHERE account_id = ? ORDER BY period_end DESC LIMIT 1";
+
+    private static final String SQL_CREDIT_ACCOUNT_IDS =
+        "SELECT account_id FROM credit_details WHERE account_id > ? ORDER BY account_id LIMIT ?";
+
+    // El saldo inicial de la conciliación es el neto (saldo - crédito usado) sin movimientos
+    private static final String SQL_CREDIT_ACCOUNT = """
+        SELECT cd.cutoff_day, cd.payment_deadline_day, a.created_at, b.opening_balance
+        FROM credit_details cd
+        JOIN accounts a ON a.id = cd.account_id
+        LEFT JOIN account_balance_baselines b ON b.account_id = cd.account_id
+        WHERE cd.account_id = ?
+    """;
+
+    private static final String SQL_LAST_STATEMENT =
+        "SELECT period_end, closing_balance FROM credit_statements WHERE account_id = ? ORDER BY period_end DESC LIMIT 1";
+
+    private static final String SQL_FIRST_MOVEMENT = """
+        SELECT MIN(first_date) AS first_date FROM (
+            SELECT MIN(date) AS first_date FROM transactions WHERE source_account_id = ?
+            UNION ALL
+            SELECT MIN(date) FROM transactions WHERE destination_account_id = ?
+        ) m
+    """;
+
+    private static final String SQL_NET_BEFORE = """
+        SELECT (SELECT COALESCE(SUM(amount), 0) FROM transactions WHERE source_account_id = ? AND date < ?)
+             - (SELECT COALESCE(SUM(amount), 0) FROM transactions WHERE destination_account_id = ? AND date < ?) AS net
+    """;
+
+    private static final String SQL_MOVEMENTS = """
+        SELECT DATE(date) AS day, TRUE AS charge, SUM(amount) AS amount, COUNT(*) AS movements
+        FROM transactions
+        WHERE source_account_id = ? AND date >= ? AND date < ?
+        GROUP BY DATE(date)
+        UNION ALL
+        SELECT DATE(date), FALSE, SUM(amount), COUNT(*)
+        FROM transactions
+        WHERE destination_account_id = ? AND date >= ? AND date < ?
+        GROUP BY DATE(date)
+        ORDER BY day
+    """;
+
+    // Compras MSI de las tarjetas de la cuenta que pueden tener mensualidades desde el primer ciclo
+    private static final String SQL_INSTALLMENTS = """
+        SELECT ctd.amount, ctd.installment_months, t.date
+        FROM cards c
+        JOIN card_transaction_details ctd ON ctd.card_id = c.id
+        JOIN transactions t ON t.id = ctd.transaction_id
+        WHERE c.account_id = ?
+          AND ctd.interest_free = TRUE AND ctd.installment_months > 1
+          AND t.date < ?
+          AND t.date >= DATE_SUB(?, INTERVAL ctd.installment_months + 1 MONTH)
+        ORDER BY t.date
+    """;
+
+    private static final String SQL_UPSERT = """
+        INSERT INTO credit_statements (
+    """ + SQL_COLUMNS + """
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            period_start = VALUES(period_start), payment_due_date = VALUES(payment_due_date),
+            opening_balance = VALUES(opening_balance), charges = VALUES(charges), payments = VALUES(payments),
+            closing_balance = VALUES(closing_balance), installments_billed = VALUES(installments_billed),
+            deferred_balance = VALUES(deferred_balance), no_interest_payment = VALUES(no_interest_payment),
+            minimum_payment = VALUES(minimum_payment), charge_count = VALUES(charge_count),
+            payment_count = VALUES(payment_count), installment_count = VALUES(installment_count),
+            generated_at = VALUES(generated_at)
+    """;
+
+    private static final String SQL_DELETE = "DELETE FROM credit_statements WHERE account_id = ?";
+
+    public CreditStatementRepositoryMySQL(DatabaseConnectionInterface databaseConnection) {
+        super(databaseConnection);
+    }
+
+    @Override
+    public CreditStatement getStatement(long accountId, LocalDate date) {
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(date != null ? SQL_SELECT_FOR_DATE : SQL_SELECT_LATEST)) {
+
+            stmt.setLong(1, accountId);
+            if (date != null) {
+                stmt.setDate(2, Date.valueOf(date));
+                stmt.setDate(3, Date.valueOf(date));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next()) {
+                    throw new CreditStatementExceptions.NotFoundException("La cuenta " + accountId
+                            + " no tiene estado de cuenta" + (date != null ? " para el " + date : ""), null);
+                }
+                return mapResultSetToStatement(rs);
+            }
+
+        } catch (SQLException e) {
+            logger.error("Error al obtener el estado de cuenta de la cuenta " + accountId + ": " + e.getMessage(), e);
+            throw new CreditStatementExceptions.RetrievalException("Error al obtener el estado de cuenta", e);
+        }
+    }
+
+    @Override
+    public List<Long> getCreditAccountIds(long afterId, int limit) {
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(SQL_CREDIT_ACCOUNT_IDS)) {
+
+            stmt.setLong(1, afterId);
+            stmt.setInt(2, limit);
+            List<Long> ids = new ArrayList<>(limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+            }
+            return ids;
+
+        } catch (SQLException e) {
+            logger.error("Error al obtener las cuentas de crédito: " + e.getMessage(), e);
+            throw new CreditStatementExceptions.RetrievalException("Error al obtener las cuentas de crédito", e);
+        }
+    }
+
+    @Override
+    public int generateStatements(long accountId, LocalDate asOf, CreditStatementCalculator calculator) {
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            Connection conn = scope.getConnection();
+
+            CreditCycleCalendar calendar;
+            LocalDate createdDate;
+            BigDecimal baseline;
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_CREDIT_ACCOUNT)) {
+                stmt.setLong(1, accountId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        throw new CreditStatementExceptions.NotFoundException("La cuenta " + accountId + " no es de crédito", null);
+                    }
+                    calendar = new CreditCycleCalendar(rs.getInt("cutoff_day"), rs.getInt("payment_deadline_day"));
+                    createdDate = rs.getTimestamp("created_at").toLocalDateTime().toLocalDate();
+                    BigDecimal opening = rs.getBigDecimal("opening_balance");
+                    baseline = opening != null ? opening : BigDecimal.ZERO;
+                }
+            }
+
+            CreditCycle lastClosed = calendar.lastClosed(asOf);
+            CreditCycle first;
+            BigDecimal opening;
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_LAST_STATEMENT)) {
+                stmt.setLong(1, accountId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        first = calendar.cycleContaining(rs.getDate("period_end").toLocalDate().plusDays(1));
+                        opening = rs.getBigDecimal("closing_balance");
+                    } else {
+                        first = calculator.firstCycle(calendar, firstActivity(conn, accountId, createdDate), lastClosed);
+                        // Deuda inicial: el neto de la cuenta sin movimientos, con signo contrario
+                        opening = baseline.negate().add(netBefore(conn, accountId, first.periodStart()));
+                    }
+                }
+            }
+            if (first.periodEnd().isAfter(lastClosed.periodEnd())) {
+                return 0;
+            }
+
+            List<CycleMovement> movements = getMovements(conn, accountId, first.periodStart(), lastClosed.periodEnd());
+            List<InstallmentPurchase> purchases = getInstallmentPurchases(conn, accountId, first.periodStart(), lastClosed.periodEnd());
+            List<CreditStatement> statements = calculator.build(accountId, calendar, first, lastClosed, opening,
+                    movements, purchases, ZonedDateTime.now());
+
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_UPSERT)) {
+                for (CreditStatement statement : statements) {
+                    setStatementParameters(stmt, statement);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+
+            scope.commit();
+            return statements.size();
+
+        } catch (SQLException e) {
+            logger.error("Error al generar los estados de cuenta de la cuenta " + accountId + ": " + e.getMessage(), e);
+            throw new CreditStatementExceptions.GenerationException("Error al generar los estados de cuenta", e);
+        }
+    }
+
+    @Override
+    public int deleteStatements(long accountId) {
+        try (TransactionScope scope = databaseConnection.beginTransaction();
+             PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_DELETE)) {
+
+            stmt.setLong(1, accountId);
+            int deleted = stmt.executeUpdate();
+            scope.commit();
+            return deleted;
+
+        } catch (SQLException e) {
+            logger.error("Error al eliminar los estados de cuenta de la cuenta " + accountId + ": " + e.getMessage(), e);
+            throw new CreditStatementExceptions.GenerationException("Error al eliminar los estados de cuenta", e);
+        }
+    }
+
+    private LocalDate firstActivity(Connection conn, long accountId, LocalDate createdDate) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SQL_FIRST_MOVEMENT)) {
+            stmt.setLong(1, accountId);
+            stmt.setLong(2, accountId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                Timestamp firstDate = rs.next() ? rs.getTimestamp("first_date") : null;
+                if (firstDate == null) return createdDate;
+                LocalDate first = firstDate.toLocalDateTime().toLocalDate();
+                return first.isBefore(createdDate) ? first : createdDate;
+            }
+        }
+    }
+
+    private BigDecimal netBefore(Connection conn, long accountId, LocalDate start) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SQL_NET_BEFORE)) {
+            stmt.setLong(1, accountId);
+            stmt.setDate(2, Date.valueOf(start));
+            stmt.setLong(3, accountId);
+            stmt.setDate(4, Date.valueOf(start));
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getBigDecimal("net") : BigDecimal.ZERO;
+            }
+        }
+    }
+
+    private List<CycleMovement> getMovements(Connection conn, long accountId, LocalDate from, LocalDate through) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SQL_MOVEMENTS)) {
+            Date start = Date.valueOf(from);
+            Date end = Date.valueOf(through.plusDays(1));
+            stmt.setLong(1, accountId);
+            stmt.setDate(2, start);
+            stmt.setDate(3, end);
+            stmt.setLong(4, accountId);
+            stmt.setDate(5, start);
+            stmt.setDate(6, end);
+
+            List<CycleMovement> movements = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    movements.add(new CycleMovement(rs.getDate("day").toLocalDate(), rs.getBoolean("charge"),
+                            rs.getBigDecimal("amount"), rs.getInt("movements")));
+                }
+            }
+            return movements;
+        }
+    }
+
+    private List<InstallmentPurchase> getInstallmentPurchases(Connection conn, long accountId, LocalDate from,
+                                                              LocalDate through) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(SQL_INSTALLMENTS)) {
+            stmt.setLong(1, accountId);
+            stmt.setDate(2, Date.valueOf(through.plusDays(1)));
+            stmt.setDate(3, Date.valueOf(from));
+
+            List<InstallmentPurchase> purchases = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    purchases.add(new InstallmentPurchase(rs.getBigDecimal("amount"), rs.getInt("installment_months"),
+                            rs.getTimestamp("date").toLocalDateTime().toLocalDate()));
+                }
+            }
+            return purchases;
+        }
+    }
+
+    private void setStatementParameters(PreparedStatement stmt, CreditStatement statement) throws SQLException {
+        stmt.setLong(1, statement.getAccountId());
+        stmt.setDate(2, Date.valueOf(statement.getPeriodStart()));
+        stmt.setDate(3, Date.valueOf(statement.getPeriodEnd()));
+        stmt.setDate(4, Date.valueOf(statement.getPaymentDueDate()));
+        stmt.setBigDecimal(5, statement.getOpeningBalance());
+        stmt.setBigDecimal(6, statement.getCharges());
+        stmt.setBigDecimal(7, statement.getPayments());
+        stmt.setBigDecimal(8, statement.getClosingBalance());
+        stmt.setBigDecimal(9, statement.getInstallmentsBilled());
+        stmt.setBigDecimal(10, statement.getDeferredBalance());
+        stmt.setBigDecimal(11, statement.getNoInterestPayment());
+        stmt.setBigDecimal(12, statement.getMinimumPayment());
+        stmt.setInt(13, statement.getChargeCount());
+        stmt.setInt(14, statement.getPaymentCount());
+        stmt.setInt(15, statement.getInstallmentCount());
+        stmt.setTimestamp(16, Timestamp.valueOf(statement.getGeneratedAt().toLocalDateTime()));
+    }
+
+    private CreditStatement mapResultSetToStatement(ResultSet rs) throws SQLException {
+        CreditStatement statement = new CreditStatement();
+        statement.setAccountId(rs.getLong("account_id"));
+        statement.setPeriodStart(rs.getDate("period_start").toLocalDate());
+        statement.setPeriodEnd(rs.getDate("period_end").toLocalDate());
+        statement.setPaymentDueDate(rs.getDate("payment_due_date").toLocalDate());
+        statement.setOpeningBalance(rs.getBigDecimal("opening_balance"));
+        statement.setCharges(rs.getBigDecimal("charges"));
+        statement.setPayments(rs.getBigDecimal("payments"));
+        statement.setClosingBalance(rs.getBigDecimal("closing_balance"));
+        statement.setInstallmentsBilled(rs.getBigDecimal("installments_billed"));
+        statement.setDeferredBalance(rs.getBigDecimal("deferred_balance"));
+        statement.setNoInterestPayment(rs.getBigDecimal("no_interest_payment"));
+        statement.setMinimumPayment(rs.getBigDecimal("minimum_payment"));
+        statement.setChargeCount(rs.getInt("charge_count"));
+        statement.setPaymentCount(rs.getInt("payment_count"));
+        statement.setInstallmentCount(rs.getInt("installment_count"));
+        statement.setGeneratedAt(ZonedDateTime.of(rs.getTimestamp("generated_at").toLocalDateTime(), ZoneId.systemDefault()));
+        return statement;
+    }
+}
@@ -0,0 +1,26 @@
+-- Estado de cuenta de cada ciclo cerrado de las cuentas de crédito. Lo genera
+-- CreditStatementService al día siguiente del corte; GET_CREDIT_STATEMENT lee una sola fila.
+CREATE TABLE credit_statements (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    account_id BIGINT NOT NULL,
+    period_start DATE NOT NULL,                       -- Día siguiente al corte anterior
+    period_end DATE NOT NULL,                         -- Día de corte
+    payment_due_date DATE NOT NULL,
+
+    opening_balance DECIMAL(14,2) NOT NULL,           -- Saldo al corte anterior
+    charges DECIMAL(14,2) NOT NULL,
+    payments DECIMAL(14,2) NOT NULL,
+    closing_balance DECIMAL(14,2) NOT NULL,           -- opening_balance + charges - payments
+    installments_billed DECIMAL(14,2) NOT NULL,       -- Mensualidades MSI de este ciclo
+    deferred_balance DECIMAL(14,2) NOT NULL,          -- Mensualidades MSI de ciclos siguientes
+    no_interest_payment DECIMAL(14,2) NOT NULL,
+    minimum_payment DECIMAL(14,2) NOT NULL,
+    charge_count INT NOT NULL,
+    payment_count INT NOT NULL,
+    installment_count INT NOT NULL,
+
+    generated_at DATETIME NOT NULL,
+
+    CONSTRAINT fk_statement_account FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE,
+    CONSTRAINT uq_statement_account_period UNIQUE (account_id, period_end)
+);
@@ -0,0 +1,60 @@
+package com.giozar04.creditStatements.test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import com.giozar04.creditStatements.application.services.CreditStatementService;
+import com.giozar04.creditStatements.domain.entities.CreditStatement;
+import com.giozar04.creditStatements.domain.models.CreditStatementOptions;
+import com.giozar04.creditStatements.infrastructure.repositories.CreditStatementRepositoryMySQL;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.infrastructure.repositories.DatabaseConnectionMySQL;
+
+/**
+ * Genera los estados de cuenta pendientes de todas las cuentas de crédito, o muestra el último
+ * de una cuenta. Con "regenerar" elimina los de la cuenta y los vuelve a generar, por ejemplo
+ * después de importar movimientos de ciclos ya cerrados.
+ *
+ * Uso: CreditStatementApp [idCuenta [regenerar]]
+ */
+public class CreditStatementApp {
+
+    private static final String DB_HOST = "localhost";
+    private static final String DB_PORT = "3306";
+    private static final String DB_NAME = "finanzas";
+    private static final String DB_USER = "giovanni";
+    private static final String DB_PASSWORD = "finanzas123";
+
+    public static void main(String[] args) throws SQLException {
+        DatabaseConnectionInterface dbConnection = DatabaseConnectionMySQL.getInstance(
+            DB_HOST, DB_PORT, DB_NAME, DB_USER, DB_PASSWORD
+        );
+        dbConnection.connect();
+        CreditStatementOptions options = new CreditStatementOptions();
+        CreditStatementService service = new CreditStatementService(new CreditStatementRepositoryMySQL(dbConnection), options);
+
+        try {
+            if (args.length == 0) {
+                System.out.println("Estados de cuenta generados: " + service.generateAll(LocalDate.now(options.getZone())));
+                return;
+            }
+            long accountId = Long.parseLong(args[0]);
+            if (args.length > 1 && args[1].equalsIgnoreCase("regenerar")) {
+                System.out.println("Estados de cuenta regenerados: " + service.regenerateStatements(accountId));
+            }
+            CreditStatement statement = service.getCurrentStatement(accountId, null);
+            System.out.println("Periodo:                  " + statement.getPeriodStart() + " a " + statement.getPeriodEnd());
+            System.out.println("Fecha límite de pago:     " + statement.getPaymentDueDate());
+            System.out.println("Saldo anterior:           " + statement.getOpeningBalance());
+            System.out.println("Cargos (" + statement.getChargeCount() + "):              " + statement.getCharges());
+            System.out.println("Pagos (" + statement.getPaymentCount() + "):               " + statement.getPayments());
+            System.out.println("Saldo al corte:           " + statement.getClosingBalance());
+            System.out.println("Mensualidades MSI (" + statement.getInstallmentCount() + "):   " + statement.getInstallmentsBilled());
+            System.out.println("Saldo MSI por vencer:     " + statement.getDeferredBalance());
+            System.out.println("Pago sin intereses:       " + statement.getNoInterestPayment());
+            System.out.println("Pago mínimo:              " + statement.getMinimumPayment());
+        } finally {
+            dbConnection.disconnect();
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package com.giozar04.databases.domain.interfaces;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 
+import com.giozar04.databases.domain.models.TransactionScope;
+
 /**
  * Interfaz que define las operaciones básicas para una conexión a base de datos.
  * Extiende AutoCloseable para garantizar la liberación de recursos.
  */
 public interface DatabaseConnectionInterface extends AutoCloseable {
     
+    /**
+     * Filas que se piden al servidor por cada viaje al leer una consulta por partes.
+     */
+    int STREAM_FETCH_SIZE = 500;
+    
     /**
      * Establece la conexión con la base de datos.
      * 
@@ -32,10 +41,39 @@ public interface DatabaseConnectionInterface extends AutoCloseable {
      */
     Connection getConnection() throws SQLException;
     
+    /**
+     * Prepara una consulta de solo lectura cuyas filas se leen del servidor por lotes en lugar
+     * de cargarse completas en memoria. La conexión queda ocupada hasta cerrar el ResultSet.
+     * 
+     * @param connection la conexión sobre la que se prepara la consulta
+     * @param sql la consulta
+     * @return la consulta preparada
+     * @throws SQLException si ocurre un error al preparar la consulta
+     */
+    default PreparedStatement prepareStreamingStatement(Connection connection, String sql) throws SQLException {
+        PreparedStatement stmt = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        stmt.setFetchSize(STREAM_FETCH_SIZE);
+        return stmt;
+    }
+    
+    /**
+     * Inicia una unidad de trabajo sobre la conexión prestada al hilo actual (la misma que
+     * devuelve getConnection() mientras el scope siga abierto).
+     * Las operaciones que reciben el scope se confirman juntas con commit();
+     * al cerrarlo sin commit se deshacen.
+     * Si el hilo ya tiene un scope abierto, el nuevo es un savepoint de ese scope: su commit
+     * lo confirma el scope exterior y su rollback solo deshace lo hecho desde que se abrió.
+     * 
+     * @return el scope de la transacción
+     * @throws SQLException si ocurre un error al obtener la conexión o crear el savepoint
+     */
+    TransactionScope beginTransaction() throws SQLException;
+    
     /**
      * Realiza commit de la transacción actual.
      * 
      * @throws SQLException si ocurre un error al hacer commit
+     * @throws IllegalStateException si el hilo tiene un scope de beginTransaction() abierto
      */
     void commitTransaction() throws SQLException;
     
@@ -43,6 +81,7 @@ public interface DatabaseConnectionInterface extends AutoCloseable {
      * Realiza rollback de la transacción actual.
      * 
      * @throws SQLException si ocurre un error al hacer rollback
+     * @throws IllegalStateException si el hilo tiene un scope de beginTransaction() abierto
      */
     void rollbackTransaction() throws SQLException;
     
@@ -0,0 +1,414 @@
+package com.giozar04.databases.domain.models;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.giozar04.databases.domain.exceptions.DatabaseExceptions;
+import com.giozar04.databases.domain.exceptions.DatabaseExceptions.ConnectionPoolException;
+import com.giozar04.logging.CustomLogger;
+
+/**
+ * Pool acotado de conexiones JDBC.
+ *
+ * Cada hilo obtiene una conexión prestada (lease) que se devuelve al pool al cerrarla.
+ * Si el mismo hilo vuelve a pedir una conexión antes de cerrarla recibe la misma conexión
+ * física, de modo que commitTransaction/rollbackTransaction actúan sobre el trabajo del hilo.
+ * Las conexiones inactivas se validan en segundo plano y no en cada préstamo. Con un
+ * QueryMonitor, las sentencias preparadas de las conexiones prestadas se instrumentan.
+ */
+public class ConnectionPool implements AutoCloseable {
+
+    /**
+     * Abre conexiones físicas nuevas.
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection create() throws SQLException;
+    }
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final CustomLogger logger = CustomLogger.getInstance();
+    private final ConnectionFactory connectionFactory;
+    private final ConnectionPoolSettings settings;
+
+    // Un permiso por conexión que puede estar prestada a la vez
+    private final Semaphore permits;
+    // LIFO: se reutilizan primero las conexiones usadas recientemente
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+    private final ThreadLocal<Lease> currentLease = new ThreadLocal<>();
+    private final ScheduledExecutorService maintenance;
+
+    private final AtomicInteger total = new AtomicInteger(0);
+    private final AtomicInteger active = new AtomicInteger(0);
+    private final AtomicInteger waiters = new AtomicInteger(0);
+    private final AtomicLong borrows = new AtomicLong(0);
+    private final AtomicLong timeouts = new AtomicLong(0);
+    private final AtomicLong created = new AtomicLong(0);
+    private final AtomicLong closed = new AtomicLong(0);
+    private final AtomicLong maxWaitNanos = new AtomicLong(0);
+    private volatile boolean shutdown = false;
+    private volatile QueryMonitor queryMonitor;
+
+    public ConnectionPool(ConnectionFactory connectionFactory, ConnectionPoolSettings settings) {
+        this.connectionFactory = connectionFactory;
+        this.settings = settings;
+        this.permits = new Semaphore(settings.getMaxSize(), true);
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-pool-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Abre las conexiones mínimas e inicia la validación periódica.
+     */
+    public void start() {
+        fillMinIdle();
+        long interval = settings.getValidationIntervalSeconds();
+        maintenance.scheduleWithFixedDelay(this::maintain, interval, interval, TimeUnit.SECONDS);
+        logger.info("Pool de conexiones iniciado (máximo " + settings.getMaxSize() + ", mínimo inactivas "
+                + settings.getMinIdle() + ")");
+    }
+
+    /**
+     * Presta una conexión al hilo actual. La conexión devuelta debe cerrarse para liberarla.
+     *
+     * @return Conexión prestada.
+     * @throws ConnectionPoolException si no hay conexión disponible dentro del tiempo de espera.
+     */
+    public Connection lease() {
+        Lease lease = currentLease.get();
+        if (lease == null) {
+            lease = new Lease(borrow());
+            currentLease.set(lease);
+        }
+        lease.holdCount++;
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new LeasedConnectionHandler(lease));
+    }
+
+    /**
+     * @param monitor Instrumenta las sentencias que se preparen desde ahora; null para no hacerlo.
+     */
+    public void setQueryMonitor(QueryMonitor monitor) {
+        this.queryMonitor = monitor;
+    }
+
+    /**
+     * Confirma el trabajo de la conexión prestada al hilo actual.
+     *
+     * @return false si el hilo no tiene una conexión prestada.
+     * @throws SQLException si falla el commit.
+     */
+    public boolean commitCurrent() throws SQLException {
+        Lease lease = currentLease.get();
+        if (lease == null) {
+            return false;
+        }
+        Connection physical = lease.pooled.physical;
+        if (!physical.getAutoCommit()) {
+            physical.commit();
+        }
+        lease.dirty = false;
+        return true;
+    }
+
+    /**
+     * Deshace el trabajo de la conexión prestada al hilo actual.
+     *
+     * @return false si el hilo no tiene una conexión prestada.
+     * @throws SQLException si falla el rollback.
+     */
+    public boolean rollbackCurrent() throws SQLException {
+        Lease lease = currentLease.get();
+        if (lease == null) {
+            return false;
+        }
+        Connection physical = lease.pooled.physical;
+        if (!physical.getAutoCommit()) {
+            physical.rollback();
+        }
+        lease.dirty = false;
+        return true;
+    }
+
+    /**
+     * @return Instantánea de las métricas del pool.
+     */
+    public ConnectionPoolMetrics getMetrics() {
+        return new ConnectionPoolMetrics(
+                active.get(),
+                idle.size(),
+                waiters.get(),
+                borrows.get(),
+                timeouts.get(),
+                created.get(),
+                closed.get(),
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+    }
+
+    /**
+     * Cierra las conexiones inactivas; las prestadas se cierran al devolverse.
+     */
+    @Override
+    public void close() {
+        shutdown = true;
+        maintenance.shutdownNow();
+        PooledConnection pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            closePhysical(pooled);
+        }
+        logger.info("Pool de conexiones cerrado. " + getMetrics());
+    }
+
+    private PooledConnection borrow() {
+        if (shutdown) {
+            throw new ConnectionPoolException("El pool de conexiones está cerrado");
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        waiters.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(settings.getConnectionTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConnectionPoolException("Interrumpido mientras esperaba una conexión del pool", e);
+        } finally {
+            waiters.decrementAndGet();
+        }
+        long waited = System.nanoTime() - start;
+        maxWaitNanos.accumulateAndGet(waited, Math::max);
+        if (!acquired) {
+            timeouts.incrementAndGet();
+            throw new ConnectionPoolException("Tiempo de espera agotado (" + settings.getConnectionTimeoutMillis()
+                    + " ms) para obtener una conexión. Activas: " + active.get() + ", en espera: " + waiters.get());
+        }
+
+        try {
+            PooledConnection pooled = idle.pollFirst();
+            while (pooled != null && isExpired(pooled)) {
+                closePhysical(pooled);
+                pooled = idle.pollFirst();
+            }
+            if (pooled == null) {
+                pooled = open();
+            }
+            active.incrementAndGet();
+            borrows.incrementAndGet();
+            return pooled;
+        } catch (SQLException e) {
+            permits.release();
+            logger.error("Error al abrir una conexión para el pool: " + e.getMessage(), e);
+            throw DatabaseExceptions.translateSQLException(e, "abrir conexión del pool");
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void release(Lease lease) {
+        PooledConnection pooled = lease.pooled;
+        active.decrementAndGet();
+        try {
+            if (shutdown || isExpired(pooled) || pooled.physical.isClosed()) {
+                closePhysical(pooled);
+                return;
+            }
+            // Descarta el trabajo sin confirmar y termina cualquier transacción de solo lectura
+            if (lease.dirty && !pooled.physical.getAutoCommit()) {
+                pooled.physical.rollback();
+            }
+            pooled.lastUsedAt = System.nanoTime();
+            idle.offerFirst(pooled);
+        } catch (SQLException e) {
+            logger.warn("Conexión descartada al devolverla al pool: " + e.getMessage(), e);
+            closePhysical(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Valida y depura las conexiones inactivas, y repone el mínimo configurado.
+     */
+    private void maintain() {
+        try {
+            long idleTimeout = TimeUnit.SECONDS.toNanos(settings.getIdleTimeoutSeconds());
+            for (PooledConnection pooled : new ArrayList<>(idle)) {
+                // El permiso evita superar el máximo mientras la conexión está fuera de la cola
+                if (shutdown || !permits.tryAcquire()) {
+                    return;
+                }
+                try {
+                    if (!idle.remove(pooled)) {
+                        continue;
+                    }
+                    boolean surplus = System.nanoTime() - pooled.lastUsedAt > idleTimeout
+                            && idle.size() >= settings.getMinIdle();
+                    if (surplus || isExpired(pooled) || !isValid(pooled)) {
+                        closePhysical(pooled);
+                    } else {
+                        idle.offerLast(pooled);
+                    }
+                } finally {
+                    permits.release();
+                }
+            }
+            fillMinIdle();
+        } catch (RuntimeException e) {
+            logger.error("Error en el mantenimiento del pool de conexiones: " + e.getMessage(), e);
+        }
+    }
+
+    private void fillMinIdle() {
+        while (!shutdown && idle.size() < settings.getMinIdle() && total.get() < settings.getMaxSize()) {
+            try {
+                idle.offerLast(open());
+            } catch (SQLException e) {
+                logger.warn("No se pudo abrir una conexión inactiva para el pool: " + e.getMessage(), e);
+                return;
+            }
+        }
+    }
+
+    private PooledConnection open() throws SQLException {
+        Connection physical = connectionFactory.create();
+        total.incrementAndGet();
+        created.incrementAndGet();
+        return new PooledConnection(physical);
+    }
+
+    private boolean isExpired(PooledConnection pooled) {
+        return System.nanoTime() - pooled.createdAt > TimeUnit.SECONDS.toNanos(settings.getMaxLifetimeSeconds());
+    }
+
+    private boolean isValid(PooledConnection pooled) {
+        try {
+            return pooled.physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void closePhysical(PooledConnection pooled) {
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            logger.warn("Error al cerrar una conexión del pool: " + e.getMessage(), e);
+        } finally {
+            total.decrementAndGet();
+            closed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Conexión física con sus marcas de tiempo.
+     */
+    private static final class PooledConnection {
+        private final Connection physical;
+        private final long createdAt;
+        private volatile long lastUsedAt;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.createdAt = System.nanoTime();
+            this.lastUsedAt = createdAt;
+        }
+    }
+
+    /**
+     * Préstamo de una conexión a un hilo. holdCount cuenta los getConnection() anidados.
+     */
+    private static final class Lease {
+        private final PooledConnection pooled;
+        private int holdCount;
+        private boolean dirty;
+
+        private Lease(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+    }
+
+    /**
+     * Delegado de Connection: close() devuelve la conexión al pool en lugar de cerrarla.
+     */
+    private final class LeasedConnectionHandler implements InvocationHandler {
+        private final Lease lease;
+        private boolean released = false;
+
+        private LeasedConnectionHandler(Lease lease) {
+            this.lease = lease;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!released) {
+                        released = true;
+                        if (--lease.holdCount == 0) {
+                            if (currentLease.get() == lease) {
+                                currentLease.remove();
+                            }
+                            release(lease);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return released || lease.pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "LeasedConnection[" + lease.pooled.physical + "]";
+                default:
+                    break;
+            }
+            if (released) {
+                throw new SQLException("La conexión ya fue devuelta al pool");
+            }
+            try {
+                Object result = method.invoke(lease.pooled.physical, args);
+                switch (method.getName()) {
+                    case "prepareStatement" -> {
+                        lease.dirty = true;
+                        QueryMonitor monitor = queryMonitor;
+                        if (monitor != null) {
+                            result = monitor.wrap((PreparedStatement) result, (String) args[0]);
+                        }
+                    }
+                    case "prepareCall", "createStatement" -> lease.dirty = true;
+                    case "commit" -> lease.dirty = false;
+                    case "rollback" -> {
+                        if (args == null) {
+                            lease.dirty = false;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+                return result;
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.giozar04.databases.domain.models;
+
+/**
+ * Instantánea inmutable del estado del pool de conexiones.
+ */
+public class ConnectionPoolMetrics {
+
+    private final int active;
+    private final int idle;
+    private final int waiters;
+    private final long borrows;
+    private final long timeouts;
+    private final long created;
+    private final long closed;
+    private final long maxWaitMillis;
+
+    public ConnectionPoolMetrics(int active, int idle, int waiters, long borrows, long timeouts,
+            long created, long closed, long maxWaitMillis) {
+        this.active = active;
+        this.idle = idle;
+        this.waiters = waiters;
+        this.borrows = borrows;
+        this.timeouts = timeouts;
+        this.created = created;
+        this.closed = closed;
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /** @return Conexiones prestadas en este momento. */
+    public int getActive() {
+        return active;
+    }
+
+    /** @return Conexiones abiertas disponibles en el pool. */
+    public int getIdle() {
+        return idle;
+    }
+
+    /** @return Hilos esperando una conexión. */
+    public int getWaiters() {
+        return waiters;
+    }
+
+    /** @return Préstamos realizados desde el inicio. */
+    public long getBorrows() {
+        return borrows;
+    }
+
+    /** @return Préstamos que agotaron el tiempo de espera. */
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    /** @return Conexiones físicas abiertas desde el inicio. */
+    public long getCreated() {
+        return created;
+    }
+
+    /** @return Conexiones físicas cerradas desde el inicio. */
+    public long getClosed() {
+        return closed;
+    }
+
+    /** @return Mayor espera observada para obtener una conexión, en milisegundos. */
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolMetrics{" +
+                "active=" + active +
+                ", idle=" + idle +
+                ", waiters=" + waiters +
+                ", borrows=" + borrows +
+                ", timeouts=" + timeouts +
+                ", created=" + created +
+                ", closed=" + closed +
+                ", maxWaitMillis=" + maxWaitMillis +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package com.giozar04.databases.domain.models;
+
+/**
+ * Parámetros del pool de conexiones.
+ */
+public class ConnectionPoolSettings {
+
+    private final int maxSize;
+    private final int minIdle;
+    private final long connectionTimeoutMillis;
+    private final long validationIntervalSeconds;
+    private final long idleTimeoutSeconds;
+    private final long maxLifetimeSeconds;
+
+    /**
+     * @param maxSize Número máximo de conexiones abiertas.
+     * @param minIdle Conexiones inactivas que se mantienen abiertas.
+     * @param connectionTimeoutMillis Espera máxima para obtener una conexión.
+     * @param validationIntervalSeconds Cada cuánto se validan las conexiones inactivas.
+     * @param idleTimeoutSeconds Tiempo inactiva tras el cual se cierra una conexión sobrante.
+     * @param maxLifetimeSeconds Vida máxima de una conexión física.
+     */
+    public ConnectionPoolSettings(int maxSize, int minIdle, long connectionTimeoutMillis,
+            long validationIntervalSeconds, long idleTimeoutSeconds, long maxLifetimeSeconds) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo del pool debe ser mayor que cero");
+        }
+        if (minIdle < 0 || minIdle > maxSize) {
+            throw new IllegalArgumentException("minIdle debe estar entre 0 y el tamaño máximo del pool");
+        }
+        this.maxSize = maxSize;
+        this.minIdle = minIdle;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        this.validationIntervalSeconds = validationIntervalSeconds;
+        this.idleTimeoutSeconds = idleTimeoutSeconds;
+        this.maxLifetimeSeconds = maxLifetimeSeconds;
+    }
+
+    /**
+     * @return Configuración por defecto: 10 conexiones, 2 inactivas, 30 s de espera,
+     *         validación cada 30 s, 10 min de inactividad y 30 min de vida máxima.
+     */
+    public static ConnectionPoolSettings defaults() {
+        return new ConnectionPoolSettings(10, 2, 30_000, 30, 600, 1800);
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public long getConnectionTimeoutMillis() {
+        return connectionTimeoutMillis;
+    }
+
+    public long getValidationIntervalSeconds() {
+        return validationIntervalSeconds;
+    }
+
+    public long getIdleTimeoutSeconds() {
+        return idleTimeoutSeconds;
+    }
+
+    public long getMaxLifetimeSeconds() {
+        return maxLifetimeSeconds;
+    }
+}
@@ -40,6 +40,9 @@ public abstract class DatabaseConnectionAbstract implements DatabaseConnectionIn
     // Tiempo máximo de espera para operaciones (en segundos)
     protected static final int DEFAULT_TIMEOUT = 30;
     
+    // Scope abierto más interno de cada hilo; los scopes anidados son savepoints suyos
+    private final ThreadLocal<TransactionScope> currentScope = new ThreadLocal<>();
+    
     /**
      * Constructor que inicializa los parámetros básicos de conexión.
      * 
@@ -97,8 +100,38 @@ public abstract class DatabaseConnectionAbstract implements DatabaseConnectionIn
         return connection.isValid(timeout);
     }
     
+    @Override
+    public TransactionScope beginTransaction() throws SQLException {
+        TransactionScope outer = currentScope.get();
+        Connection leased = getConnection();
+        TransactionScope scope;
+        try {
+            scope = outer == null
+                    ? new TransactionScope(leased, currentScope::remove)
+                    : outer.nested(leased, () -> currentScope.set(outer));
+        } catch (SQLException | RuntimeException e) {
+            leased.close();
+            throw e;
+        }
+        currentScope.set(scope);
+        return scope;
+    }
+    
+    /**
+     * commitTransaction y rollbackTransaction actúan sobre toda la conexión del hilo, así que
+     * dentro de un scope confirmarían o desharían también el trabajo del scope.
+     * 
+     * @throws IllegalStateException si el hilo actual tiene un scope abierto
+     */
+    protected void requireNoOpenScope(String operation) {
+        if (currentScope.get() != null) {
+            throw new IllegalStateException(operation + " no se permite dentro de un TransactionScope; usa el scope");
+        }
+    }
+    
     @Override
     public void commitTransaction() throws SQLException {
+        requireNoOpenScope("commitTransaction");
         if (connection != null && !connection.isClosed() && !connection.getAutoCommit()) {
             connection.commit();
             logger.info("Transacción confirmada exitosamente");
@@ -107,6 +140,7 @@ public abstract class DatabaseConnectionAbstract implements DatabaseConnectionIn
     
     @Override
     public void rollbackTransaction() throws SQLException {
+        requireNoOpenScope("rollbackTransaction");
         if (connection != null && !connection.isClosed() && !connection.getAutoCommit()) {
             connection.rollback();
             logger.info("Rollback de transacción ejecutado");
@@ -0,0 +1,396 @@
+package com.giozar04.databases.domain.models;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.metrics.domain.models.MetricsRegistry;
+import com.giozar04.metrics.domain.models.OperationMetrics;
+
+/**
+ * Instrumenta las sentencias preparadas de las conexiones del pool. ConnectionPool envuelve en
+ * un proxy cada PreparedStatement que presta, así que los repositorios no cambian.
+ *
+ * Por cada sentencia, agrupada con SqlStatementCatalog, se registran en MetricsRegistry las
+ * ejecuciones, errores, latencia de execute* y filas leídas. Una ejecución que supera el umbral
+ * se registra con sus parámetros y, si es la más lenta vista de su sentencia, se captura su
+ * EXPLAIN en un hilo aparte con otra conexión del pool (como mucho uno por intervalo por
+ * sentencia), para encontrar índices faltantes sin retrasar la solicitud.
+ */
+public class QueryMonitor implements AutoCloseable {
+
+    private static final int MAX_PARAMETER_LENGTH = 80;
+    private static final int EXPLAIN_QUEUE_CAPACITY = 16;
+    // Valor de un parámetro que no se puede volver a enviar (flujos); en el EXPLAIN va como NULL
+    private static final String UNREPLAYABLE = "<flujo>";
+    private static final String[] EXPLAINABLE = { "select", "with", "insert", "update", "delete", "replace" };
+
+    private final CustomLogger logger = CustomLogger.getInstance();
+    private final QueryMonitorSettings settings;
+    private final Supplier<Connection> connections;
+    private final long slowNanos;
+    private final Map<String, SlowQuerySample> slowest = new ConcurrentHashMap<>();
+    // Las sentencias del hilo de EXPLAIN no se instrumentan, para no explicar el propio EXPLAIN
+    private final ThreadLocal<Boolean> explaining = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private final ThreadPoolExecutor explainer;
+
+    /**
+     * @param connections Presta una conexión para ejecutar el EXPLAIN; se cierra al terminar.
+     */
+    public QueryMonitor(QueryMonitorSettings settings, Supplier<Connection> connections) {
+        this.settings = settings;
+        this.connections = connections;
+        this.slowNanos = TimeUnit.MILLISECONDS.toNanos(settings.getSlowQueryMillis());
+        this.explainer = settings.isExplainEnabled()
+                ? new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(EXPLAIN_QUEUE_CAPACITY),
+                        task -> {
+                            Thread thread = new Thread(task, "db-query-explain");
+                            thread.setDaemon(true);
+                            return thread;
+                        },
+                        new ThreadPoolExecutor.DiscardPolicy())
+                : null;
+    }
+
+    /**
+     * @return La sentencia envuelta, o la misma si se prepara en el hilo de EXPLAIN.
+     */
+    PreparedStatement wrap(PreparedStatement statement, String sql) {
+        if (explaining.get()) {
+            return statement;
+        }
+        String name = SqlStatementCatalog.nameOf(sql);
+        return (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(),
+                new Class<?>[] { PreparedStatement.class },
+                new StatementHandler(statement, sql, name, MetricsRegistry.query(name)));
+    }
+
+    /**
+     * @return La ejecución más lenta de cada sentencia que superó el umbral, de la más lenta a
+     *         la más rápida.
+     */
+    public List<SlowQuerySample> getSlowQueries() {
+        List<SlowQuerySample> samples = new ArrayList<>(slowest.values());
+        samples.sort(Comparator.comparingLong(SlowQuerySample::getDurationNanos).reversed());
+        return samples;
+    }
+
+    @Override
+    public void close() {
+        if (explainer != null) {
+            explainer.shutdownNow();
+        }
+    }
+
+    private void slowQuery(StatementHandler statement, long nanos, boolean failed) {
+        String parameters = statement.describeParameters();
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        logger.warn("Consulta lenta (" + millis + " ms" + (statement.batchSize > 0 ? ", lote de " + statement.batchSize : "")
+                + (failed ? ", con error" : "") + ") " + statement.name + ": " + compact(statement.sql)
+                + " | parámetros: " + parameters);
+        if (failed) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean[] explain = { false };
+        slowest.compute(statement.name, (name, previous) -> {
+            if (previous != null && nanos <= previous.getDurationNanos()) {
+                return previous;
+            }
+            explain[0] = explainer != null && isExplainable(statement.sql) && (previous == null
+                    || now - previous.getExplainedAtMillis() >= TimeUnit.SECONDS.toMillis(settings.getExplainIntervalSeconds()));
+            return new SlowQuerySample(name, statement.sql, parameters, nanos, ZonedDateTime.now(),
+                    previous != null ? previous.getPlan() : List.of(),
+                    previous != null ? previous.getExplainedAtMillis() : 0);
+        });
+        if (explain[0]) {
+            Object[] values = statement.parameterValues();
+            explainer.execute(() -> explain(statement.name, statement.sql, values));
+        }
+    }
+
+    private void explain(String name, String sql, Object[] parameters) {
+        explaining.set(Boolean.TRUE);
+        try (Connection connection = connections.get();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                Object value = parameters[i];
+                if (value == null || value == UNREPLAYABLE) {
+                    statement.setNull(i + 1, Types.NULL);
+                } else {
+                    statement.setObject(i + 1, value);
+                }
+            }
+            List<Map<String, Object>> plan = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                while (rs.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    for (int column = 1; column <= metaData.getColumnCount(); column++) {
+                        row.put(metaData.getColumnLabel(column), rs.getObject(column));
+                    }
+                    plan.add(row);
+                }
+            }
+            long capturedAt = System.currentTimeMillis();
+            slowest.computeIfPresent(name, (key, sample) -> sample.withPlan(plan, capturedAt));
+            StringBuilder text = new StringBuilder("Plan de ").append(name).append(':');
+            for (Map<String, Object> row : plan) {
+                text.append("\n  ");
+                row.forEach((column, value) -> text.append(column).append('=').append(value).append(' '));
+            }
+            logger.warn(text.toString());
+        } catch (SQLException | RuntimeException e) {
+            logger.warn("No se pudo obtener el EXPLAIN de " + name + ": " + e.getMessage());
+        } finally {
+            explaining.remove();
+        }
+    }
+
+    private static boolean isExplainable(String sql) {
+        String start = sql.stripLeading().toLowerCase(Locale.ROOT);
+        for (String keyword : EXPLAINABLE) {
+            if (start.startsWith(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Las sentencias en bloques de texto ocupan varias líneas; en el registro van en una. */
+    private static String compact(String sql) {
+        return sql.strip().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Delegado de PreparedStatement: mide execute*, guarda los parámetros asignados y envuelve
+     * los ResultSet para contar filas.
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final PreparedStatement target;
+        private final String sql;
+        private final String name;
+        private final OperationMetrics metrics;
+        private final boolean sensitive;
+        private Object[] parameters = new Object[8];
+        private int parameterCount;
+        private int batchSize;
+        private ResultSetHandler current;
+
+        private StatementHandler(PreparedStatement target, String sql, String name, OperationMetrics metrics) {
+            this.target = target;
+            this.sql = sql;
+            this.name = name;
+            this.metrics = metrics;
+            this.sensitive = sql.toLowerCase(Locale.ROOT).contains("password");
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            switch (methodName) {
+                case "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch",
+                        "executeLargeBatch" -> {
+                    if (args == null) {
+                        return execute(method);
+                    }
+                }
+                case "getResultSet" -> {
+                    return track((ResultSet) call(method, args));
+                }
+                case "clearParameters" -> {
+                    Arrays.fill(parameters, null);
+                    parameterCount = 0;
+                }
+                case "addBatch" -> {
+                    if (args == null) {
+                        batchSize++;
+                    }
+                }
+                case "clearBatch" -> batchSize = 0;
+                case "close" -> finishResultSet();
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "InstrumentedStatement[" + name + "]";
+                }
+                default -> {
+                    if (methodName.startsWith("set") && args != null && args.length >= 2
+                            && args[0] instanceof Integer index) {
+                        capture(index, "setNull".equals(methodName) ? null : args[1]);
+                    }
+                }
+            }
+            return call(method, args);
+        }
+
+        private Object execute(Method method) throws Throwable {
+            finishResultSet();
+            long start = metrics.start();
+            boolean failed = true;
+            try {
+                Object result = call(method, null);
+                failed = false;
+                return result instanceof ResultSet rs ? track(rs) : result;
+            } finally {
+                long nanos = metrics.stop(start, failed);
+                if (nanos >= slowNanos) {
+                    slowQuery(this, nanos, failed);
+                }
+                batchSize = 0;
+            }
+        }
+
+        private Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private ResultSet track(ResultSet rs) {
+            if (rs == null) {
+                return null;
+            }
+            finishResultSet();
+            current = new ResultSetHandler(rs, metrics);
+            return (ResultSet) Proxy.newProxyInstance(
+                    ResultSet.class.getClassLoader(),
+                    new Class<?>[] { ResultSet.class },
+                    current);
+        }
+
+        /** Cerrar la sentencia o ejecutarla otra vez cierra su ResultSet sin pasar por el proxy. */
+        private void finishResultSet() {
+            if (current != null) {
+                current.finish();
+                current = null;
+            }
+        }
+
+        private void capture(int index, Object value) {
+            if (index < 1) {
+                return;
+            }
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value instanceof InputStream || value instanceof Reader ? UNREPLAYABLE : value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        private Object[] parameterValues() {
+            return Arrays.copyOf(parameters, parameterCount);
+        }
+
+        private String describeParameters() {
+            if (!settings.isLogParameters()) {
+                return "(no se registran)";
+            }
+            if (sensitive) {
+                return "(ocultos)";
+            }
+            StringBuilder text = new StringBuilder("[");
+            for (int i = 0; i < parameterCount; i++) {
+                if (i > 0) {
+                    text.append(", ");
+                }
+                Object value = parameters[i];
+                if (value instanceof CharSequence && value != UNREPLAYABLE) {
+                    String string = value.toString();
+                    text.append('\'')
+                            .append(string.length() > MAX_PARAMETER_LENGTH
+                                    ? string.substring(0, MAX_PARAMETER_LENGTH) + "…"
+                                    : string)
+                            .append('\'');
+                } else {
+                    text.append(value);
+                }
+            }
+            return text.append(']').toString();
+        }
+    }
+
+    /**
+     * Delegado de ResultSet que cuenta las filas leídas; las suma a la sentencia al agotarse o
+     * cerrarse.
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final OperationMetrics metrics;
+        private long rows;
+        private boolean finished;
+
+        private ResultSetHandler(ResultSet target, OperationMetrics metrics) {
+            this.target = target;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "close":
+                    finish();
+                    break;
+                default:
+                    break;
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            if ("next".equals(method.getName())) {
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                } else {
+                    finish();
+                }
+            }
+            return result;
+        }
+
+        private void finish() {
+            if (!finished) {
+                finished = true;
+                metrics.addRows(rows);
+            }
+        }
+    }
+}
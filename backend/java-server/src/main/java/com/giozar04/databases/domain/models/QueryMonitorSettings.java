@@ -0,0 +1,63 @@
+package com.giozar04.databases.domain.models;
+
+/**
+ * Parámetros de la instrumentación de sentencias SQL (QueryMonitor).
+ */
+public class QueryMonitorSettings {
+
+    private final boolean enabled;
+    private final long slowQueryMillis;
+    private final boolean logParameters;
+    private final boolean explainEnabled;
+    private final long explainIntervalSeconds;
+
+    /**
+     * @param enabled Si se miden las sentencias de las conexiones del pool.
+     * @param slowQueryMillis Duración a partir de la cual una ejecución se registra como lenta.
+     * @param logParameters Si el registro de una consulta lenta incluye sus parámetros.
+     * @param explainEnabled Si se captura el EXPLAIN de la ejecución más lenta de cada sentencia.
+     * @param explainIntervalSeconds Tiempo mínimo entre dos EXPLAIN de la misma sentencia.
+     */
+    public QueryMonitorSettings(boolean enabled, long slowQueryMillis, boolean logParameters,
+            boolean explainEnabled, long explainIntervalSeconds) {
+        if (slowQueryMillis < 0) {
+            throw new IllegalArgumentException("El umbral de consultas lentas no puede ser negativo");
+        }
+        if (explainIntervalSeconds < 0) {
+            throw new IllegalArgumentException("El intervalo entre EXPLAIN no puede ser negativo");
+        }
+        this.enabled = enabled;
+        this.slowQueryMillis = slowQueryMillis;
+        this.logParameters = logParameters;
+        this.explainEnabled = explainEnabled;
+        this.explainIntervalSeconds = explainIntervalSeconds;
+    }
+
+    /**
+     * @return Configuración por defecto: habilitada, 200 ms, con parámetros y EXPLAIN como
+     *         mucho cada 10 min por sentencia.
+     */
+    public static QueryMonitorSettings defaults() {
+        return new QueryMonitorSettings(true, 200, true, true, 600);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getSlowQueryMillis() {
+        return slowQueryMillis;
+    }
+
+    public boolean isLogParameters() {
+        return logParameters;
+    }
+
+    public boolean isExplainEnabled() {
+        return explainEnabled;
+    }
+
+    public long getExplainIntervalSeconds() {
+        return explainIntervalSeconds;
+    }
+}
@@ -0,0 +1,70 @@
+package com.giozar04.databases.domain.models;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ejecución más lenta registrada de una sentencia, con su plan (EXPLAIN) si ya se capturó.
+ */
+public final class SlowQuerySample {
+
+    private final String name;
+    private final String sql;
+    private final String parameters;
+    private final long durationNanos;
+    private final ZonedDateTime occurredAt;
+    private final List<Map<String, Object>> plan;
+    private final long explainedAtMillis;
+
+    SlowQuerySample(String name, String sql, String parameters, long durationNanos, ZonedDateTime occurredAt,
+            List<Map<String, Object>> plan, long explainedAtMillis) {
+        this.name = name;
+        this.sql = sql;
+        this.parameters = parameters;
+        this.durationNanos = durationNanos;
+        this.occurredAt = occurredAt;
+        this.plan = plan;
+        this.explainedAtMillis = explainedAtMillis;
+    }
+
+    SlowQuerySample withPlan(List<Map<String, Object>> newPlan, long capturedAtMillis) {
+        return new SlowQuerySample(name, sql, parameters, durationNanos, occurredAt, List.copyOf(newPlan),
+                capturedAtMillis);
+    }
+
+    /** @return Constante SQL (o método, si es dinámica) que agrupa la sentencia. */
+    public String getName() {
+        return name;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /** @return Parámetros de la ejecución, ya formateados (u ocultos). */
+    public String getParameters() {
+        return parameters;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public ZonedDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    /**
+     * @return Filas del EXPLAIN (columna, valor), o una lista vacía si aún no se captura. El
+     *         plan puede venir de una ejecución lenta anterior de la misma sentencia.
+     */
+    public List<Map<String, Object>> getPlan() {
+        return plan;
+    }
+
+    /** @return Momento (epoch ms) en que se capturó el plan, o 0 si no hay plan. */
+    public long getExplainedAtMillis() {
+        return explainedAtMillis;
+    }
+}
@@ -0,0 +1,91 @@
+package com.giozar04.databases.domain.models;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Nombra cada sentencia SQL por la constante del repositorio que la define, por ejemplo
+ * "AccountRepositoryMySQL.SQL_SELECT_BY_ID".
+ *
+ * La primera vez que una clase prepara una sentencia desconocida se leen sus campos estáticos
+ * String cuyo nombre empieza con SQL; desde entonces basta una búsqueda por texto. Una sentencia
+ * armada en tiempo de ejecución (filtros opcionales) no coincide con ninguna constante y se
+ * nombra por el método que la prepara, para que sus variantes se agrupen.
+ */
+final class SqlStatementCatalog {
+
+    private static final Map<String, String> NAMES = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> SCANNED = ConcurrentHashMap.newKeySet();
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final String UNKNOWN_CALLER = "(desconocida)";
+
+    private SqlStatementCatalog() {
+    }
+
+    static String nameOf(String sql) {
+        String name = NAMES.get(sql);
+        if (name != null) {
+            return name;
+        }
+        StackWalker.StackFrame caller = WALKER.walk(frames -> frames
+                .filter(frame -> !isInfrastructure(frame.getDeclaringClass()))
+                .findFirst()
+                .orElse(null));
+        if (caller == null) {
+            return UNKNOWN_CALLER;
+        }
+        Class<?> type = caller.getDeclaringClass();
+        if (SCANNED.add(type)) {
+            register(type);
+            name = NAMES.get(sql);
+            if (name != null) {
+                return name;
+            }
+        }
+        return type.getSimpleName() + "." + methodName(caller) + " (dinámica)";
+    }
+
+    private static void register(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class
+                        || !field.getName().startsWith("SQL")) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    if (field.get(null) instanceof String sql) {
+                        NAMES.putIfAbsent(sql, current.getSimpleName() + "." + field.getName());
+                    }
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    // Sin acceso al campo la sentencia se agrupa como dinámica
+                }
+            }
+        }
+    }
+
+    /** Las clases del pool, del JDK y los proxies quedan entre el repositorio y el catálogo. */
+    private static boolean isInfrastructure(Class<?> type) {
+        String name = type.getName();
+        return name.startsWith("com.giozar04.databases.")
+                || name.startsWith("java.")
+                || name.startsWith("jdk.")
+                || name.startsWith("sun.")
+                || name.startsWith("com.sun.")
+                || Proxy.isProxyClass(type);
+    }
+
+    /** "lambda$findAll$3" se reporta como "findAll". */
+    private static String methodName(StackWalker.StackFrame frame) {
+        String method = frame.getMethodName();
+        if (method.startsWith("lambda$")) {
+            int end = method.indexOf('$', "lambda$".length());
+            return end > 0 ? method.substring("lambda$".length(), end) : method;
+        }
+        return method;
+    }
+}
@@ -0,0 +1,157 @@
+package com.giozar04.databases.domain.models;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.giozar04.logging.CustomLogger;
+
+/**
+ * Unidad de trabajo ligada a una conexión prestada.
+ *
+ * Todas las operaciones que reciben el mismo scope comparten la conexión y se confirman
+ * juntas con commit(). Si el scope se cierra sin commit se hace rollback, de modo que una
+ * excepción dentro de un try-with-resources deshace solo el trabajo de esta unidad.
+ *
+ * Un scope abierto dentro de otro en el mismo hilo usa la misma conexión física, así que se
+ * abre como un savepoint del exterior: su commit solo libera el savepoint (lo confirma el
+ * commit del exterior, que también ejecuta sus acciones afterCommit) y su rollback o cierre
+ * sin commit vuelven al savepoint sin tocar el trabajo anterior del exterior.
+ */
+public class TransactionScope implements AutoCloseable {
+
+    private final Connection connection;
+    private final TransactionScope parent;
+    private final Savepoint savepoint;
+    private final Runnable onClose;
+    private final List<Runnable> afterCommit = new ArrayList<>();
+    private boolean completed = false;
+
+    public TransactionScope(Connection connection) {
+        this(connection, () -> { });
+    }
+
+    /**
+     * @param onClose Se ejecuta al cerrar el scope, después de devolver la conexión.
+     */
+    public TransactionScope(Connection connection, Runnable onClose) {
+        this.connection = Objects.requireNonNull(connection, "La conexión no puede ser nula");
+        this.parent = null;
+        this.savepoint = null;
+        this.onClose = Objects.requireNonNull(onClose, "La acción de cierre no puede ser nula");
+    }
+
+    private TransactionScope(Connection connection, TransactionScope parent, Runnable onClose) throws SQLException {
+        this.connection = Objects.requireNonNull(connection, "La conexión no puede ser nula");
+        this.parent = parent;
+        this.savepoint = connection.setSavepoint();
+        this.onClose = Objects.requireNonNull(onClose, "La acción de cierre no puede ser nula");
+    }
+
+    /**
+     * Abre un scope anidado en este, como un savepoint sobre la misma conexión física.
+     *
+     * @param connection Otro préstamo de la conexión de este scope; el scope anidado lo cierra.
+     * @param onClose Se ejecuta al cerrar el scope anidado.
+     * @throws SQLException si no se puede crear el savepoint
+     */
+    public TransactionScope nested(Connection connection, Runnable onClose) throws SQLException {
+        if (completed) {
+            throw new IllegalStateException("El scope exterior ya se confirmó o se deshizo");
+        }
+        return new TransactionScope(connection, this, onClose);
+    }
+
+    /**
+     * @return true si este scope es un savepoint dentro de otro.
+     */
+    public boolean isNested() {
+        return parent != null;
+    }
+
+    /**
+     * @return La conexión de esta unidad de trabajo. No debe cerrarse directamente.
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Registra una acción que se ejecuta solo si este scope se confirma, después del commit
+     * (por ejemplo, invalidar una caché). Si el scope termina en rollback se descarta.
+     */
+    public void afterCommit(Runnable action) {
+        afterCommit.add(Objects.requireNonNull(action, "La acción no puede ser nula"));
+    }
+
+    /**
+     * Confirma el trabajo realizado en este scope y ejecuta las acciones registradas con
+     * afterCommit. Un error en una acción se registra sin afectar al commit ya hecho.
+     *
+     * En un scope anidado solo libera el savepoint; el trabajo y las acciones pasan al scope
+     * exterior y se confirman o descartan con él.
+     *
+     * @throws SQLException si falla el commit
+     */
+    public void commit() throws SQLException {
+        if (parent != null) {
+            connection.releaseSavepoint(savepoint);
+            completed = true;
+            parent.afterCommit.addAll(afterCommit);
+            afterCommit.clear();
+            return;
+        }
+        connection.commit();
+        completed = true;
+        for (Runnable action : afterCommit) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                CustomLogger.getInstance().error("Error en una acción posterior al commit", e);
+            }
+        }
+        afterCommit.clear();
+    }
+
+    /**
+     * Deshace el trabajo realizado en este scope.
+     *
+     * @throws SQLException si falla el rollback
+     */
+    public void rollback() throws SQLException {
+        afterCommit.clear();
+        rollbackOwnWork();
+        completed = true;
+    }
+
+    private void rollbackOwnWork() throws SQLException {
+        if (parent != null) {
+            connection.rollback(savepoint);
+        } else {
+            connection.rollback();
+        }
+    }
+
+    /**
+     * Hace rollback si no se confirmó y devuelve la conexión.
+     *
+     * @throws SQLException si falla el rollback o el cierre
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (!completed && !connection.isClosed()) {
+                rollbackOwnWork();
+            }
+        } finally {
+            try {
+                connection.close();
+            } finally {
+                onClose.run();
+            }
+        }
+    }
+}
@@ -2,33 +2,50 @@ package com.giozar04.databases.infrastructure.repositories;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
 
 import com.giozar04.databases.domain.exceptions.DatabaseExceptions;
-import com.giozar04.databases.domain.exceptions.DatabaseExceptions.ConnectionException;
 import com.giozar04.databases.domain.exceptions.DatabaseExceptions.DriverException;
+import com.giozar04.databases.domain.models.ConnectionPool;
+import com.giozar04.databases.domain.models.ConnectionPoolMetrics;
+import com.giozar04.databases.domain.models.ConnectionPoolSettings;
 import com.giozar04.databases.domain.models.DatabaseConnectionAbstract;
+import com.giozar04.databases.domain.models.QueryMonitor;
+import com.giozar04.databases.domain.models.QueryMonitorSettings;
+import com.giozar04.databases.domain.models.SlowQuerySample;
+import com.giozar04.threads.utils.VirtualThreads;
 
 /**
  * Implementación mejorada de conexión a MySQL con manejo de excepciones
- * personalizadas.
+ * personalizadas y un pool acotado de conexiones.
  */
 public class DatabaseConnectionMySQL extends DatabaseConnectionAbstract {
 
     // Instancia única (patrón Singleton)
     private static volatile DatabaseConnectionMySQL instance;
 
+    private final ConnectionPoolSettings poolSettings;
+    private final QueryMonitorSettings queryMonitorSettings;
+    private volatile ConnectionPool pool;
+    private volatile QueryMonitor queryMonitor;
+
     /**
      * Constructor privado que inicializa la conexión con parámetros seguros.
      */
     private DatabaseConnectionMySQL(String databaseHost, String databasePort, String databaseName,
-            String databaseUsername, String databasePassword) {
+            String databaseUsername, String databasePassword, ConnectionPoolSettings poolSettings,
+            QueryMonitorSettings queryMonitorSettings) {
         super(databaseHost, databasePort, databaseName, databaseUsername, databasePassword);
+        this.poolSettings = poolSettings;
+        this.queryMonitorSettings = queryMonitorSettings;
     }
 
     /**
      * Método estático para obtener la instancia única de la conexión (patrón
-     * Singleton).
+     * Singleton) con la configuración de pool por defecto.
      *
      * @param databaseHost el host de la base de datos
      * @param databasePort el puerto de la base de datos
@@ -39,13 +56,52 @@ public class DatabaseConnectionMySQL extends DatabaseConnectionAbstract {
      */
     public static DatabaseConnectionMySQL getInstance(String databaseHost, String databasePort, String databaseName,
             String databaseUsername, String databasePassword) {
+        return getInstance(databaseHost, databasePort, databaseName, databaseUsername, databasePassword,
+                ConnectionPoolSettings.defaults());
+    }
+
+    /**
+     * Método estático para obtener la instancia única de la conexión (patrón
+     * Singleton).
+     *
+     * @param databaseHost el host de la base de datos
+     * @param databasePort el puerto de la base de datos
+     * @param databaseName el nombre de la base de datos
+     * @param databaseUsername el nombre de usuario para la conexión
+     * @param databasePassword la contraseña para la conexión
+     * @param poolSettings la configuración del pool de conexiones
+     * @return la instancia única de MySQLDatabaseConnection
+     */
+    public static DatabaseConnectionMySQL getInstance(String databaseHost, String databasePort, String databaseName,
+            String databaseUsername, String databasePassword, ConnectionPoolSettings poolSettings) {
+        return getInstance(databaseHost, databasePort, databaseName, databaseUsername, databasePassword,
+                poolSettings, QueryMonitorSettings.defaults());
+    }
+
+    /**
+     * Método estático para obtener la instancia única de la conexión (patrón
+     * Singleton).
+     *
+     * @param databaseHost el host de la base de datos
+     * @param databasePort el puerto de la base de datos
+     * @param databaseName el nombre de la base de datos
+     * @param databaseUsername el nombre de usuario para la conexión
+     * @param databasePassword la contraseña para la conexión
+     * @param poolSettings la configuración del pool de conexiones
+     * @param queryMonitorSettings la configuración de la instrumentación de sentencias SQL
+     * @return la instancia única de MySQLDatabaseConnection
+     */
+    public static DatabaseConnectionMySQL getInstance(String databaseHost, String databasePort, String databaseName,
+            String databaseUsername, String databasePassword, ConnectionPoolSettings poolSettings,
+            QueryMonitorSettings queryMonitorSettings) {
         // Verificación rápida sin bloqueo
         if (instance == null) {
             LOCK.lock();
             try {
                 // Verificación doble para garantizar que solo se crea una instancia
                 if (instance == null) {
-                    instance = new DatabaseConnectionMySQL(databaseHost, databasePort, databaseName, databaseUsername, databasePassword);
+                    instance = new DatabaseConnectionMySQL(databaseHost, databasePort, databaseName,
+                            databaseUsername, databasePassword, poolSettings, queryMonitorSettings);
                 }
             } finally {
                 LOCK.unlock();
@@ -77,15 +133,17 @@ protected void configureConnectionProperties() {
     // Configuraciones adicionales para prevenir inyección SQL
     connectionProps.setProperty("allowMultiQueries", "false");
 
-    // Configuración para prevenir fugas de memoria
-    connectionProps.setProperty("autoReconnect", "true");
-    connectionProps.setProperty("maxReconnects", "3");
+    // Sin reconexión automática: el pool valida y reemplaza las conexiones caídas
+    connectionProps.setProperty("autoReconnect", "false");
+
+    // executeBatch envía un solo INSERT de varias filas en lugar de una sentencia por fila
+    connectionProps.setProperty("rewriteBatchedStatements", "true");
 }
     @Override
     public void connect() {
-        LOCK.lock();
+        VirtualThreads.lock(LOCK, "DatabaseConnectionMySQL.connect");
         try {
-            if (connection == null || connection.isClosed()) {
+            if (pool == null) {
                 // Cargar el driver explícitamente
                 try {
                     Class.forName("com.mysql.cj.jdbc.Driver");
@@ -94,129 +152,129 @@ protected void configureConnectionProperties() {
                     throw DriverException.fromClassNotFoundException(e);
                 }
 
-                try {
-                    // Establecer la conexión usando Properties
-                    connection = DriverManager.getConnection(jdbcUrl, connectionProps);
-
-                    // Configurar propiedades adicionales de la conexión
-                    connection.setAutoCommit(false); // Control explícito de transacciones
-
-                    logger.info("Conexión MySQL establecida exitosamente con la base de datos");
-                } catch (SQLException e) {
-                    logger.error("Error al conectar con la base de datos MySQL: " + e.getMessage(), e);
-                    throw DatabaseExceptions.translateSQLException(e, "establecer conexión");
+                ConnectionPool newPool = new ConnectionPool(this::openPhysicalConnection, poolSettings);
+                if (queryMonitorSettings.isEnabled()) {
+                    queryMonitor = new QueryMonitor(queryMonitorSettings, newPool::lease);
+                    newPool.setQueryMonitor(queryMonitor);
                 }
+                newPool.start();
+                pool = newPool;
+                logger.info("Conexión MySQL establecida exitosamente con la base de datos");
             }
-        } catch (SQLException e) {
-            logger.error("Error inesperado al verificar el estado de la conexión: " + e.getMessage(), e);
-            throw new ConnectionException("Error al verificar el estado de la conexión", e);
         } finally {
             LOCK.unlock();
         }
     }
 
+    /**
+     * Abre una conexión física nueva para el pool.
+     */
+    private Connection openPhysicalConnection() throws SQLException {
+        Connection physical = DriverManager.getConnection(jdbcUrl, connectionProps);
+        // Control explícito de transacciones
+        physical.setAutoCommit(false);
+        return physical;
+    }
+
     @Override
     public void disconnect() {
-        LOCK.lock();
+        VirtualThreads.lock(LOCK, "DatabaseConnectionMySQL.disconnect");
         try {
-            if (connection != null && !connection.isClosed()) {
-                try {
-                    // Asegurar que todas las transacciones pendientes sean cerradas
-                    if (!connection.getAutoCommit()) {
-                        connection.rollback();
-                    }
-                } catch (SQLException e) {
-                    logger.warn("Error al hacer rollback de transacciones pendientes: " + e.getMessage(), e);
-                    // No lanzamos excepción aquí, continuamos con el cierre
-                }
-
-                try {
-                    connection.close();
-                    connection = null; // Liberar referencia para GC
-                    logger.info("Desconexión exitosa de la base de datos MySQL");
-                } catch (SQLException e) {
-                    logger.error("Error al cerrar la conexión: " + e.getMessage(), e);
-                    throw DatabaseExceptions.translateSQLException(e, "cerrar conexión");
+            if (pool != null) {
+                pool.close();
+                pool = null;
+                if (queryMonitor != null) {
+                    queryMonitor.close();
+                    queryMonitor = null;
                 }
+                logger.info("Desconexión exitosa de la base de datos MySQL");
             }
-        } catch (SQLException e) {
-            logger.error("Error inesperado al verificar el estado de la conexión: " + e.getMessage(), e);
-            throw new ConnectionException("Error al verificar el estado de la conexión", e);
         } finally {
             LOCK.unlock();
         }
     }
 
+    /**
+     * Presta una conexión del pool al hilo actual. Al cerrarla vuelve al pool y se deshace
+     * lo que no se haya confirmado con commitTransaction().
+     */
     @Override
     public Connection getConnection() {
-        LOCK.lock();
-        try {
-            if (connection == null || connection.isClosed()) {
-                connect();
-            }
-
-            // Verificar validez de la conexión
-            try {
-                if (!isConnectionValid(DEFAULT_TIMEOUT)) {
-                    logger.warn("Conexión MySQL inválida, reconectando...", null);
-                    disconnect();
-                    connect();
-                }
-            } catch (SQLException e) {
-                logger.error("Error al validar la conexión: " + e.getMessage(), e);
-                throw new ConnectionException("No se pudo validar la conexión", e);
-            }
-
-            return connection;
-        } catch (SQLException e) {
-            logger.error("Error al verificar el estado de la conexión: " + e.getMessage(), e);
-            throw new ConnectionException("Error al verificar el estado de la conexión", e);
-        } finally {
-            LOCK.unlock();
+        ConnectionPool current = pool;
+        if (current == null) {
+            connect();
+            current = pool;
         }
+        return current.lease();
     }
 
     @Override
     public void commitTransaction() {
+        requireNoOpenScope("commitTransaction");
+        ConnectionPool current = pool;
         try {
-            if (connection != null && !connection.isClosed() && !connection.getAutoCommit()) {
-                try {
-                    connection.commit();
-                    logger.info("Transacción confirmada exitosamente");
-                } catch (SQLException e) {
-                    logger.error("Error al confirmar la transacción: " + e.getMessage(), e);
-                    throw DatabaseExceptions.translateSQLException(e, "commit de transacción");
-                }
+            if (current != null && current.commitCurrent()) {
+                logger.info("Transacción confirmada exitosamente");
+            } else {
+                logger.warn("commit solicitado sin una conexión prestada en el hilo actual");
             }
         } catch (SQLException e) {
-            logger.error("Error al verificar el estado de la conexión: " + e.getMessage(), e);
-            throw new ConnectionException("Error al verificar el estado de la conexión", e);
+            logger.error("Error al confirmar la transacción: " + e.getMessage(), e);
+            throw DatabaseExceptions.translateSQLException(e, "commit de transacción");
         }
     }
 
     @Override
     public void rollbackTransaction() {
+        requireNoOpenScope("rollbackTransaction");
+        ConnectionPool current = pool;
         try {
-            if (connection != null && !connection.isClosed() && !connection.getAutoCommit()) {
-                try {
-                    connection.rollback();
-                    logger.info("Rollback de transacción ejecutado");
-                } catch (SQLException e) {
-                    logger.error("Error al hacer rollback de la transacción: " + e.getMessage(), e);
-                    throw DatabaseExceptions.translateSQLException(e, "rollback de transacción");
-                }
+            // Sin conexión prestada no hay nada que deshacer: el pool ya hizo rollback al devolverla
+            if (current != null && current.rollbackCurrent()) {
+                logger.info("Rollback de transacción ejecutado");
             }
         } catch (SQLException e) {
-            logger.error("Error al verificar el estado de la conexión: " + e.getMessage(), e);
-            throw new ConnectionException("Error al verificar el estado de la conexión", e);
+            logger.error("Error al hacer rollback de la transacción: " + e.getMessage(), e);
+            throw DatabaseExceptions.translateSQLException(e, "rollback de transacción");
         }
     }
 
     @Override
     public boolean isConnectionValid(int timeout) throws SQLException {
-        if (connection == null) {
+        if (pool == null) {
             return false;
         }
-        return connection.isValid(timeout);
+        try (Connection leased = getConnection()) {
+            return leased.isValid(timeout);
+        }
+    }
+
+    /**
+     * Connector/J ignora un fetch size positivo salvo con useCursorFetch, que cambiaría todas las
+     * consultas a sentencias preparadas en el servidor. Integer.MIN_VALUE activa en cambio la
+     * lectura fila por fila solo para esta consulta.
+     */
+    @Override
+    public PreparedStatement prepareStreamingStatement(Connection connection, String sql) throws SQLException {
+        PreparedStatement stmt = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        stmt.setFetchSize(Integer.MIN_VALUE);
+        return stmt;
+    }
+
+    /**
+     * @return Métricas del pool de conexiones, o null si aún no se ha conectado.
+     */
+    public ConnectionPoolMetrics getPoolMetrics() {
+        ConnectionPool current = pool;
+        return current == null ? null : current.getMetrics();
+    }
+
+    /**
+     * @return La ejecución más lenta de cada sentencia que superó el umbral, o una lista vacía
+     *         si las sentencias no se instrumentan.
+     */
+    public List<SlowQuerySample> getSlowQueries() {
+        QueryMonitor current = queryMonitor;
+        return current == null ? List.of() : current.getSlowQueries();
     }
 }
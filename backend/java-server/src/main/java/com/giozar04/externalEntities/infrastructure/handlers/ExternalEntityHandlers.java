@@ -2,8 +2,8 @@ package com.giozar04.externalEntities.infrastructure.handlers;
 
 import com.giozar04.externalEntities.application.services.ExternalEntityService;
 import com.giozar04.externalEntities.infrastructure.controllers.ExternalEntityControllers;
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 
 public class ExternalEntityHandlers implements ServerRegisterHandlers {
 
@@ -14,7 +14,7 @@ public class ExternalEntityHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(
             ExternalEntityControllers.ExternalEntityMessageTypes.CREATE_EXTERNAL_ENTITY,
             ExternalEntityControllers.createExternalEntityController(service)
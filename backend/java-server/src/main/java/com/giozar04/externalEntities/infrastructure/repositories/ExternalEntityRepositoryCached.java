@@ -0,0 +1,65 @@
+package com.giozar04.externalEntities.infrastructure.repositories;
+
+import java.util.List;
+
+import com.giozar04.caches.domain.models.CacheRegistry;
+import com.giozar04.caches.domain.models.CacheStats;
+import com.giozar04.caches.domain.models.ReferenceDataCache;
+import com.giozar04.externalEntities.domain.entities.ExternalEntity;
+import com.giozar04.externalEntities.domain.interfaces.ExternalEntityRepositoryInterface;
+
+/**
+ * Decorador con caché en memoria de entidades externas sobre otro ExternalEntityRepositoryInterface
+ * (normalmente ExternalEntityRepositoryMySQL). Las lecturas se sirven desde memoria y cada escritura
+ * invalida solo lo que cambió (ver ReferenceDataCache).
+ */
+public class ExternalEntityRepositoryCached implements ExternalEntityRepositoryInterface {
+
+    private final ExternalEntityRepositoryInterface delegate;
+    private final ReferenceDataCache<ExternalEntity> cache;
+
+    public ExternalEntityRepositoryCached(ExternalEntityRepositoryInterface delegate, int maxEntries) {
+        this.delegate = delegate;
+        this.cache = new ReferenceDataCache<>("externalEntities", maxEntries, ExternalEntity::getId, ExternalEntity::getUserId);
+        CacheRegistry.register(cache);
+    }
+
+    @Override
+    public ExternalEntity createExternalEntity(ExternalEntity entity) {
+        ExternalEntity created = delegate.createExternalEntity(entity);
+        cache.created(created);
+        return created;
+    }
+
+    @Override
+    public ExternalEntity getExternalEntityById(long id) {
+        return cache.getById(id, delegate::getExternalEntityById);
+    }
+
+    @Override
+    public ExternalEntity updateExternalEntityById(long id, ExternalEntity entity) {
+        try {
+            return delegate.updateExternalEntityById(id, entity);
+        } finally {
+            cache.updated(id, entity);
+        }
+    }
+
+    @Override
+    public void deleteExternalEntityById(long id) {
+        try {
+            delegate.deleteExternalEntityById(id);
+        } finally {
+            cache.deleted(id);
+        }
+    }
+
+    @Override
+    public List<ExternalEntity> getAllExternalEntities() {
+        return cache.getAll(delegate::getAllExternalEntities);
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+}
@@ -0,0 +1,105 @@
+package com.giozar04.investmentMaturities.application.services;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.giozar04.investmentMaturities.domain.exceptions.InvestmentMaturityExceptions;
+import com.giozar04.investmentMaturities.domain.interfaces.InvestmentMaturityRepositoryInterface;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityCalculator;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityKey;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityOptions;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityReport;
+import com.giozar04.jobs.application.services.PagedBatchRunner;
+import com.giozar04.logging.CustomLogger;
+
+/**
+ * Vence todas las posiciones de inversión activas cuya fecha de vencimiento ya llegó.
+ *
+ * Las posiciones vencidas se leen por páginas de batchSize con PagedBatchRunner, repartidas
+ * por cuenta: las posiciones de una cuenta siempre van al mismo hilo, así que dos hilos nunca
+ * bloquean la misma cuenta y las de una cuenta se vencen en orden. Cada parte se registra en
+ * una sola transacción; una parte que falla se deshace completa y sus posiciones siguen
+ * activas para la siguiente ejecución. Por lo mismo, un día sin ejecución no pierde
+ * vencimientos: la siguiente vence todas las posiciones atrasadas y sus reinversiones empiezan
+ * en la fecha de vencimiento.
+ */
+public class InvestmentMaturityService {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    private final InvestmentMaturityRepositoryInterface repository;
+    private final InvestmentMaturityOptions options;
+    private final InvestmentMaturityCalculator calculator;
+    private final ReentrantLock running = new ReentrantLock();
+
+    public InvestmentMaturityService(InvestmentMaturityRepositoryInterface repository, InvestmentMaturityOptions options) {
+        this.repository = repository;
+        this.options = options;
+        this.calculator = new InvestmentMaturityCalculator(options);
+    }
+
+    /**
+     * Vence hasta hoy, en la zona de las opciones.
+     */
+    public InvestmentMaturityReport matureThroughToday() {
+        return mature(LocalDate.now(options.getZone()));
+    }
+
+    /**
+     * Vence cada posición ACTIVE con maturity_date hasta through, inclusive.
+     *
+     * @throws IllegalStateException Si ya hay un proceso de vencimientos en curso en este proceso.
+     * @throws InvestmentMaturityExceptions.RetrievalException Si no se pueden leer las
+     *         posiciones vencidas; los bloques ya registrados se conservan.
+     */
+    public InvestmentMaturityReport mature(LocalDate through) {
+        if (!running.tryLock()) {
+            throw new IllegalStateException("Ya hay un proceso de vencimientos en curso");
+        }
+        try {
+            return run(through);
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private InvestmentMaturityReport run(LocalDate through) {
+        long start = System.nanoTime();
+        InvestmentMaturityReport report = new InvestmentMaturityReport();
+        report.setThrough(through);
+
+        PagedBatchRunner<InvestmentMaturityKey> runner = new PagedBatchRunner<>("investment-maturity",
+                options.getThreads(), options.getBatchSize(), InvestmentMaturityKey::accountId);
+        try {
+            runner.run(InvestmentMaturityKey.START,
+                    (after, limit) -> repository.getDuePositions(through, after, limit),
+                    this::matureBlock,
+                    report::add);
+        } catch (ExecutionException e) {
+            // matureBlock no lanza; solo un error inesperado llega aquí
+            throw new InvestmentMaturityExceptions.MaturityException("Error al vencer las inversiones. " + report, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InvestmentMaturityExceptions.MaturityException("Proceso de vencimientos interrumpido. " + report, e);
+        }
+
+        report.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        LOGGER.info(report.toString());
+        return report;
+    }
+
+    /** Se ejecuta en el hilo del carril. */
+    private InvestmentMaturityReport matureBlock(List<InvestmentMaturityKey> positions) {
+        try {
+            return repository.maturePositions(positions, calculator);
+        } catch (RuntimeException e) {
+            LOGGER.error("No se vencieron " + positions.size() + " inversiones desde la posición "
+                    + positions.get(0).id() + "; siguen activas", e);
+            InvestmentMaturityReport failed = new InvestmentMaturityReport();
+            failed.failed(positions.size());
+            return failed;
+        }
+    }
+}
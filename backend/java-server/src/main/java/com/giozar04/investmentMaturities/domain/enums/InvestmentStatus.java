@@ -0,0 +1,22 @@
+package com.giozar04.investmentMaturities.domain.enums;
+
+public enum InvestmentStatus {
+    ACTIVE("ACTIVE"),
+    MATURED("MATURED"),
+    CANCELLED("CANCELLED");
+
+    private final String value;
+
+    InvestmentStatus(String value) {
+        this.value = value;
+    }
+
+    public String getValue() { return value; }
+
+    public static InvestmentStatus fromValue(String value) {
+        for (InvestmentStatus status : values()) {
+            if (status.getValue().equalsIgnoreCase(value)) return status;
+        }
+        throw new IllegalArgumentException("Estado de inversión no válido: " + value);
+    }
+}
@@ -0,0 +1,12 @@
+package com.giozar04.investmentMaturities.domain.exceptions;
+
+public class InvestmentMaturityExceptions {
+
+    public static class RetrievalException extends RuntimeException {
+        public RetrievalException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class MaturityException extends RuntimeException {
+        public MaturityException(String message, Throwable cause) { super(message, cause); }
+    }
+}
@@ -0,0 +1,13 @@
+package com.giozar04.investmentMaturities.domain.interfaces;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityCalculator;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityKey;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityReport;
+
+public interface InvestmentMaturityRepositoryInterface {
+    List<InvestmentMaturityKey> getDuePositions(LocalDate through, InvestmentMaturityKey after, int limit);
+    InvestmentMaturityReport maturePositions(List<InvestmentMaturityKey> positions, InvestmentMaturityCalculator calculator);
+}
@@ -0,0 +1,84 @@
+package com.giozar04.investmentMaturities.domain.models;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.format.DateTimeFormatter;
+
+import com.giozar04.investmentMaturities.domain.enums.InvestmentStatus;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+
+/**
+ * Interés simple de una posición a plazo y la posición que la reinvierte.
+ *
+ * El interés es principal * annual_yield * días / day_count_basis, con los días de start_date
+ * a maturity_date, y se trunca a centavos. La reinversión empieza el día del vencimiento (no el
+ * del proceso), así que un vencimiento atrasado no recorre los plazos siguientes, y su capital
+ * es el principal más el interés.
+ */
+public class InvestmentMaturityCalculator {
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final InvestmentMaturityOptions options;
+
+    public InvestmentMaturityCalculator(InvestmentMaturityOptions options) {
+        options.validate();
+        this.options = options;
+    }
+
+    /**
+     * @return Interés del plazo completo en centavos; cero si la tasa es cero.
+     */
+    public BigDecimal interestFor(InvestmentPosition position) {
+        if (position.annualYield().signum() <= 0 || position.days() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        return position.principal()
+                .multiply(position.annualYield())
+                .multiply(BigDecimal.valueOf(position.days()))
+                .divide(BigDecimal.valueOf(position.dayCountBasis()), 2, RoundingMode.DOWN);
+    }
+
+    /**
+     * @return El ingreso que registra el interés en la cuenta contenedora, con fecha del
+     *         vencimiento.
+     */
+    public Transaction toTransaction(InvestmentPosition position, BigDecimal interest) {
+        Transaction tx = new Transaction();
+        tx.setOperationType(OperationTypes.INCOME);
+        tx.setPaymentMethod(PaymentMethod.TRANSFER);
+        tx.setDestinationAccountId(position.accountId());
+        tx.setAmount(interest);
+        tx.setConcept(options.getConcept());
+        tx.setCategory(options.getCategory());
+        tx.setDescription(position.instrumentType() + " a " + position.days() + " días del "
+                + position.startDate().format(DAY) + " al " + position.maturityDate().format(DAY));
+        tx.setDate(position.maturityDate().atStartOfDay(options.getZone()));
+        tx.setTimezone(options.getZone().getId());
+        return tx;
+    }
+
+    /**
+     * @return La posición nueva (sin id) que reinvierte principal e interés.
+     */
+    public InvestmentPosition reinvest(InvestmentPosition position, BigDecimal interest) {
+        int term = position.nextTermDays();
+        return new InvestmentPosition(
+            0,
+            position.accountId(),
+            position.instrumentType(),
+            term,
+            position.principal().add(interest),
+            position.nextAnnualYield(),
+            position.dayCountBasis(),
+            position.maturityDate(),
+            position.maturityDate().plusDays(term),
+            InvestmentStatus.ACTIVE.getValue(),
+            true,
+            position.reinvestTermDays(),
+            position.reinvestAnnualYield()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.giozar04.investmentMaturities.domain.models;
+
+import java.time.LocalDate;
+
+/**
+ * Posición de una inversión activa en idx_investment_status_maturity: (maturity_date, id).
+ * Sirve de cursor para leer las posiciones vencidas por páginas; accountId va aparte para
+ * repartir las posiciones entre los hilos por cuenta.
+ */
+public record InvestmentMaturityKey(LocalDate maturityDate, long id, long accountId) {
+
+    /** Cursor inicial, antes de la primera posición. */
+    public static final InvestmentMaturityKey START = new InvestmentMaturityKey(null, 0, 0);
+}
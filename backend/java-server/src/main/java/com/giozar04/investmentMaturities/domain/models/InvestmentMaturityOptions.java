@@ -0,0 +1,47 @@
+package com.giozar04.investmentMaturities.domain.models;
+
+import java.time.ZoneId;
+
+/**
+ * Parámetros del vencimiento de inversiones.
+ *
+ * - batchSize: posiciones por página; cada página se reparte por cuenta entre los hilos y
+ *   cada parte se registra en una sola transacción.
+ * - threads: hilos que vencen posiciones a la vez; cada uno ocupa una conexión del pool.
+ * - category y concept: los de las transacciones INCOME con el interés.
+ * - zone: zona de las fechas; "hoy" y la fecha de las transacciones se toman en ella.
+ */
+public class InvestmentMaturityOptions {
+
+    public static final int MAX_BATCH_SIZE = 5_000;
+
+    private int batchSize = 1_000;
+    private int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private String category = "Rendimientos";
+    private String concept = "Interés de inversión";
+    private ZoneId zone = ZoneId.systemDefault();
+
+    public void validate() {
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("El tamaño de bloque debe estar entre 1 y " + MAX_BATCH_SIZE);
+        if (threads <= 0) throw new IllegalArgumentException("El número de hilos debe ser mayor que cero");
+        if (category == null || category.isBlank()) throw new IllegalArgumentException("La categoría es obligatoria");
+        if (concept == null || concept.isBlank()) throw new IllegalArgumentException("El concepto es obligatorio");
+        if (zone == null) throw new IllegalArgumentException("La zona horaria es obligatoria");
+    }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getThreads() { return threads; }
+    public void setThreads(int threads) { this.threads = threads; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public String getConcept() { return concept; }
+    public void setConcept(String concept) { this.concept = concept; }
+
+    public ZoneId getZone() { return zone; }
+    public void setZone(ZoneId zone) { this.zone = zone; }
+}
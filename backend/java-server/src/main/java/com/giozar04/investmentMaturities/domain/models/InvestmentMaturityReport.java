@@ -0,0 +1,72 @@
+package com.giozar04.investmentMaturities.domain.models;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Resumen de un proceso de vencimientos, o de uno de sus bloques.
+ *
+ * - matured: posiciones vencidas en este proceso (con o sin interés).
+ * - reinvested: de ellas, las que abrieron una posición nueva por auto_reinvest.
+ * - skipped: posiciones que otro proceso venció o canceló entre la lectura y el bloqueo.
+ * - failed: posiciones de bloques que no se pudieron registrar; siguen activas.
+ */
+public class InvestmentMaturityReport {
+
+    private LocalDate through;
+    private int matured;
+    private int reinvested;
+    private int skipped;
+    private int failed;
+    private BigDecimal interest = BigDecimal.ZERO;
+    private long elapsedMillis;
+
+    public void matured(BigDecimal amount) {
+        matured++;
+        interest = interest.add(amount);
+    }
+
+    public void reinvested() {
+        reinvested++;
+    }
+
+    public void skipped() {
+        skipped++;
+    }
+
+    public void failed(int positions) {
+        failed += positions;
+    }
+
+    /** Suma el resultado de un bloque. */
+    public void add(InvestmentMaturityReport block) {
+        matured += block.matured;
+        reinvested += block.reinvested;
+        skipped += block.skipped;
+        failed += block.failed;
+        interest = interest.add(block.interest);
+    }
+
+    public int getProcessed() {
+        return matured + skipped + failed;
+    }
+
+    public LocalDate getThrough() { return through; }
+    public void setThrough(LocalDate through) { this.through = through; }
+
+    public int getMatured() { return matured; }
+    public int getReinvested() { return reinvested; }
+    public int getSkipped() { return skipped; }
+    public int getFailed() { return failed; }
+    public BigDecimal getInterest() { return interest; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    @Override
+    public String toString() {
+        return "Vencimientos hasta " + through + ": " + getProcessed() + " posiciones, " + matured + " vencidas ("
+                + interest.toPlainString() + " de interés), " + reinvested + " reinvertidas, " + skipped
+                + " ya procesadas, " + failed + " con error, " + elapsedMillis + " ms";
+    }
+}
@@ -0,0 +1,49 @@
+package com.giozar04.investmentMaturities.domain.models;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.investmentMaturities.domain.interfaces.InvestmentMaturityRepositoryInterface;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.transactions.domain.models.TransactionRepositoryAbstract;
+
+public abstract class InvestmentMaturityRepositoryAbstract implements InvestmentMaturityRepositoryInterface {
+
+    protected final DatabaseConnectionInterface databaseConnection;
+    protected final TransactionRepositoryAbstract transactions;
+    protected final AccountChangeNotifier accountChanges;
+    protected final CustomLogger logger = CustomLogger.getInstance();
+
+    /**
+     * @param transactions Repositorio con el que se insertan los ingresos de interés, para que
+     *        actualice los resúmenes mensuales y avise a la caché de cuentas.
+     * @param accountChanges Notificador con el que se avisa a la caché de cuentas de todas las
+     *        cuentas con posiciones vencidas, tengan o no ingreso de interés.
+     */
+    protected InvestmentMaturityRepositoryAbstract(DatabaseConnectionInterface databaseConnection,
+                                                   TransactionRepositoryAbstract transactions,
+                                                   AccountChangeNotifier accountChanges) {
+        this.databaseConnection = Objects.requireNonNull(databaseConnection, "La conexión a la base de datos no puede ser nula");
+        this.transactions = Objects.requireNonNull(transactions, "El repositorio de transacciones no puede ser nulo");
+        this.accountChanges = Objects.requireNonNull(accountChanges, "El notificador de cambios no puede ser nulo");
+    }
+
+    /**
+     * Posiciones ACTIVE con maturity_date hasta through, inclusive, después de la posición
+     * after, en el orden de idx_investment_status_maturity.
+     */
+    @Override
+    public abstract List<InvestmentMaturityKey> getDuePositions(LocalDate through, InvestmentMaturityKey after, int limit);
+
+    /**
+     * Bloquea las posiciones, registra su interés como ingreso en la cuenta contenedora, las
+     * marca MATURED con matured_at y abre las reinversiones, todo en una transacción. Las
+     * posiciones que ya no están ACTIVE se omiten, así que repetir un bloque no paga dos veces.
+     */
+    @Override
+    public abstract InvestmentMaturityReport maturePositions(List<InvestmentMaturityKey> positions,
+                                                            InvestmentMaturityCalculator calculator);
+}
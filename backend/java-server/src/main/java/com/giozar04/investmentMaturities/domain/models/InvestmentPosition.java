@@ -0,0 +1,35 @@
+package com.giozar04.investmentMaturities.domain.models;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Posición de inversión (una fila de investment_details) leída y bloqueada al vencerla.
+ *
+ * @param termDays Plazo en días, o null en instrumentos sin plazo fijo.
+ * @param reinvestTermDays Plazo de la reinversión, o null para repetir el de esta posición.
+ * @param reinvestAnnualYield Tasa de la reinversión, o null para repetir la de esta posición.
+ */
+public record InvestmentPosition(long id, long accountId, String instrumentType, Integer termDays,
+                                 BigDecimal principal, BigDecimal annualYield, int dayCountBasis,
+                                 LocalDate startDate, LocalDate maturityDate, String status,
+                                 boolean autoReinvest, Integer reinvestTermDays, BigDecimal reinvestAnnualYield) {
+
+    /** @return Días que generan interés, de start_date (inclusive) a maturity_date (exclusive). */
+    public long days() {
+        return ChronoUnit.DAYS.between(startDate, maturityDate);
+    }
+
+    /** @return Plazo de la posición que la reinvierte. */
+    public int nextTermDays() {
+        if (reinvestTermDays != null) return reinvestTermDays;
+        if (termDays != null) return termDays;
+        return Math.toIntExact(days());
+    }
+
+    /** @return Tasa anual de la posición que la reinvierte. */
+    public BigDecimal nextAnnualYield() {
+        return reinvestAnnualYield != null ? reinvestAnnualYield : annualYield;
+    }
+}
@@ -0,0 +1,256 @@
+package com.giozar04.investmentMaturities.infrastructure.repositories;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
+import com.giozar04.investmentMaturities.domain.enums.InvestmentStatus;
+import com.giozar04.investmentMaturities.domain.exceptions.InvestmentMaturityExceptions;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityCalculator;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityKey;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityReport;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityRepositoryAbstract;
+import com.giozar04.investmentMaturities.domain.models.InvestmentPosition;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.models.TransactionRepositoryAbstract;
+
+/**
+ * Vencimiento de las posiciones de investment_details.
+ *
+ * Las posiciones vencidas se recorren con el cursor (maturity_date, id). El filtro por status
+ * fija la primera columna de idx_investment_status_maturity, así que el orden sale del índice
+ * y el id solo desempata las posiciones que vencen el mismo día. Las posiciones que se vencen
+ * salen del recorrido (dejan de estar ACTIVE) y sus reinversiones entran con una fecha de
+ * vencimiento posterior al cursor: si también vencieron hasta through, se procesan en el
+ * mismo recorrido.
+ */
+public class InvestmentMaturityRepositoryMySQL extends InvestmentMaturityRepositoryAbstract {
+
+    private static final String SQL_DUE_FIRST = """
+        SELECT id, account_id, maturity_date
+        FROM investment_details
+        WHERE status = ? AND maturity_date <= ?
+        ORDER BY maturity_date, id
+        LIMIT ?
+    """;
+
+    private static final String SQL_DUE_NEXT = """
+        SELECT id, account_id, maturity_date
+        FROM investment_details
+        WHERE status = ? AND maturity_date <= ?
+          AND (maturity_date > ? OR (maturity_date = ? AND id > ?))
+        ORDER BY maturity_date, id
+        LIMIT ?
+    """;
+
+    // Varias posiciones de una cuenta comparten su fila de accounts, que el trigger de cada ingreso
+    // de interés actualiza; se bloquean posiciones y cuenta juntas, en orden de cuenta
+    private static final String SQL_LOCK_POSITIONS = """
+        SELECT i.id, i.account_id, i.instrument_type, i.term_days, i.principal_amount, i.annual_yield,
+               i.day_count_basis, i.start_date, i.maturity_date, i.status, i.auto_reinvest,
+               i.reinvest_term_days, i.reinvest_annual_yield
+        FROM investment_details i
+        JOIN accounts a ON a.id = i.account_id
+        WHERE i.id IN (%s)
+        ORDER BY i.account_id, i.id
+        FOR UPDATE
+    """;
+
+    private static final String SQL_MATURE = """
+        UPDATE investment_details
+        SET status = ?, matured_at = ?
+        WHERE id = ? AND status = ?
+    """;
+
+    private static final String SQL_REINVEST = """
+        INSERT INTO investment_details
+            (account_id, instrument_type, term_days, principal_amount, annual_yield,
+             day_count_basis, start_date, maturity_date, status, auto_reinvest,
+             reinvest_term_days, reinvest_annual_yield, opened_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    public InvestmentMaturityRepositoryMySQL(DatabaseConnectionInterface databaseConnection, TransactionRepositoryAbstract transactions) {
+        this(databaseConnection, transactions, new AccountChangeNotifier());
+    }
+
+    public InvestmentMaturityRepositoryMySQL(DatabaseConnectionInterface databaseConnection, TransactionRepositoryAbstract transactions,
+                                             AccountChangeNotifier accountChanges) {
+        super(databaseConnection, transactions, accountChanges);
+    }
+
+    @Override
+    public List<InvestmentMaturityKey> getDuePositions(LocalDate through, InvestmentMaturityKey after, int limit) {
+        Objects.requireNonNull(through, "La fecha de vencimiento no puede ser nula");
+        Objects.requireNonNull(after, "El cursor no puede ser nulo");
+
+        boolean first = after.maturityDate() == null;
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(first ? SQL_DUE_FIRST : SQL_DUE_NEXT)) {
+
+            stmt.setString(1, InvestmentStatus.ACTIVE.getValue());
+            stmt.setDate(2, Date.valueOf(through));
+            if (first) {
+                stmt.setInt(3, limit);
+            } else {
+                stmt.setDate(3, Date.valueOf(after.maturityDate()));
+                stmt.setDate(4, Date.valueOf(after.maturityDate()));
+                stmt.setLong(5, after.id());
+                stmt.setInt(6, limit);
+            }
+
+            List<InvestmentMaturityKey> keys = new ArrayList<>(limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    keys.add(new InvestmentMaturityKey(rs.getDate("maturity_date").toLocalDate(),
+                            rs.getLong("id"), rs.getLong("account_id")));
+                }
+            }
+            return keys;
+
+        } catch (SQLException e) {
+            logger.error("Error al obtener inversiones vencidas: " + e.getMessage(), e);
+            throw new InvestmentMaturityExceptions.RetrievalException("Error al obtener las inversiones vencidas", e);
+        }
+    }
+
+    @Override
+    public InvestmentMaturityReport maturePositions(List<InvestmentMaturityKey> positions, InvestmentMaturityCalculator calculator) {
+        InvestmentMaturityReport report = new InvestmentMaturityReport();
+        if (positions.isEmpty()) return report;
+
+        Map<Long, LocalDate> expected = new HashMap<>();
+        for (InvestmentMaturityKey key : positions) {
+            expected.put(key.id(), key.maturityDate());
+        }
+        String sql = SQL_LOCK_POSITIONS.formatted(String.join(", ", Collections.nCopies(positions.size(), "?")));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            Connection conn = scope.getConnection();
+
+            List<InvestmentPosition> due = new ArrayList<>(positions.size());
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (InvestmentMaturityKey key : positions) {
+                    stmt.setLong(index++, key.id());
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        InvestmentPosition position = mapResultSetToPosition(rs);
+                        // Otro proceso la venció, o se canceló o cambió de fecha después de leer la página
+                        if (!InvestmentStatus.ACTIVE.getValue().equals(position.status())
+                                || !position.maturityDate().equals(expected.get(position.id()))) {
+                            report.skipped();
+                        } else {
+                            due.add(position);
+                        }
+                    }
+                }
+            }
+
+            List<Transaction> incomes = new ArrayList<>();
+            List<InvestmentPosition> reinvestments = new ArrayList<>();
+            Set<Long> maturedAccounts = new LinkedHashSet<>();
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_MATURE)) {
+                for (InvestmentPosition position : due) {
+                    maturedAccounts.add(position.accountId());
+                    BigDecimal interest = calculator.interestFor(position);
+                    if (interest.signum() > 0) {
+                        incomes.add(calculator.toTransaction(position, interest));
+                    }
+                    if (position.autoReinvest()) {
+                        reinvestments.add(calculator.reinvest(position, interest));
+                    }
+                    report.matured(interest);
+
+                    stmt.setString(1, InvestmentStatus.MATURED.getValue());
+                    stmt.setTimestamp(2, now);
+                    stmt.setLong(3, position.id());
+                    stmt.setString(4, InvestmentStatus.ACTIVE.getValue());
+                    stmt.addBatch();
+                }
+                if (!due.isEmpty()) {
+                    stmt.executeBatch();
+                }
+            }
+
+            if (!reinvestments.isEmpty()) {
+                try (PreparedStatement stmt = conn.prepareStatement(SQL_REINVEST)) {
+                    for (InvestmentPosition position : reinvestments) {
+                        setReinvestParameters(stmt, position, now);
+                        stmt.addBatch();
+                        report.reinvested();
+                    }
+                    stmt.executeBatch();
+                }
+            }
+            transactions.createTransactions(incomes, scope);
+            // El ingreso solo avisa de su cuenta; las posiciones sin interés o reinvertidas también la cambian
+            accountChanges.accountsChangedAfterCommit(scope, maturedAccounts.toArray(Long[]::new));
+
+            scope.commit();
+            return report;
+
+        } catch (SQLException | RuntimeException e) {
+            logger.error("Error al vencer " + positions.size() + " inversiones: " + e.getMessage(), e);
+            throw new InvestmentMaturityExceptions.MaturityException("Error al vencer las inversiones", e);
+        }
+    }
+
+    private void setReinvestParameters(PreparedStatement stmt, InvestmentPosition position, Timestamp openedAt) throws SQLException {
+        stmt.setLong(1, position.accountId());
+        stmt.setString(2, position.instrumentType());
+        stmt.setInt(3, position.termDays());
+        stmt.setBigDecimal(4, position.principal());
+        stmt.setBigDecimal(5, position.annualYield());
+        stmt.setInt(6, position.dayCountBasis());
+        stmt.setDate(7, Date.valueOf(position.startDate()));
+        stmt.setDate(8, Date.valueOf(position.maturityDate()));
+        stmt.setString(9, position.status());
+        stmt.setBoolean(10, position.autoReinvest());
+        if (position.reinvestTermDays() != null) stmt.setInt(11, position.reinvestTermDays()); else stmt.setNull(11, Types.INTEGER);
+        if (position.reinvestAnnualYield() != null) stmt.setBigDecimal(12, position.reinvestAnnualYield()); else stmt.setNull(12, Types.DECIMAL);
+        stmt.setTimestamp(13, openedAt);
+    }
+
+    private InvestmentPosition mapResultSetToPosition(ResultSet rs) throws SQLException {
+        int termDays = rs.getInt("term_days");
+        Integer term = rs.wasNull() ? null : termDays;
+        int reinvestTermDays = rs.getInt("reinvest_term_days");
+        Integer reinvestTerm = rs.wasNull() ? null : reinvestTermDays;
+        return new InvestmentPosition(
+            rs.getLong("id"),
+            rs.getLong("account_id"),
+            rs.getString("instrument_type"),
+            term,
+            rs.getBigDecimal("principal_amount"),
+            rs.getBigDecimal("annual_yield"),
+            rs.getInt("day_count_basis"),
+            rs.getDate("start_date").toLocalDate(),
+            rs.getDate("maturity_date").toLocalDate(),
+            rs.getString("status"),
+            rs.getBoolean("auto_reinvest"),
+            reinvestTerm,
+            rs.getBigDecimal("reinvest_annual_yield")
+        );
+    }
+}
@@ -0,0 +1,173 @@
+package com.giozar04.investmentMaturities.test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
+import com.giozar04.databases.infrastructure.repositories.DatabaseConnectionMySQL;
+import com.giozar04.investmentMaturities.application.services.InvestmentMaturityService;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityOptions;
+import com.giozar04.investmentMaturities.domain.models.InvestmentMaturityReport;
+import com.giozar04.investmentMaturities.infrastructure.repositories.InvestmentMaturityRepositoryMySQL;
+import com.giozar04.monthlySummaries.infrastructure.repositories.MonthlySummaryRepositoryMySQL;
+import com.giozar04.transactions.infrastructure.repositories.TransactionRepositoryMySQL;
+
+/**
+ * Mide el vencimiento de inversiones contra la base de datos local: crea cuentas de inversión
+ * de prueba para el usuario indicado, les abre posiciones ya vencidas (por defecto un millón,
+ * la mitad con reinversión automática), las vence y después repite el proceso, que no debe
+ * vencer nada. Al terminar elimina las cuentas, sus posiciones y sus ingresos, y reconstruye
+ * los resúmenes mensuales.
+ *
+ * Uso: InvestmentMaturityBenchmarkApp idUsuario [posiciones] [cuentas] [hilos] [posicionesPorPágina]
+ */
+public class InvestmentMaturityBenchmarkApp {
+
+    private static final String DB_HOST = "localhost";
+    private static final String DB_PORT = "3306";
+    private static final String DB_NAME = "finanzas";
+    private static final String DB_USER = "giovanni";
+    private static final String DB_PASSWORD = "finanzas123";
+
+    private static final String ACCOUNT_NAME = "Prueba de vencimientos";
+    private static final int TERM_DAYS = 28;
+    private static final int INSERT_CHUNK = 5_000;
+
+    private static final String SQL_INSERT_ACCOUNT =
+        "INSERT INTO accounts (user_id, name, type, current_balance) VALUES (?, ?, 'INVESTMENT', 0)";
+
+    private static final String SQL_INSERT_POSITION = """
+        INSERT INTO investment_details
+            (account_id, instrument_type, term_days, principal_amount, annual_yield, day_count_basis,
+             start_date, maturity_date, status, auto_reinvest, reinvest_term_days, reinvest_annual_yield)
+        VALUES (?, 'CETES', ?, ?, ?, 360, ?, ?, 'ACTIVE', ?, ?, ?)
+    """;
+
+    public static void main(String[] args) throws SQLException {
+        if (args.length < 1) {
+            System.out.println("Uso: InvestmentMaturityBenchmarkApp idUsuario [posiciones] [cuentas] [hilos] [posicionesPorPágina]");
+            return;
+        }
+        long userId = Long.parseLong(args[0]);
+        int positions = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int accounts = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        InvestmentMaturityOptions options = new InvestmentMaturityOptions();
+        if (args.length > 3) options.setThreads(Integer.parseInt(args[3]));
+        if (args.length > 4) options.setBatchSize(Integer.parseInt(args[4]));
+
+        DatabaseConnectionInterface dbConnection = DatabaseConnectionMySQL.getInstance(
+            DB_HOST, DB_PORT, DB_NAME, DB_USER, DB_PASSWORD
+        );
+        dbConnection.connect();
+        MonthlySummaryRepositoryMySQL monthlySummaries = new MonthlySummaryRepositoryMySQL(dbConnection);
+        TransactionRepositoryMySQL transactions = new TransactionRepositoryMySQL(
+            dbConnection, new AccountChangeNotifier(), monthlySummaries
+        );
+        InvestmentMaturityService service = new InvestmentMaturityService(
+            new InvestmentMaturityRepositoryMySQL(dbConnection, transactions), options
+        );
+        LocalDate today = LocalDate.now(options.getZone());
+        List<Long> accountIds = new ArrayList<>(accounts);
+
+        try {
+            long start = System.nanoTime();
+            createAccounts(dbConnection, userId, accounts, accountIds);
+            seedPositions(dbConnection, accountIds, positions, today);
+            System.out.printf("Creadas %d posiciones en %d cuentas en %.1f s%n",
+                    positions, accounts, (System.nanoTime() - start) / 1e9);
+
+            InvestmentMaturityReport report = service.mature(today);
+            System.out.println(report);
+            System.out.printf("%.0f posiciones/s con %d hilos y páginas de %d%n",
+                    report.getProcessed() / Math.max(report.getElapsedMillis() / 1000.0, 0.001),
+                    options.getThreads(), options.getBatchSize());
+
+            InvestmentMaturityReport again = service.mature(today);
+            System.out.println("Segunda ejecución (no debe vencer nada): " + again);
+        } finally {
+            System.out.println("Eliminando " + accountIds.size() + " cuentas de prueba...");
+            deleteAccounts(dbConnection, accountIds);
+            System.out.println("Resúmenes mensuales reconstruidos: " + monthlySummaries.rebuildMonthlySummaries() + " filas");
+            dbConnection.disconnect();
+        }
+    }
+
+    private static void createAccounts(DatabaseConnectionInterface dbConnection, long userId, int count,
+                                       List<Long> accountIds) throws SQLException {
+        try (TransactionScope scope = dbConnection.beginTransaction();
+             PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_INSERT_ACCOUNT, Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 1; i <= count; i++) {
+                stmt.setLong(1, userId);
+                stmt.setString(2, ACCOUNT_NAME + " " + i);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                while (keys.next()) {
+                    accountIds.add(keys.getLong(1));
+                }
+            }
+            scope.commit();
+        }
+    }
+
+    /**
+     * Vencimientos repartidos en los últimos TERM_DAYS días, así que las reinversiones vencen
+     * después de hoy y el proceso vence exactamente las posiciones creadas.
+     */
+    private static void seedPositions(DatabaseConnectionInterface dbConnection, List<Long> accountIds,
+                                      int count, LocalDate today) throws SQLException {
+        BigDecimal yield = new BigDecimal("0.110000");
+        for (int from = 0; from < count; from += INSERT_CHUNK) {
+            try (TransactionScope scope = dbConnection.beginTransaction();
+                 PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_INSERT_POSITION)) {
+                for (int i = from; i < Math.min(from + INSERT_CHUNK, count); i++) {
+                    LocalDate maturity = today.minusDays(i % TERM_DAYS);
+                    stmt.setLong(1, accountIds.get(i % accountIds.size()));
+                    stmt.setInt(2, TERM_DAYS);
+                    stmt.setBigDecimal(3, BigDecimal.valueOf(1_000 + i % 9_000));
+                    stmt.setBigDecimal(4, yield);
+                    stmt.setDate(5, Date.valueOf(maturity.minusDays(TERM_DAYS)));
+                    stmt.setDate(6, Date.valueOf(maturity));
+                    stmt.setBoolean(7, i % 2 == 0);
+                    stmt.setInt(8, TERM_DAYS);
+                    stmt.setBigDecimal(9, yield);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                scope.commit();
+            }
+        }
+    }
+
+    private static void deleteAccounts(DatabaseConnectionInterface dbConnection, List<Long> accountIds) throws SQLException {
+        for (int from = 0; from < accountIds.size(); from += 500) {
+            List<Long> ids = accountIds.subList(from, Math.min(from + 500, accountIds.size()));
+            String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            try (TransactionScope scope = dbConnection.beginTransaction()) {
+                Connection conn = scope.getConnection();
+                for (String sql : List.of("DELETE FROM transactions WHERE destination_account_id IN (" + in + ")",
+                                          "DELETE FROM accounts WHERE id IN (" + in + ")")) {
+                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                        for (int i = 0; i < ids.size(); i++) {
+                            stmt.setLong(i + 1, ids.get(i));
+                        }
+                        stmt.executeUpdate();
+                    }
+                }
+                scope.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.giozar04.jobs.application.services;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.giozar04.logging.CustomLogger;
+
+/**
+ * Ejecuta un proceso una vez al día a la hora indicada.
+ *
+ * Cada ejecución programa la siguiente para la misma hora del día siguiente (y no cada 24
+ * horas), así que los cambios de horario no la recorren. Un error en una ejecución se
+ * registra y no cancela las siguientes; los procesos que se programan aquí deben recuperar
+ * en la siguiente ejecución lo que quedó pendiente.
+ */
+public class DailyJobScheduler {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    private final String description;
+    private final Runnable job;
+    private final LocalTime runAt;
+    private final ZoneId zone;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param name Prefijo del nombre del hilo del planificador.
+     * @param description Nombre del proceso en el registro, p. ej. "estados de cuenta".
+     * @param job Proceso que se ejecuta cada día.
+     * @param runAt Hora del día a la que se ejecuta, en zone.
+     */
+    public DailyJobScheduler(String name, String description, Runnable job, LocalTime runAt, ZoneId zone) {
+        this.description = description;
+        this.job = job;
+        this.runAt = runAt;
+        this.zone = zone;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, name + "-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        scheduleNext();
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void scheduleNext() {
+        ZonedDateTime now = ZonedDateTime.now(zone);
+        ZonedDateTime next = now.with(runAt);
+        if (!next.isAfter(now)) {
+            next = now.plusDays(1).with(runAt);
+        }
+        scheduler.schedule(this::runAndReschedule, Duration.between(now, next).toMillis(), TimeUnit.MILLISECONDS);
+        LOGGER.info("Siguiente ejecución programada (" + description + "): " + next.toLocalDateTime());
+    }
+
+    private void runAndReschedule() {
+        try {
+            job.run();
+        } catch (RuntimeException e) {
+            LOGGER.error("Error en la ejecución programada (" + description + ")", e);
+        } finally {
+            if (!scheduler.isShutdown()) {
+                scheduleNext();
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.giozar04.jobs.application.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Recorre por páginas de batchSize las llaves que devuelve un PageReader y procesa cada página
+ * en threads hilos.
+ *
+ * El hilo que llama lee la página siguiente a partir de la última llave de la anterior y la
+ * envía a los hilos; como mucho hay 2 * threads bloques en proceso, así que la lectura no se
+ * adelanta al registro. Los resultados se entregan en el orden en que se enviaron los bloques.
+ *
+ * Con laneKey cada página se reparte entre threads carriles de un solo hilo según
+ * laneKey mod threads: las llaves con el mismo valor siempre van al mismo hilo y se procesan
+ * en orden, así que dos hilos nunca trabajan sobre el mismo valor a la vez. Sin laneKey cada
+ * página es un bloque y la toma el primer hilo libre.
+ *
+ * @param <K> Llave de paginación; la última de cada página es el cursor de la siguiente.
+ */
+public class PagedBatchRunner<K> {
+
+    /** Lee hasta limit llaves posteriores a after, en orden. */
+    @FunctionalInterface
+    public interface PageReader<K> {
+        List<K> read(K after, int limit);
+    }
+
+    private final String name;
+    private final int threads;
+    private final int batchSize;
+    private final ToLongFunction<K> laneKey;
+
+    /**
+     * @param name Prefijo del nombre de los hilos.
+     */
+    public PagedBatchRunner(String name, int threads, int batchSize) {
+        this(name, threads, batchSize, null);
+    }
+
+    /**
+     * @param name Prefijo del nombre de los hilos.
+     * @param laneKey Valor que decide el carril de cada llave.
+     */
+    public PagedBatchRunner(String name, int threads, int batchSize, ToLongFunction<K> laneKey) {
+        if (threads <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("threads y batchSize deben ser mayores que cero");
+        }
+        this.name = name;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.laneKey = laneKey;
+    }
+
+    /**
+     * Procesa todas las páginas a partir de start.
+     *
+     * @param block Procesa un bloque en uno de los hilos. No debería lanzar: un bloque que falla
+     *        debe devolver su resultado de error para que los demás sigan.
+     * @param results Recibe, en el hilo que llama, el resultado de cada bloque.
+     * @throws ExecutionException Si un bloque lanzó; los bloques pendientes se cancelan.
+     * @throws InterruptedException Si se interrumpe el hilo que llama.
+     */
+    public <R> void run(K start, PageReader<K> pages, Function<List<K>, R> block, Consumer<R> results)
+            throws ExecutionException, InterruptedException {
+        int laneCount = laneKey == null ? 1 : threads;
+        int maxInFlight = threads * 2;
+
+        ThreadFactory threadFactory = threadFactory();
+        List<ExecutorService> lanes = new ArrayList<>(laneCount);
+        if (laneKey == null) {
+            lanes.add(Executors.newFixedThreadPool(threads, threadFactory));
+        } else {
+            for (int i = 0; i < laneCount; i++) {
+                lanes.add(Executors.newSingleThreadExecutor(threadFactory));
+            }
+        }
+        Deque<Future<R>> inFlight = new ArrayDeque<>(maxInFlight + laneCount);
+        try {
+            K cursor = start;
+            List<K> page;
+            while (!(page = pages.read(cursor, batchSize)).isEmpty()) {
+                cursor = page.get(page.size() - 1);
+                List<List<K>> parts = laneKey == null ? List.of(page) : partition(page, laneCount);
+                for (int lane = 0; lane < laneCount; lane++) {
+                    List<K> part = parts.get(lane);
+                    if (part.isEmpty()) continue;
+                    inFlight.add(lanes.get(lane).submit(() -> block.apply(part)));
+                }
+                while (inFlight.size() >= maxInFlight) {
+                    results.accept(inFlight.poll().get());
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                results.accept(inFlight.poll().get());
+            }
+        } finally {
+            lanes.forEach(ExecutorService::shutdownNow);
+        }
+    }
+
+    private List<List<K>> partition(List<K> page, int lanes) {
+        List<List<K>> parts = new ArrayList<>(lanes);
+        for (int i = 0; i < lanes; i++) {
+            parts.add(new ArrayList<>(page.size() / lanes + 1));
+        }
+        for (K key : page) {
+            parts.get((int) Math.floorMod(laneKey.applyAsLong(key), (long) lanes)).add(key);
+        }
+        return parts;
+    }
+
+    private ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
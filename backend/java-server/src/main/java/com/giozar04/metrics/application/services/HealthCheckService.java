@@ -0,0 +1,76 @@
+package com.giozar04.metrics.application.services;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.servers.domain.exceptions.ServerOperationException;
+import com.giozar04.servers.domain.models.ServerAbstract;
+
+/**
+ * Estado de la base de datos y del servidor para /health y /ready.
+ *
+ * Validar la base de datos toma una conexión del pool, así que el resultado se reutiliza
+ * durante CACHE_SECONDS: aunque el orquestador consulte seguido, el pool presta a lo más una
+ * conexión por intervalo a las verificaciones.
+ */
+public class HealthCheckService {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    private static final long CACHE_SECONDS = 5;
+
+    private final DatabaseConnectionInterface database;
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean databaseUp;
+    private long checkedAtNanos;
+    private boolean checked;
+
+    public HealthCheckService(DatabaseConnectionInterface database) {
+        this.database = database;
+    }
+
+    /**
+     * @return true si la base de datos respondió a la última validación.
+     */
+    public boolean isDatabaseUp() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            if (!checked || now - checkedAtNanos >= TimeUnit.SECONDS.toNanos(CACHE_SECONDS)) {
+                databaseUp = validateDatabase();
+                checkedAtNanos = now;
+                checked = true;
+            }
+            return databaseUp;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return true si el servidor acepta conexiones.
+     */
+    public boolean isServerUp(ServerAbstract server) {
+        try {
+            return server.isServerRunning();
+        } catch (ServerOperationException e) {
+            return false;
+        }
+    }
+
+    private boolean validateDatabase() {
+        try {
+            boolean valid = database.isConnectionValid(VALIDATION_TIMEOUT_SECONDS);
+            if (!valid) {
+                LOGGER.warn("La base de datos no respondió a la verificación de salud");
+            }
+            return valid;
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.warn("Error al verificar la base de datos: " + e.getMessage());
+            return false;
+        }
+    }
+}
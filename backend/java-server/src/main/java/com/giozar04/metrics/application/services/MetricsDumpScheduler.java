@@ -0,0 +1,85 @@
+package com.giozar04.metrics.application.services;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.giozar04.json.codec.JsonWriter;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.servers.domain.models.ServerAbstract;
+
+/**
+ * Escribe cada cierto tiempo la instantánea de ServerMetricsService en un archivo JSON. El
+ * archivo se reemplaza completo en cada volcado (se escribe uno temporal y se renombra), así
+ * que quien lo lea nunca ve uno a medias.
+ */
+public class MetricsDumpScheduler {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    private final ServerMetricsService service;
+    private final ServerAbstract server;
+    private final Path file;
+    private final Duration interval;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "metrics-dump-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MetricsDumpScheduler(ServerMetricsService service, ServerAbstract server, Path file, Duration interval) {
+        if (interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("El intervalo de volcado debe ser mayor que cero");
+        }
+        this.service = service;
+        this.server = server;
+        this.file = file;
+        this.interval = interval;
+    }
+
+    public void start() {
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::dumpSafely, millis, millis, TimeUnit.MILLISECONDS);
+        LOGGER.info("Métricas del servidor en " + file.toAbsolutePath() + " cada " + interval.toSeconds() + " s");
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Escribe la instantánea actual en el archivo.
+     */
+    public void dump() throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            new JsonWriter(out).value(service.getSnapshot(server));
+            out.write('\n');
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void dumpSafely() {
+        try {
+            dump();
+        } catch (IOException | RuntimeException e) {
+            LOGGER.error("Error al escribir las métricas del servidor en " + file, e);
+        }
+    }
+}
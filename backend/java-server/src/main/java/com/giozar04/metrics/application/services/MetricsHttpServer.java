@@ -0,0 +1,69 @@
+package com.giozar04.metrics.application.services;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.metrics.infrastructure.controllers.MetricsHttpControllers;
+import com.giozar04.servers.domain.models.ServerAbstract;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Servidor HTTP aparte del protocolo de sockets, en su propio puerto, con /metrics (formato
+ * Prometheus), /health y /ready. Atiende en un solo hilo daemon propio: una consulta nunca
+ * ocupa un hilo de clientes ni de solicitudes.
+ */
+public class MetricsHttpServer {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    private final String host;
+    private final int port;
+    private final PrometheusMetricsService metricsService;
+    private final HealthCheckService healthService;
+    private final ServerAbstract server;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "metrics-http");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private HttpServer http;
+
+    public MetricsHttpServer(String host, int port, PrometheusMetricsService metricsService,
+            HealthCheckService healthService, ServerAbstract server) {
+        this.host = host;
+        this.port = port;
+        this.metricsService = metricsService;
+        this.healthService = healthService;
+        this.server = server;
+    }
+
+    public void start() throws IOException {
+        http = HttpServer.create(new InetSocketAddress(host, port), 0);
+        http.createContext(MetricsHttpControllers.Paths.METRICS,
+                MetricsHttpControllers.getMetricsController(metricsService, server));
+        http.createContext(MetricsHttpControllers.Paths.HEALTH,
+                MetricsHttpControllers.getHealthController(healthService));
+        http.createContext(MetricsHttpControllers.Paths.READY,
+                MetricsHttpControllers.getReadyController(healthService, server));
+        http.setExecutor(executor);
+        http.start();
+        LOGGER.info("Métricas y salud por HTTP en http://" + host + ":" + getPort());
+    }
+
+    /**
+     * @return Puerto en que escucha (el asignado por el sistema si se indicó 0).
+     */
+    public int getPort() {
+        return http != null ? http.getAddress().getPort() : port;
+    }
+
+    public void stop() {
+        if (http != null) {
+            http.stop(0);
+        }
+        executor.shutdownNow();
+    }
+}
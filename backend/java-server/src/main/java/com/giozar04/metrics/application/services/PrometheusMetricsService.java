@@ -0,0 +1,176 @@
+package com.giozar04.metrics.application.services;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+import com.giozar04.caches.domain.models.CacheRegistry;
+import com.giozar04.caches.domain.models.CacheStats;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.ConnectionPoolMetrics;
+import com.giozar04.databases.infrastructure.repositories.DatabaseConnectionMySQL;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.metrics.application.utils.PrometheusTextWriter;
+import com.giozar04.metrics.domain.models.MetricsRegistry;
+import com.giozar04.metrics.domain.models.OperationStats;
+import com.giozar04.servers.domain.exceptions.ServerOperationException;
+import com.giozar04.servers.domain.models.ServerAbstract;
+
+/**
+ * Expone en formato Prometheus lo mismo que GET_SERVER_METRICS: latencias por tipo de mensaje,
+ * por método de repositorio y por sentencia SQL (como summary con p50, p90, p99 y p999 en segundos), conexiones,
+ * pool de base de datos, cachés, registro y JVM (memoria, recolector y hilos).
+ *
+ * Solo lee contadores atómicos y copias de los histogramas, así que una consulta no bloquea ni
+ * retrasa a los hilos que atienden solicitudes.
+ */
+public class PrometheusMetricsService {
+
+    private static final String PREFIX = "finance_";
+    private static final double MICROS_PER_SECOND = 1_000_000.0;
+
+    private final DatabaseConnectionInterface database;
+
+    public PrometheusMetricsService(DatabaseConnectionInterface database) {
+        this.database = database;
+    }
+
+    public String scrape(ServerAbstract server) {
+        PrometheusTextWriter writer = new PrometheusTextWriter();
+        writeOperations(writer, "message", "type", "mensajes", MetricsRegistry.getMessageStats());
+        writeOperations(writer, "repository", "operation", "llamadas a repositorios",
+                MetricsRegistry.getRepositoryStats());
+        List<OperationStats> queries = MetricsRegistry.getQueryStats();
+        writeOperations(writer, "query", "statement", "sentencias SQL", queries);
+        writer.family(PREFIX + "query_rows_total", "counter", "Filas leídas por sentencia SQL");
+        for (OperationStats stat : queries) {
+            writer.sample(PREFIX + "query_rows_total", stat.getRows(), "statement", stat.getName());
+        }
+        writeConnections(writer, server);
+        writePool(writer);
+        writeCaches(writer);
+        writer.family(PREFIX + "logger_dropped_total", "counter", "Mensajes de registro descartados por buffer lleno")
+                .sample(PREFIX + "logger_dropped_total", CustomLogger.getInstance().getDroppedCount());
+        writeJvm(writer);
+        return writer.toString();
+    }
+
+    private static void writeOperations(PrometheusTextWriter writer, String kind, String label, String description,
+            List<OperationStats> stats) {
+        String duration = PREFIX + kind + "_duration_seconds";
+        writer.family(duration, "summary", "Latencia de " + description);
+        for (OperationStats stat : stats) {
+            String name = stat.getName();
+            writer.sample(duration, stat.getP50Micros() / MICROS_PER_SECOND, label, name, "quantile", "0.5")
+                    .sample(duration, stat.getP90Micros() / MICROS_PER_SECOND, label, name, "quantile", "0.9")
+                    .sample(duration, stat.getP99Micros() / MICROS_PER_SECOND, label, name, "quantile", "0.99")
+                    .sample(duration, stat.getP999Micros() / MICROS_PER_SECOND, label, name, "quantile", "0.999")
+                    .sample(duration + "_sum", stat.getTotalMicros() / MICROS_PER_SECOND, label, name)
+                    .sample(duration + "_count", stat.getCalls(), label, name);
+        }
+
+        String errors = PREFIX + kind + "_errors_total";
+        writer.family(errors, "counter", "Errores en " + description);
+        for (OperationStats stat : stats) {
+            writer.sample(errors, stat.getErrors(), label, stat.getName());
+        }
+
+        String inFlight = PREFIX + kind + "_in_flight";
+        writer.family(inFlight, "gauge", "En curso: " + description);
+        for (OperationStats stat : stats) {
+            writer.sample(inFlight, stat.getInFlight(), label, stat.getName());
+        }
+    }
+
+    private static void writeConnections(PrometheusTextWriter writer, ServerAbstract server) {
+        int connected;
+        try {
+            connected = server.getConnectedClientsCount();
+        } catch (ServerOperationException e) {
+            connected = -1;
+        }
+        writer.family(PREFIX + "connected_clients", "gauge", "Clientes conectados")
+                .sample(PREFIX + "connected_clients", connected);
+        writer.family(PREFIX + "connections_accepted_total", "counter", "Conexiones aceptadas desde el inicio")
+                .sample(PREFIX + "connections_accepted_total", server.getAcceptedConnectionsCount());
+    }
+
+    private void writePool(PrometheusTextWriter writer) {
+        if (!(database instanceof DatabaseConnectionMySQL mysql)) {
+            return;
+        }
+        ConnectionPoolMetrics pool = mysql.getPoolMetrics();
+        if (pool == null) {
+            return;
+        }
+        writer.family(PREFIX + "db_pool_connections", "gauge", "Conexiones del pool por estado")
+                .sample(PREFIX + "db_pool_connections", pool.getActive(), "state", "active")
+                .sample(PREFIX + "db_pool_connections", pool.getIdle(), "state", "idle");
+        writer.family(PREFIX + "db_pool_waiters", "gauge", "Hilos esperando una conexión del pool")
+                .sample(PREFIX + "db_pool_waiters", pool.getWaiters());
+        writer.family(PREFIX + "db_pool_borrows_total", "counter", "Conexiones prestadas por el pool")
+                .sample(PREFIX + "db_pool_borrows_total", pool.getBorrows());
+        writer.family(PREFIX + "db_pool_timeouts_total", "counter", "Esperas de conexión que agotaron el tiempo")
+                .sample(PREFIX + "db_pool_timeouts_total", pool.getTimeouts());
+        writer.family(PREFIX + "db_pool_connections_created_total", "counter", "Conexiones físicas abiertas")
+                .sample(PREFIX + "db_pool_connections_created_total", pool.getCreated());
+        writer.family(PREFIX + "db_pool_connections_closed_total", "counter", "Conexiones físicas cerradas")
+                .sample(PREFIX + "db_pool_connections_closed_total", pool.getClosed());
+        writer.family(PREFIX + "db_pool_max_wait_seconds", "gauge", "Mayor espera por una conexión desde el inicio")
+                .sample(PREFIX + "db_pool_max_wait_seconds", pool.getMaxWaitMillis() / 1000.0);
+    }
+
+    private static void writeCaches(PrometheusTextWriter writer) {
+        List<CacheStats> caches = CacheRegistry.getStats();
+        if (caches.isEmpty()) {
+            return;
+        }
+        writer.family(PREFIX + "cache_hits_total", "counter", "Aciertos de caché");
+        caches.forEach(stats -> writer.sample(PREFIX + "cache_hits_total", stats.getHits(), "cache", stats.getName()));
+        writer.family(PREFIX + "cache_misses_total", "counter", "Fallos de caché");
+        caches.forEach(stats -> writer.sample(PREFIX + "cache_misses_total", stats.getMisses(), "cache", stats.getName()));
+        writer.family(PREFIX + "cache_evictions_total", "counter", "Entradas desalojadas por tamaño");
+        caches.forEach(stats -> writer.sample(PREFIX + "cache_evictions_total", stats.getEvictions(),
+                "cache", stats.getName()));
+        writer.family(PREFIX + "cache_invalidations_total", "counter", "Entradas invalidadas por escrituras");
+        caches.forEach(stats -> writer.sample(PREFIX + "cache_invalidations_total", stats.getInvalidations(),
+                "cache", stats.getName()));
+        writer.family(PREFIX + "cache_size", "gauge", "Entradas en caché");
+        caches.forEach(stats -> writer.sample(PREFIX + "cache_size", stats.getSize(), "cache", stats.getName()));
+    }
+
+    private static void writeJvm(PrometheusTextWriter writer) {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        MemoryUsage nonHeap = ManagementFactory.getMemoryMXBean().getNonHeapMemoryUsage();
+        writer.family("jvm_memory_bytes_used", "gauge", "Memoria usada por área")
+                .sample("jvm_memory_bytes_used", heap.getUsed(), "area", "heap")
+                .sample("jvm_memory_bytes_used", nonHeap.getUsed(), "area", "nonheap");
+        writer.family("jvm_memory_bytes_committed", "gauge", "Memoria reservada por área")
+                .sample("jvm_memory_bytes_committed", heap.getCommitted(), "area", "heap")
+                .sample("jvm_memory_bytes_committed", nonHeap.getCommitted(), "area", "nonheap");
+        writer.family("jvm_memory_bytes_max", "gauge", "Memoria máxima por área (-1 sin límite)")
+                .sample("jvm_memory_bytes_max", heap.getMax(), "area", "heap")
+                .sample("jvm_memory_bytes_max", nonHeap.getMax(), "area", "nonheap");
+
+        List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+        writer.family("jvm_gc_collections_total", "counter", "Recolecciones por recolector");
+        for (GarbageCollectorMXBean gc : collectors) {
+            writer.sample("jvm_gc_collections_total", Math.max(gc.getCollectionCount(), 0), "gc", gc.getName());
+        }
+        writer.family("jvm_gc_collection_seconds_total", "counter", "Tiempo acumulado de recolección por recolector");
+        for (GarbageCollectorMXBean gc : collectors) {
+            writer.sample("jvm_gc_collection_seconds_total", Math.max(gc.getCollectionTime(), 0) / 1000.0,
+                    "gc", gc.getName());
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        writer.family("jvm_threads_current", "gauge", "Hilos vivos")
+                .sample("jvm_threads_current", threads.getThreadCount());
+        writer.family("jvm_threads_daemon", "gauge", "Hilos daemon vivos")
+                .sample("jvm_threads_daemon", threads.getDaemonThreadCount());
+        writer.family("process_uptime_seconds", "gauge", "Segundos desde el inicio del proceso")
+                .sample("process_uptime_seconds", ManagementFactory.getRuntimeMXBean().getUptime() / 1000.0);
+    }
+}
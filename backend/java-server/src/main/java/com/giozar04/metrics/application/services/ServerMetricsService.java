@@ -0,0 +1,153 @@
+package com.giozar04.metrics.application.services;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.giozar04.caches.domain.models.CacheRegistry;
+import com.giozar04.caches.domain.models.CacheStats;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.ConnectionPoolMetrics;
+import com.giozar04.databases.domain.models.SlowQuerySample;
+import com.giozar04.databases.infrastructure.repositories.DatabaseConnectionMySQL;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.metrics.domain.models.MetricsRegistry;
+import com.giozar04.metrics.domain.models.OperationStats;
+import com.giozar04.servers.domain.exceptions.ServerOperationException;
+import com.giozar04.servers.domain.models.ServerAbstract;
+
+/**
+ * Reúne en un solo mapa el estado del servidor: métricas por tipo de mensaje, por método de
+ * repositorio y por sentencia SQL (MetricsRegistry), consultas lentas con su plan, conexiones,
+ * pool de base de datos, cachés, registro y memoria.
+ * Es lo que devuelve GET_SERVER_METRICS y lo que MetricsDumpScheduler escribe en archivo.
+ *
+ * Los contadores y latencias son acumulados desde el inicio del servidor.
+ */
+public class ServerMetricsService {
+
+    private final DatabaseConnectionInterface database;
+
+    public ServerMetricsService(DatabaseConnectionInterface database) {
+        this.database = database;
+    }
+
+    public Map<String, Object> getSnapshot(ServerAbstract server) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("timestamp", ZonedDateTime.now());
+        snapshot.put("uptimeSeconds", ManagementFactory.getRuntimeMXBean().getUptime() / 1000);
+
+        Map<String, Object> connections = new LinkedHashMap<>();
+        connections.put("connected", connectedClients(server));
+        connections.put("accepted", server.getAcceptedConnectionsCount());
+        snapshot.put("connections", connections);
+        snapshot.put("messagesInFlight", MetricsRegistry.getMessagesInFlight());
+
+        snapshot.put("messages", toMaps(MetricsRegistry.getMessageStats()));
+        snapshot.put("repositories", toMaps(MetricsRegistry.getRepositoryStats()));
+        snapshot.put("queries", queryData());
+        snapshot.put("slowQueries", slowQueryData());
+        snapshot.put("databasePool", poolData());
+        snapshot.put("caches", cacheData());
+
+        Map<String, Object> logger = new LinkedHashMap<>();
+        logger.put("dropped", CustomLogger.getInstance().getDroppedCount());
+        snapshot.put("logger", logger);
+
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        Map<String, Object> jvm = new LinkedHashMap<>();
+        jvm.put("heapUsedBytes", heap.getUsed());
+        jvm.put("heapMaxBytes", heap.getMax());
+        jvm.put("threads", ManagementFactory.getThreadMXBean().getThreadCount());
+        snapshot.put("jvm", jvm);
+        return snapshot;
+    }
+
+    private static int connectedClients(ServerAbstract server) {
+        try {
+            return server.getConnectedClientsCount();
+        } catch (ServerOperationException e) {
+            return -1;
+        }
+    }
+
+    private static List<Map<String, Object>> toMaps(List<OperationStats> stats) {
+        List<Map<String, Object>> maps = new ArrayList<>(stats.size());
+        for (OperationStats stat : stats) {
+            maps.add(stat.toMap());
+        }
+        return maps;
+    }
+
+    private static List<Map<String, Object>> queryData() {
+        List<Map<String, Object>> queries = new ArrayList<>();
+        for (OperationStats stats : MetricsRegistry.getQueryStats()) {
+            Map<String, Object> query = stats.toMap();
+            query.put("rows", stats.getRows());
+            queries.add(query);
+        }
+        return queries;
+    }
+
+    private List<Map<String, Object>> slowQueryData() {
+        List<Map<String, Object>> slowQueries = new ArrayList<>();
+        if (!(database instanceof DatabaseConnectionMySQL mysql)) {
+            return slowQueries;
+        }
+        for (SlowQuerySample sample : mysql.getSlowQueries()) {
+            Map<String, Object> slowQuery = new LinkedHashMap<>();
+            slowQuery.put("name", sample.getName());
+            slowQuery.put("millis", TimeUnit.NANOSECONDS.toMillis(sample.getDurationNanos()));
+            slowQuery.put("occurredAt", sample.getOccurredAt());
+            slowQuery.put("sql", sample.getSql());
+            slowQuery.put("parameters", sample.getParameters());
+            slowQuery.put("plan", sample.getPlan());
+            slowQueries.add(slowQuery);
+        }
+        return slowQueries;
+    }
+
+    /**
+     * @return El estado del pool, o null si la conexión no usa pool o aún no se ha conectado.
+     */
+    private Map<String, Object> poolData() {
+        if (!(database instanceof DatabaseConnectionMySQL mysql)) {
+            return null;
+        }
+        ConnectionPoolMetrics metrics = mysql.getPoolMetrics();
+        if (metrics == null) {
+            return null;
+        }
+        Map<String, Object> pool = new LinkedHashMap<>();
+        pool.put("active", metrics.getActive());
+        pool.put("idle", metrics.getIdle());
+        pool.put("waiters", metrics.getWaiters());
+        pool.put("borrows", metrics.getBorrows());
+        pool.put("timeouts", metrics.getTimeouts());
+        pool.put("created", metrics.getCreated());
+        pool.put("closed", metrics.getClosed());
+        pool.put("maxWaitMillis", metrics.getMaxWaitMillis());
+        return pool;
+    }
+
+    private static List<Map<String, Object>> cacheData() {
+        List<Map<String, Object>> caches = new ArrayList<>();
+        for (CacheStats stats : CacheRegistry.getStats()) {
+            Map<String, Object> cache = new LinkedHashMap<>();
+            cache.put("name", stats.getName());
+            cache.put("hits", stats.getHits());
+            cache.put("misses", stats.getMisses());
+            cache.put("hitRatio", stats.getHitRatio());
+            cache.put("evictions", stats.getEvictions());
+            cache.put("invalidations", stats.getInvalidations());
+            cache.put("size", stats.getSize());
+            caches.add(cache);
+        }
+        return caches;
+    }
+}
@@ -0,0 +1,83 @@
+package com.giozar04.metrics.application.utils;
+
+/**
+ * Arma un documento en el formato de texto de Prometheus (versión 0.0.4): por cada familia una
+ * línea HELP, una TYPE y sus muestras, con las etiquetas escapadas.
+ *
+ * Uso:
+ *   writer.family("finance_connected_clients", "gauge", "Clientes conectados")
+ *         .sample("finance_connected_clients", 3);
+ */
+public final class PrometheusTextWriter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final StringBuilder out = new StringBuilder(8192);
+
+    /**
+     * @param type counter, gauge, summary o untyped.
+     */
+    public PrometheusTextWriter family(String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ');
+        appendEscaped(help, false);
+        out.append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        return this;
+    }
+
+    /**
+     * @param labels Pares nombre, valor.
+     */
+    public PrometheusTextWriter sample(String name, double value, String... labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Las etiquetas deben ir en pares nombre, valor");
+        }
+        out.append(name);
+        if (labels.length > 0) {
+            out.append('{');
+            for (int i = 0; i < labels.length; i += 2) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                out.append(labels[i]).append("=\"");
+                appendEscaped(labels[i + 1], true);
+                out.append('"');
+            }
+            out.append('}');
+        }
+        out.append(' ');
+        appendValue(value);
+        out.append('\n');
+        return this;
+    }
+
+    private void appendValue(double value) {
+        if (Double.isNaN(value)) {
+            out.append("NaN");
+        } else if (Double.isInfinite(value)) {
+            out.append(value > 0 ? "+Inf" : "-Inf");
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            // Contadores y tamaños sin ".0" ni notación científica
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+    }
+
+    private void appendEscaped(String text, boolean quotes) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '"' -> out.append(quotes ? "\\\"" : "\"");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return out.toString();
+    }
+}
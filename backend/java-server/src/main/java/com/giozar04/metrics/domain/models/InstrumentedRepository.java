@@ -0,0 +1,71 @@
+package com.giozar04.metrics.domain.models;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Envuelve un repositorio en un proxy de su interfaz que mide cada llamada en MetricsRegistry
+ * con el nombre "Interfaz.método" (por ejemplo "AccountRepository.getAccountById"). Los
+ * servicios reciben el proxy en lugar del repositorio, así que ninguno cambia.
+ *
+ * Una excepción del repositorio cuenta como error y se relanza sin envolver. Los métodos
+ * forEachXxx entregan las filas dentro de la llamada, así que su tiempo incluye el de escribir
+ * cada lote de la respuesta por partes.
+ */
+public final class InstrumentedRepository implements InvocationHandler {
+
+    private final Object target;
+    private final String prefix;
+    // Un OperationMetrics por método, para no armar el nombre en cada llamada
+    private final Map<Method, OperationMetrics> metrics = new ConcurrentHashMap<>();
+
+    private InstrumentedRepository(Object target, String prefix) {
+        this.target = target;
+        this.prefix = prefix;
+    }
+
+    /**
+     * @param type   Interfaz del repositorio; su nombre sin el sufijo "Interface" encabeza el
+     *               nombre de cada operación.
+     * @param target Repositorio que atiende las llamadas.
+     */
+    public static <T> T wrap(Class<T> type, T target) {
+        if (!type.isInterface()) {
+            throw new IllegalArgumentException(type.getName() + " no es una interfaz");
+        }
+        String name = type.getSimpleName();
+        String prefix = name.endsWith("Interface") ? name.substring(0, name.length() - "Interface".length()) : name;
+        return type.cast(Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] { type },
+                new InstrumentedRepository(target, prefix)));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "Instrumented[" + target + "]";
+            };
+        }
+        OperationMetrics operation = metrics.computeIfAbsent(method,
+                m -> MetricsRegistry.repository(prefix + "." + m.getName()));
+        long start = operation.start();
+        boolean failed = true;
+        try {
+            Object result = method.invoke(target, args);
+            failed = false;
+            return result;
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            operation.stop(start, failed);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.giozar04.metrics.domain.models;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro de las métricas del servidor por tipo de mensaje, por método de repositorio y por
+ * sentencia SQL, para consultarlas en un solo lugar (GET_SERVER_METRICS, /metrics y el volcado
+ * periódico a archivo).
+ *
+ * Las entradas se crean al primer uso y no se eliminan: sus nombres salen de los manejadores
+ * registrados, de las interfaces de repositorio y de las constantes SQL (o del método que arma
+ * una sentencia dinámica), así que su número está acotado.
+ */
+public final class MetricsRegistry {
+
+    private static final Map<String, OperationMetrics> MESSAGES = new ConcurrentHashMap<>();
+    private static final Map<String, OperationMetrics> REPOSITORIES = new ConcurrentHashMap<>();
+    private static final Map<String, OperationMetrics> QUERIES = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = true;
+
+    private MetricsRegistry() {
+    }
+
+    /**
+     * Con las métricas deshabilitadas el servidor no mide los mensajes; los repositorios se
+     * instrumentan (o no) al construirlos.
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static OperationMetrics message(String type) {
+        return MESSAGES.computeIfAbsent(type, OperationMetrics::new);
+    }
+
+    public static OperationMetrics repository(String operation) {
+        return REPOSITORIES.computeIfAbsent(operation, OperationMetrics::new);
+    }
+
+    public static OperationMetrics query(String statement) {
+        return QUERIES.computeIfAbsent(statement, OperationMetrics::new);
+    }
+
+    /** @return Las métricas de cada tipo de mensaje, por nombre. */
+    public static List<OperationStats> getMessageStats() {
+        return stats(MESSAGES);
+    }
+
+    /** @return Las métricas de cada método de repositorio, por nombre. */
+    public static List<OperationStats> getRepositoryStats() {
+        return stats(REPOSITORIES);
+    }
+
+    /** @return Las métricas de cada sentencia SQL, por nombre. */
+    public static List<OperationStats> getQueryStats() {
+        return stats(QUERIES);
+    }
+
+    /** @return Mensajes que se están procesando en este momento, de todos los tipos. */
+    public static int getMessagesInFlight() {
+        int total = 0;
+        for (OperationMetrics metrics : MESSAGES.values()) {
+            total += metrics.getInFlight();
+        }
+        return total;
+    }
+
+    private static List<OperationStats> stats(Map<String, OperationMetrics> metrics) {
+        return metrics.values().stream()
+                .map(OperationMetrics::getStats)
+                .sorted(Comparator.comparing(OperationStats::getName))
+                .toList();
+    }
+}
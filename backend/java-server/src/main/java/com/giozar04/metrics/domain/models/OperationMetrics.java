@@ -0,0 +1,69 @@
+package com.giozar04.metrics.domain.models;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de una operación (un tipo de mensaje, un método de repositorio o una sentencia
+ * SQL): llamadas, errores, llamadas en curso, filas leídas e histograma de latencias. Todos son
+ * atómicos y sin locks.
+ *
+ * Uso:
+ *   long start = metrics.start();
+ *   boolean failed = true;
+ *   try { ...; failed = false; } finally { metrics.stop(start, failed); }
+ */
+public final class OperationMetrics {
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rows = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public OperationMetrics(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return Marca de tiempo que se pasa a stop().
+     */
+    public long start() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * @return Duración de la llamada en nanosegundos.
+     */
+    public long stop(long startNanos, boolean failed) {
+        long elapsed = System.nanoTime() - startNanos;
+        latency.record(elapsed);
+        calls.increment();
+        if (failed) {
+            errors.increment();
+        }
+        inFlight.decrementAndGet();
+        return elapsed;
+    }
+
+    /**
+     * Suma filas leídas; solo las sentencias SQL las cuentan.
+     */
+    public void addRows(long count) {
+        rows.add(count);
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public OperationStats getStats() {
+        return new OperationStats(name, calls.sum(), errors.sum(), inFlight.get(), rows.sum(), latency.snapshot());
+    }
+}
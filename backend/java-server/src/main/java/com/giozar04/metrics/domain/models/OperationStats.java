@@ -0,0 +1,118 @@
+package com.giozar04.metrics.domain.models;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Instantánea inmutable de las métricas de una operación. Las latencias están en
+ * microsegundos.
+ */
+public class OperationStats {
+
+    private final String name;
+    private final long calls;
+    private final long errors;
+    private final int inFlight;
+    private final long rows;
+    private final long totalMicros;
+    private final double meanMicros;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long p999Micros;
+    private final long maxMicros;
+
+    public OperationStats(String name, long calls, long errors, int inFlight, long rows,
+            LatencyHistogram.Snapshot latency) {
+        this.name = name;
+        this.calls = calls;
+        this.errors = errors;
+        this.inFlight = inFlight;
+        this.rows = rows;
+        this.totalMicros = latency.getTotalMicros();
+        this.meanMicros = latency.getMeanMicros();
+        this.p50Micros = latency.getPercentileMicros(50);
+        this.p90Micros = latency.getPercentileMicros(90);
+        this.p99Micros = latency.getPercentileMicros(99);
+        this.p999Micros = latency.getPercentileMicros(99.9);
+        this.maxMicros = latency.getMaxMicros();
+    }
+
+    /** @return Tipo de mensaje o método de repositorio. */
+    public String getName() {
+        return name;
+    }
+
+    /** @return Llamadas terminadas desde el inicio. */
+    public long getCalls() {
+        return calls;
+    }
+
+    /** @return Llamadas que terminaron con error. */
+    public long getErrors() {
+        return errors;
+    }
+
+    /** @return Llamadas en curso en este momento. */
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    /** @return Filas leídas de los resultados (solo sentencias SQL). */
+    public long getRows() {
+        return rows;
+    }
+
+    /** @return Suma de las latencias de las llamadas terminadas. */
+    public long getTotalMicros() {
+        return totalMicros;
+    }
+
+    public double getMeanMicros() {
+        return meanMicros;
+    }
+
+    public long getP50Micros() {
+        return p50Micros;
+    }
+
+    public long getP90Micros() {
+        return p90Micros;
+    }
+
+    public long getP99Micros() {
+        return p99Micros;
+    }
+
+    public long getP999Micros() {
+        return p999Micros;
+    }
+
+    public long getMaxMicros() {
+        return maxMicros;
+    }
+
+    /**
+     * @return Los valores con los nombres de campo de GET_SERVER_METRICS.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("name", name);
+        map.put("calls", calls);
+        map.put("errors", errors);
+        map.put("inFlight", inFlight);
+        map.put("meanMicros", Math.round(meanMicros));
+        map.put("p50Micros", p50Micros);
+        map.put("p90Micros", p90Micros);
+        map.put("p99Micros", p99Micros);
+        map.put("p999Micros", p999Micros);
+        map.put("maxMicros", maxMicros);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[calls=%d, errors=%d, inFlight=%d, mean=%.0fµs, p50=%dµs, p99=%dµs, max=%dµs]",
+                name, calls, errors, inFlight, meanMicros, p50Micros, p99Micros, maxMicros);
+    }
+}
@@ -0,0 +1,99 @@
+package com.giozar04.metrics.infrastructure.controllers;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.metrics.application.services.HealthCheckService;
+import com.giozar04.metrics.application.services.PrometheusMetricsService;
+import com.giozar04.metrics.application.utils.PrometheusTextWriter;
+import com.giozar04.servers.domain.models.ServerAbstract;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+public class MetricsHttpControllers {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+    private static final String JSON = "application/json; charset=utf-8";
+
+    public static final class Paths {
+        public static final String METRICS = "/metrics";
+        public static final String HEALTH = "/health";
+        public static final String READY = "/ready";
+    }
+
+    public static HttpHandler getMetricsController(PrometheusMetricsService service, ServerAbstract server) {
+        return exchange -> {
+            if (!isRead(exchange)) {
+                return;
+            }
+            try {
+                send(exchange, 200, PrometheusTextWriter.CONTENT_TYPE, service.scrape(server));
+            } catch (RuntimeException e) {
+                LOGGER.error("Error al generar las métricas de Prometheus", e);
+                send(exchange, 500, JSON, "{\"status\":\"ERROR\"}");
+            }
+        };
+    }
+
+    /** 200 si la base de datos responde; 503 si no. */
+    public static HttpHandler getHealthController(HealthCheckService service) {
+        return exchange -> {
+            if (!isRead(exchange)) {
+                return;
+            }
+            boolean database = service.isDatabaseUp();
+            send(exchange, database ? 200 : 503, JSON,
+                    "{\"status\":\"" + status(database) + "\",\"database\":\"" + status(database) + "\"}");
+        };
+    }
+
+    /** 200 si el servidor acepta conexiones y la base de datos responde; 503 si no. */
+    public static HttpHandler getReadyController(HealthCheckService service, ServerAbstract server) {
+        return exchange -> {
+            if (!isRead(exchange)) {
+                return;
+            }
+            boolean serverUp = service.isServerUp(server);
+            boolean database = service.isDatabaseUp();
+            boolean ready = serverUp && database;
+            send(exchange, ready ? 200 : 503, JSON,
+                    "{\"status\":\"" + status(ready) + "\",\"server\":\"" + status(serverUp)
+                    + "\",\"database\":\"" + status(database) + "\"}");
+        };
+    }
+
+    private static String status(boolean up) {
+        return up ? "UP" : "DOWN";
+    }
+
+    /**
+     * @return false (y responde 405) si la solicitud no es GET ni HEAD.
+     */
+    private static boolean isRead(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+        exchange.sendResponseHeaders(405, -1);
+        exchange.close();
+        return false;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+            return;
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.giozar04.metrics.infrastructure.controllers;
+
+import java.util.Map;
+
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.metrics.application.services.ServerMetricsService;
+import com.giozar04.servers.domain.handlers.MessageHandler;
+import com.giozar04.servers.domain.models.ClientConnection;
+import com.giozar04.servers.domain.models.ServerAbstract;
+
+public class ServerMetricsControllers {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    public static final class MessageTypes {
+        public static final String GET = "GET_SERVER_METRICS";
+    }
+
+    public static MessageHandler getServerMetricsController(ServerMetricsService service, ServerAbstract server) {
+        return (ClientConnection client, Message message) -> {
+            LOGGER.debug("Obteniendo métricas del servidor...");
+            Message response = Message.createSuccessMessage(MessageTypes.GET, "Métricas del servidor obtenidas");
+            for (Map.Entry<String, Object> entry : service.getSnapshot(server).entrySet()) {
+                response.addData(entry.getKey(), entry.getValue());
+            }
+            return response;
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.giozar04.metrics.infrastructure.handlers;
+
+import com.giozar04.metrics.application.services.ServerMetricsService;
+import com.giozar04.metrics.infrastructure.controllers.ServerMetricsControllers;
+import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
+
+public class ServerMetricsHandlers implements ServerRegisterHandlers {
+
+    private final ServerMetricsService service;
+
+    public ServerMetricsHandlers(ServerMetricsService service) {
+        this.service = service;
+    }
+
+    @Override
+    public void register(ServerAbstract server) {
+        server.registerHandler(ServerMetricsControllers.MessageTypes.GET,
+                ServerMetricsControllers.getServerMetricsController(service, server));
+    }
+}
@@ -0,0 +1,26 @@
+package com.giozar04.monthlySummaries.application.services;
+
+import java.util.List;
+
+import com.giozar04.monthlySummaries.domain.entities.MonthlySummary;
+import com.giozar04.monthlySummaries.domain.interfaces.MonthlySummaryRepositoryInterface;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRequest;
+
+public class MonthlySummaryService implements MonthlySummaryRepositoryInterface {
+
+    private final MonthlySummaryRepositoryInterface repository;
+
+    public MonthlySummaryService(MonthlySummaryRepositoryInterface repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public List<MonthlySummary> getMonthlySummaries(MonthlySummaryRequest request) {
+        return repository.getMonthlySummaries(request);
+    }
+
+    @Override
+    public int rebuildMonthlySummaries() {
+        return repository.rebuildMonthlySummaries();
+    }
+}
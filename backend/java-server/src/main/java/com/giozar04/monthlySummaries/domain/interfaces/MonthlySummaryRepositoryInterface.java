@@ -0,0 +1,11 @@
+package com.giozar04.monthlySummaries.domain.interfaces;
+
+import java.util.List;
+
+import com.giozar04.monthlySummaries.domain.entities.MonthlySummary;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRequest;
+
+public interface MonthlySummaryRepositoryInterface {
+    List<MonthlySummary> getMonthlySummaries(MonthlySummaryRequest request);
+    int rebuildMonthlySummaries();
+}
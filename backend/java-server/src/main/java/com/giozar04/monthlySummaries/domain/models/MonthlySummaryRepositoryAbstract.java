@@ -0,0 +1,66 @@
+package com.giozar04.monthlySummaries.domain.models;
+
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.monthlySummaries.domain.entities.MonthlySummary;
+import com.giozar04.monthlySummaries.domain.interfaces.MonthlySummaryRepositoryInterface;
+import com.giozar04.transactions.domain.entities.Transaction;
+
+public abstract class MonthlySummaryRepositoryAbstract implements MonthlySummaryRepositoryInterface {
+
+    // Meses que se devuelven si la solicitud no indica el inicio del rango
+    public static final int DEFAULT_MONTHS = 12;
+
+    protected final DatabaseConnectionInterface databaseConnection;
+    protected final CustomLogger logger = CustomLogger.getInstance();
+
+    protected MonthlySummaryRepositoryAbstract(DatabaseConnectionInterface databaseConnection) {
+        this.databaseConnection = Objects.requireNonNull(databaseConnection, "La conexión a la base de datos no puede ser nula");
+    }
+
+    /**
+     * Completa el rango de meses (hasta el mes actual y DEFAULT_MONTHS hacia atrás) y lo valida.
+     */
+    protected void validateRequest(MonthlySummaryRequest request) {
+        Objects.requireNonNull(request, "La solicitud de resumen no puede ser nula");
+
+        if (request.getToMonth() == null) {
+            request.setToMonth(request.getFromMonth() != null
+                    ? request.getFromMonth().plusMonths(DEFAULT_MONTHS - 1)
+                    : YearMonth.now());
+        }
+        if (request.getFromMonth() == null) {
+            request.setFromMonth(request.getToMonth().minusMonths(DEFAULT_MONTHS - 1));
+        }
+        if (request.getFromMonth().isAfter(request.getToMonth()))
+            throw new IllegalArgumentException("El mes inicial no puede ser posterior al mes final");
+
+        if (ChronoUnit.MONTHS.between(request.getFromMonth(), request.getToMonth()) >= MonthlySummaryRequest.MAX_MONTHS)
+            throw new IllegalArgumentException("El rango no puede superar " + MonthlySummaryRequest.MAX_MONTHS + " meses");
+    }
+
+    @Override
+    public abstract List<MonthlySummary> getMonthlySummaries(MonthlySummaryRequest request);
+
+    @Override
+    public abstract int rebuildMonthlySummaries();
+
+    // Variantes que participan en la unidad de trabajo de TransactionRepositoryMySQL: se llaman
+    // con los valores ya escritos en transactions y no confirman
+
+    /**
+     * Suma las transacciones recién insertadas (o con sus valores nuevos tras un cambio).
+     */
+    public abstract void transactionsAdded(List<Transaction> transactions, TransactionScope scope);
+
+    /**
+     * Resta una transacción eliminada (o con sus valores anteriores a un cambio).
+     */
+    public abstract void transactionRemoved(Transaction transaction, TransactionScope scope);
+}
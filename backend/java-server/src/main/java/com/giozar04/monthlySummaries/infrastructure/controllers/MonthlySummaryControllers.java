@@ -0,0 +1,46 @@
+package com.giozar04.monthlySummaries.infrastructure.controllers;
+
+import java.util.List;
+import java.util.Map;
+
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.monthlySummaries.application.services.MonthlySummaryService;
+import com.giozar04.monthlySummaries.application.utils.MonthlySummaryUtils;
+import com.giozar04.monthlySummaries.domain.entities.MonthlySummary;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRequest;
+import com.giozar04.servers.domain.handlers.MessageHandler;
+import com.giozar04.servers.domain.models.ClientConnection;
+
+public class MonthlySummaryControllers {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    public static final class MessageTypes {
+        public static final String GET = "GET_MONTHLY_SUMMARY";
+    }
+
+    @SuppressWarnings("unchecked")
+    public static MessageHandler getMonthlySummaryController(MonthlySummaryService service) {
+        return (ClientConnection client, Message message) -> {
+            LOGGER.info("Obteniendo resumen mensual...");
+
+            Object rawFilter = message.getData("filter");
+            if (rawFilter != null && !(rawFilter instanceof Map)) {
+                return Message.createErrorMessage(MessageTypes.GET, "Filtro inválido");
+            }
+
+            List<MonthlySummary> summaries;
+            try {
+                MonthlySummaryRequest request = MonthlySummaryUtils.mapToRequest((Map<String, Object>) rawFilter);
+                summaries = service.getMonthlySummaries(request);
+            } catch (IllegalArgumentException e) {
+                return Message.createErrorMessage(MessageTypes.GET, "Filtro inválido: " + e.getMessage());
+            }
+
+            Message response = Message.createSuccessMessage(MessageTypes.GET, "Resumen mensual obtenido");
+            MonthlySummaryUtils.addSummaryData(response, summaries);
+            return response;
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.giozar04.monthlySummaries.infrastructure.handlers;
+
+import com.giozar04.monthlySummaries.application.services.MonthlySummaryService;
+import com.giozar04.monthlySummaries.infrastructure.controllers.MonthlySummaryControllers;
+import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
+
+public class MonthlySummaryHandlers implements ServerRegisterHandlers {
+
+    private final MonthlySummaryService service;
+
+    public MonthlySummaryHandlers(MonthlySummaryService service) {
+        this.service = service;
+    }
+
+    @Override
+    public void register(ServerAbstract server) {
+        server.registerHandler(MonthlySummaryControllers.MessageTypes.GET, MonthlySummaryControllers.getMonthlySummaryController(service));
+    }
+}
@@ -0,0 +1,390 @@
+package com.giozar04.monthlySummaries.infrastructure.repositories;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
+import com.giozar04.monthlySummaries.domain.entities.MonthlySummary;
+import com.giozar04.monthlySummaries.domain.exceptions.MonthlySummaryExceptions;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRepositoryAbstract;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRequest;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+
+/**
+ * Resúmenes mensuales en la tabla monthly_summaries.
+ *
+ * Las sumas y conteos se actualizan con un solo UPSERT por grupo. El mínimo y el máximo solo
+ * pueden crecer hacia afuera con un alta; cuando se da de baja justo el monto mínimo o máximo
+ * de un grupo se recalculan con las transacciones de esa cuenta en ese mes.
+ *
+ * El usuario de un grupo es el dueño de la cuenta al momento de escribir. Si una cuenta cambia
+ * de usuario o se elimina (las transacciones quedan sin cuenta por ON DELETE SET NULL), los
+ * resúmenes se corrigen con rebuildMonthlySummaries().
+ */
+public class MonthlySummaryRepositoryMySQL extends MonthlySummaryRepositoryAbstract {
+
+    private static final long NO_ACCOUNT = 0;
+
+    private static final String SQL_UPSERT = """
+        INSERT INTO monthly_summaries (
+            user_id, month_start, account_id, category, operation_type, total, tx_count, min_amount, max_amount
+        ) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+        ON DUPLICATE KEY UPDATE
+            total = total + VALUES(total),
+            tx_count = tx_count + VALUES(tx_count),
+            min_amount = LEAST(min_amount, VALUES(min_amount)),
+            max_amount = GREATEST(max_amount, VALUES(max_amount))
+    """;
+
+    private static final String SQL_KEY =
+        " WHERE user_id = ? AND month_start = ? AND account_id = ? AND category = ? AND operation_type = ?";
+    private static final String SQL_SUBTRACT =
+        "UPDATE monthly_summaries SET total = total - ?, tx_count = tx_count - 1" + SQL_KEY;
+    private static final String SQL_SELECT_GROUP =
+        "SELECT tx_count, min_amount, max_amount FROM monthly_summaries" + SQL_KEY;
+    private static final String SQL_DELETE_GROUP = "DELETE FROM monthly_summaries" + SQL_KEY;
+    private static final String SQL_UPDATE_BOUNDS =
+        "UPDATE monthly_summaries SET min_amount = ?, max_amount = ?" + SQL_KEY;
+
+    private static final String SQL_DELETE_ALL = "DELETE FROM monthly_summaries";
+
+    // Misma regla de cuenta que accountOf(): el origen de un egreso, el destino de un ingreso
+    private static final String SQL_REBUILD = """
+        INSERT INTO monthly_summaries (
+            user_id, month_start, account_id, category, operation_type, total, tx_count, min_amount, max_amount
+        )
+        SELECT COALESCE(a.user_id, 0), g.month_start, g.account_id, g.category, g.op_type,
+               g.total, g.tx_count, g.min_amount, g.max_amount
+        FROM (
+            SELECT CAST(DATE_FORMAT(date, '%Y-%m-01') AS DATE) AS month_start,
+                   COALESCE(CASE WHEN operation_type = 'expense'
+                                 THEN COALESCE(source_account_id, destination_account_id)
+                                 ELSE COALESCE(destination_account_id, source_account_id) END, 0) AS account_id,
+                   category,
+                   LOWER(operation_type) AS op_type,
+                   SUM(amount) AS total, COUNT(*) AS tx_count, MIN(amount) AS min_amount, MAX(amount) AS max_amount
+            FROM transactions
+            GROUP BY month_start, account_id, category, op_type
+        ) g
+        LEFT JOIN accounts a ON a.id = g.account_id
+    """;
+
+    private record GroupKey(long accountId, LocalDate monthStart, String category, String operationType) {
+        static final Comparator<GroupKey> ORDER = Comparator.comparingLong(GroupKey::accountId)
+                .thenComparing(GroupKey::monthStart)
+                .thenComparing(GroupKey::category)
+                .thenComparing(GroupKey::operationType);
+    }
+
+    private static final class Totals {
+        private BigDecimal total = BigDecimal.ZERO;
+        private int count;
+        private BigDecimal min;
+        private BigDecimal max;
+
+        void add(BigDecimal amount) {
+            total = total.add(amount);
+            count++;
+            if (min == null || amount.compareTo(min) < 0) min = amount;
+            if (max == null || amount.compareTo(max) > 0) max = amount;
+        }
+    }
+
+    public MonthlySummaryRepositoryMySQL(DatabaseConnectionInterface databaseConnection) {
+        super(databaseConnection);
+    }
+
+    @Override
+    public List<MonthlySummary> getMonthlySummaries(MonthlySummaryRequest request) {
+        validateRequest(request);
+
+        // Un renglón por grupo y mes: el costo depende del número de meses, no de transacciones
+        StringBuilder sql = new StringBuilder("""
+            SELECT user_id, month_start, account_id, category, operation_type, total, tx_count, min_amount, max_amount
+            FROM monthly_summaries WHERE month_start BETWEEN ? AND ?""");
+        List<Object> params = new ArrayList<>();
+        params.add(Date.valueOf(request.getFromMonth().atDay(1)));
+        params.add(Date.valueOf(request.getToMonth().atDay(1)));
+
+        if (request.getUserId() != null) {
+            sql.append(" AND user_id = ?");
+            params.add(request.getUserId());
+        }
+        if (request.getAccountId() != null) {
+            sql.append(" AND account_id = ?");
+            params.add(request.getAccountId());
+        }
+        if (request.getCategory() != null) {
+            sql.append(" AND category = ?");
+            params.add(request.getCategory());
+        }
+        if (request.getOperationType() != null) {
+            sql.append(" AND operation_type = ?");
+            params.add(request.getOperationType().getValue());
+        }
+        sql.append(" ORDER BY month_start, account_id, category, operation_type");
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+            List<MonthlySummary> summaries = new ArrayList<>();
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    summaries.add(mapResultSet(rs));
+                }
+            }
+            return summaries;
+
+        } catch (SQLException e) {
+            throw new MonthlySummaryExceptions.RetrievalException("Error al obtener el resumen mensual", e);
+        }
+    }
+
+    /**
+     * Borra los resúmenes y los vuelve a calcular con todas las transacciones, en una sola
+     * transacción de la base de datos.
+     *
+     * El borrado va primero: bloquea la tabla de resúmenes, así que las escrituras de
+     * transacciones que estén en curso terminan antes y las nuevas esperan a que termine la
+     * reconstrucción, sin que ninguna quede contada dos veces ni se pierda.
+     *
+     * @return El número de grupos calculados.
+     */
+    @Override
+    public int rebuildMonthlySummaries() {
+        long start = System.nanoTime();
+        try (TransactionScope scope = databaseConnection.beginTransaction();
+             PreparedStatement delete = scope.getConnection().prepareStatement(SQL_DELETE_ALL);
+             PreparedStatement rebuild = scope.getConnection().prepareStatement(SQL_REBUILD)) {
+
+            delete.executeUpdate();
+            int groups = rebuild.executeUpdate();
+            scope.commit();
+
+            logger.info("Resúmenes mensuales reconstruidos: " + groups + " grupos en "
+                    + (System.nanoTime() - start) / 1_000_000 + " ms");
+            return groups;
+
+        } catch (SQLException e) {
+            throw new MonthlySummaryExceptions.RebuildException("Error al reconstruir los resúmenes mensuales", e);
+        }
+    }
+
+    @Override
+    public void transactionsAdded(List<Transaction> transactions, TransactionScope scope) {
+        if (transactions.isEmpty()) return;
+
+        // Se agrupa antes de escribir (un lote de miles de filas suele caer en pocos grupos) y
+        // se escribe en orden de llave para que dos lotes concurrentes bloqueen en el mismo orden
+        Map<GroupKey, Totals> groups = new TreeMap<>(GroupKey.ORDER);
+        for (Transaction tx : transactions) {
+            groups.computeIfAbsent(keyOf(tx), k -> new Totals()).add(tx.getAmount());
+        }
+
+        try {
+            Map<Long, Long> owners = ownersOf(scope, groups.keySet());
+            try (PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_UPSERT)) {
+                for (Map.Entry<GroupKey, Totals> entry : groups.entrySet()) {
+                    GroupKey key = entry.getKey();
+                    Totals totals = entry.getValue();
+                    setKey(stmt, 1, owners.getOrDefault(key.accountId(), NO_ACCOUNT), key);
+                    stmt.setBigDecimal(6, totals.total);
+                    stmt.setInt(7, totals.count);
+                    stmt.setBigDecimal(8, totals.min);
+                    stmt.setBigDecimal(9, totals.max);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+        } catch (SQLException e) {
+            throw new MonthlySummaryExceptions.UpdateException("Error al actualizar el resumen mensual", e);
+        }
+    }
+
+    @Override
+    public void transactionRemoved(Transaction tx, TransactionScope scope) {
+        GroupKey key = keyOf(tx);
+        Connection conn = scope.getConnection();
+
+        try {
+            long userId = ownersOf(scope, List.of(key)).getOrDefault(key.accountId(), NO_ACCOUNT);
+
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_SUBTRACT)) {
+                stmt.setBigDecimal(1, tx.getAmount());
+                setKey(stmt, 2, userId, key);
+                if (stmt.executeUpdate() == 0) {
+                    logger.warn("La transacción " + tx.getId() + " no estaba en el resumen mensual; "
+                            + "conviene reconstruir los resúmenes");
+                    return;
+                }
+            }
+
+            int count;
+            BigDecimal min;
+            BigDecimal max;
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_GROUP)) {
+                setKey(stmt, 1, userId, key);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) return;
+                    count = rs.getInt("tx_count");
+                    min = rs.getBigDecimal("min_amount");
+                    max = rs.getBigDecimal("max_amount");
+                }
+            }
+
+            // Si el monto quitado no era el mínimo ni el máximo, los límites siguen siendo válidos
+            if (count > 0 && tx.getAmount().compareTo(min) != 0 && tx.getAmount().compareTo(max) != 0) {
+                return;
+            }
+            BigDecimal[] bounds = count > 0 ? boundsFromTransactions(conn, tx) : null;
+
+            if (bounds == null) {
+                try (PreparedStatement stmt = conn.prepareStatement(SQL_DELETE_GROUP)) {
+                    setKey(stmt, 1, userId, key);
+                    stmt.executeUpdate();
+                }
+            } else {
+                try (PreparedStatement stmt = conn.prepareStatement(SQL_UPDATE_BOUNDS)) {
+                    stmt.setBigDecimal(1, bounds[0]);
+                    stmt.setBigDecimal(2, bounds[1]);
+                    setKey(stmt, 3, userId, key);
+                    stmt.executeUpdate();
+                }
+            }
+        } catch (SQLException e) {
+            throw new MonthlySummaryExceptions.UpdateException("Error al actualizar el resumen mensual", e);
+        }
+    }
+
+    /**
+     * Mínimo y máximo de las transacciones que quedan en el grupo de tx. La condición de cuenta es
+     * la regla de accountOf(): la columna principal es la cuenta, o es nula y la otra lo es; así
+     * entran también las filas atribuidas por la otra columna.
+     *
+     * @return {mínimo, máximo}, o null si el grupo ya no tiene transacciones.
+     */
+    private BigDecimal[] boundsFromTransactions(Connection conn, Transaction tx) throws SQLException {
+        boolean expense = tx.getOperationType() == OperationTypes.EXPENSE;
+        String primaryColumn = expense ? "source_account_id" : "destination_account_id";
+        String otherColumn = expense ? "destination_account_id" : "source_account_id";
+        long account = accountOf(tx);
+
+        StringBuilder sql = new StringBuilder("SELECT MIN(amount), MAX(amount) FROM transactions WHERE ");
+        if (account != NO_ACCOUNT) {
+            sql.append("(").append(primaryColumn).append(" = ? OR (")
+               .append(primaryColumn).append(" IS NULL AND ").append(otherColumn).append(" = ?))");
+        } else {
+            sql.append(primaryColumn).append(" IS NULL AND ").append(otherColumn).append(" IS NULL");
+        }
+        sql.append(" AND operation_type = ? AND category = ? AND date >= ? AND date < ?");
+
+        LocalDate monthStart = monthOf(tx);
+        try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            int i = 1;
+            if (account != NO_ACCOUNT) {
+                stmt.setLong(i++, account);
+                stmt.setLong(i++, account);
+            }
+            stmt.setString(i++, tx.getOperationType().getValue());
+            stmt.setString(i++, tx.getCategory());
+            stmt.setTimestamp(i++, Timestamp.valueOf(monthStart.atStartOfDay()));
+            stmt.setTimestamp(i, Timestamp.valueOf(monthStart.plusMonths(1).atStartOfDay()));
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next() && rs.getBigDecimal(1) != null) {
+                    return new BigDecimal[] { rs.getBigDecimal(1), rs.getBigDecimal(2) };
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @return El usuario dueño de cada cuenta de los grupos; las cuentas inexistentes no aparecen.
+     */
+    private Map<Long, Long> ownersOf(TransactionScope scope, Iterable<GroupKey> keys) throws SQLException {
+        List<Long> accountIds = new ArrayList<>();
+        for (GroupKey key : keys) {
+            if (key.accountId() != NO_ACCOUNT && !accountIds.contains(key.accountId())) {
+                accountIds.add(key.accountId());
+            }
+        }
+        Map<Long, Long> owners = new HashMap<>();
+        if (accountIds.isEmpty()) return owners;
+
+        String placeholders = String.join(", ", Collections.nCopies(accountIds.size(), "?"));
+        try (PreparedStatement stmt = scope.getConnection().prepareStatement(
+                "SELECT id, user_id FROM accounts WHERE id IN (" + placeholders + ")")) {
+            for (int i = 0; i < accountIds.size(); i++) {
+                stmt.setLong(i + 1, accountIds.get(i));
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    owners.put(rs.getLong("id"), rs.getLong("user_id"));
+                }
+            }
+        }
+        return owners;
+    }
+
+    /**
+     * Cuenta a la que se atribuye la transacción: el origen de un egreso y el destino de un
+     * ingreso; si falta, la otra.
+     */
+    private static long accountOf(Transaction tx) {
+        boolean expense = tx.getOperationType() == OperationTypes.EXPENSE;
+        Long primary = expense ? tx.getSourceAccountId() : tx.getDestinationAccountId();
+        Long other = expense ? tx.getDestinationAccountId() : tx.getSourceAccountId();
+        return primary != null ? primary : other != null ? other : NO_ACCOUNT;
+    }
+
+    // La fecha se guarda como hora local en transactions.date, así que el mes es el de esa hora
+    private static LocalDate monthOf(Transaction tx) {
+        return tx.getDate().toLocalDate().withDayOfMonth(1);
+    }
+
+    private static GroupKey keyOf(Transaction tx) {
+        return new GroupKey(accountOf(tx), monthOf(tx), tx.getCategory(), tx.getOperationType().getValue());
+    }
+
+    private static void setKey(PreparedStatement stmt, int first, long userId, GroupKey key) throws SQLException {
+        stmt.setLong(first, userId);
+        stmt.setDate(first + 1, Date.valueOf(key.monthStart()));
+        stmt.setLong(first + 2, key.accountId());
+        stmt.setString(first + 3, key.category());
+        stmt.setString(first + 4, key.operationType());
+    }
+
+    private MonthlySummary mapResultSet(ResultSet rs) throws SQLException {
+        MonthlySummary summary = new MonthlySummary();
+        summary.setUserId(rs.getLong("user_id"));
+        summary.setMonth(YearMonth.from(rs.getDate("month_start").toLocalDate()));
+        long accountId = rs.getLong("account_id");
+        summary.setAccountId(accountId != NO_ACCOUNT ? accountId : null);
+        summary.setCategory(rs.getString("category"));
+        summary.setOperationType(OperationTypes.fromValue(rs.getString("operation_type")));
+        summary.setTotal(rs.getBigDecimal("total"));
+        summary.setCount(rs.getLong("tx_count"));
+        summary.setMinAmount(rs.getBigDecimal("min_amount"));
+        summary.setMaxAmount(rs.getBigDecimal("max_amount"));
+        return summary;
+    }
+}
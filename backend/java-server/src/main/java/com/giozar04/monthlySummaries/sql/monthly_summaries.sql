@@ -0,0 +1,20 @@
+-- Totales mensuales de transactions, mantenidos por TransactionRepositoryMySQL en la misma
+-- transacción que cada alta, cambio o baja. Se pueden reconstruir desde cero con
+-- MonthlySummaryRepositoryMySQL.rebuildMonthlySummaries().
+CREATE TABLE monthly_summaries (
+    user_id BIGINT NOT NULL,                          -- dueño de la cuenta (0 sin cuenta)
+    month_start DATE NOT NULL,                        -- primer día del mes
+    account_id BIGINT NOT NULL,                       -- origen de un egreso, destino de un ingreso (0 sin cuenta)
+    category VARCHAR(100) NOT NULL,
+    operation_type VARCHAR(10) NOT NULL,
+
+    total DECIMAL(16,2) NOT NULL,
+    tx_count INT NOT NULL,
+    min_amount DECIMAL(12,2) NOT NULL,
+    max_amount DECIMAL(12,2) NOT NULL,
+
+    PRIMARY KEY (user_id, month_start, account_id, category, operation_type)
+);
+
+-- Consultas por cuenta sin usuario
+CREATE INDEX idx_ms_account_month ON monthly_summaries(account_id, month_start);
@@ -0,0 +1,105 @@
+package com.giozar04.monthlySummaries.test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
+import com.giozar04.databases.infrastructure.repositories.DatabaseConnectionMySQL;
+import com.giozar04.monthlySummaries.infrastructure.repositories.MonthlySummaryRepositoryMySQL;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+import com.giozar04.transactions.infrastructure.repositories.TransactionRepositoryMySQL;
+
+/**
+ * Comprueba que al eliminar el máximo de un grupo de monthly_summaries el nuevo máximo considera
+ * también las transacciones atribuidas a la cuenta por la otra columna (un egreso sin origen
+ * cuyo destino es la cuenta). Todo se hace en una transacción que se deshace al final, así que
+ * no deja datos.
+ *
+ * Uso: MonthlySummaryBoundsTestApp idCuenta
+ */
+public class MonthlySummaryBoundsTestApp {
+
+    private static final String DB_HOST = "localhost";
+    private static final String DB_PORT = "3306";
+    private static final String DB_NAME = "finanzas";
+    private static final String DB_USER = "giovanni";
+    private static final String DB_PASSWORD = "finanzas123";
+
+    private static final String SQL_SELECT_BOUNDS = """
+        SELECT min_amount, max_amount FROM monthly_summaries
+        WHERE account_id = ? AND month_start = ? AND category = ? AND operation_type = ?
+    """;
+
+    public static void main(String[] args) throws SQLException {
+        if (args.length < 1) {
+            System.out.println("Uso: MonthlySummaryBoundsTestApp idCuenta");
+            return;
+        }
+        long accountId = Long.parseLong(args[0]);
+        String category = "prueba-limites-" + System.currentTimeMillis();
+
+        DatabaseConnectionInterface dbConnection = DatabaseConnectionMySQL.getInstance(
+            DB_HOST, DB_PORT, DB_NAME, DB_USER, DB_PASSWORD
+        );
+        dbConnection.connect();
+        TransactionRepositoryMySQL transactions = new TransactionRepositoryMySQL(
+            dbConnection, new AccountChangeNotifier(), new MonthlySummaryRepositoryMySQL(dbConnection)
+        );
+
+        // Sin commit: al cerrar el scope se deshacen las transacciones y el resumen
+        try (TransactionScope scope = dbConnection.beginTransaction()) {
+            Transaction max = transactions.createTransaction(expense(accountId, null, "500.00", category), scope);
+            transactions.createTransaction(expense(null, accountId, "300.00", category), scope);
+            transactions.createTransaction(expense(accountId, null, "100.00", category), scope);
+
+            transactions.deleteTransactionById(max.getId(), scope);
+
+            BigDecimal[] bounds = bounds(scope, accountId, category);
+            boolean ok = bounds != null
+                    && bounds[0].compareTo(new BigDecimal("100.00")) == 0
+                    && bounds[1].compareTo(new BigDecimal("300.00")) == 0;
+            System.out.printf("Límites tras eliminar el máximo: %s - %s (esperado 100.00 - 300.00): %s%n",
+                    bounds == null ? null : bounds[0], bounds == null ? null : bounds[1], ok ? "OK" : "FALLO");
+        } finally {
+            dbConnection.disconnect();
+        }
+    }
+
+    private static Transaction expense(Long sourceAccountId, Long destinationAccountId, String amount, String category) {
+        Transaction tx = new Transaction();
+        tx.setOperationType(OperationTypes.EXPENSE);
+        tx.setPaymentMethod(PaymentMethod.CASH);
+        tx.setSourceAccountId(sourceAccountId);
+        tx.setDestinationAccountId(destinationAccountId);
+        tx.setAmount(new BigDecimal(amount));
+        tx.setConcept("Prueba de límites");
+        tx.setCategory(category);
+        tx.setTimezone("America/Mexico_City");
+        tx.setTags("");
+        tx.setDate(ZonedDateTime.now());
+        tx.setCreatedAt(ZonedDateTime.now());
+        tx.setUpdatedAt(ZonedDateTime.now());
+        return tx;
+    }
+
+    private static BigDecimal[] bounds(TransactionScope scope, long accountId, String category) throws SQLException {
+        try (PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_SELECT_BOUNDS)) {
+            stmt.setLong(1, accountId);
+            stmt.setDate(2, Date.valueOf(LocalDate.now().withDayOfMonth(1)));
+            stmt.setString(3, category);
+            stmt.setString(4, OperationTypes.EXPENSE.getValue());
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? new BigDecimal[] { rs.getBigDecimal(1), rs.getBigDecimal(2) } : null;
+            }
+        }
+    }
+}
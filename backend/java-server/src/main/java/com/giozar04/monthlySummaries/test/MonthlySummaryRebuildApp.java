@@ -0,0 +1,55 @@
+package com.giozar04.monthlySummaries.test;
+
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.List;
+
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.infrastructure.repositories.DatabaseConnectionMySQL;
+import com.giozar04.monthlySummaries.application.services.MonthlySummaryService;
+import com.giozar04.monthlySummaries.domain.entities.MonthlySummary;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRequest;
+import com.giozar04.monthlySummaries.infrastructure.repositories.MonthlySummaryRepositoryMySQL;
+
+/**
+ * Reconstruye monthly_summaries desde transactions (por ejemplo, al crear la tabla en una base
+ * de datos que ya tiene transacciones) y muestra el resumen de los últimos doce meses de un
+ * usuario.
+ *
+ * Uso: MonthlySummaryRebuildApp [idUsuario]
+ */
+public class MonthlySummaryRebuildApp {
+
+    private static final String DB_HOST = "localhost";
+    private static final String DB_PORT = "3306";
+    private static final String DB_NAME = "finanzas";
+    private static final String DB_USER = "giovanni";
+    private static final String DB_PASSWORD = "finanzas123";
+
+    public static void main(String[] args) throws SQLException {
+        DatabaseConnectionInterface dbConnection = DatabaseConnectionMySQL.getInstance(
+            DB_HOST, DB_PORT, DB_NAME, DB_USER, DB_PASSWORD
+        );
+        dbConnection.connect();
+        MonthlySummaryService service = new MonthlySummaryService(new MonthlySummaryRepositoryMySQL(dbConnection));
+
+        try {
+            long start = System.nanoTime();
+            int groups = service.rebuildMonthlySummaries();
+            System.out.printf("Reconstrucción: %d grupos en %d ms%n", groups, (System.nanoTime() - start) / 1_000_000);
+
+            if (args.length > 0) {
+                MonthlySummaryRequest request = new MonthlySummaryRequest();
+                request.setUserId(Long.parseLong(args[0]));
+                request.setToMonth(YearMonth.now());
+
+                start = System.nanoTime();
+                List<MonthlySummary> summaries = service.getMonthlySummaries(request);
+                System.out.printf("Consulta: %d renglones en %d ms%n", summaries.size(), (System.nanoTime() - start) / 1_000_000);
+                summaries.forEach(System.out::println);
+            }
+        } finally {
+            dbConnection.disconnect();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.giozar04.savingsYields.application.services;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.giozar04.jobs.application.services.PagedBatchRunner;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.savingsYields.domain.exceptions.SavingsYieldExceptions;
+import com.giozar04.savingsYields.domain.interfaces.SavingsYieldRepositoryInterface;
+import com.giozar04.savingsYields.domain.models.SavingsYieldCalculator;
+import com.giozar04.savingsYields.domain.models.SavingsYieldKey;
+import com.giozar04.savingsYields.domain.models.SavingsYieldOptions;
+import com.giozar04.savingsYields.domain.models.SavingsYieldReport;
+
+/**
+ * Calcula los rendimientos pendientes de todas las cuentas de ahorro.
+ *
+ * Las cuentas pendientes se leen por páginas de batchSize con PagedBatchRunner y cada página
+ * se registra en una sola transacción en uno de threads hilos. Una página que falla se deshace
+ * completa y sus cuentas quedan pendientes para la siguiente ejecución; las demás siguen. Por
+ * lo mismo, una noche sin ejecución no pierde rendimientos: la siguiente calcula todos los días
+ * pendientes de cada cuenta.
+ */
+public class SavingsYieldService {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    private final SavingsYieldRepositoryInterface repository;
+    private final SavingsYieldOptions options;
+    private final SavingsYieldCalculator calculator;
+    private final ReentrantLock running = new ReentrantLock();
+
+    public SavingsYieldService(SavingsYieldRepositoryInterface repository, SavingsYieldOptions options) {
+        this.repository = repository;
+        this.options = options;
+        this.calculator = new SavingsYieldCalculator(options);
+    }
+
+    /**
+     * Calcula hasta ayer, en la zona de las opciones.
+     */
+    public SavingsYieldReport accrueThroughYesterday() {
+        return accrue(LocalDate.now(options.getZone()).minusDays(1));
+    }
+
+    /**
+     * Registra el rendimiento de cada cuenta de ahorro desde su último cálculo hasta through,
+     * inclusive.
+     *
+     * @throws IllegalStateException Si ya hay un cálculo en curso en este proceso.
+     * @throws SavingsYieldExceptions.RetrievalException Si no se pueden leer las cuentas
+     *         pendientes; las páginas ya registradas se conservan.
+     */
+    public SavingsYieldReport accrue(LocalDate through) {
+        if (!running.tryLock()) {
+            throw new IllegalStateException("Ya hay un cálculo de rendimientos en curso");
+        }
+        try {
+            return run(through);
+        } finally {
+            running.unlock();
+        }
+    }
+
+    private SavingsYieldReport run(LocalDate through) {
+        long start = System.nanoTime();
+        SavingsYieldReport report = new SavingsYieldReport();
+        report.setThrough(through);
+
+        PagedBatchRunner<SavingsYieldKey> runner =
+                new PagedBatchRunner<>("savings-yield", options.getThreads(), options.getBatchSize());
+        try {
+            runner.run(SavingsYieldKey.START,
+                    (after, limit) -> repository.getDueAccounts(through, after, limit),
+                    accounts -> accrueBlock(accounts, through),
+                    report::add);
+        } catch (ExecutionException e) {
+            // accrueBlock no lanza; solo un error inesperado llega aquí
+            throw new SavingsYieldExceptions.AccrualException("Error al calcular los rendimientos. " + report, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SavingsYieldExceptions.AccrualException("Cálculo de rendimientos interrumpido. " + report, e);
+        }
+
+        report.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        LOGGER.info(report.toString());
+        return report;
+    }
+
+    /** Se ejecuta en los hilos del grupo. */
+    private SavingsYieldReport accrueBlock(List<SavingsYieldKey> accounts, LocalDate through) {
+        try {
+            return repository.accrueYields(accounts, through, calculator);
+        } catch (RuntimeException e) {
+            LOGGER.error("No se registró el rendimiento de " + accounts.size() + " cuentas desde la cuenta "
+                    + accounts.get(0).accountId() + "; quedan pendientes", e);
+            SavingsYieldReport failed = new SavingsYieldReport();
+            failed.failed(accounts.size());
+            return failed;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.giozar04.savingsYields.domain.exceptions;
+
+public class SavingsYieldExceptions {
+
+    public static class RetrievalException extends RuntimeException {
+        public RetrievalException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class AccrualException extends RuntimeException {
+        public AccrualException(String message, Throwable cause) { super(message, cause); }
+    }
+}
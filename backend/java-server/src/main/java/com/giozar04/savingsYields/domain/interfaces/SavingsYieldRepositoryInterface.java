@@ -0,0 +1,13 @@
+package com.giozar04.savingsYields.domain.interfaces;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.giozar04.savingsYields.domain.models.SavingsYieldCalculator;
+import com.giozar04.savingsYields.domain.models.SavingsYieldKey;
+import com.giozar04.savingsYields.domain.models.SavingsYieldReport;
+
+public interface SavingsYieldRepositoryInterface {
+    List<SavingsYieldKey> getDueAccounts(LocalDate through, SavingsYieldKey after, int limit);
+    SavingsYieldReport accrueYields(List<SavingsYieldKey> accounts, LocalDate through, SavingsYieldCalculator calculator);
+}
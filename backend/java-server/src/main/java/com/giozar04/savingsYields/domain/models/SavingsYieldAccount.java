@@ -0,0 +1,20 @@
+package com.giozar04.savingsYields.domain.models;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Datos de una cuenta de ahorro leídos (y bloqueados) al registrar su rendimiento.
+ *
+ * @param yieldCap Monto máximo que genera rendimiento, o null sin límite.
+ * @param lastCalculation Último día con rendimiento calculado, o null si nunca se ha calculado.
+ * @param createdDate Día de creación de la cuenta; sin cálculo previo el rendimiento empieza el día siguiente.
+ */
+public record SavingsYieldAccount(long accountId, BigDecimal balance, BigDecimal annualYield, BigDecimal yieldCap,
+                                  LocalDate lastCalculation, LocalDate createdDate) {
+
+    /** @return Último día que ya no genera rendimiento. */
+    public LocalDate accruedThrough() {
+        return lastCalculation != null ? lastCalculation : createdDate;
+    }
+}
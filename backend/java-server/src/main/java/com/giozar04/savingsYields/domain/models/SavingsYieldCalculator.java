@@ -0,0 +1,79 @@
+package com.giozar04.savingsYields.domain.models;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+
+/**
+ * Rendimiento diario con tope, capitalizado cada día.
+ *
+ * Cada día genera saldo * annual_yield / daysPerYear, donde el saldo que cuenta es el menor
+ * entre el saldo de la cuenta (con los rendimientos de los días anteriores del mismo periodo)
+ * y yield_cap_amount. Los días pendientes se calculan con el saldo actual, porque no hay
+ * historial de saldos diarios. El total se trunca a centavos, así que nunca se paga de más.
+ */
+public class SavingsYieldCalculator {
+
+    private static final DateTimeFormatter DAY = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final SavingsYieldOptions options;
+    private final BigDecimal daysPerYear;
+
+    public SavingsYieldCalculator(SavingsYieldOptions options) {
+        options.validate();
+        this.options = options;
+        this.daysPerYear = BigDecimal.valueOf(options.getDaysPerYear());
+    }
+
+    /**
+     * @return Rendimiento de los días después de accruedThrough hasta through, inclusive, en
+     *         centavos; cero si no hay días pendientes o nada que rinda.
+     */
+    public BigDecimal yieldFor(SavingsYieldAccount account, LocalDate through) {
+        long days = ChronoUnit.DAYS.between(account.accruedThrough(), through);
+        if (days <= 0 || account.annualYield().signum() <= 0 || account.balance().signum() <= 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal dailyRate = account.annualYield().divide(daysPerYear, MathContext.DECIMAL64);
+        BigDecimal cap = account.yieldCap();
+
+        BigDecimal balance = account.balance();
+        BigDecimal total = BigDecimal.ZERO;
+        for (long day = 0; day < days; day++) {
+            BigDecimal base = cap != null ? balance.min(cap) : balance;
+            if (base.signum() <= 0) break;
+            BigDecimal accrued = base.multiply(dailyRate, MathContext.DECIMAL64);
+            total = total.add(accrued);
+            balance = balance.add(accrued);
+        }
+        return total.setScale(2, RoundingMode.DOWN);
+    }
+
+    /**
+     * @return El ingreso que registra el rendimiento, con fecha del último día del periodo.
+     */
+    public Transaction toTransaction(SavingsYieldAccount account, BigDecimal amount, LocalDate through) {
+        LocalDate from = account.accruedThrough().plusDays(1);
+        Transaction tx = new Transaction();
+        tx.setOperationType(OperationTypes.INCOME);
+        tx.setPaymentMethod(PaymentMethod.TRANSFER);
+        tx.setDestinationAccountId(account.accountId());
+        tx.setAmount(amount);
+        tx.setConcept(options.getConcept());
+        tx.setCategory(options.getCategory());
+        tx.setDescription(from.equals(through)
+                ? "Rendimiento del " + through.format(DAY)
+                : "Rendimiento del " + from.format(DAY) + " al " + through.format(DAY));
+        tx.setDate(through.atTime(LocalTime.of(23, 59, 59)).atZone(options.getZone()));
+        tx.setTimezone(options.getZone().getId());
+        return tx;
+    }
+}
@@ -0,0 +1,14 @@
+package com.giozar04.savingsYields.domain.models;
+
+import java.time.LocalDate;
+
+/**
+ * Posición de una cuenta en idx_savings_last_calc: (last_yield_calculation, account_id). Sirve
+ * de cursor para leer las cuentas pendientes por páginas; lastCalculation es null en las
+ * cuentas que nunca se han calculado, que van primero.
+ */
+public record SavingsYieldKey(LocalDate lastCalculation, long accountId) {
+
+    /** Cursor inicial, antes de la primera cuenta. */
+    public static final SavingsYieldKey START = new SavingsYieldKey(null, 0);
+}
@@ -0,0 +1,53 @@
+package com.giozar04.savingsYields.domain.models;
+
+import java.time.ZoneId;
+
+/**
+ * Parámetros del cálculo de rendimientos de ahorro.
+ *
+ * - batchSize: cuentas por bloque; cada bloque se registra en una sola transacción.
+ * - threads: bloques que se procesan a la vez; cada uno ocupa una conexión del pool.
+ * - daysPerYear: base de la tasa diaria (annual_yield / daysPerYear).
+ * - category y concept: los de las transacciones INCOME que se crean.
+ * - zone: zona de las fechas; "ayer" y la fecha de las transacciones se toman en ella.
+ */
+public class SavingsYieldOptions {
+
+    public static final int MAX_BATCH_SIZE = 5_000;
+
+    private int batchSize = 500;
+    private int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private int daysPerYear = 365;
+    private String category = "Rendimientos";
+    private String concept = "Rendimiento de ahorro";
+    private ZoneId zone = ZoneId.systemDefault();
+
+    public void validate() {
+        if (batchSize <= 0 || batchSize > MAX_BATCH_SIZE)
+            throw new IllegalArgumentException("El tamaño de bloque debe estar entre 1 y " + MAX_BATCH_SIZE);
+        if (threads <= 0) throw new IllegalArgumentException("El número de hilos debe ser mayor que cero");
+        if (daysPerYear != 360 && daysPerYear != 365)
+            throw new IllegalArgumentException("Los días por año deben ser 360 o 365");
+        if (category == null || category.isBlank()) throw new IllegalArgumentException("La categoría es obligatoria");
+        if (concept == null || concept.isBlank()) throw new IllegalArgumentException("El concepto es obligatorio");
+        if (zone == null) throw new IllegalArgumentException("La zona horaria es obligatoria");
+    }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getThreads() { return threads; }
+    public void setThreads(int threads) { this.threads = threads; }
+
+    public int getDaysPerYear() { return daysPerYear; }
+    public void setDaysPerYear(int daysPerYear) { this.daysPerYear = daysPerYear; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public String getConcept() { return concept; }
+    public void setConcept(String concept) { this.concept = concept; }
+
+    public ZoneId getZone() { return zone; }
+    public void setZone(ZoneId zone) { this.zone = zone; }
+}
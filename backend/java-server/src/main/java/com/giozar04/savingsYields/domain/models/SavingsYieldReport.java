@@ -0,0 +1,73 @@
+package com.giozar04.savingsYields.domain.models;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Resumen de un cálculo de rendimientos, o de uno de sus bloques.
+ *
+ * - credited: cuentas con un ingreso de rendimiento nuevo.
+ * - advanced: cuentas cuya fecha de cálculo avanzó sin ingreso (rendimiento menor a un centavo,
+ *   saldo cero o tasa cero).
+ * - skipped: cuentas que otra ejecución ya calculó entre la lectura y el bloqueo.
+ * - failed: cuentas de bloques que no se pudieron registrar; siguen pendientes.
+ */
+public class SavingsYieldReport {
+
+    private LocalDate through;
+    private int credited;
+    private int advanced;
+    private int skipped;
+    private int failed;
+    private BigDecimal total = BigDecimal.ZERO;
+    private long elapsedMillis;
+
+    public void credited(BigDecimal amount) {
+        credited++;
+        total = total.add(amount);
+    }
+
+    public void advanced() {
+        advanced++;
+    }
+
+    public void skipped() {
+        skipped++;
+    }
+
+    public void failed(int accounts) {
+        failed += accounts;
+    }
+
+    /** Suma el resultado de un bloque. */
+    public void add(SavingsYieldReport block) {
+        credited += block.credited;
+        advanced += block.advanced;
+        skipped += block.skipped;
+        failed += block.failed;
+        total = total.add(block.total);
+    }
+
+    public int getProcessed() {
+        return credited + advanced + skipped + failed;
+    }
+
+    public LocalDate getThrough() { return through; }
+    public void setThrough(LocalDate through) { this.through = through; }
+
+    public int getCredited() { return credited; }
+    public int getAdvanced() { return advanced; }
+    public int getSkipped() { return skipped; }
+    public int getFailed() { return failed; }
+    public BigDecimal getTotal() { return total; }
+
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    @Override
+    public String toString() {
+        return "Rendimientos hasta " + through + ": " + getProcessed() + " cuentas, " + credited + " con ingreso ("
+                + total.toPlainString() + "), " + advanced + " sin monto, " + skipped + " ya calculadas, "
+                + failed + " con error, " + elapsedMillis + " ms";
+    }
+}
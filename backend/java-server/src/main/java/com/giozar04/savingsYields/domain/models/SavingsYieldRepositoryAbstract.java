@@ -0,0 +1,48 @@
+package com.giozar04.savingsYields.domain.models;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.savingsYields.domain.interfaces.SavingsYieldRepositoryInterface;
+import com.giozar04.transactions.domain.models.TransactionRepositoryAbstract;
+
+public abstract class SavingsYieldRepositoryAbstract implements SavingsYieldRepositoryInterface {
+
+    protected final DatabaseConnectionInterface databaseConnection;
+    protected final TransactionRepositoryAbstract transactions;
+    protected final CustomLogger logger = CustomLogger.getInstance();
+
+    /**
+     * @param transactions Repositorio con el que se insertan los ingresos de rendimiento, para
+     *        que actualice los resúmenes mensuales y avise a la caché de cuentas.
+     */
+    protected SavingsYieldRepositoryAbstract(DatabaseConnectionInterface databaseConnection,
+                                             TransactionRepositoryAbstract transactions) {
+        this.databaseConnection = Objects.requireNonNull(databaseConnection, "La conexión a la base de datos no puede ser nula");
+        this.transactions = Objects.requireNonNull(transactions, "El repositorio de transacciones no puede ser nulo");
+    }
+
+    protected void validateThrough(LocalDate through) {
+        Objects.requireNonNull(through, "La fecha de cálculo no puede ser nula");
+    }
+
+    /**
+     * Cuentas de ahorro con rendimiento pendiente (last_yield_calculation anterior a through
+     * o nulo) después de la posición after, en el orden de idx_savings_last_calc.
+     */
+    @Override
+    public abstract List<SavingsYieldKey> getDueAccounts(LocalDate through, SavingsYieldKey after, int limit);
+
+    /**
+     * Bloquea las cuentas, registra su rendimiento como ingresos y avanza su
+     * last_yield_calculation a through, todo en una transacción. Las cuentas cuya fecha ya no
+     * es la leída (otra ejecución las calculó) se omiten, así que repetir un bloque no paga
+     * dos veces.
+     */
+    @Override
+    public abstract SavingsYieldReport accrueYields(List<SavingsYieldKey> accounts, LocalDate through,
+                                                    SavingsYieldCalculator calculator);
+}
@@ -0,0 +1,185 @@
+package com.giozar04.savingsYields.infrastructure.repositories;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
+import com.giozar04.savingsYields.domain.exceptions.SavingsYieldExceptions;
+import com.giozar04.savingsYields.domain.models.SavingsYieldAccount;
+import com.giozar04.savingsYields.domain.models.SavingsYieldCalculator;
+import com.giozar04.savingsYields.domain.models.SavingsYieldKey;
+import com.giozar04.savingsYields.domain.models.SavingsYieldReport;
+import com.giozar04.savingsYields.domain.models.SavingsYieldRepositoryAbstract;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.models.TransactionRepositoryAbstract;
+
+/**
+ * Rendimientos de las cuentas de ahorro (savings_details).
+ *
+ * Las cuentas pendientes se leen por páginas sobre idx_savings_last_calc con el cursor
+ * (last_yield_calculation, account_id): InnoDB guarda la llave primaria al final del índice,
+ * así que cada página es un rango del índice sin ordenar en memoria. Primero van las cuentas
+ * sin cálculo (NULL) y después las demás por fecha.
+ */
+public class SavingsYieldRepositoryMySQL extends SavingsYieldRepositoryAbstract {
+
+    private static final String SQL_DUE_FIRST = """
+        SELECT account_id, last_yield_calculation
+        FROM savings_details
+        WHERE (last_yield_calculation IS NULL AND account_id > ?) OR last_yield_calculation < ?
+        ORDER BY last_yield_calculation, account_id
+        LIMIT ?
+    """;
+
+    private static final String SQL_DUE_NEXT = """
+        SELECT account_id, last_yield_calculation
+        FROM savings_details
+        WHERE last_yield_calculation < ?
+          AND (last_yield_calculation > ? OR (last_yield_calculation = ? AND account_id > ?))
+        ORDER BY last_yield_calculation, account_id
+        LIMIT ?
+    """;
+
+    // Bloquea también la cuenta: el trigger del ingreso actualiza su saldo en esta transacción
+    private static final String SQL_LOCK_ACCOUNTS = """
+        SELECT s.account_id, s.annual_yield, s.yield_cap_amount, s.last_yield_calculation,
+               a.current_balance, a.created_at
+        FROM savings_details s
+        JOIN accounts a ON a.id = s.account_id
+        WHERE s.account_id IN (%s)
+        ORDER BY s.account_id
+        FOR UPDATE
+    """;
+
+    private static final String SQL_ADVANCE =
+        "UPDATE savings_details SET last_yield_calculation = ? WHERE account_id = ?";
+
+    public SavingsYieldRepositoryMySQL(DatabaseConnectionInterface databaseConnection, TransactionRepositoryAbstract transactions) {
+        super(databaseConnection, transactions);
+    }
+
+    @Override
+    public List<SavingsYieldKey> getDueAccounts(LocalDate through, SavingsYieldKey after, int limit) {
+        validateThrough(through);
+        Objects.requireNonNull(after, "El cursor no puede ser nulo");
+
+        boolean first = after.lastCalculation() == null;
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(first ? SQL_DUE_FIRST : SQL_DUE_NEXT)) {
+
+            if (first) {
+                stmt.setLong(1, after.accountId());
+                stmt.setDate(2, Date.valueOf(through));
+                stmt.setInt(3, limit);
+            } else {
+                stmt.setDate(1, Date.valueOf(through));
+                stmt.setDate(2, Date.valueOf(after.lastCalculation()));
+                stmt.setDate(3, Date.valueOf(after.lastCalculation()));
+                stmt.setLong(4, after.accountId());
+                stmt.setInt(5, limit);
+            }
+
+            List<SavingsYieldKey> keys = new ArrayList<>(limit);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    Date last = rs.getDate("last_yield_calculation");
+                    keys.add(new SavingsYieldKey(last != null ? last.toLocalDate() : null, rs.getLong("account_id")));
+                }
+            }
+            return keys;
+
+        } catch (SQLException e) {
+            logger.error("Error al obtener cuentas de ahorro pendientes: " + e.getMessage(), e);
+            throw new SavingsYieldExceptions.RetrievalException("Error al obtener las cuentas de ahorro pendientes", e);
+        }
+    }
+
+    @Override
+    public SavingsYieldReport accrueYields(List<SavingsYieldKey> accounts, LocalDate through, SavingsYieldCalculator calculator) {
+        validateThrough(through);
+        SavingsYieldReport report = new SavingsYieldReport();
+        if (accounts.isEmpty()) return report;
+
+        Map<Long, LocalDate> expected = new HashMap<>();
+        for (SavingsYieldKey key : accounts) {
+            expected.put(key.accountId(), key.lastCalculation());
+        }
+        String sql = SQL_LOCK_ACCOUNTS.formatted(String.join(", ", Collections.nCopies(accounts.size(), "?")));
+
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            Connection conn = scope.getConnection();
+
+            List<SavingsYieldAccount> due = new ArrayList<>(accounts.size());
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                int index = 1;
+                for (SavingsYieldKey key : accounts) {
+                    stmt.setLong(index++, key.accountId());
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        SavingsYieldAccount account = mapResultSetToAccount(rs);
+                        // Otra ejecución la calculó después de leer la página
+                        if (!Objects.equals(account.lastCalculation(), expected.get(account.accountId()))) {
+                            report.skipped();
+                        } else {
+                            due.add(account);
+                        }
+                    }
+                }
+            }
+
+            List<Transaction> incomes = new ArrayList<>();
+            try (PreparedStatement stmt = conn.prepareStatement(SQL_ADVANCE)) {
+                for (SavingsYieldAccount account : due) {
+                    BigDecimal amount = calculator.yieldFor(account, through);
+                    if (amount.signum() > 0) {
+                        incomes.add(calculator.toTransaction(account, amount, through));
+                        report.credited(amount);
+                    } else {
+                        report.advanced();
+                    }
+                    // Una cuenta creada después de through queda calculada hasta su creación
+                    LocalDate advanceTo = account.accruedThrough().isAfter(through) ? account.accruedThrough() : through;
+                    stmt.setDate(1, Date.valueOf(advanceTo));
+                    stmt.setLong(2, account.accountId());
+                    stmt.addBatch();
+                }
+                if (!due.isEmpty()) {
+                    stmt.executeBatch();
+                }
+            }
+            transactions.createTransactions(incomes, scope);
+
+            scope.commit();
+            return report;
+
+        } catch (SQLException | RuntimeException e) {
+            logger.error("Error al registrar el rendimiento de " + accounts.size() + " cuentas de ahorro: " + e.getMessage(), e);
+            throw new SavingsYieldExceptions.AccrualException("Error al registrar los rendimientos de ahorro", e);
+        }
+    }
+
+    private SavingsYieldAccount mapResultSetToAccount(ResultSet rs) throws SQLException {
+        Date last = rs.getDate("last_yield_calculation");
+        return new SavingsYieldAccount(
+            rs.getLong("account_id"),
+            rs.getBigDecimal("current_balance"),
+            rs.getBigDecimal("annual_yield"),
+            rs.getBigDecimal("yield_cap_amount"),
+            last != null ? last.toLocalDate() : null,
+            rs.getTimestamp("created_at").toLocalDateTime().toLocalDate()
+        );
+    }
+}
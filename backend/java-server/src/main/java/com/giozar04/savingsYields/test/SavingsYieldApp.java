@@ -0,0 +1,58 @@
+package com.giozar04.savingsYields.test;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.infrastructure.repositories.DatabaseConnectionMySQL;
+import com.giozar04.monthlySummaries.infrastructure.repositories.MonthlySummaryRepositoryMySQL;
+import com.giozar04.savingsYields.application.services.SavingsYieldService;
+import com.giozar04.savingsYields.domain.models.SavingsYieldOptions;
+import com.giozar04.savingsYields.domain.models.SavingsYieldReport;
+import com.giozar04.savingsYields.infrastructure.repositories.SavingsYieldRepositoryMySQL;
+import com.giozar04.transactions.infrastructure.repositories.TransactionRepositoryMySQL;
+
+/**
+ * Calcula los rendimientos pendientes de todas las cuentas de ahorro, igual que el cálculo
+ * nocturno del servidor, y muestra cuántas cuentas por segundo se registraron.
+ *
+ * Uso: SavingsYieldApp [hasta (aaaa-mm-dd, por defecto ayer)] [hilos] [cuentasPorBloque]
+ *
+ * Ejecutarlo dos veces con la misma fecha comprueba que la segunda no registra nada.
+ */
+public class SavingsYieldApp {
+
+    private static final String DB_HOST = "localhost";
+    private static final String DB_PORT = "3306";
+    private static final String DB_NAME = "finanzas";
+    private static final String DB_USER = "giovanni";
+    private static final String DB_PASSWORD = "finanzas123";
+
+    public static void main(String[] args) throws SQLException {
+        SavingsYieldOptions options = new SavingsYieldOptions();
+        LocalDate through = args.length > 0 ? LocalDate.parse(args[0]) : LocalDate.now(options.getZone()).minusDays(1);
+        if (args.length > 1) options.setThreads(Integer.parseInt(args[1]));
+        if (args.length > 2) options.setBatchSize(Integer.parseInt(args[2]));
+
+        DatabaseConnectionInterface dbConnection = DatabaseConnectionMySQL.getInstance(
+            DB_HOST, DB_PORT, DB_NAME, DB_USER, DB_PASSWORD
+        );
+        dbConnection.connect();
+        TransactionRepositoryMySQL transactions = new TransactionRepositoryMySQL(
+            dbConnection, new AccountChangeNotifier(), new MonthlySummaryRepositoryMySQL(dbConnection)
+        );
+        SavingsYieldService service = new SavingsYieldService(
+            new SavingsYieldRepositoryMySQL(dbConnection, transactions), options
+        );
+
+        try {
+            SavingsYieldReport report = service.accrue(through);
+            System.out.println(report);
+            System.out.printf("%.0f cuentas/s con %d hilos%n",
+                report.getProcessed() / Math.max(report.getElapsedMillis() / 1000.0, 0.001), options.getThreads());
+        } finally {
+            dbConnection.disconnect();
+        }
+    }
+}
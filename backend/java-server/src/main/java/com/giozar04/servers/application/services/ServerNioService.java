@@ -0,0 +1,546 @@
+package com.giozar04.servers.application.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.giozar04.json.utils.JsonUtils;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.metrics.domain.models.OperationMetrics;
+import com.giozar04.servers.domain.exceptions.ServerOperationException;
+import com.giozar04.servers.domain.models.ClientConnection;
+import com.giozar04.servers.domain.models.ServerAbstract;
+import com.giozar04.servers.domain.models.StreamedResponse;
+
+/**
+ * Implementa el servidor de sockets sobre un Selector de NIO como Singleton.
+ * Un único hilo atiende la E/S de todas las conexiones y los mensajes completos
+ * se procesan en un pool acotado de workers con los mismos manejadores que ServerService.
+ * Mantiene el protocolo de una línea JSON por mensaje, así que los clientes no cambian.
+ * Su WELCOME no ofrece el protocolo binario ni compresión, por lo que los clientes no los negocian.
+ */
+public class ServerNioService extends ServerAbstract {
+
+    // Tamaño del buffer de lectura compartido por el hilo del selector
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    // Una trama que supere este tamaño sin salto de línea cierra la conexión
+    private static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+    // Buffers de trama más grandes que esto se liberan al terminar la línea
+    private static final int RETAINED_FRAME_BUFFER_SIZE = 64 * 1024;
+    // Mensajes pendientes por cliente antes de dejar de leer su socket
+    private static final int MAX_PENDING_MESSAGES = 64;
+    // Bytes encolados por cliente a partir de los cuales una respuesta por partes espera al socket
+    private static final long MAX_QUEUED_BYTES = 1024 * 1024;
+    private static final long SELECT_TIMEOUT_MS = 250;
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes(StandardCharsets.UTF_8);
+
+    private static volatile ServerNioService instance;
+
+    private final Map<Integer, NioSession> sessions = new ConcurrentHashMap<>();
+    private final Queue<NioSession> pendingInterestUpdates = new ConcurrentLinkedQueue<>();
+    private final Queue<NioSession> rejectedSessions = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+
+    private ServerNioService(String serverHost, int serverPort, ExecutorService workerPool) {
+        super(serverHost, serverPort, workerPool);
+        registerShutdownHook();
+    }
+
+    public static ServerNioService getInstance(String serverHost, int serverPort, ExecutorService workerPool) {
+        if (instance == null) {
+            synchronized (ServerNioService.class) {
+                if (instance == null) {
+                    instance = new ServerNioService(serverHost, serverPort, workerPool);
+                }
+            }
+        }
+        return instance;
+    }
+
+    @Override
+    public void startServer() throws ServerOperationException, IOException {
+        LOCK.lock();
+        try {
+            if (isRunning) {
+                logger.info("El servidor ya se encuentra activo en " + serverHost + ":" + serverPort);
+                return;
+            }
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(InetAddress.getByName(serverHost), serverPort), 50);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+            serverSocket = serverChannel.socket();
+            isRunning = true;
+            logger.info("Servidor NIO iniciado correctamente en " + serverHost + ":" + serverPort);
+        } catch (IOException e) {
+            logger.error("Error al iniciar el servidor NIO: " + e.getMessage(), e);
+            closeQuietly();
+            throw e;
+        } finally {
+            LOCK.unlock();
+        }
+
+        Thread selectorThread = new Thread(this::runSelectorLoop, "nio-selector");
+        selectorThread.start();
+        logger.info("Servidor listo para aceptar conexiones");
+    }
+
+    @Override
+    public void stopServer() throws ServerOperationException {
+        sessions.values().forEach(session -> closeSession(session, "servidor detenido"));
+        sessions.clear();
+        baseStopServer();
+        closeQuietly();
+    }
+
+    @Override
+    public void restartServer() throws ServerOperationException, IOException {
+        logger.info("Reiniciando el servidor...");
+        stopServer();
+        startServer();
+        logger.info("Servidor reiniciado correctamente");
+    }
+
+    @Override
+    public boolean isServerRunning() {
+        return isRunning && serverChannel != null && serverChannel.isOpen();
+    }
+
+    /**
+     * Acepta todas las conexiones pendientes en el canal del servidor.
+     * Se invoca desde el hilo del selector cuando la llave de aceptación está lista.
+     */
+    @Override
+    public void acceptClientConnections() throws ServerOperationException, IOException {
+        if (!isServerRunning())
+            throw new ServerOperationException("El servidor no está en ejecución");
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            handleClientConnection(new ClientConnection(channel.socket(), clientIdGenerator.incrementAndGet()));
+        }
+    }
+
+    @Override
+    public int getConnectedClientsCount() {
+        return sessions.size();
+    }
+
+    /** Registra el canal del cliente en el selector y le envía el mensaje de bienvenida. */
+    @Override
+    public void handleClientConnection(ClientConnection clientConnection) throws ServerOperationException {
+        if (clientConnection == null) {
+            logger.warn("Conexión nula recibida, ignorando");
+            return;
+        }
+        SocketChannel channel = clientConnection.getSocket().getChannel();
+        if (channel == null) {
+            throw new ServerOperationException("La conexión del cliente " + clientConnection.getId() + " no tiene un canal NIO");
+        }
+
+        NioSession session = new NioSession(clientConnection, channel);
+        try {
+            session.key = channel.register(selector, SelectionKey.OP_READ, session);
+        } catch (ClosedChannelException e) {
+            throw new ServerOperationException("El canal del cliente " + clientConnection.getId() + " está cerrado", e);
+        }
+        sessions.put(clientConnection.getId(), session);
+        logger.info("Cliente " + clientConnection.getId() + " conectado desde " +
+                   clientConnection.getSocket().getInetAddress().getHostAddress());
+
+        Message welcomeMessage = Message.createSuccessMessage("WELCOME",
+                "Conexión establecida. Cliente ID: " + clientConnection.getId());
+        send(session, welcomeMessage);
+    }
+
+    /** Ciclo principal del selector: acepta, lee y escribe sin bloquear. */
+    private void runSelectorLoop() {
+        while (isRunning) {
+            try {
+                selector.select(SELECT_TIMEOUT_MS);
+                applyPendingInterestUpdates();
+                retryRejectedSessions();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+
+                    if (key.isAcceptable()) {
+                        try {
+                            acceptClientConnections();
+                        } catch (ServerOperationException | IOException e) {
+                            if (isRunning) logger.error("Error al aceptar conexión de cliente", e);
+                        }
+                        continue;
+                    }
+
+                    NioSession session = (NioSession) key.attachment();
+                    try {
+                        if (key.isReadable()) readFromClient(session);
+                        if (key.isValid() && key.isWritable()) writeToClient(session);
+                    } catch (IOException e) {
+                        closeSession(session, e.getMessage());
+                    }
+                }
+            } catch (ClosedSelectorException e) {
+                break;
+            } catch (IOException e) {
+                if (isRunning) logger.error("Error en el ciclo del selector", e);
+            }
+        }
+        logger.info("Ciclo del selector finalizado");
+    }
+
+    /**
+     * Lee los bytes disponibles y separa las tramas por salto de línea.
+     * Las líneas completas que caben en el buffer compartido se decodifican sin copias intermedias;
+     * solo las que quedan partidas entre lecturas se acumulan en el buffer propio del cliente.
+     */
+    private void readFromClient(NioSession session) throws IOException {
+        readBuffer.clear();
+        int read = session.channel.read(readBuffer);
+        if (read < 0) {
+            closeSession(session, "fin de flujo");
+            return;
+        }
+        readBuffer.flip();
+
+        while (readBuffer.hasRemaining()) {
+            int newline = indexOfNewline(readBuffer);
+            if (newline < 0) {
+                session.appendPartialFrame(readBuffer);
+                break;
+            }
+
+            int limit = readBuffer.limit();
+            readBuffer.limit(newline);
+            CharBuffer line;
+            if (session.frame == null || session.frame.position() == 0) {
+                line = StandardCharsets.UTF_8.decode(readBuffer);
+            } else {
+                session.appendPartialFrame(readBuffer);
+                line = session.takeFrame();
+            }
+            readBuffer.limit(limit);
+            readBuffer.position(newline + 1);
+
+            if (line.hasRemaining() && line.get(line.limit() - 1) == '\r') line.limit(line.limit() - 1);
+            if (line.hasRemaining()) {
+                session.inbound.add(line);
+            }
+        }
+
+        if (!session.inbound.isEmpty()) {
+            session.updateInterest();
+            scheduleProcessing(session);
+        }
+    }
+
+    /** Escribe las respuestas pendientes; si el socket se llena, espera al siguiente OP_WRITE. */
+    private void writeToClient(NioSession session) throws IOException {
+        ByteBuffer buffer;
+        while ((buffer = session.outbound.peek()) != null) {
+            session.channel.write(buffer);
+            if (buffer.hasRemaining()) return;
+            session.outbound.poll();
+            session.written(buffer.limit());
+        }
+        session.updateInterest();
+    }
+
+    /** Envía al pool de workers el procesamiento de los mensajes pendientes, uno a la vez por cliente. */
+    private void scheduleProcessing(NioSession session) {
+        if (!session.processing.compareAndSet(false, true)) return;
+        try {
+            threadPool.execute(() -> processPendingMessages(session));
+        } catch (RejectedExecutionException e) {
+            session.processing.set(false);
+            logger.warn("Pool de workers saturado, se reintenta el cliente " + session.connection.getId());
+            rejectedSessions.add(session);
+        }
+    }
+
+    /** Procesa en orden los mensajes de un cliente dentro de un worker. */
+    private void processPendingMessages(NioSession session) {
+        try {
+            CharBuffer line;
+            while (session.isOpen() && (line = session.inbound.poll()) != null) {
+                Message receivedMessage;
+                try {
+                    receivedMessage = JsonUtils.jsonToMessage(line);
+                } catch (Exception e) {
+                    logger.error("Mensaje inválido del cliente " + session.connection.getId(), e);
+                    continue;
+                }
+                logger.debug(() -> "Mensaje recibido del cliente " + session.connection.getId() +
+                           ": " + receivedMessage.getType());
+
+                // Una respuesta simple solo se encola para el selector, así que su latencia no incluye enviarla
+                OperationMetrics metrics = messageMetrics(receivedMessage);
+                long start = metrics != null ? metrics.start() : 0;
+                boolean failed = true;
+                try {
+                    Message response = dispatchMessage(session.connection, receivedMessage);
+                    if (response instanceof StreamedResponse<?> streamed) {
+                        try {
+                            long rows = streamed.writeTo(frame -> sendFrame(session, frame));
+                            logger.debug(() -> "Respuesta por partes enviada al cliente " + session.connection.getId() +
+                                       " para mensaje: " + receivedMessage.getType() + " (" + rows + " filas)");
+                        } catch (IOException e) {
+                            logger.info("Respuesta por partes interrumpida para el cliente " +
+                                       session.connection.getId() + ": " + e.getMessage());
+                            continue;
+                        }
+                    } else if (response != null) {
+                        send(session, response);
+                        logger.debug(() -> "Respuesta enviada al cliente " + session.connection.getId() +
+                                   " para mensaje: " + receivedMessage.getType());
+                    }
+                    failed = response != null && response.getStatus() == Message.Status.ERROR;
+                } finally {
+                    if (metrics != null) {
+                        metrics.stop(start, failed);
+                    }
+                }
+            }
+        } finally {
+            session.processing.set(false);
+            requestInterestUpdate(session);
+            if (session.isOpen() && !session.inbound.isEmpty()) {
+                scheduleProcessing(session);
+            }
+        }
+    }
+
+    /** Serializa la respuesta directamente a bytes, la encola y pide al selector que active OP_WRITE. */
+    private void send(NioSession session, Message message) {
+        try {
+            enqueue(session, message);
+        } catch (IOException e) {
+            logger.error("Error serializando la respuesta para el cliente " + session.connection.getId(), e);
+        }
+    }
+
+    /**
+     * Encola una trama de una respuesta por partes. Si el cliente lee más lento de lo que se
+     * producen las filas, el worker espera aquí en lugar de acumular la respuesta en memoria.
+     */
+    private void sendFrame(NioSession session, Message frame) throws IOException {
+        if (!session.isOpen()) {
+            throw new IOException("Conexión cerrada");
+        }
+        enqueue(session, frame);
+        session.awaitDrain();
+    }
+
+    private void enqueue(NioSession session, Message message) throws IOException {
+        ResponseBuffer bytes = new ResponseBuffer();
+        try (Writer writer = new OutputStreamWriter(bytes, StandardCharsets.UTF_8)) {
+            JsonUtils.writeMessage(message, writer);
+        }
+        bytes.write(LINE_SEPARATOR, 0, LINE_SEPARATOR.length);
+        session.enqueue(bytes.toByteBuffer());
+        requestInterestUpdate(session);
+    }
+
+    /** Búfer de salida que entrega su arreglo interno sin copiarlo. */
+    private static final class ResponseBuffer extends ByteArrayOutputStream {
+        private ResponseBuffer() {
+            super(512);
+        }
+
+        private ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
+    private void requestInterestUpdate(NioSession session) {
+        pendingInterestUpdates.add(session);
+        Selector current = selector;
+        if (current != null) current.wakeup();
+    }
+
+    private void applyPendingInterestUpdates() {
+        NioSession session;
+        while ((session = pendingInterestUpdates.poll()) != null) {
+            session.updateInterest();
+        }
+    }
+
+    private void retryRejectedSessions() {
+        int pending = rejectedSessions.size();
+        for (int i = 0; i < pending; i++) {
+            NioSession session = rejectedSessions.poll();
+            if (session == null) break;
+            if (session.isOpen()) scheduleProcessing(session);
+        }
+    }
+
+    private void closeSession(NioSession session, String reason) {
+        if (session == null || !session.closed.compareAndSet(false, true)) return;
+        try {
+            if (session.key != null) session.key.cancel();
+            session.channel.close();
+        } catch (IOException e) {
+            logger.error("Error cerrando recursos del cliente " + session.connection.getId(), e);
+        }
+        sessions.remove(session.connection.getId());
+        session.signalDrained();
+        logger.info("Cliente " + session.connection.getId() + " desconectado: " + reason);
+    }
+
+    private void closeQuietly() {
+        try {
+            if (serverChannel != null && serverChannel.isOpen()) serverChannel.close();
+            if (selector != null && selector.isOpen()) selector.close();
+        } catch (IOException e) {
+            logger.warn("Error al liberar el selector del servidor", e);
+        }
+    }
+
+    private static int indexOfNewline(ByteBuffer buffer) {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            if (buffer.get(i) == '\n') return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Estado de un cliente dentro del selector: canal, trama parcial y colas de entrada/salida.
+     */
+    private static final class NioSession {
+        private final ClientConnection connection;
+        private final SocketChannel channel;
+        private final Queue<CharBuffer> inbound = new ConcurrentLinkedQueue<>();
+        private final Queue<ByteBuffer> outbound = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean processing = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        // Bytes en outbound aún sin escribir; frenan a las respuestas por partes
+        private final AtomicLong queuedBytes = new AtomicLong();
+        private final ReentrantLock drainLock = new ReentrantLock();
+        private final Condition drained = drainLock.newCondition();
+        private SelectionKey key;
+        // Se reserva solo cuando una línea llega partida entre lecturas
+        private ByteBuffer frame;
+
+        private NioSession(ClientConnection connection, SocketChannel channel) {
+            this.connection = connection;
+            this.channel = channel;
+        }
+
+        private boolean isOpen() {
+            return !closed.get() && channel.isOpen();
+        }
+
+        private void enqueue(ByteBuffer buffer) {
+            queuedBytes.addAndGet(buffer.remaining());
+            outbound.add(buffer);
+        }
+
+        /** Descuenta un buffer ya escrito; solo se llama desde el hilo del selector. */
+        private void written(int bytes) {
+            long remaining = queuedBytes.addAndGet(-bytes);
+            if (remaining <= MAX_QUEUED_BYTES && remaining + bytes > MAX_QUEUED_BYTES) {
+                signalDrained();
+            }
+        }
+
+        private void signalDrained() {
+            drainLock.lock();
+            try {
+                drained.signalAll();
+            } finally {
+                drainLock.unlock();
+            }
+        }
+
+        /** Espera a que la cola de salida baje del límite o a que la conexión se cierre. */
+        private void awaitDrain() throws IOException {
+            if (queuedBytes.get() <= MAX_QUEUED_BYTES) return;
+            drainLock.lock();
+            try {
+                while (queuedBytes.get() > MAX_QUEUED_BYTES) {
+                    if (!isOpen()) {
+                        throw new IOException("Conexión cerrada");
+                    }
+                    // Espera acotada para volver a revisar el estado del canal aunque nadie avise
+                    drained.await(SELECT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Espera de escritura interrumpida");
+            } finally {
+                drainLock.unlock();
+            }
+        }
+
+        private void appendPartialFrame(ByteBuffer source) throws IOException {
+            int needed = (frame == null ? 0 : frame.position()) + source.remaining();
+            if (needed > MAX_FRAME_SIZE) {
+                throw new IOException("Trama excede el tamaño máximo de " + MAX_FRAME_SIZE + " bytes");
+            }
+            if (frame == null || frame.remaining() < source.remaining()) {
+                int capacity = Math.max(needed, frame == null ? 4096 : frame.capacity() * 2);
+                ByteBuffer grown = ByteBuffer.allocate(Math.min(capacity, MAX_FRAME_SIZE));
+                if (frame != null) {
+                    frame.flip();
+                    grown.put(frame);
+                }
+                frame = grown;
+            }
+            frame.put(source);
+        }
+
+        private CharBuffer takeFrame() {
+            frame.flip();
+            CharBuffer line = StandardCharsets.UTF_8.decode(frame);
+            if (frame.capacity() > RETAINED_FRAME_BUFFER_SIZE) {
+                frame = null;
+            } else {
+                frame.clear();
+            }
+            return line;
+        }
+
+        /** Recalcula el interés del canal; solo debe llamarse desde el hilo del selector. */
+        private void updateInterest() {
+            if (key == null || !key.isValid()) return;
+            int ops = 0;
+            if (inbound.size() < MAX_PENDING_MESSAGES) ops |= SelectionKey.OP_READ;
+            if (!outbound.isEmpty()) ops |= SelectionKey.OP_WRITE;
+            key.interestOps(ops);
+        }
+    }
+}
@@ -1,91 +1,112 @@
 package com.giozar04.servers.application.services;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
 import java.net.Socket;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 
-import com.giozar04.json.utils.JsonUtils;
+import com.giozar04.binary.codec.MessageOpcodes;
+import com.giozar04.binary.domain.exceptions.BinaryExceptions;
+import com.giozar04.json.domain.exceptions.JsonExceptions;
+import com.giozar04.messages.application.io.MessageCompression;
+import com.giozar04.messages.application.io.MessageReader;
+import com.giozar04.messages.application.io.MessageWriter;
+import com.giozar04.messages.application.utils.MessageProtocolUtils;
+import com.giozar04.messages.domain.enums.WireProtocol;
 import com.giozar04.messages.domain.models.Message;
+import com.giozar04.metrics.domain.models.OperationMetrics;
 import com.giozar04.servers.domain.exceptions.ServerOperationException;
-import com.giozar04.servers.domain.handlers.MessageHandler;
 import com.giozar04.servers.domain.models.ClientConnection;
 import com.giozar04.servers.domain.models.ServerAbstract;
+import com.giozar04.servers.domain.models.StreamedResponse;
 
 /**
  * Implementa el servidor de sockets como Singleton.
+ *
+ * Por defecto cada cliente se atiende en un hilo que procesa sus mensajes en orden. Con un
+ * pool de solicitudes, los mensajes que traen requestId se procesan en ese pool y sus
+ * respuestas se escriben en el orden en que terminan; el cliente las asocia por requestId.
+ *
+ * Toda conexión empieza con líneas JSON. Si el protocolo binario o la compresión están
+ * habilitados, el WELCOME los ofrece y el cliente puede pedirlos con SET_PROTOCOL (ver
+ * MessageProtocolUtils).
  */
 public class ServerService extends ServerAbstract {
 
     private static volatile ServerService instance;
     private final Map<Integer, ClientConnection> connectedClients;
-    private final Map<String, MessageHandler> messageHandlers;
-    private boolean shutdownHookRegistered = false;
+    // Pool para procesar solicitudes en paralelo dentro de una conexión; null = en orden
+    private final ExecutorService requestPool;
+    private final int maxInFlightRequests;
+    // Protocolos que ofrece el WELCOME (JSON siempre)
+    private final List<WireProtocol> protocols;
+    // Compresión que ofrece el WELCOME; NONE = deshabilitada
+    private final MessageCompression compression;
 
-    private ServerService(String serverHost, int serverPort, ExecutorService threadPool) {
+    private ServerService(String serverHost, int serverPort, ExecutorService threadPool,
+            ExecutorService requestPool, int maxInFlightRequests, boolean binaryProtocol,
+            MessageCompression compression) {
         super(serverHost, serverPort, threadPool);
+        if (requestPool != null && maxInFlightRequests <= 0) {
+            throw new IllegalArgumentException("El límite de solicitudes en curso debe ser mayor que cero");
+        }
         this.connectedClients = new ConcurrentHashMap<>();
-        this.messageHandlers = new ConcurrentHashMap<>();
+        this.requestPool = requestPool;
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.protocols = binaryProtocol ? List.of(WireProtocol.JSON, WireProtocol.BINARY) : List.of(WireProtocol.JSON);
+        this.compression = compression;
         registerShutdownHook();
     }
 
     public static ServerService getInstance(String serverHost, int serverPort, ExecutorService threadPool) {
-        if (instance == null) {
-            synchronized (ServerService.class) {
-                if (instance == null) {
-                    instance = new ServerService(serverHost, serverPort, threadPool);
-                }
-            }
-        }
-        return instance;
+        return getInstance(serverHost, serverPort, threadPool, null, 0);
     }
 
-    /** Registra un manejador para un tipo de mensaje. */
-    public ServerService registerHandler(String messageType, MessageHandler handler) {
-        messageHandlers.put(messageType, handler);
-        logger.info("Manejador registrado para mensajes de tipo: " + messageType);
-        return this;
+    /**
+     * @param requestPool Pool donde se procesan las solicitudes con requestId, o null para
+     *                    procesar todos los mensajes de cada cliente en orden.
+     * @param maxInFlightRequests Solicitudes en curso por cliente; al alcanzarlo se deja de leer
+     *                            su socket hasta que termine alguna.
+     */
+    public static ServerService getInstance(String serverHost, int serverPort, ExecutorService threadPool,
+            ExecutorService requestPool, int maxInFlightRequests) {
+        return getInstance(serverHost, serverPort, threadPool, requestPool, maxInFlightRequests, false);
     }
 
-    /** Elimina el manejador de un tipo de mensaje. */
-    public ServerService unregisterHandler(String messageType) {
-        messageHandlers.remove(messageType);
-        logger.info("Manejador eliminado para mensajes de tipo: " + messageType);
-        return this;
+    /**
+     * @param binaryProtocol true para ofrecer el protocolo binario en el WELCOME; los clientes
+     *                       que no lo piden siguen en JSON.
+     */
+    public static ServerService getInstance(String serverHost, int serverPort, ExecutorService threadPool,
+            ExecutorService requestPool, int maxInFlightRequests, boolean binaryProtocol) {
+        return getInstance(serverHost, serverPort, threadPool, requestPool, maxInFlightRequests, binaryProtocol,
+                MessageCompression.NONE);
     }
 
-    /** Registra un ShutdownHook para liberar recursos al cerrar la aplicación. */
-    private void registerShutdownHook() {
-        if (!shutdownHookRegistered) {
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                logger.info("Apagando el servidor y liberando recursos...");
-                try {
-                    if (isServerRunning()) {
-                        stopServer();
-                    }
-                    if (threadPool != null && !threadPool.isShutdown()) {
-                        threadPool.shutdown();
-                        if (!threadPool.awaitTermination(5, TimeUnit.SECONDS)) {
-                            threadPool.shutdownNow();
-                            if (!threadPool.awaitTermination(5, TimeUnit.SECONDS)) {
-                                logger.error("El pool de hilos no se cerró correctamente");
-                            }
-                        }
-                    }
-                } catch (ServerOperationException | InterruptedException e) {
-                    logger.error("Error al liberar recursos del servidor", e);
-                    Thread.currentThread().interrupt();
+    /**
+     * @param compression Compresión que se ofrece en el WELCOME, o MessageCompression.NONE; solo
+     *                    la usan los clientes que la piden.
+     */
+    public static ServerService getInstance(String serverHost, int serverPort, ExecutorService threadPool,
+            ExecutorService requestPool, int maxInFlightRequests, boolean binaryProtocol,
+            MessageCompression compression) {
+        if (instance == null) {
+            // ReentrantLock en lugar de synchronized: no fija el hilo portador si se llama desde un hilo virtual
+            LOCK.lock();
+            try {
+                if (instance == null) {
+                    instance = new ServerService(serverHost, serverPort, threadPool, requestPool, maxInFlightRequests,
+                            binaryProtocol, compression);
                 }
-                logger.info("Servidor detenido y recursos liberados");
-            }));
-            shutdownHookRegistered = true;
-            logger.info("ShutdownHook registrado para limpieza de recursos");
+            } finally {
+                LOCK.unlock();
+            }
         }
+        return instance;
     }
 
     @Override
@@ -170,23 +191,41 @@ public class ServerService extends ServerAbstract {
                    clientConnection.getSocket().getInetAddress().getHostAddress());
 
         threadPool.submit(() -> {
-            BufferedReader in = null;
-            PrintWriter out = null;
+            MessageReader in = null;
+            MessageWriter out = null;
             try {
                 Socket socket = clientConnection.getSocket();
-                in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-                out = new PrintWriter(socket.getOutputStream(), true);
-                Message welcomeMessage = Message.createSuccessMessage("WELCOME",
+                in = new MessageReader(socket.getInputStream());
+                out = new MessageWriter(socket.getOutputStream());
+                Semaphore inFlight = requestPool != null ? new Semaphore(maxInFlightRequests) : null;
+                Message welcomeMessage = Message.createSuccessMessage(MessageProtocolUtils.WELCOME,
                         "Conexión establecida. Cliente ID: " + clientConnection.getId());
-                out.println(JsonUtils.messageToJson(welcomeMessage));
+                MessageProtocolUtils.offerProtocols(welcomeMessage, protocols);
+                MessageProtocolUtils.offerCompression(welcomeMessage, compression);
+                out.write(welcomeMessage);
 
                 while (!socket.isClosed() && isRunning) {
-                    String receivedJson = in.readLine();
-                    if (receivedJson == null) break;
-                    Message receivedMessage = JsonUtils.jsonToMessage(receivedJson);
-                    logger.info("Mensaje recibido del cliente " + clientConnection.getId() +
+                    Message receivedMessage;
+                    try {
+                        receivedMessage = in.read();
+                    } catch (JsonExceptions.JsonException | BinaryExceptions.BinaryException e) {
+                        logger.error("Mensaje inválido del cliente " + clientConnection.getId(), e);
+                        continue;
+                    }
+                    if (receivedMessage == null) break;
+                    logger.debug(() -> "Mensaje recibido del cliente " + clientConnection.getId() +
                                ": " + receivedMessage.getType());
-                    processMessage(clientConnection, receivedMessage, out);
+                    // Se atiende en este hilo: el siguiente mensaje ya llega en el protocolo nuevo
+                    if (MessageProtocolUtils.isProtocolRequest(receivedMessage)) {
+                        switchProtocol(clientConnection, receivedMessage, in, out);
+                        continue;
+                    }
+                    // Sin requestId el cliente no puede asociar respuestas fuera de orden
+                    if (inFlight != null && receivedMessage.getRequestId() != null) {
+                        submitMessage(clientConnection, receivedMessage, out, inFlight);
+                    } else {
+                        processMessage(clientConnection, receivedMessage, out);
+                    }
                 }
             } catch (IOException e) {
                 logger.info("Cliente " + clientConnection.getId() + " desconectado: " + e.getMessage());
@@ -208,31 +247,93 @@ public class ServerService extends ServerAbstract {
         });
     }
 
-    /** Procesa un mensaje usando el manejador registrado correspondiente. */
-    private void processMessage(ClientConnection clientConnection, Message message, PrintWriter out) throws IOException {
-        String messageType = message.getType();
-        MessageHandler handler = messageHandlers.get(messageType);
-        if (handler != null) {
-            try {
-                Message response = handler.handleMessage(clientConnection, message);
-                if (response != null) {
-                    out.println(JsonUtils.messageToJson(response));
-                    logger.info("Respuesta enviada al cliente " + clientConnection.getId() +
-                               " para mensaje: " + messageType);
+    /**
+     * Procesa el mensaje en el pool de solicitudes. Si el cliente ya tiene el máximo de
+     * solicitudes en curso, el hilo lector espera aquí y deja de leer su socket.
+     */
+    private void submitMessage(ClientConnection clientConnection, Message message, MessageWriter writer,
+            Semaphore inFlight) throws InterruptedException, IOException {
+        inFlight.acquire();
+        try {
+            requestPool.execute(() -> {
+                try {
+                    processMessage(clientConnection, message, writer);
+                } catch (IOException e) {
+                    logger.info("Respuesta no enviada al cliente " + clientConnection.getId() + ": " + e.getMessage());
+                } finally {
+                    inFlight.release();
                 }
-            } catch (Exception e) {
-                logger.error("Error procesando mensaje tipo '" + messageType +
-                           "' del cliente " + clientConnection.getId(), e);
-                Message errorResponse = Message.createErrorMessage(messageType, "Error al procesar solicitud: " + e.getMessage());
-                out.println(JsonUtils.messageToJson(errorResponse));
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            logger.warn("Pool de solicitudes saturado, se rechaza el mensaje del cliente " + clientConnection.getId());
+            Message busy = Message.createErrorMessage(message.getType(), "Servidor ocupado, intente de nuevo");
+            busy.setRequestId(message.getRequestId());
+            writer.write(busy);
+        }
+    }
+
+    /**
+     * Procesa un mensaje usando el manejador registrado correspondiente. La latencia que se mide
+     * por tipo incluye escribir la respuesta; una respuesta ERROR o una escritura fallida
+     * cuentan como error.
+     */
+    private void processMessage(ClientConnection clientConnection, Message message, MessageWriter writer) throws IOException {
+        OperationMetrics metrics = messageMetrics(message);
+        long start = metrics != null ? metrics.start() : 0;
+        boolean failed = true;
+        try {
+            Message response = dispatchMessage(clientConnection, message);
+            if (response instanceof StreamedResponse<?> streamed) {
+                long rows = streamed.writeTo(writer::write);
+                logger.debug(() -> "Respuesta por partes enviada al cliente " + clientConnection.getId() +
+                           " para mensaje: " + message.getType() + " (" + rows + " filas)");
+            } else if (response != null) {
+                writer.write(response);
+                logger.debug(() -> "Respuesta enviada al cliente " + clientConnection.getId() +
+                           " para mensaje: " + message.getType());
+            }
+            failed = response != null && response.getStatus() == Message.Status.ERROR;
+        } finally {
+            if (metrics != null) {
+                metrics.stop(start, failed);
             }
-        } else {
-            logger.warn("Sin manejador para mensaje de tipo: " + messageType);
-            Message errorResponse = Message.createErrorMessage(messageType, "Tipo de mensaje no soportado: " + messageType);
-            out.println(JsonUtils.messageToJson(errorResponse));
         }
     }
 
+    /**
+     * Responde a SET_PROTOCOL y cambia el protocolo y la compresión de la conexión. La respuesta
+     * se escribe con la configuración anterior y el cambio ocurre bajo el lock de escritura, así
+     * que las respuestas en curso de otras solicitudes quedan antes o después de ella, nunca a
+     * la mitad.
+     */
+    private void switchProtocol(ClientConnection clientConnection, Message request, MessageReader in,
+            MessageWriter out) throws IOException {
+        WireProtocol protocol;
+        try {
+            protocol = MessageProtocolUtils.protocolOf(request);
+        } catch (IllegalArgumentException e) {
+            protocol = null;
+        }
+        if (protocol == null || !protocols.contains(protocol)) {
+            Message error = Message.createErrorMessage(MessageProtocolUtils.SET_PROTOCOL,
+                    "Protocolo no disponible: " + request.getData(MessageProtocolUtils.PROTOCOL_KEY));
+            error.setRequestId(request.getRequestId());
+            out.write(error);
+            return;
+        }
+
+        // Los códigos salen de los tipos registrados (las constantes MessageTypes de cada controlador)
+        MessageOpcodes opcodes = protocol == WireProtocol.BINARY
+                ? MessageOpcodes.of(messageHandlers.keySet())
+                : MessageOpcodes.EMPTY;
+        MessageCompression agreed = MessageProtocolUtils.negotiateCompression(request, compression);
+        out.writeAndSwitch(MessageProtocolUtils.createProtocolAck(request, protocol, opcodes, agreed),
+                protocol, opcodes, agreed);
+        in.switchTo(protocol, opcodes, agreed);
+        logger.info("Cliente " + clientConnection.getId() + " usa el protocolo " + protocol.getValue() + ", " + agreed);
+    }
+
     @Override
     public void close() throws Exception {
         try {
@@ -1,7 +1,7 @@
 package com.giozar04.servers.domain.interfaces;
 
-import com.giozar04.servers.application.services.ServerService;
+import com.giozar04.servers.domain.models.ServerAbstract;
 
 public interface ServerRegisterHandlers {
-    void register(ServerService server);
+    void register(ServerAbstract server);
 }
@@ -4,14 +4,22 @@ import java.io.IOException;
 import java.net.InetAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 import com.giozar04.logging.CustomLogger;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.metrics.domain.models.MetricsRegistry;
+import com.giozar04.metrics.domain.models.OperationMetrics;
 import com.giozar04.servers.domain.exceptions.ServerOperationException;
+import com.giozar04.servers.domain.handlers.MessageHandler;
 import com.giozar04.servers.domain.interfaces.ServerInterface;
+import com.giozar04.threads.utils.VirtualThreads;
 
 /**
  * Implementación base para servidores de sockets.
@@ -20,6 +28,8 @@ import com.giozar04.servers.domain.interfaces.ServerInterface;
 public abstract class ServerAbstract implements ServerInterface {
 
     protected static final ReentrantLock LOCK = new ReentrantLock();
+    // Nombre con el que se miden los mensajes sin manejador, para no crear una entrada por cada tipo desconocido
+    private static final String UNHANDLED_MESSAGE_TYPE = "(sin manejador)";
     protected ServerSocket serverSocket;
     protected final String serverHost;
     protected final int serverPort;
@@ -29,6 +39,9 @@ public abstract class ServerAbstract implements ServerInterface {
     protected final AtomicInteger connectedClientsCount = new AtomicInteger(0);
     // Generador único de identificadores para clientes
     protected final AtomicInteger clientIdGenerator = new AtomicInteger(0);
+    // Manejadores registrados por tipo de mensaje
+    protected final Map<String, MessageHandler> messageHandlers = new ConcurrentHashMap<>();
+    private boolean shutdownHookRegistered = false;
 
     /**
      * Constructor para inicializar un servidor abstracto.
@@ -50,6 +63,110 @@ public abstract class ServerAbstract implements ServerInterface {
         this.isRunning = false;
     }
 
+    /**
+     * Registra un ShutdownHook para liberar recursos al cerrar la aplicación.
+     */
+    protected void registerShutdownHook() {
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                logger.info("Apagando el servidor y liberando recursos...");
+                try {
+                    if (isServerRunning()) {
+                        stopServer();
+                    }
+                    if (threadPool != null && !threadPool.isShutdown()) {
+                        threadPool.shutdown();
+                        if (!threadPool.awaitTermination(5, TimeUnit.SECONDS)) {
+                            threadPool.shutdownNow();
+                            if (!threadPool.awaitTermination(5, TimeUnit.SECONDS)) {
+                                logger.error("El pool de hilos no se cerró correctamente");
+                            }
+                        }
+                    }
+                } catch (ServerOperationException | InterruptedException e) {
+                    logger.error("Error al liberar recursos del servidor", e);
+                    Thread.currentThread().interrupt();
+                }
+                logger.info("Servidor detenido y recursos liberados");
+            }));
+            shutdownHookRegistered = true;
+            logger.info("ShutdownHook registrado para limpieza de recursos");
+        }
+    }
+
+    /**
+     * Registra un manejador para un tipo de mensaje.
+     *
+     * @param messageType El tipo de mensaje.
+     * @param handler El manejador que procesará los mensajes de ese tipo.
+     * @return La instancia del servidor, para encadenar llamadas.
+     */
+    public ServerAbstract registerHandler(String messageType, MessageHandler handler) {
+        messageHandlers.put(messageType, handler);
+        logger.info("Manejador registrado para mensajes de tipo: " + messageType);
+        return this;
+    }
+
+    /**
+     * Elimina el manejador de un tipo de mensaje.
+     *
+     * @param messageType El tipo de mensaje.
+     * @return La instancia del servidor, para encadenar llamadas.
+     */
+    public ServerAbstract unregisterHandler(String messageType) {
+        messageHandlers.remove(messageType);
+        logger.info("Manejador eliminado para mensajes de tipo: " + messageType);
+        return this;
+    }
+
+    /**
+     * Ejecuta el manejador registrado para el tipo del mensaje y construye la respuesta.
+     * Los errores del manejador y los tipos no soportados se convierten en mensajes de error,
+     * de modo que cada implementación solo se encarga de escribir la respuesta.
+     * La respuesta lleva el requestId de la solicitud para que el cliente la asocie aunque
+     * tenga varias solicitudes del mismo tipo en curso.
+     *
+     * @param clientConnection El cliente que envió el mensaje.
+     * @param message El mensaje recibido.
+     * @return La respuesta a enviar, o null si el manejador no genera respuesta.
+     */
+    protected Message dispatchMessage(ClientConnection clientConnection, Message message) {
+        Message response = invokeHandler(clientConnection, message);
+        if (response != null && response.getRequestId() == null) {
+            response.setRequestId(message.getRequestId());
+        }
+        return response;
+    }
+
+    /**
+     * @return Las métricas del tipo del mensaje, o null si las métricas están deshabilitadas.
+     */
+    protected OperationMetrics messageMetrics(Message message) {
+        if (!MetricsRegistry.isEnabled()) {
+            return null;
+        }
+        String messageType = message.getType();
+        return MetricsRegistry.message(messageType != null && messageHandlers.containsKey(messageType)
+                ? messageType
+                : UNHANDLED_MESSAGE_TYPE);
+    }
+
+    private Message invokeHandler(ClientConnection clientConnection, Message message) {
+        String messageType = message.getType();
+        MessageHandler handler = messageHandlers.get(messageType);
+        if (handler == null) {
+            logger.warn("Sin manejador para mensaje de tipo: " + messageType);
+            return Message.createErrorMessage(messageType, "Tipo de mensaje no soportado: " + messageType);
+        }
+        try {
+            return handler.handleMessage(clientConnection, message);
+        } catch (Exception e) {
+            logger.error("Error procesando mensaje tipo '" + messageType +
+                       "' del cliente " + clientConnection.getId(), e);
+            return Message.createErrorMessage(messageType, "Error al procesar solicitud: " + e.getMessage());
+        }
+    }
+
     /**
      * Método base para iniciar el servidor.
      *
@@ -57,7 +174,7 @@ public abstract class ServerAbstract implements ServerInterface {
      * @throws IOException si ocurre un error de E/S durante la operación.
      */
     protected void baseStartServer() throws ServerOperationException, IOException {
-        LOCK.lock();
+        VirtualThreads.lock(LOCK, "ServerAbstract.baseStartServer");
         try {
             if (isRunning) {
                 logger.info("El servidor ya se encuentra activo en " + serverHost + ":" + serverPort);
@@ -81,7 +198,7 @@ public abstract class ServerAbstract implements ServerInterface {
      * @throws ServerOperationException si ocurre un error al detener el servidor.
      */
     protected void baseStopServer() throws ServerOperationException {
-        LOCK.lock();
+        VirtualThreads.lock(LOCK, "ServerAbstract.baseStopServer");
         try {
             if (!isRunning) {
                 logger.info("El servidor ya se encuentra detenido");
@@ -200,6 +317,13 @@ public abstract class ServerAbstract implements ServerInterface {
         return connectedClientsCount.get();
     }
 
+    /**
+     * @return Conexiones aceptadas desde el inicio del servidor.
+     */
+    public int getAcceptedConnectionsCount() {
+        return clientIdGenerator.get();
+    }
+
     /**
      * Método abstracto para manejar la conexión de un cliente.
      * Las subclases deben proporcionar la implementación específica.
@@ -0,0 +1,147 @@
+package com.giozar04.servers.domain.models;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.messages.domain.models.Message;
+
+/**
+ * Respuesta que se envía por partes: una trama BEGIN, una trama BATCH por cada lote de filas
+ * y una trama END con el total (ver Message.StreamFrame).
+ *
+ * El manejador la devuelve sin leer nada todavía; las filas se piden a la fuente cuando el
+ * servidor escribe la respuesta, y cada lote se serializa y se descarta antes de leer el
+ * siguiente. Así ni el servidor ni el cliente tienen la lista completa en una sola línea.
+ *
+ * @param <T> Tipo de las filas.
+ */
+public class StreamedResponse<T> extends Message {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int DEFAULT_BATCH_SIZE = 200;
+
+    /**
+     * Fuente de filas, normalmente un método forEachXxx del repositorio.
+     */
+    @FunctionalInterface
+    public interface RowSource<T> {
+        void forEach(Consumer<? super T> action);
+    }
+
+    /**
+     * Destino de las tramas; cada implementación del servidor escribe una línea por trama.
+     */
+    @FunctionalInterface
+    public interface FrameWriter {
+        void write(Message frame) throws IOException;
+    }
+
+    private final String field;
+    private final int batchSize;
+    private final transient RowSource<T> source;
+
+    /**
+     * @param type El tipo de mensaje de la respuesta.
+     * @param content El contenido de las tramas BEGIN y END.
+     * @param field El campo de data donde viaja cada lote (por ejemplo "transactions").
+     * @param source La fuente de filas.
+     */
+    public StreamedResponse(String type, String content, String field, RowSource<T> source) {
+        this(type, content, field, DEFAULT_BATCH_SIZE, source);
+    }
+
+    public StreamedResponse(String type, String content, String field, int batchSize, RowSource<T> source) {
+        super(type, content);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de lote debe ser mayor que cero");
+        }
+        this.field = field;
+        this.batchSize = batchSize;
+        this.source = source;
+        setStatus(Status.SUCCESS);
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    /**
+     * Lee la fuente y escribe todas las tramas.
+     *
+     * Un error de la fuente después de la trama BEGIN no puede convertirse ya en un mensaje de
+     * error normal, así que viaja en la trama END con estado ERROR. Un error al escribir detiene
+     * la lectura de la fuente y se propaga, porque la conexión ya no sirve.
+     *
+     * @param out Destino de las tramas.
+     * @return El número de filas enviadas.
+     * @throws IOException Si falla la escritura de alguna trama.
+     */
+    public long writeTo(FrameWriter out) throws IOException {
+        Message begin = createFrame(StreamFrame.BEGIN);
+        begin.setContent(getContent());
+        begin.addData(STREAM_FIELD_KEY, field);
+        out.write(begin);
+
+        BatchWriter batches = new BatchWriter(out);
+        Message end = createFrame(StreamFrame.END);
+        try {
+            source.forEach(batches);
+            batches.flush();
+            end.setContent(getContent());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (RuntimeException e) {
+            CustomLogger.getInstance().error("Error leyendo las filas de la respuesta '" + getType() + "'", e);
+            end.setStatus(Status.ERROR);
+            end.setContent("Error al procesar solicitud: " + e.getMessage());
+        }
+        end.addData("count", batches.count);
+        out.write(end);
+        return batches.count;
+    }
+
+    /** Crea una trama con el tipo y el requestId de esta respuesta. */
+    private Message createFrame(StreamFrame kind) {
+        Message frame = Message.createStreamFrame(getType(), kind);
+        frame.setRequestId(getRequestId());
+        return frame;
+    }
+
+    /** Acumula filas y escribe una trama BATCH cada vez que se completa un lote. */
+    private final class BatchWriter implements Consumer<T> {
+        private final FrameWriter out;
+        private final List<T> batch = new ArrayList<>(batchSize);
+        private long count;
+
+        private BatchWriter(FrameWriter out) {
+            this.out = out;
+        }
+
+        @Override
+        public void accept(T row) {
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                try {
+                    flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        private void flush() throws IOException {
+            if (batch.isEmpty()) return;
+            Message frame = createFrame(StreamFrame.BATCH);
+            frame.addData(field, batch);
+            // La trama se serializa dentro de write, así que el lote se puede reutilizar
+            out.write(frame);
+            count += batch.size();
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.giozar04.servers.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import com.giozar04.accounts.domain.entities.Account;
+import com.giozar04.accounts.domain.enums.AccountTypes;
+import com.giozar04.binary.codec.MessageOpcodes;
+import com.giozar04.messages.application.io.MessageCompression;
+import com.giozar04.messages.application.io.MessageReader;
+import com.giozar04.messages.application.io.MessageWriter;
+import com.giozar04.messages.domain.enums.WireProtocol;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+
+/**
+ * Mide el intercambio entre bytes enviados y CPU de la compresión de mensajes en ambos
+ * protocolos, con las mismas clases que usan ServerService y ServerConnectionService
+ * (MessageWriter y MessageReader). Los datos imitan una base real: comercios, categorías y
+ * montos variados, no filas idénticas que deflate comprimiría de forma irreal.
+ *
+ * Uso: MessageCompressionBenchmarkApp [transacciones] [iteraciones]
+ *
+ * Para cada mensaje muestra los bytes en el socket, los milisegundos de CPU de escritura
+ * (serializar y comprimir) y de lectura (descomprimir y decodificar) por mensaje, y el tiempo
+ * que tardarían esos bytes en una red de 10 y 100 Mbit/s.
+ */
+public class MessageCompressionBenchmarkApp {
+
+    private static final int WARMUP_ITERATIONS = 20;
+
+    private static final String[] MERCHANTS = {
+        "Walmart", "Soriana", "Oxxo", "Liverpool", "Amazon", "Mercado Libre", "Uber", "Didi Food",
+        "CFE", "Telmex", "Cinépolis", "Farmacias Guadalajara", "Pemex", "Starbucks", "Costco", "Netflix"
+    };
+    private static final String[] CATEGORIES = {
+        "Supermercado", "Transporte", "Servicios", "Restaurantes", "Entretenimiento", "Salud", "Hogar", "Compras"
+    };
+    private static final String[] TAGS = { "", "despensa", "hogar,mensual", "viaje", "trabajo", "msi" };
+
+    // Evita que el JIT elimine el trabajo medido
+    private static Object sink;
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 5_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 50;
+
+        List<Transaction> transactions = buildTransactions(count);
+        List<Message> messages = List.of(
+                listMessage("GET_ALL_TRANSACTIONS", "transactions", transactions),
+                listMessage("GET_ALL_TRANSACTIONS", "transactions", transactions.subList(0, Math.min(50, count))),
+                listMessage("GET_ALL_ACCOUNTS", "accounts", buildAccounts(40)),
+                listMessage("GET_TRANSACTION", "transaction", transactions.get(0)));
+        MessageOpcodes opcodes = MessageOpcodes.of(List.of("GET_ALL_TRANSACTIONS", "GET_ALL_ACCOUNTS", "GET_TRANSACTION"));
+
+        for (Message message : messages) {
+            System.out.println();
+            System.out.println(describe(message));
+            System.out.printf("%-22s %10s %8s %10s %10s %10s %10s%n",
+                    "", "bytes", "ratio", "CPU escr", "CPU lect", "10Mbit ms", "100Mbit ms");
+            long plainJson = -1;
+            for (WireProtocol protocol : WireProtocol.values()) {
+                for (MessageCompression compression : compressions()) {
+                    byte[] encoded = encode(message, protocol, opcodes, compression);
+                    if (plainJson < 0) plainJson = encoded.length;
+
+                    double writeMs = measure(iterations, () -> encode(message, protocol, opcodes, compression));
+                    double readMs = measure(iterations, () -> decode(encoded, protocol, opcodes, compression));
+                    System.out.printf("%-22s %10d %7.1f%% %10.3f %10.3f %10.2f %10.2f%n",
+                            protocol.getValue() + " " + label(compression), encoded.length,
+                            encoded.length * 100.0 / plainJson, writeMs, readMs,
+                            encoded.length * 8 / 10_000.0, encoded.length * 8 / 100_000.0);
+                }
+            }
+        }
+        System.out.println();
+        System.out.println("Umbral por defecto: " + MessageCompression.DEFAULT_THRESHOLD
+                + " bytes; los mensajes más chicos se envían sin comprimir aunque la compresión esté acordada.");
+    }
+
+    private static List<MessageCompression> compressions() {
+        // Umbral 0 para medir la compresión aun en los mensajes chicos
+        return List.of(MessageCompression.NONE, MessageCompression.deflate(0, 1), MessageCompression.deflate(0, 6));
+    }
+
+    private static String label(MessageCompression compression) {
+        return compression.isEnabled() ? "deflate-" + compression.getLevel() : "";
+    }
+
+    private static String describe(Message message) {
+        Object data = message.getData().values().iterator().next();
+        return message.getType() + (data instanceof List<?> list ? " (" + list.size() + " filas)" : "");
+    }
+
+    private static byte[] encode(Message message, WireProtocol protocol, MessageOpcodes opcodes,
+            MessageCompression compression) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MessageWriter writer = new MessageWriter(bytes);
+        writer.switchTo(protocol, opcodes, compression);
+        try {
+            writer.write(message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Message decode(byte[] encoded, WireProtocol protocol, MessageOpcodes opcodes,
+            MessageCompression compression) {
+        MessageReader reader = new MessageReader(new ByteArrayInputStream(encoded));
+        reader.switchTo(protocol, opcodes, compression);
+        try {
+            return reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Message listMessage(String type, String field, Object data) {
+        Message message = Message.createSuccessMessage(type, "Consulta exitosa");
+        message.addData(field, data);
+        return message;
+    }
+
+    private static List<Transaction> buildTransactions(int count) {
+        Random random = new Random(42);
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of("America/Mexico_City"));
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String merchant = MERCHANTS[random.nextInt(MERCHANTS.length)];
+            ZonedDateTime date = now.minusMinutes(random.nextInt(365 * 24 * 60));
+            Transaction tx = new Transaction();
+            tx.setId(100_000 + i);
+            tx.setOperationType(random.nextInt(10) == 0 ? OperationTypes.INCOME : OperationTypes.EXPENSE);
+            tx.setPaymentMethod(PaymentMethod.values()[random.nextInt(PaymentMethod.values().length)]);
+            tx.setSourceAccountId((long) (random.nextInt(12) + 1));
+            tx.setAmount(BigDecimal.valueOf(random.nextInt(500_000) + 100, 2));
+            tx.setConcept(merchant + " " + (random.nextInt(900) + 100));
+            tx.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+            tx.setDescription(random.nextInt(3) == 0 ? null : "Compra en " + merchant + " sucursal " + random.nextInt(60));
+            tx.setComments(random.nextInt(8) == 0 ? "Revisar cargo" : "");
+            tx.setDate(date);
+            tx.setTimezone("America/Mexico_City");
+            tx.setTags(TAGS[random.nextInt(TAGS.length)]);
+            tx.setCreatedAt(date.plusSeconds(random.nextInt(3600)));
+            tx.setUpdatedAt(date.plusSeconds(random.nextInt(86_400)));
+            transactions.add(tx);
+        }
+        return transactions;
+    }
+
+    private static List<Account> buildAccounts(int count) {
+        Random random = new Random(7);
+        ZonedDateTime now = ZonedDateTime.now(ZoneId.of("America/Mexico_City"));
+        List<Account> accounts = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            AccountTypes type = AccountTypes.values()[random.nextInt(AccountTypes.values().length)];
+            Account account = new Account();
+            account.setId(i);
+            account.setUserId(1);
+            account.setBankClientId((long) (random.nextInt(5) + 1));
+            account.setName(type.getLabel() + " " + i);
+            account.setType(type);
+            account.setCurrentBalance(random.nextInt(10_000_000) / 100.0);
+            account.setAccountNumber(String.valueOf(1_000_000_000L + random.nextInt(900_000_000)));
+            account.setClabe("0121800" + (10_000_000_000L + random.nextInt(1_000_000_000)));
+            if (type == AccountTypes.CREDIT) {
+                account.setCreditLimit(50_000.0);
+                account.setCreditUsed(random.nextInt(5_000_000) / 100.0);
+                account.setCutoffDay(random.nextInt(28) + 1);
+                account.setPaymentDay(random.nextInt(28) + 1);
+            }
+            account.setCreatedAt(now.minusDays(random.nextInt(1000)));
+            account.setUpdatedAt(now.minusDays(random.nextInt(30)));
+            accounts.add(account);
+        }
+        return accounts;
+    }
+
+    /**
+     * @return Milisegundos de CPU del hilo por operación.
+     */
+    private static double measure(int iterations, Supplier<Object> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = operation.get();
+        }
+        return (threads.getCurrentThreadCpuTime() - start) / 1_000_000.0 / iterations;
+    }
+}
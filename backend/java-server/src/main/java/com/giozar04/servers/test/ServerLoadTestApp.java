@@ -0,0 +1,160 @@
+package com.giozar04.servers.test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import com.giozar04.json.utils.JsonUtils;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.servers.application.services.ServerService;
+import com.giozar04.threads.utils.VirtualThreads;
+
+/**
+ * Prueba de carga del servidor bloqueante con hilos de plataforma o hilos virtuales.
+ *
+ * Uso: ServerLoadTestApp [platform|virtual] [conexiones] [rondas] [latenciaMs]
+ *
+ * Cada conexión envía un PING por ronda; el manejador simula una consulta a la base de datos
+ * durmiendo latenciaMs. Ejecutar una vez por modo y comparar los resultados. Con 10 000
+ * conexiones se necesita un límite de descriptores suficiente (ulimit -n) y, para el modo
+ * virtual, Java 21+ (se recomienda -Djdk.tracePinnedThreads=short).
+ */
+public class ServerLoadTestApp {
+
+    private static final String HOST = "localhost";
+    private static final int PORT = 18080;
+    private static final int CLIENT_THREADS = 16;
+
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "virtual";
+        int connections = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        long latencyMs = args.length > 3 ? Long.parseLong(args[3]) : 5;
+
+        ExecutorService serverPool = createServerPool(mode);
+        ServerService server = ServerService.getInstance(HOST, PORT, serverPool);
+        server.registerHandler("PING", (client, message) -> {
+            Thread.sleep(latencyMs);
+            return Message.createSuccessMessage("PING", "PONG");
+        });
+        server.startServer();
+
+        System.out.println("Modo: " + mode + ", conexiones: " + connections + ", rondas: " + rounds
+                + ", latencia simulada: " + latencyMs + " ms");
+
+        List<ClientSlice> slices = new ArrayList<>();
+        for (int i = 0; i < CLIENT_THREADS; i++) {
+            slices.add(new ClientSlice());
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < connections; i++) {
+            slices.get(i % CLIENT_THREADS).connect();
+        }
+        long connectMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.println("Conexiones establecidas en " + connectMillis + " ms");
+
+        ExecutorService clientPool = Executors.newFixedThreadPool(CLIENT_THREADS);
+        String ping = JsonUtils.messageToJson(Message.createSuccessMessage("PING", "PING"));
+        start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (ClientSlice slice : slices) {
+                results.add(clientPool.submit(() -> slice.pingAll(ping)));
+            }
+            int errors = 0;
+            for (Future<Integer> result : results) {
+                errors += result.get();
+            }
+            if (errors > 0) {
+                System.out.println("Ronda " + (round + 1) + ": " + errors + " respuestas con error");
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long requests = (long) connections * rounds;
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        Runtime runtime = Runtime.getRuntime();
+        System.out.println("Solicitudes: " + requests + " en " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + " ms ("
+                + (requests * 1_000_000_000L / Math.max(1, elapsedNanos)) + " req/s)");
+        System.out.println("Hilos de plataforma: actuales " + threads.getThreadCount()
+                + ", pico " + threads.getPeakThreadCount());
+        System.out.println("Memoria usada: " + (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024) + " MB");
+        System.out.println("Clientes conectados según el servidor: " + server.getConnectedClientsCount());
+
+        for (ClientSlice slice : slices) {
+            slice.closeAll();
+        }
+        clientPool.shutdownNow();
+        server.stopServer();
+        serverPool.shutdownNow();
+        System.out.println("Prueba finalizada.");
+        System.exit(0);
+    }
+
+    private static ExecutorService createServerPool(String mode) {
+        if ("virtual".equalsIgnoreCase(mode)) {
+            ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("client-vt-");
+            if (executor != null) {
+                return executor;
+            }
+            System.out.println("La JVM no soporta hilos virtuales, se usan hilos de plataforma");
+        }
+        return Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Grupo de conexiones atendido por un único hilo cliente: escribe un PING en cada socket
+     * y después lee las respuestas, de modo que todas las solicitudes están en vuelo a la vez.
+     */
+    private static class ClientSlice {
+        private final List<Socket> sockets = new ArrayList<>();
+        private final List<BufferedReader> readers = new ArrayList<>();
+        private final List<PrintWriter> writers = new ArrayList<>();
+
+        void connect() throws IOException {
+            Socket socket = new Socket(HOST, PORT);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true);
+            // Descarta el mensaje WELCOME
+            in.readLine();
+            sockets.add(socket);
+            readers.add(in);
+            writers.add(out);
+        }
+
+        int pingAll(String ping) throws IOException {
+            for (PrintWriter out : writers) {
+                out.println(ping);
+            }
+            int errors = 0;
+            for (BufferedReader in : readers) {
+                String response = in.readLine();
+                if (response == null || JsonUtils.jsonToMessage(response).getStatus() != Message.Status.SUCCESS) {
+                    errors++;
+                }
+            }
+            return errors;
+        }
+
+        void closeAll() {
+            for (Socket socket : sockets) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // Ignorado al finalizar la prueba
+                }
+            }
+        }
+    }
+}
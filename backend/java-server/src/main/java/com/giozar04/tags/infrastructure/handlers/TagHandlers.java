@@ -1,7 +1,7 @@
 package com.giozar04.tags.infrastructure.handlers;
 
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 import com.giozar04.tags.application.services.TagService;
 import com.giozar04.tags.infrastructure.controllers.TagControllers;
 
@@ -14,7 +14,7 @@ public class TagHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(
             TagControllers.TagMessageTypes.CREATE_TAG,
             TagControllers.createTagController(tagService)
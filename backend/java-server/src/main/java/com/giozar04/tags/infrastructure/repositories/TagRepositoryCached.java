@@ -0,0 +1,65 @@
+package com.giozar04.tags.infrastructure.repositories;
+
+import java.util.List;
+
+import com.giozar04.caches.domain.models.CacheRegistry;
+import com.giozar04.caches.domain.models.CacheStats;
+import com.giozar04.caches.domain.models.ReferenceDataCache;
+import com.giozar04.tags.domain.entities.Tag;
+import com.giozar04.tags.domain.interfaces.TagRepositoryInterface;
+
+/**
+ * Decorador con caché en memoria de etiquetas sobre otro TagRepositoryInterface
+ * (normalmente TagRepositoryMySQL). Las lecturas se sirven desde memoria y cada escritura
+ * invalida solo lo que cambió (ver ReferenceDataCache).
+ */
+public class TagRepositoryCached implements TagRepositoryInterface {
+
+    private final TagRepositoryInterface delegate;
+    private final ReferenceDataCache<Tag> cache;
+
+    public TagRepositoryCached(TagRepositoryInterface delegate, int maxEntries) {
+        this.delegate = delegate;
+        this.cache = new ReferenceDataCache<>("tags", maxEntries, Tag::getId, Tag::getUserId);
+        CacheRegistry.register(cache);
+    }
+
+    @Override
+    public Tag createTag(Tag tag) {
+        Tag created = delegate.createTag(tag);
+        cache.created(created);
+        return created;
+    }
+
+    @Override
+    public Tag getTagById(long id) {
+        return cache.getById(id, delegate::getTagById);
+    }
+
+    @Override
+    public Tag updateTagById(long id, Tag tag) {
+        try {
+            return delegate.updateTagById(id, tag);
+        } finally {
+            cache.updated(id, tag);
+        }
+    }
+
+    @Override
+    public void deleteTagById(long id) {
+        try {
+            delegate.deleteTagById(id);
+        } finally {
+            cache.deleted(id);
+        }
+    }
+
+    @Override
+    public List<Tag> getAllTags() {
+        return cache.getAll(delegate::getAllTags);
+    }
+
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
+}
@@ -0,0 +1,114 @@
+package com.giozar04.threads.utils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.giozar04.logging.CustomLogger;
+
+/**
+ * Utilidades para hilos virtuales y diagnóstico de bloqueos.
+ *
+ * El proyecto compila para Java 17, por lo que las APIs de hilos virtuales (Java 21+)
+ * se obtienen por reflexión. En una JVM sin soporte se informa y se usa hilos de plataforma.
+ */
+public final class VirtualThreads {
+
+    private static final CustomLogger logger = CustomLogger.getInstance();
+
+    // Espera máxima por un lock antes de reportarla (ms), configurable con -Dthreads.lockWarnMillis
+    private static final long LOCK_WARN_NANOS = TimeUnit.MILLISECONDS.toNanos(
+            Long.getLong("threads.lockWarnMillis", 50L));
+
+    private static final Method IS_VIRTUAL = findIsVirtual();
+
+    private VirtualThreads() {
+    }
+
+    private static Method findIsVirtual() {
+        try {
+            return Thread.class.getMethod("isVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true si la JVM actual permite crear hilos virtuales.
+     */
+    public static boolean isSupported() {
+        return IS_VIRTUAL != null;
+    }
+
+    /**
+     * Indica si el hilo es virtual. En JVMs sin soporte siempre devuelve false.
+     *
+     * @param thread El hilo a consultar.
+     * @return true si el hilo es virtual.
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (Boolean) IS_VIRTUAL.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Crea un executor que lanza un hilo virtual por tarea, con nombres prefijo-N.
+     *
+     * @param namePrefix Prefijo para el nombre de los hilos.
+     * @return El executor, o null si la JVM no soporta hilos virtuales.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (!isSupported()) {
+            return null;
+        }
+        try {
+            // Thread.ofVirtual().name(namePrefix, 0).factory()
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = ofVirtualClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+            // Executors.newThreadPerTaskExecutor(factory)
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            logger.warn("No se pudo crear el executor de hilos virtuales: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Adquiere el lock midiendo la espera. Si supera el umbral se registra una advertencia
+     * indicando la sección y si el hilo es virtual, para localizar secciones que serializan
+     * o retienen hilos portadores.
+     *
+     * @param lock El lock a adquirir.
+     * @param section Nombre de la sección protegida, para el diagnóstico.
+     */
+    public static void lock(ReentrantLock lock, String section) {
+        if (lock.tryLock()) {
+            return;
+        }
+        long start = System.nanoTime();
+        lock.lock();
+        long waited = System.nanoTime() - start;
+        if (waited > LOCK_WARN_NANOS) {
+            Thread current = Thread.currentThread();
+            logger.warn("Espera de " + TimeUnit.NANOSECONDS.toMillis(waited) + " ms por el lock de '" + section
+                    + "' en el hilo " + current.getName()
+                    + (isVirtual(current) ? " (virtual)" : "")
+                    + ", hilos en espera: " + lock.getQueueLength());
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.giozar04.transactions.application.services;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.giozar04.transactions.domain.entities.Transaction;
 import com.giozar04.transactions.domain.interfaces.TransactionRepositoryInterface;
+import com.giozar04.transactions.domain.models.TransactionBatchResult;
+import com.giozar04.transactions.domain.models.TransactionPage;
+import com.giozar04.transactions.domain.models.TransactionPageRequest;
 
 public class TransactionService implements TransactionRepositoryInterface {
 
@@ -37,4 +41,19 @@ public class TransactionService implements TransactionRepositoryInterface {
     public List<Transaction> getAllTransactions() {
         return repository.getAllTransactions();
     }
+
+    @Override
+    public void forEachTransaction(Consumer<? super Transaction> action) {
+        repository.forEachTransaction(action);
+    }
+
+    @Override
+    public TransactionPage getTransactionsPage(TransactionPageRequest request) {
+        return repository.getTransactionsPage(request);
+    }
+
+    @Override
+    public TransactionBatchResult createTransactionsBatch(List<Transaction> transactions, int chunkSize) {
+        return repository.createTransactionsBatch(transactions, chunkSize);
+    }
 }
@@ -1,8 +1,12 @@
 package com.giozar04.transactions.domain.interfaces;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.models.TransactionBatchResult;
+import com.giozar04.transactions.domain.models.TransactionPage;
+import com.giozar04.transactions.domain.models.TransactionPageRequest;
 
 public interface TransactionRepositoryInterface {
     Transaction createTransaction(Transaction tx);
@@ -10,4 +14,13 @@ public interface TransactionRepositoryInterface {
     Transaction updateTransactionById(long id, Transaction tx);
     void deleteTransactionById(long id);
     List<Transaction> getAllTransactions();
+    void forEachTransaction(Consumer<? super Transaction> action);
+    TransactionPage getTransactionsPage(TransactionPageRequest request);
+
+    /**
+     * Crea varias transacciones confirmando por bloques de chunkSize filas. Una fila inválida
+     * o rechazada por la base de datos no impide crear las demás; su error queda en el
+     * resultado con su posición.
+     */
+    TransactionBatchResult createTransactionsBatch(List<Transaction> transactions, int chunkSize);
 }
@@ -3,9 +3,13 @@ package com.giozar04.transactions.domain.models;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
 import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
 import com.giozar04.logging.CustomLogger;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRepositoryAbstract;
 import com.giozar04.transactions.domain.entities.Transaction;
 import com.giozar04.transactions.domain.enums.OperationTypes;
 import com.giozar04.transactions.domain.enums.PaymentMethod;
@@ -15,9 +19,30 @@ public abstract class TransactionRepositoryAbstract implements TransactionReposi
 
     protected final DatabaseConnectionInterface databaseConnection;
     protected final CustomLogger logger = CustomLogger.getInstance();
+    protected final AccountChangeNotifier accountChanges;
+    protected final MonthlySummaryRepositoryAbstract monthlySummaries;   // null si no se mantienen
 
     protected TransactionRepositoryAbstract(DatabaseConnectionInterface databaseConnection) {
+        this(databaseConnection, new AccountChangeNotifier());
+    }
+
+    /**
+     * @param accountChanges Recibe los ids de las cuentas que cambian con cada escritura
+     *        confirmada (por ejemplo, para invalidar la caché de cuentas).
+     */
+    protected TransactionRepositoryAbstract(DatabaseConnectionInterface databaseConnection, AccountChangeNotifier accountChanges) {
+        this(databaseConnection, accountChanges, null);
+    }
+
+    /**
+     * @param monthlySummaries Resúmenes mensuales que se actualizan en la misma transacción de
+     *        la base de datos que cada escritura, o null para no mantenerlos.
+     */
+    protected TransactionRepositoryAbstract(DatabaseConnectionInterface databaseConnection, AccountChangeNotifier accountChanges,
+                                            MonthlySummaryRepositoryAbstract monthlySummaries) {
         this.databaseConnection = Objects.requireNonNull(databaseConnection, "La conexión a la base de datos no puede ser nula");
+        this.accountChanges = Objects.requireNonNull(accountChanges, "El notificador de cambios de cuentas no puede ser nulo");
+        this.monthlySummaries = monthlySummaries;
     }
 
     protected void validateTransaction(Transaction tx) {
@@ -53,6 +78,17 @@ public abstract class TransactionRepositoryAbstract implements TransactionReposi
         }
     }
 
+    protected void validatePageRequest(TransactionPageRequest request) {
+        Objects.requireNonNull(request, "La solicitud de página no puede ser nula");
+
+        if (request.getDateFrom() != null && request.getDateTo() != null
+                && !request.getDateFrom().isBefore(request.getDateTo()))
+            throw new IllegalArgumentException("La fecha inicial debe ser anterior a la fecha final");
+
+        if ((request.getAfterDate() == null) != (request.getAfterId() == null))
+            throw new IllegalArgumentException("El cursor requiere fecha e ID");
+    }
+
     protected void validateId(long id) {
         if (id <= 0) {
             throw new IllegalArgumentException("El ID debe ser mayor que cero");
@@ -73,4 +109,28 @@ public abstract class TransactionRepositoryAbstract implements TransactionReposi
 
     @Override
     public abstract List<Transaction> getAllTransactions();
+
+    @Override
+    public abstract void forEachTransaction(Consumer<? super Transaction> action);
+
+    @Override
+    public abstract TransactionPage getTransactionsPage(TransactionPageRequest request);
+
+    @Override
+    public abstract TransactionBatchResult createTransactionsBatch(List<Transaction> transactions, int chunkSize);
+
+    // Variantes que participan en una unidad de trabajo: no confirman, lo hace quien abrió el scope
+
+    public abstract Transaction createTransaction(Transaction tx, TransactionScope scope);
+
+    /**
+     * Inserta todas las transacciones con un solo lote dentro del scope. A diferencia de
+     * createTransactionsBatch es todo o nada: si una fila es inválida o rechazada se lanza la
+     * excepción y quien abrió el scope deshace el resto.
+     */
+    public abstract void createTransactions(List<Transaction> transactions, TransactionScope scope);
+
+    public abstract Transaction updateTransactionById(long id, Transaction tx, TransactionScope scope);
+
+    public abstract void deleteTransactionById(long id, TransactionScope scope);
 }
@@ -1,6 +1,7 @@
 package com.giozar04.transactions.infrastructure.controllers;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -8,9 +9,16 @@ import com.giozar04.logging.CustomLogger;
 import com.giozar04.messages.domain.models.Message;
 import com.giozar04.servers.domain.handlers.MessageHandler;
 import com.giozar04.servers.domain.models.ClientConnection;
+import com.giozar04.servers.domain.models.StreamedResponse;
+import com.giozar04.shared.utils.SharedUtils;
 import com.giozar04.transactions.application.services.TransactionService;
+import com.giozar04.transactions.application.utils.TransactionBatchUtils;
+import com.giozar04.transactions.application.utils.TransactionPageUtils;
 import com.giozar04.transactions.application.utils.TransactionUtils;
 import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.models.TransactionBatchResult;
+import com.giozar04.transactions.domain.models.TransactionPage;
+import com.giozar04.transactions.domain.models.TransactionPageRequest;
 
 public class TransactionControllers {
 
@@ -22,23 +30,28 @@ public class TransactionControllers {
         public static final String UPDATE = "UPDATE_TRANSACTION";
         public static final String DELETE = "DELETE_TRANSACTION";
         public static final String GET_ALL = "GET_ALL_TRANSACTIONS";
+        public static final String GET_PAGE = "GET_TRANSACTIONS_PAGE";
+        public static final String CREATE_BATCH = "CREATE_TRANSACTIONS_BATCH";
     }
 
-    @SuppressWarnings("unchecked")
+    // Límites del lote: filas por mensaje y filas por transacción de la base de datos
+    public static final int MAX_BATCH_ROWS = 10_000;
+    public static final int DEFAULT_BATCH_CHUNK_SIZE = 500;
+    public static final int MAX_BATCH_CHUNK_SIZE = 5_000;
+
     public static MessageHandler createTransactionController(TransactionService service) {
         return (ClientConnection client, Message message) -> {
             LOGGER.info("Creando transacción...");
 
-            Map<String, Object> data = (Map<String, Object>) message.getData("transaction");
-            if (data == null) {
+            Transaction tx = TransactionUtils.fromData(message.getData("transaction"));
+            if (tx == null) {
                 return Message.createErrorMessage(MessageTypes.CREATE, "Datos no proporcionados");
             }
 
-            Transaction tx = TransactionUtils.fromMap(data);
             Transaction created = service.createTransaction(tx);
 
             Message response = Message.createSuccessMessage(MessageTypes.CREATE, "Transacción creada");
-            response.addData("transaction", TransactionUtils.toMap(created));
+            response.addData("transaction", created);
             return response;
         };
     }
@@ -54,12 +67,11 @@ public class TransactionControllers {
 
             Transaction tx = service.getTransactionById(id);
             Message response = Message.createSuccessMessage(MessageTypes.GET, "Transacción obtenida");
-            response.addData("transaction", TransactionUtils.toMap(tx));
+            response.addData("transaction", tx);
             return response;
         };
     }
 
-    @SuppressWarnings("unchecked")
     public static MessageHandler updateTransactionController(TransactionService service) {
         return (ClientConnection client, Message message) -> {
             LOGGER.info("Actualizando transacción...");
@@ -69,15 +81,15 @@ public class TransactionControllers {
                 return Message.createErrorMessage(MessageTypes.UPDATE, "ID inválido");
             }
 
-            Map<String, Object> data = (Map<String, Object>) message.getData("transaction");
-            if (data == null) {
+            Transaction tx = TransactionUtils.fromData(message.getData("transaction"));
+            if (tx == null) {
                 return Message.createErrorMessage(MessageTypes.UPDATE, "Datos no proporcionados");
             }
 
-            Transaction updated = service.updateTransactionById(id, TransactionUtils.fromMap(data));
+            Transaction updated = service.updateTransactionById(id, tx);
 
             Message response = Message.createSuccessMessage(MessageTypes.UPDATE, "Transacción actualizada");
-            response.addData("transaction", TransactionUtils.toMap(updated));
+            response.addData("transaction", updated);
             return response;
         };
     }
@@ -100,15 +112,89 @@ public class TransactionControllers {
         return (ClientConnection client, Message message) -> {
             LOGGER.info("Obteniendo todas las transacciones...");
 
-            List<Transaction> txList = service.getAllTransactions();
-            List<Map<String, Object>> mapped = new ArrayList<>();
-            for (Transaction tx : txList) {
-                mapped.add(TransactionUtils.toMap(tx));
+            // Por partes: cada lote se escribe mientras se leen las filas del ResultSet
+            if (message.isStreamRequested()) {
+                return new StreamedResponse<Transaction>(MessageTypes.GET_ALL, "Transacciones obtenidas",
+                        "transactions", service::forEachTransaction);
             }
 
+            // TransactionJsonCodec escribe cada transacción directamente en el socket
+            List<Transaction> txList = service.getAllTransactions();
+
             Message response = Message.createSuccessMessage(MessageTypes.GET_ALL, "Transacciones obtenidas");
-            response.addData("transactions", mapped);
-            response.addData("count", mapped.size());
+            response.addData("transactions", txList);
+            response.addData("count", txList.size());
+            return response;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    public static MessageHandler getTransactionsPageController(TransactionService service) {
+        return (ClientConnection client, Message message) -> {
+            LOGGER.info("Obteniendo página de transacciones...");
+
+            Object rawFilter = message.getData("filter");
+            if (rawFilter != null && !(rawFilter instanceof Map)) {
+                return Message.createErrorMessage(MessageTypes.GET_PAGE, "Filtro inválido");
+            }
+
+            TransactionPageRequest request;
+            try {
+                request = TransactionPageUtils.mapToRequest((Map<String, Object>) rawFilter);
+            } catch (IllegalArgumentException e) {
+                return Message.createErrorMessage(MessageTypes.GET_PAGE, "Filtro inválido: " + e.getMessage());
+            }
+
+            TransactionPage page = service.getTransactionsPage(request);
+
+            Message response = Message.createSuccessMessage(MessageTypes.GET_PAGE, "Transacciones obtenidas");
+            TransactionPageUtils.addPageData(response, page);
+            return response;
+        };
+    }
+
+    public static MessageHandler createTransactionsBatchController(TransactionService service) {
+        return (ClientConnection client, Message message) -> {
+            if (!(message.getData(TransactionBatchUtils.ROWS_KEY) instanceof List<?> rows)) {
+                return Message.createErrorMessage(MessageTypes.CREATE_BATCH, "Datos no proporcionados");
+            }
+            if (rows.size() > MAX_BATCH_ROWS) {
+                return Message.createErrorMessage(MessageTypes.CREATE_BATCH,
+                        "El lote supera el máximo de " + MAX_BATCH_ROWS + " transacciones");
+            }
+
+            Integer chunkSize = SharedUtils.parseNullableInt(message.getData("chunkSize"));
+            if (chunkSize == null) {
+                chunkSize = DEFAULT_BATCH_CHUNK_SIZE;
+            } else if (chunkSize <= 0 || chunkSize > MAX_BATCH_CHUNK_SIZE) {
+                return Message.createErrorMessage(MessageTypes.CREATE_BATCH,
+                        "El tamaño de bloque debe estar entre 1 y " + MAX_BATCH_CHUNK_SIZE);
+            }
+
+            LOGGER.info("Creando lote de " + rows.size() + " transacciones...");
+
+            // Las filas con formato inválido se rechazan una por una; el repositorio las recibe
+            // como null y las cuenta como error sin detener el lote
+            List<Transaction> transactions = new ArrayList<>(rows.size());
+            Map<Integer, String> parseErrors = new HashMap<>();
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    Transaction tx = TransactionUtils.fromData(rows.get(i));
+                    if (tx == null) {
+                        parseErrors.put(i, "Datos no proporcionados");
+                    }
+                    transactions.add(tx);
+                } catch (IllegalArgumentException e) {
+                    parseErrors.put(i, "Datos inválidos: " + e.getMessage());
+                    transactions.add(null);
+                }
+            }
+
+            TransactionBatchResult result = service.createTransactionsBatch(transactions, chunkSize);
+            parseErrors.forEach(result::failed);
+
+            Message response = Message.createSuccessMessage(MessageTypes.CREATE_BATCH, "Lote de transacciones procesado");
+            TransactionBatchUtils.addResultData(response, result);
             return response;
         };
     }
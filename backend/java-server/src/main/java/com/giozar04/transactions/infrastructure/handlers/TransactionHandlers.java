@@ -1,7 +1,7 @@
 package com.giozar04.transactions.infrastructure.handlers;
 
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 import com.giozar04.transactions.application.services.TransactionService;
 import com.giozar04.transactions.infrastructure.controllers.TransactionControllers;
 
@@ -14,11 +14,13 @@ public class TransactionHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(TransactionControllers.MessageTypes.CREATE, TransactionControllers.createTransactionController(service));
         server.registerHandler(TransactionControllers.MessageTypes.GET, TransactionControllers.getTransactionController(service));
         server.registerHandler(TransactionControllers.MessageTypes.UPDATE, TransactionControllers.updateTransactionController(service));
         server.registerHandler(TransactionControllers.MessageTypes.DELETE, TransactionControllers.deleteTransactionController(service));
         server.registerHandler(TransactionControllers.MessageTypes.GET_ALL, TransactionControllers.getAllTransactionsController(service));
+        server.registerHandler(TransactionControllers.MessageTypes.GET_PAGE, TransactionControllers.getTransactionsPageController(service));
+        server.registerHandler(TransactionControllers.MessageTypes.CREATE_BATCH, TransactionControllers.createTransactionsBatchController(service));
     }
 }
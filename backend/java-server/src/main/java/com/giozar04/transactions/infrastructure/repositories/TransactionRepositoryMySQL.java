@@ -1,22 +1,33 @@
 package com.giozar04.transactions.infrastructure.repositories;
 
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
 import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.domain.models.TransactionScope;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRepositoryAbstract;
 import com.giozar04.transactions.domain.entities.Transaction;
 import com.giozar04.transactions.domain.enums.OperationTypes;
 import com.giozar04.transactions.domain.enums.PaymentMethod;
 import com.giozar04.transactions.domain.exceptions.TransactionExceptions;
+import com.giozar04.transactions.domain.models.TransactionBatchResult;
+import com.giozar04.transactions.domain.models.TransactionPage;
+import com.giozar04.transactions.domain.models.TransactionPageRequest;
 import com.giozar04.transactions.domain.models.TransactionRepositoryAbstract;
 
 public class TransactionRepositoryMySQL extends TransactionRepositoryAbstract {
@@ -37,21 +48,47 @@ public class TransactionRepositoryMySQL extends TransactionRepositoryAbstract {
     """;
 
     private static final String SQL_DELETE = "DELETE FROM transactions WHERE id = ?";
+    private static final String SQL_SELECT_FOR_UPDATE = "SELECT * FROM transactions WHERE id = ? FOR UPDATE";
     private static final String SQL_SELECT_ALL = "SELECT * FROM transactions";
 
+    // Orden estable para la paginación por llave: idx_tx_date (date) e idx_tx_user_date
+    // (user_id, date) incluyen el id como sufijo implícito en InnoDB, así que el ORDER BY se
+    // resuelve recorriendo el índice hacia atrás sin ordenar en memoria.
+    private static final String SQL_PAGE_ORDER = " ORDER BY date DESC, id DESC LIMIT ?";
+
     public TransactionRepositoryMySQL(DatabaseConnectionInterface databaseConnection) {
         super(databaseConnection);
     }
 
+    public TransactionRepositoryMySQL(DatabaseConnectionInterface databaseConnection, AccountChangeNotifier accountChanges) {
+        super(databaseConnection, accountChanges);
+    }
+
+    public TransactionRepositoryMySQL(DatabaseConnectionInterface databaseConnection, AccountChangeNotifier accountChanges,
+                                      MonthlySummaryRepositoryAbstract monthlySummaries) {
+        super(databaseConnection, accountChanges, monthlySummaries);
+    }
+
     @Override
     public Transaction createTransaction(Transaction tx) {
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            Transaction created = createTransaction(tx, scope);
+            scope.commit();
+            logger.info("Transacción creada con ID: " + created.getId());
+            return created;
+        } catch (SQLException e) {
+            throw new TransactionExceptions.CreationException("Error al crear transacción", e);
+        }
+    }
+
+    @Override
+    public Transaction createTransaction(Transaction tx, TransactionScope scope) {
         validateTransaction(tx);
 
         if (tx.getCreatedAt() == null) tx.setCreatedAt(ZonedDateTime.now());
         if (tx.getUpdatedAt() == null) tx.setUpdatedAt(ZonedDateTime.now());
 
-        try (Connection conn = databaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SQL_INSERT, Statement.RETURN_GENERATED_KEYS)) {
+        try (PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_INSERT, Statement.RETURN_GENERATED_KEYS)) {
 
             setStatementValues(stmt, tx, false);
 
@@ -63,17 +100,201 @@ public class TransactionRepositoryMySQL extends TransactionRepositoryAbstract {
                     tx.setId(keys.getLong(1));
                 }
             }
-
-            databaseConnection.commitTransaction();
-            logger.info("Transacción creada con ID: " + tx.getId());
+            // Los triggers de saldos tocan las cuentas de origen y destino
+            accountChanges.accountsChangedAfterCommit(scope, tx.getSourceAccountId(), tx.getDestinationAccountId());
+            if (monthlySummaries != null) {
+                monthlySummaries.transactionsAdded(List.of(tx), scope);
+            }
             return tx;
 
         } catch (SQLException e) {
-            rollback();
             throw new TransactionExceptions.CreationException("Error al crear transacción", e);
         }
     }
 
+    @Override
+    public void createTransactions(List<Transaction> transactions, TransactionScope scope) {
+        if (transactions == null) {
+            throw new IllegalArgumentException("La lista de transacciones no puede ser nula");
+        }
+        if (transactions.isEmpty()) return;
+
+        ZonedDateTime now = ZonedDateTime.now();
+        List<Integer> rows = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction tx = transactions.get(i);
+            validateTransaction(tx);
+            if (tx.getCreatedAt() == null) tx.setCreatedAt(now);
+            if (tx.getUpdatedAt() == null) tx.setUpdatedAt(now);
+            rows.add(i);
+        }
+
+        try {
+            insertRows(scope, transactions, rows);
+            notifyChunkAccountChanges(scope, transactions, rows);
+            if (monthlySummaries != null) {
+                monthlySummaries.transactionsAdded(transactions, scope);
+            }
+        } catch (SQLException e) {
+            throw new TransactionExceptions.CreationException("Error al crear " + transactions.size() + " transacciones", e);
+        }
+    }
+
+    /**
+     * Inserta por bloques: cada bloque se envía con un solo executeBatch (con
+     * rewriteBatchedStatements el controlador lo convierte en INSERT de varias filas, y los
+     * triggers de saldos se siguen ejecutando por fila) y se confirma en su propia transacción.
+     *
+     * Si la base de datos rechaza alguna fila del bloque, el bloque se deshace y se repite fila
+     * por fila para confirmar las válidas y registrar el error de cada una de las demás.
+     */
+    @Override
+    public TransactionBatchResult createTransactionsBatch(List<Transaction> transactions, int chunkSize) {
+        if (transactions == null) {
+            throw new IllegalArgumentException("La lista de transacciones no puede ser nula");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser mayor que cero");
+        }
+
+        TransactionBatchResult result = new TransactionBatchResult(transactions.size());
+        for (int start = 0; start < transactions.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, transactions.size());
+            List<Integer> rows = validateChunk(transactions, start, end, result);
+            if (!rows.isEmpty()) {
+                insertChunk(transactions, rows, result);
+            }
+        }
+        logger.info("Lote de transacciones procesado: " + result.getCreatedCount() + " creadas, "
+                + result.getFailedCount() + " con error");
+        return result;
+    }
+
+    /**
+     * @return Las posiciones del bloque que pasaron la validación; las demás quedan con su error.
+     */
+    private List<Integer> validateChunk(List<Transaction> transactions, int start, int end, TransactionBatchResult result) {
+        List<Integer> rows = new ArrayList<>(end - start);
+        ZonedDateTime now = ZonedDateTime.now();
+        for (int i = start; i < end; i++) {
+            Transaction tx = transactions.get(i);
+            try {
+                validateTransaction(tx);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                result.failed(i, tx == null ? "La transacción no puede ser nula" : e.getMessage());
+                continue;
+            }
+            if (tx.getCreatedAt() == null) tx.setCreatedAt(now);
+            if (tx.getUpdatedAt() == null) tx.setUpdatedAt(now);
+            rows.add(i);
+        }
+        return rows;
+    }
+
+    private void insertChunk(List<Transaction> transactions, List<Integer> rows, TransactionBatchResult result) {
+        try {
+            try (TransactionScope scope = databaseConnection.beginTransaction()) {
+                if (executeChunk(scope, transactions, rows, result)) {
+                    notifyChunkAccountChanges(scope, transactions, rows);
+                    if (monthlySummaries != null) {
+                        List<Transaction> inserted = new ArrayList<>(rows.size());
+                        for (int index : rows) {
+                            inserted.add(transactions.get(index));
+                        }
+                        monthlySummaries.transactionsAdded(inserted, scope);
+                    }
+                    scope.commit();
+                    return;
+                }
+            }
+            insertRowByRow(transactions, rows, result);
+        } catch (SQLException | RuntimeException e) {
+            // Sin conexión o sin confirmación no se creó ninguna fila del bloque
+            logger.error("Error al guardar un bloque de " + rows.size() + " transacciones", e);
+            for (int index : rows) {
+                result.failed(index, "Error al guardar el bloque: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * @return false si la base de datos rechazó alguna fila; el bloque se deshace al cerrar el alcance.
+     */
+    private boolean executeChunk(TransactionScope scope, List<Transaction> transactions, List<Integer> rows,
+                                 TransactionBatchResult result) throws SQLException {
+        try {
+            insertRows(scope, transactions, rows);
+            for (int index : rows) {
+                result.created(index, transactions.get(index).getId());
+            }
+            return true;
+        } catch (BatchUpdateException e) {
+            logger.warn("Bloque de " + rows.size() + " transacciones rechazado, se reintenta fila por fila: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Inserta las filas indicadas con un solo executeBatch y asigna sus ids.
+     *
+     * @throws BatchUpdateException si la base de datos rechazó alguna fila.
+     */
+    private void insertRows(TransactionScope scope, List<Transaction> transactions, List<Integer> rows) throws SQLException {
+        try (PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_INSERT, Statement.RETURN_GENERATED_KEYS)) {
+            for (int index : rows) {
+                setStatementValues(stmt, transactions.get(index), false);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+
+            // Las llaves llegan en el orden de las filas del lote
+            int k = 0;
+            try (ResultSet keys = stmt.getGeneratedKeys()) {
+                while (k < rows.size() && keys.next()) {
+                    transactions.get(rows.get(k++)).setId(keys.getLong(1));
+                }
+            }
+            if (k < rows.size()) {
+                throw new SQLException("Se obtuvieron " + k + " llaves generadas para " + rows.size() + " filas");
+            }
+        }
+    }
+
+    /**
+     * Repite el bloque fila por fila en una sola transacción; cada fila rechazada queda con el
+     * mensaje de la base de datos (por ejemplo, el de un trigger que valida el saldo).
+     */
+    private void insertRowByRow(List<Transaction> transactions, List<Integer> rows, TransactionBatchResult result)
+            throws SQLException {
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            for (int index : rows) {
+                Transaction tx = transactions.get(index);
+                try {
+                    createTransaction(tx, scope);
+                    result.created(index, tx.getId());
+                } catch (TransactionExceptions.CreationException e) {
+                    // Un interbloqueo deshace toda la transacción, no solo la fila
+                    if (e.getCause() instanceof SQLTransactionRollbackException rollback) {
+                        throw rollback;
+                    }
+                    result.failed(index, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                }
+            }
+            scope.commit();
+        }
+    }
+
+    private void notifyChunkAccountChanges(TransactionScope scope, List<Transaction> transactions, List<Integer> rows) {
+        if (!accountChanges.hasListeners()) return;
+        Set<Long> accountIds = new HashSet<>();
+        for (int index : rows) {
+            Transaction tx = transactions.get(index);
+            if (tx.getSourceAccountId() != null) accountIds.add(tx.getSourceAccountId());
+            if (tx.getDestinationAccountId() != null) accountIds.add(tx.getDestinationAccountId());
+        }
+        accountChanges.accountsChangedAfterCommit(scope, accountIds.toArray(new Long[0]));
+    }
+
     @Override
     public Transaction getTransactionById(long id) {
         validateId(id);
@@ -94,45 +315,77 @@ public class TransactionRepositoryMySQL extends TransactionRepositoryAbstract {
 
     @Override
     public Transaction updateTransactionById(long id, Transaction tx) {
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            Transaction updated = updateTransactionById(id, tx, scope);
+            scope.commit();
+            return updated;
+        } catch (SQLException e) {
+            throw new TransactionExceptions.UpdateException("Error al actualizar transacción", e);
+        }
+    }
+
+    @Override
+    public Transaction updateTransactionById(long id, Transaction tx, TransactionScope scope) {
         validateId(id);
         validateTransaction(tx);
         tx.setUpdatedAt(ZonedDateTime.now());
 
-        try (Connection conn = databaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SQL_UPDATE)) {
+        try (PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_UPDATE)) {
 
+            Transaction previous = selectPreviousIfNeeded(scope, id);
             setStatementValues(stmt, tx, true);
             stmt.setLong(15, id);
 
             int affected = stmt.executeUpdate();
             if (affected == 0) throw new TransactionExceptions.NotFoundException("No se encontró la transacción a actualizar", null);
 
-            databaseConnection.commitTransaction();
             tx.setId(id);
+            if (previous != null) {
+                // El trigger revierte el saldo en las cuentas anteriores y lo aplica en las nuevas
+                accountChanges.accountsChangedAfterCommit(scope, tx.getSourceAccountId(), tx.getDestinationAccountId(),
+                        previous.getSourceAccountId(), previous.getDestinationAccountId());
+                if (monthlySummaries != null) {
+                    monthlySummaries.transactionRemoved(previous, scope);
+                    monthlySummaries.transactionsAdded(List.of(tx), scope);
+                }
+            }
             return tx;
 
         } catch (SQLException e) {
-            rollback();
             throw new TransactionExceptions.UpdateException("Error al actualizar transacción", e);
         }
     }
 
     @Override
     public void deleteTransactionById(long id) {
+        try (TransactionScope scope = databaseConnection.beginTransaction()) {
+            deleteTransactionById(id, scope);
+            scope.commit();
+            logger.info("Transacción eliminada con ID: " + id);
+        } catch (SQLException e) {
+            throw new TransactionExceptions.DeletionException("Error al eliminar transacción", e);
+        }
+    }
+
+    @Override
+    public void deleteTransactionById(long id, TransactionScope scope) {
         validateId(id);
 
-        try (Connection conn = databaseConnection.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(SQL_DELETE)) {
+        try (PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_DELETE)) {
 
+            Transaction previous = selectPreviousIfNeeded(scope, id);
             stmt.setLong(1, id);
             int affected = stmt.executeUpdate();
             if (affected == 0) throw new TransactionExceptions.NotFoundException("Transacción no encontrada", null);
 
-            databaseConnection.commitTransaction();
-            logger.info("Transacción eliminada con ID: " + id);
+            if (previous != null) {
+                accountChanges.accountsChangedAfterCommit(scope, previous.getSourceAccountId(), previous.getDestinationAccountId());
+                if (monthlySummaries != null) {
+                    monthlySummaries.transactionRemoved(previous, scope);
+                }
+            }
 
         } catch (SQLException e) {
-            rollback();
             throw new TransactionExceptions.DeletionException("Error al eliminar transacción", e);
         }
     }
@@ -156,6 +409,123 @@ public class TransactionRepositoryMySQL extends TransactionRepositoryAbstract {
         }
     }
 
+    /**
+     * Entrega las transacciones una por una mientras se leen del ResultSet, sin construir la lista.
+     * La conexión queda ocupada hasta que la acción procesa la última fila.
+     */
+    @Override
+    public void forEachTransaction(Consumer<? super Transaction> action) {
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = databaseConnection.prepareStreamingStatement(conn, SQL_SELECT_ALL);
+             ResultSet rs = stmt.executeQuery()) {
+
+            while (rs.next()) {
+                action.accept(mapResultSet(rs));
+            }
+
+        } catch (SQLException e) {
+            throw new TransactionExceptions.RetrievalException("Error al obtener transacciones", e);
+        }
+    }
+
+    @Override
+    public TransactionPage getTransactionsPage(TransactionPageRequest request) {
+        validatePageRequest(request);
+
+        StringBuilder sql = new StringBuilder("SELECT * FROM transactions WHERE 1 = 1");
+        List<Object> params = new ArrayList<>();
+
+        if (request.getUserId() != null) {
+            sql.append(" AND user_id = ?");
+            params.add(request.getUserId());
+        }
+        if (request.getAccountId() != null) {
+            sql.append(" AND (source_account_id = ? OR destination_account_id = ?)");
+            params.add(request.getAccountId());
+            params.add(request.getAccountId());
+        }
+        if (request.getOperationType() != null) {
+            sql.append(" AND operation_type = ?");
+            params.add(request.getOperationType().getValue());
+        }
+        if (request.getPaymentMethod() != null) {
+            sql.append(" AND payment_method = ?");
+            params.add(request.getPaymentMethod().getValue());
+        }
+        if (request.getDateFrom() != null) {
+            sql.append(" AND date >= ?");
+            params.add(toTimestamp(request.getDateFrom()));
+        }
+        if (request.getDateTo() != null) {
+            sql.append(" AND date < ?");
+            params.add(toTimestamp(request.getDateTo()));
+        }
+        if (request.getConceptText() != null) {
+            sql.append(" AND concept LIKE ? ESCAPE '!'");
+            params.add("%" + escapeLike(request.getConceptText()) + "%");
+        }
+        if (request.hasCursor()) {
+            // Equivale a (date, id) < (?, ?), escrito así para que MySQL use el rango sobre date
+            Timestamp afterDate = toTimestamp(request.getAfterDate());
+            sql.append(" AND date <= ? AND (date < ? OR id < ?)");
+            params.add(afterDate);
+            params.add(afterDate);
+            params.add(request.getAfterId());
+        }
+        sql.append(SQL_PAGE_ORDER);
+        params.add(request.getLimit() + 1);
+
+        try (Connection conn = databaseConnection.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
+            }
+
+            List<Transaction> rows = new ArrayList<>(request.getLimit() + 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    rows.add(mapResultSet(rs));
+                }
+            }
+            return TransactionPage.fromRows(rows, request.getLimit());
+
+        } catch (SQLException e) {
+            throw new TransactionExceptions.RetrievalException("Error al obtener la página de transacciones", e);
+        }
+    }
+
+    /**
+     * Las fechas se guardan como hora local del servidor (ver mapResultSet), así que los filtros
+     * se convierten a esa zona antes de compararlos.
+     */
+    private Timestamp toTimestamp(ZonedDateTime date) {
+        return Timestamp.valueOf(date.withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime());
+    }
+
+    private String escapeLike(String text) {
+        return text.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * Lee y bloquea la fila antes de cambiarla o eliminarla, solo si alguien necesita sus valores
+     * anteriores: la caché de cuentas (las cuentas anteriores también cambian de saldo) o los
+     * resúmenes mensuales (hay que restarla de su grupo anterior).
+     *
+     * @return La transacción anterior, o null si no se necesita o no existe.
+     */
+    private Transaction selectPreviousIfNeeded(TransactionScope scope, long id) throws SQLException {
+        if (!accountChanges.hasListeners() && monthlySummaries == null) {
+            return null;
+        }
+        try (PreparedStatement stmt = scope.getConnection().prepareStatement(SQL_SELECT_FOR_UPDATE)) {
+            stmt.setLong(1, id);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? mapResultSet(rs) : null;
+            }
+        }
+    }
+
     private Transaction mapResultSet(ResultSet rs) throws SQLException {
         Transaction tx = new Transaction();
         ZoneId zone = ZoneId.systemDefault();
@@ -212,12 +582,4 @@ public class TransactionRepositoryMySQL extends TransactionRepositoryAbstract {
             stmt.setTimestamp(14, Timestamp.valueOf(tx.getUpdatedAt().toLocalDateTime()));
         }
     }
-
-    private void rollback() {
-        try {
-            databaseConnection.rollbackTransaction();
-        } catch (SQLException e) {
-            logger.error("Error al hacer rollback en transacción", e);
-        }
-    }
 }
@@ -0,0 +1,213 @@
+package com.giozar04.transactions.test;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.giozar04.categories.domain.entities.Category;
+import com.giozar04.externalEntities.domain.entities.ExternalEntity;
+import com.giozar04.statementImports.application.services.StatementImporter;
+import com.giozar04.statementImports.application.utils.StatementImportUtils;
+import com.giozar04.statementImports.domain.entities.StatementRow;
+import com.giozar04.statementImports.domain.interfaces.StatementReader;
+import com.giozar04.statementImports.domain.interfaces.StatementValueFormat;
+import com.giozar04.statementImports.domain.models.StatementCategorizer;
+import com.giozar04.statementImports.domain.models.StatementImportOptions;
+import com.giozar04.statementImports.domain.models.StatementImportReport;
+import com.giozar04.statementImports.domain.models.TransactionDedupeIndex;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.models.TransactionBatchResult;
+
+/**
+ * Mide la importación de un estado de cuenta sintético (1 000 000 de filas por defecto) con
+ * uno y con varios hilos de clasificación. El destino solo cuenta las filas, así que se mide
+ * la lectura, la clasificación y los duplicados sin la base de datos; para la inserción está
+ * TransactionBatchBenchmarkApp.
+ *
+ * Uso: StatementImportBenchmarkApp [filas] [csv|ofx] [hilos]
+ *
+ * Conviene ejecutarlo con un heap pequeño (por ejemplo -Xmx128m) para comprobar que la memoria
+ * no crece con el tamaño del archivo.
+ */
+public class StatementImportBenchmarkApp {
+
+    private static final long ACCOUNT_ID = 1;
+    private static final String[] MERCHANTS = {
+        "OXXO", "Walmart Supercenter", "Soriana", "Uber", "Uber Eats", "Netflix", "Spotify",
+        "CFE", "Telmex", "Gasolinera Pemex", "Farmacias Guadalajara", "Liverpool", "Amazon Mexico",
+        "Starbucks", "Cinepolis", "Costco", "Home Depot", "Mercado Libre", "Rappi", "Sanborns"
+    };
+    private static final String[] CATEGORIES = {
+        "Supermercado", "Transporte", "Servicios", "Entretenimiento", "Salud", "Compras", "Comida"
+    };
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        String format = args.length > 1 ? args[1] : "csv";
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        Path file = Files.createTempFile("estado-de-cuenta-", "." + format);
+        try {
+            long start = System.nanoTime();
+            if (format.equals("ofx")) writeOfx(file, rows); else writeCsv(file, rows);
+            System.out.printf("Archivo %s: %d filas, %d MB, generado en %d ms%n", format.toUpperCase(), rows,
+                    Files.size(file) / (1024 * 1024), (System.nanoTime() - start) / 1_000_000);
+
+            // Calentamiento con una fracción del archivo
+            run(file, 1, rows / 10);
+            run(file, 1, rows);
+            if (threads > 1) {
+                run(file, threads, rows);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void run(Path file, int threads, int rows) throws IOException {
+        StatementImportOptions options = new StatementImportOptions(ACCOUNT_ID);
+        options.setZone(ZoneId.of("America/Mexico_City"));
+        options.setThreads(threads);
+
+        StatementCategorizer categorizer = new StatementCategorizer(categories(), entities(), options);
+        TransactionDedupeIndex dedupe = new TransactionDedupeIndex(ACCOUNT_ID, options.getZone());
+        List<Transaction> existing = existingTransactions(file, options);
+        existing.forEach(tx -> {
+            dedupe.add(tx);
+            categorizer.learn(tx);
+        });
+
+        long[] maxUsedMemory = {0};
+        Runtime runtime = Runtime.getRuntime();
+        StatementImporter importer = new StatementImporter(categorizer, dedupe, batch -> {
+            maxUsedMemory[0] = Math.max(maxUsedMemory[0], runtime.totalMemory() - runtime.freeMemory());
+            TransactionBatchResult result = new TransactionBatchResult(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                result.created(i, i + 1);
+            }
+            return result;
+        }, options);
+
+        StatementImportReport report;
+        try (StatementReader reader = StatementImportUtils.openReader(file, options)) {
+            report = new LimitedRun(importer, rows).run(reader);
+        }
+        double seconds = report.getElapsedMillis() / 1000.0;
+        System.out.printf("%d hilo(s): %s -> %.0f filas/s, memoria usada máx. %d MB%n", threads, report,
+                report.getRowsRead() / Math.max(seconds, 0.001), maxUsedMemory[0] / (1024 * 1024));
+    }
+
+    /** Corta la lectura después de un número de filas (para el calentamiento). */
+    private record LimitedRun(StatementImporter importer, int rows) {
+        StatementImportReport run(StatementReader reader) {
+            return importer.run(new StatementReader() {
+                private int read;
+
+                @Override
+                public StatementRow next() throws IOException {
+                    return read++ < rows ? reader.next() : null;
+                }
+
+                @Override
+                public StatementValueFormat getValueFormat() {
+                    return reader.getValueFormat();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    reader.close();
+                }
+            });
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Datos sintéticos
+    // ------------------------------------------------------------------
+
+    private static void writeCsv(Path file, int rows) throws IOException {
+        DateTimeFormatter dates = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        Random random = new Random(42);
+        LocalDate first = LocalDate.of(2020, 1, 1);
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("Banco de prueba\nCuenta: 0000 0000 0000\n\n");
+            out.write("Fecha,Descripción,Cargo,Abono,Referencia\n");
+            for (int i = 0; i < rows; i++) {
+                String date = first.plusDays(i / 500).format(dates);
+                String merchant = MERCHANTS[random.nextInt(MERCHANTS.length)];
+                String amount = (1 + random.nextInt(500_000)) / 100 + "." + String.format("%02d", random.nextInt(100));
+                boolean credit = random.nextInt(10) == 0;
+                out.write(date + ",\"" + merchant + " SUC " + random.nextInt(900) + "\","
+                        + (credit ? "," + amount : amount + ",") + ",REF" + i + "\n");
+            }
+        }
+    }
+
+    private static void writeOfx(Path file, int rows) throws IOException {
+        Random random = new Random(42);
+        LocalDate first = LocalDate.of(2020, 1, 1);
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("OFXHEADER:100\nDATA:OFXSGML\nVERSION:102\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><BANKTRANLIST>\n");
+            for (int i = 0; i < rows; i++) {
+                String date = first.plusDays(i / 500).format(DateTimeFormatter.BASIC_ISO_DATE);
+                String merchant = MERCHANTS[random.nextInt(MERCHANTS.length)];
+                String amount = (1 + random.nextInt(500_000)) / 100 + "." + String.format("%02d", random.nextInt(100));
+                boolean credit = random.nextInt(10) == 0;
+                out.write("<STMTTRN>\n<TRNTYPE>" + (credit ? "CREDIT" : "POS") + "\n<DTPOSTED>" + date + "120000"
+                        + "\n<TRNAMT>" + (credit ? "" : "-") + amount + "\n<FITID>" + i
+                        + "\n<NAME>" + merchant + " SUC " + random.nextInt(900) + "\n</STMTTRN>\n");
+            }
+            out.write("</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>\n");
+        }
+    }
+
+    private static List<Category> categories() {
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            Category category = new Category();
+            category.setId(i + 1);
+            category.setName(CATEGORIES[i]);
+            categories.add(category);
+        }
+        return categories;
+    }
+
+    private static List<ExternalEntity> entities() {
+        List<ExternalEntity> entities = new ArrayList<>();
+        for (int i = 0; i < MERCHANTS.length; i++) {
+            ExternalEntity entity = new ExternalEntity();
+            entity.setId(i + 1);
+            entity.setName(MERCHANTS[i]);
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    /**
+     * Toma como existentes las primeras filas del archivo (una de cada cien hasta 10 000), para
+     * que el índice de duplicados tenga coincidencias reales.
+     */
+    private static List<Transaction> existingTransactions(Path file, StatementImportOptions options) throws IOException {
+        StatementCategorizer plain = new StatementCategorizer(List.of(), entities(), options);
+        List<Transaction> existing = new ArrayList<>();
+        Random random = new Random(7);
+        try (StatementReader reader = StatementImportUtils.openReader(file, options)) {
+            StatementRow row;
+            for (int i = 0; i < 1_000_000 && existing.size() < 10_000 && (row = reader.next()) != null; i++) {
+                if (i % 100 != 0) continue;
+                Transaction tx = plain.categorize(row, reader.getValueFormat());
+                tx.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                existing.add(tx);
+            }
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,95 @@
+package com.giozar04.transactions.test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
+import com.giozar04.databases.infrastructure.repositories.DatabaseConnectionMySQL;
+import com.giozar04.transactions.application.services.TransactionService;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+import com.giozar04.transactions.domain.models.TransactionBatchResult;
+import com.giozar04.transactions.infrastructure.repositories.TransactionRepositoryMySQL;
+
+/**
+ * Compara la creación de transacciones una por una (createTransaction) con la creación por
+ * lotes (createTransactionsBatch) contra la base de datos local. Al terminar elimina las
+ * transacciones creadas, así que los triggers dejan el saldo de la cuenta como estaba.
+ *
+ * Uso: TransactionBatchBenchmarkApp idCuenta [transacciones] [tamañoDeBloque]
+ */
+public class TransactionBatchBenchmarkApp {
+
+    private static final String DB_HOST = "localhost";
+    private static final String DB_PORT = "3306";
+    private static final String DB_NAME = "finanzas";
+    private static final String DB_USER = "giovanni";
+    private static final String DB_PASSWORD = "finanzas123";
+
+    public static void main(String[] args) throws SQLException {
+        if (args.length < 1) {
+            System.out.println("Uso: TransactionBatchBenchmarkApp idCuenta [transacciones] [tamañoDeBloque]");
+            return;
+        }
+        long accountId = Long.parseLong(args[0]);
+        int count = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+        int chunkSize = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+
+        DatabaseConnectionInterface dbConnection = DatabaseConnectionMySQL.getInstance(
+            DB_HOST, DB_PORT, DB_NAME, DB_USER, DB_PASSWORD
+        );
+        dbConnection.connect();
+        TransactionService service = new TransactionService(new TransactionRepositoryMySQL(dbConnection));
+        List<Long> createdIds = new ArrayList<>(count * 2);
+
+        try {
+            List<Transaction> single = buildTransactions(accountId, count);
+            long start = System.nanoTime();
+            for (Transaction tx : single) {
+                createdIds.add(service.createTransaction(tx).getId());
+            }
+            double singleSeconds = (System.nanoTime() - start) / 1e9;
+            System.out.printf("Una por una: %d filas en %.2f s (%.0f filas/s)%n", count, singleSeconds, count / singleSeconds);
+
+            List<Transaction> batch = buildTransactions(accountId, count);
+            start = System.nanoTime();
+            TransactionBatchResult result = service.createTransactionsBatch(batch, chunkSize);
+            double batchSeconds = (System.nanoTime() - start) / 1e9;
+            for (Long id : result.getIds()) {
+                if (id != null) createdIds.add(id);
+            }
+            System.out.printf("Por lotes de %d: %d filas en %.2f s (%.0f filas/s), %d con error%n",
+                    chunkSize, result.getCreatedCount(), batchSeconds, result.getCreatedCount() / batchSeconds,
+                    result.getFailedCount());
+            System.out.printf("Mejora: %.1fx%n", singleSeconds / batchSeconds);
+        } finally {
+            System.out.println("Eliminando " + createdIds.size() + " transacciones de prueba...");
+            for (long id : createdIds) {
+                service.deleteTransactionById(id);
+            }
+            dbConnection.disconnect();
+        }
+    }
+
+    private static List<Transaction> buildTransactions(long accountId, int count) {
+        List<Transaction> transactions = new ArrayList<>(count);
+        ZonedDateTime now = ZonedDateTime.now();
+        for (int i = 1; i <= count; i++) {
+            Transaction tx = new Transaction();
+            tx.setOperationType(OperationTypes.INCOME);
+            tx.setPaymentMethod(PaymentMethod.TRANSFER);
+            tx.setDestinationAccountId(accountId);
+            tx.setAmount(BigDecimal.valueOf(i % 1_000 + 1, 2));
+            tx.setConcept("Prueba de lote " + i);
+            tx.setCategory("Pruebas");
+            tx.setDate(now.minusMinutes(i));
+            tx.setTimezone(now.getZone().getId());
+            transactions.add(tx);
+        }
+        return transactions;
+    }
+}
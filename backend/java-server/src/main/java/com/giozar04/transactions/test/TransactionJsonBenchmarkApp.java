@@ -0,0 +1,318 @@
+package com.giozar04.transactions.test;
+
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import com.giozar04.json.codec.JsonReader;
+import com.giozar04.json.utils.JsonUtils;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.transactions.application.utils.TransactionUtils;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+
+/**
+ * Compara el códec JSON de streaming con la implementación anterior basada en substring
+ * sobre una respuesta GET_ALL_TRANSACTIONS con 10 000 transacciones, y el paso por
+ * TransactionUtils.toMap/fromMap con el códec especializado TransactionJsonCodec.
+ *
+ * Uso: TransactionJsonBenchmarkApp [transacciones] [iteraciones]
+ *
+ * El proyecto no incluye JMH; este banco hace calentamiento, mide el tiempo medio por
+ * operación y los bytes asignados por el hilo (com.sun.management.ThreadMXBean).
+ */
+public class TransactionJsonBenchmarkApp {
+
+    private static final int WARMUP_ITERATIONS = 10;
+
+    // Evita que el JIT elimine el trabajo medido
+    private static Object sink;
+
+    @SuppressWarnings("unchecked")
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+
+        List<Transaction> entities = buildTransactions(count);
+        Message message = buildPayload(entities);
+        String json = JsonUtils.messageToJson(message);
+        String legacyJson = LegacyJsonUtils.messageToJson(message);
+        System.out.println("Payload: " + count + " transacciones, " + json.length() / 1024 + " KB");
+
+        run("Escritura anterior (String)", iterations, () -> LegacyJsonUtils.messageToJson(message));
+        run("Escritura streaming (Writer)", iterations, () -> {
+            StringWriter out = new StringWriter(json.length());
+            try {
+                JsonUtils.writeMessage(message, out);
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return out;
+        });
+        run("Lectura anterior (substring)", iterations, () -> LegacyJsonUtils.jsonToMessage(legacyJson));
+
+        // Respuesta completa del controlador: entidad -> mapa -> JSON frente a entidad -> JSON
+        run("Escritura toMap + Writer", iterations, () -> {
+            StringWriter out = new StringWriter(json.length());
+            try {
+                JsonUtils.writeMessage(buildPayload(entities), out);
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return out;
+        });
+        run("Escritura TransactionJsonCodec", iterations, () -> {
+            StringWriter out = new StringWriter(json.length());
+            Message typed = Message.createSuccessMessage("GET_ALL_TRANSACTIONS", "Transacciones obtenidas exitosamente");
+            typed.addData("transactions", entities);
+            typed.addData("count", entities.size());
+            try {
+                JsonUtils.writeMessage(typed, out);
+            } catch (java.io.IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return out;
+        });
+
+        // Lectura en el cliente: JSON -> mapa -> fromMap frente a JSON -> entidad
+        run("Lectura árbol + fromMap", iterations, () -> {
+            JsonReader reader = new JsonReader(json);
+            Map<String, Object> data = (Map<String, Object>) reader.readObject().get("data");
+            List<Transaction> result = new ArrayList<>();
+            for (Object element : (List<?>) data.get("transactions")) {
+                result.add(TransactionUtils.fromMap((Map<String, Object>) element));
+            }
+            return result;
+        });
+        run("Lectura TransactionJsonCodec", iterations,
+                () -> TransactionUtils.listFromData(JsonUtils.jsonToMessage(json).getData("transactions")));
+
+        Object first = ((List<?>) JsonUtils.jsonToMessage(json).getData("transactions")).get(0);
+        System.out.println("Tipo del elemento leído por el códec: " + first.getClass().getSimpleName());
+    }
+
+    private static Message buildPayload(List<Transaction> entities) {
+        List<Map<String, Object>> transactions = new ArrayList<>(entities.size());
+        for (Transaction tx : entities) {
+            transactions.add(TransactionUtils.toMap(tx));
+        }
+        Message message = Message.createSuccessMessage("GET_ALL_TRANSACTIONS", "Transacciones obtenidas exitosamente");
+        message.addData("transactions", transactions);
+        message.addData("count", transactions.size());
+        return message;
+    }
+
+    private static List<Transaction> buildTransactions(int count) {
+        List<Transaction> transactions = new ArrayList<>(count);
+        ZonedDateTime now = ZonedDateTime.now();
+        for (int i = 1; i <= count; i++) {
+            Transaction tx = new Transaction();
+            tx.setId(i);
+            tx.setOperationType(i % 3 == 0 ? OperationTypes.INCOME : OperationTypes.EXPENSE);
+            tx.setPaymentMethod(PaymentMethod.values()[i % PaymentMethod.values().length]);
+            tx.setSourceAccountId((long) (i % 7 + 1));
+            tx.setAmount(BigDecimal.valueOf(i * 37L % 100_000, 2));
+            tx.setConcept("Compra " + i);
+            tx.setCategory("Supermercado");
+            tx.setDescription("Descripción de la transacción " + i);
+            tx.setComments("");
+            tx.setDate(now.minusDays(i % 365));
+            tx.setTimezone("America/Mexico_City");
+            tx.setTags("despensa,hogar");
+            tx.setCreatedAt(now);
+            tx.setUpdatedAt(now);
+            transactions.add(tx);
+        }
+        return transactions;
+    }
+
+    private static void run(String name, int iterations, Supplier<Object> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink = operation.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        System.out.printf("%-32s %8.2f ms/op %10.1f MB asignados/op%n",
+                name, elapsed / 1_000_000.0 / iterations, allocated / 1024.0 / 1024.0 / iterations);
+    }
+
+    /**
+     * Copia de la implementación anterior de JsonUtils, conservada solo como referencia de comparación.
+     */
+    private static final class LegacyJsonUtils {
+
+        static String messageToJson(Message msg) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("{")
+              .append("\"type\":\"").append(msg.getType() == null ? "" : msg.getType()).append("\",")
+              .append("\"content\":\"").append(msg.getContent() == null ? "" : msg.getContent()).append("\",")
+              .append("\"status\":\"").append(msg.getStatus() == null ? "PENDING" : msg.getStatus().name()).append("\",")
+              .append("\"data\":").append(objectToJson(msg.getData()))
+              .append("}");
+            return sb.toString();
+        }
+
+        static Message jsonToMessage(String json) {
+            Message message = new Message();
+            message.setType(extractJsonField(json, "type"));
+            message.setContent(extractJsonField(json, "content"));
+            String statusValue = extractJsonField(json, "status");
+            try {
+                message.setStatus(statusValue != null ? Message.Status.valueOf(statusValue) : Message.Status.PENDING);
+            } catch (Exception e) {
+                message.setStatus(Message.Status.PENDING);
+            }
+            String dataObj = extractJsonObject(json, "data");
+            if (dataObj != null && !dataObj.isEmpty()) {
+                message.setData(parseJsonObject(dataObj));
+            }
+            return message;
+        }
+
+        private static String objectToJson(Object obj) {
+            if (obj == null) return "null";
+            if (obj instanceof String) return "\"" + obj + "\"";
+            if (obj instanceof Number || obj instanceof Boolean) return obj.toString();
+            if (obj instanceof Map) return mapToJson((Map<?, ?>) obj);
+            if (obj instanceof Iterable) return listToJson((Iterable<?>) obj);
+            return "\"" + obj.toString() + "\"";
+        }
+
+        private static String mapToJson(Map<?, ?> map) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("{");
+            boolean first = true;
+            for (Map.Entry<?, ?> e : map.entrySet()) {
+                if (!first) sb.append(",");
+                sb.append("\"").append(e.getKey() == null ? "null" : e.getKey().toString()).append("\":")
+                  .append(objectToJson(e.getValue()));
+                first = false;
+            }
+            sb.append("}");
+            return sb.toString();
+        }
+
+        private static String listToJson(Iterable<?> list) {
+            StringBuilder sb = new StringBuilder();
+            sb.append("[");
+            boolean first = true;
+            for (Object elem : list) {
+                if (!first) sb.append(",");
+                sb.append(objectToJson(elem));
+                first = false;
+            }
+            sb.append("]");
+            return sb.toString();
+        }
+
+        private static String extractJsonField(String json, String fieldName) {
+            String search = "\"" + fieldName + "\":\"";
+            int start = json.indexOf(search);
+            if (start < 0) return null;
+            start += search.length();
+            int end = json.indexOf("\"", start);
+            if (end < 0) return null;
+            return json.substring(start, end);
+        }
+
+        private static String extractJsonObject(String json, String fieldName) {
+            String search = "\"" + fieldName + "\":{";
+            int start = json.indexOf(search);
+            if (start < 0) return null;
+            start += search.length();
+            int braceCount = 1;
+            int pos = start;
+            while (pos < json.length() && braceCount > 0) {
+                char c = json.charAt(pos);
+                if (c == '{') braceCount++;
+                if (c == '}') braceCount--;
+                pos++;
+            }
+            if (braceCount != 0) return null;
+            return json.substring(start, pos - 1);
+        }
+
+        private static Map<String, Object> parseJsonObject(String json) {
+            Map<String, Object> result = new ConcurrentHashMap<>();
+            json = json.trim();
+            if (json.startsWith("{")) json = json.substring(1);
+            if (json.endsWith("}")) json = json.substring(0, json.length() - 1);
+            for (String pair : splitTopLevelCommas(json)) {
+                int colonPos = pair.indexOf(":");
+                if (colonPos < 0) continue;
+                String key = trimQuotes(pair.substring(0, colonPos).trim());
+                result.put(key, parseValue(pair.substring(colonPos + 1).trim()));
+            }
+            return result;
+        }
+
+        private static Object parseValue(String rawValue) {
+            rawValue = rawValue.trim();
+            if (rawValue.startsWith("\"")) return trimQuotes(rawValue);
+            else if (rawValue.startsWith("{")) return parseJsonObject(rawValue);
+            else if (rawValue.startsWith("[")) return parseJsonArray(rawValue);
+            else return rawValue;
+        }
+
+        private static Object parseJsonArray(String json) {
+            json = json.trim();
+            if (json.startsWith("[")) json = json.substring(1);
+            if (json.endsWith("]")) json = json.substring(0, json.length() - 1);
+            List<Object> list = new ArrayList<>();
+            for (String e : splitTopLevelCommas(json)) {
+                list.add(parseValue(e));
+            }
+            return list;
+        }
+
+        private static String[] splitTopLevelCommas(String json) {
+            List<String> result = new ArrayList<>();
+            int braceLevel = 0, bracketLevel = 0;
+            boolean inQuotes = false;
+            StringBuilder current = new StringBuilder();
+            for (int i = 0; i < json.length(); i++) {
+                char c = json.charAt(i);
+                if (c == '\"') {
+                    inQuotes = !inQuotes;
+                    current.append(c);
+                } else if (!inQuotes) {
+                    if (c == '{') { braceLevel++; current.append(c); }
+                    else if (c == '}') { braceLevel--; current.append(c); }
+                    else if (c == '[') { bracketLevel++; current.append(c); }
+                    else if (c == ']') { bracketLevel--; current.append(c); }
+                    else if (c == ',' && braceLevel == 0 && bracketLevel == 0) {
+                        result.add(current.toString());
+                        current.setLength(0);
+                    } else {
+                        current.append(c);
+                    }
+                } else {
+                    current.append(c);
+                }
+            }
+            if (current.length() > 0) result.add(current.toString());
+            return result.toArray(new String[0]);
+        }
+
+        private static String trimQuotes(String s) {
+            s = s.trim();
+            if (s.startsWith("\"")) s = s.substring(1);
+            if (s.endsWith("\"")) s = s.substring(0, s.length() - 1);
+            return s;
+        }
+    }
+}
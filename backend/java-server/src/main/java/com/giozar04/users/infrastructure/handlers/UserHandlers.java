@@ -1,7 +1,7 @@
 package com.giozar04.users.infrastructure.handlers;
 
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 import com.giozar04.users.application.services.UserService;
 import com.giozar04.users.infrastructure.controllers.UserControllers;
 
@@ -13,7 +13,7 @@ public class UserHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(
             UserControllers.UserMessageTypes.CREATE_USER,
             UserControllers.createUserController(transactionService)
@@ -1,7 +1,7 @@
 package com.giozar04.walletCardLinks.infrastructure.handlers;
 
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 import com.giozar04.walletCardLinks.application.services.WalletCardLinkService;
 import com.giozar04.walletCardLinks.infrastructure.controllers.WalletCardLinkControllers;
 
@@ -14,7 +14,7 @@ public class WalletCardLinkHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(
             WalletCardLinkControllers.WalletCardLinkMessageTypes.CREATE_LINK,
             WalletCardLinkControllers.createLinkController(service)
@@ -3,6 +3,7 @@ package com.giozar04.walletTransactionDetails.domain.models;
 import java.util.List;
 import java.util.Objects;
 
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
 import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
 import com.giozar04.logging.CustomLogger;
 import com.giozar04.walletTransactionDetails.domain.entities.WalletTransactionDetail;
@@ -13,9 +14,19 @@ public abstract class WalletTransactionDetailRepositoryAbstract implements Walle
 
     protected final DatabaseConnectionInterface databaseConnection;
     protected final CustomLogger logger = CustomLogger.getInstance();
+    protected final AccountChangeNotifier accountChanges;
 
     protected WalletTransactionDetailRepositoryAbstract(DatabaseConnectionInterface databaseConnection) {
+        this(databaseConnection, new AccountChangeNotifier());
+    }
+
+    /**
+     * @param accountChanges Recibe los ids de las cuentas que cambian con cada escritura
+     *        confirmada (por ejemplo, para invalidar la caché de cuentas).
+     */
+    protected WalletTransactionDetailRepositoryAbstract(DatabaseConnectionInterface databaseConnection, AccountChangeNotifier accountChanges) {
         this.databaseConnection = Objects.requireNonNull(databaseConnection, "La conexión a base de datos no puede ser nula");
+        this.accountChanges = Objects.requireNonNull(accountChanges, "El notificador de cambios de cuentas no puede ser nulo");
     }
 
     protected void validateDetail(WalletTransactionDetail detail) {
@@ -1,7 +1,7 @@
 package com.giozar04.walletTransactionDetails.infrastructure.handlers;
 
-import com.giozar04.servers.application.services.ServerService;
 import com.giozar04.servers.domain.interfaces.ServerRegisterHandlers;
+import com.giozar04.servers.domain.models.ServerAbstract;
 import com.giozar04.walletTransactionDetails.application.services.WalletTransactionDetailService;
 import com.giozar04.walletTransactionDetails.infrastructure.controllers.WalletTransactionDetailControllers;
 
@@ -14,7 +14,7 @@ public class WalletTransactionDetailHandlers implements ServerRegisterHandlers {
     }
 
     @Override
-    public void register(ServerService server) {
+    public void register(ServerAbstract server) {
         server.registerHandler(
             WalletTransactionDetailControllers.MessageTypes.CREATE_DETAIL,
             WalletTransactionDetailControllers.createDetailController(service)
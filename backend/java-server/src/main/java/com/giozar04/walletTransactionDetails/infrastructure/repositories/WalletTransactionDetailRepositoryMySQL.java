@@ -13,6 +13,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.giozar04.accounts.domain.models.AccountChangeNotifier;
 import com.giozar04.databases.domain.interfaces.DatabaseConnectionInterface;
 import com.giozar04.walletTransactionDetails.domain.entities.WalletTransactionDetail;
 import com.giozar04.walletTransactionDetails.domain.enums.WalletTransactionSourceType;
@@ -36,12 +37,17 @@ public class WalletTransactionDetailRepositoryMySQL extends WalletTransactionDet
 
     private static final String SQL_DELETE = "DELETE FROM wallet_transaction_details WHERE id = ?";
     private static final String SQL_SELECT_ALL = "SELECT * FROM wallet_transaction_details";
+    private static final String SQL_SELECT_CARD_ACCOUNT = "SELECT account_id FROM cards WHERE id = ?";
     private static final String SQL_SELECT_BY_TRANSACTION = "SELECT * FROM wallet_transaction_details WHERE transaction_id = ?";
 
     public WalletTransactionDetailRepositoryMySQL(DatabaseConnectionInterface databaseConnection) {
         super(databaseConnection);
     }
 
+    public WalletTransactionDetailRepositoryMySQL(DatabaseConnectionInterface databaseConnection, AccountChangeNotifier accountChanges) {
+        super(databaseConnection, accountChanges);
+    }
+
     @Override
     public WalletTransactionDetail createDetail(WalletTransactionDetail detail) {
         validateDetail(detail);
@@ -78,7 +84,10 @@ public class WalletTransactionDetailRepositoryMySQL extends WalletTransactionDet
                 }
             }
 
+            // El trigger descuenta el monto de la cuenta wallet o de la cuenta de la tarjeta vinculada
+            Long cardAccountId = findCardAccountId(conn, detail.getCardId());
             databaseConnection.commitTransaction();
+            accountChanges.accountsChanged(detail.getWalletAccountId(), cardAccountId);
             logger.info("Detalle creado con ID: " + detail.getId());
             return detail;
 
@@ -225,6 +234,22 @@ public class WalletTransactionDetailRepositoryMySQL extends WalletTransactionDet
         return detail;
     }
 
+    /**
+     * @return La cuenta de la tarjeta, o null si no hay tarjeta o nadie escucha los cambios de
+     *         cuentas.
+     */
+    private Long findCardAccountId(Connection conn, Long cardId) throws SQLException {
+        if (cardId == null || !accountChanges.hasListeners()) {
+            return null;
+        }
+        try (PreparedStatement stmt = conn.prepareStatement(SQL_SELECT_CARD_ACCOUNT)) {
+            stmt.setLong(1, cardId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getLong("account_id") : null;
+            }
+        }
+    }
+
     private void rollback() {
         try {
             databaseConnection.rollbackTransaction();
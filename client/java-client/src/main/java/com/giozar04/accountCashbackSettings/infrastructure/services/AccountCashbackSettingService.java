@@ -37,9 +37,8 @@ public class AccountCashbackSettingService {
         message.setType("CREATE_ACCOUNT_CASHBACK_SETTING");
         message.addData("accountCashbackSetting", AccountCashbackSettingUtils.toMap(setting));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("CREATE_ACCOUNT_CASHBACK_SETTING");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Configuración de cashback creada exitosamente: " + response);
             return AccountCashbackSettingUtils.fromMap((Map<String, Object>) response.getData("accountCashbackSetting"));
@@ -55,9 +54,8 @@ public class AccountCashbackSettingService {
         message.setType("GET_ACCOUNT_CASHBACK_SETTING");
         message.addData("accountId", accountId);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_ACCOUNT_CASHBACK_SETTING");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Configuración de cashback obtenida correctamente: " + response);
             return AccountCashbackSettingUtils.fromMap((Map<String, Object>) response.getData("accountCashbackSetting"));
@@ -74,9 +72,8 @@ public class AccountCashbackSettingService {
         message.addData("accountId", accountId);
         message.addData("accountCashbackSetting", AccountCashbackSettingUtils.toMap(setting));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("UPDATE_ACCOUNT_CASHBACK_SETTING");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Configuración de cashback actualizada correctamente: " + response);
             return AccountCashbackSettingUtils.fromMap((Map<String, Object>) response.getData("accountCashbackSetting"));
@@ -91,9 +88,8 @@ public class AccountCashbackSettingService {
         message.setType("DELETE_ACCOUNT_CASHBACK_SETTING");
         message.addData("accountId", accountId);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("DELETE_ACCOUNT_CASHBACK_SETTING");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Configuración de cashback eliminada exitosamente: " + response);
         } catch (InterruptedException e) {
@@ -2,7 +2,7 @@ package com.giozar04.accounts.infrastructure.services;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 import com.giozar04.accounts.application.utils.AccountUtils;
 import com.giozar04.accounts.domain.entities.Account;
@@ -35,37 +35,33 @@ public class AccountService {
         return instance;
     }
 
-    @SuppressWarnings("unchecked")
     public Account createAccount(Account account) throws ClientOperationException {
         Message message = new Message();
         message.setType("CREATE_ACCOUNT");
-        message.addData("account", AccountUtils.accountToMap(account));
+        message.addData("account", account);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("CREATE_ACCOUNT");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Cuenta creada exitosamente: " + response);
-            return AccountUtils.mapToAccount((Map<String, Object>) response.getData("account"));
+            return AccountUtils.dataToAccount(response.getData("account"));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new AccountExceptions.AccountCreationException("Error al esperar respuesta del servidor", e);
         }
     }
 
-    @SuppressWarnings("unchecked")
     public Account updateAccountById(Long id, Account account) throws ClientOperationException {
         Message message = new Message();
         message.setType("UPDATE_ACCOUNT");
         message.addData("id", id);
-        message.addData("account", AccountUtils.accountToMap(account));
+        message.addData("account", account);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("UPDATE_ACCOUNT");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Cuenta actualizada correctamente: " + response);
-            return AccountUtils.mapToAccount((Map<String, Object>) response.getData("account"));
+            return AccountUtils.dataToAccount(response.getData("account"));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new AccountExceptions.AccountUpdateException("Error al esperar respuesta del servidor", e);
@@ -77,9 +73,8 @@ public class AccountService {
         message.setType("DELETE_ACCOUNT");
         message.addData("id", id);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("DELETE_ACCOUNT");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Cuenta eliminada exitosamente: " + response);
         } catch (InterruptedException e) {
@@ -88,53 +83,54 @@ public class AccountService {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public Account getAccountById(Long id) throws ClientOperationException {
         Message message = new Message();
         message.setType("GET_ACCOUNT");
         message.addData("id", id);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_ACCOUNT");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Cuenta obtenida correctamente: " + response);
-            return AccountUtils.mapToAccount((Map<String, Object>) response.getData("account"));
+            return AccountUtils.dataToAccount(response.getData("account"));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new AccountExceptions.AccountRetrievalException("Error al esperar respuesta del servidor", e);
         }
     }
 
-    @SuppressWarnings("unchecked")
     public List<Account> getAllAccounts() throws ClientOperationException {
+        List<Account> all = new ArrayList<>();
+        forEachAccountBatch(all::addAll);
+        return all;
+    }
+
+    /**
+     * Solicita la lista por partes y entrega cada lote en cuanto llega.
+     *
+     * @return El total recibido.
+     */
+    public long forEachAccountBatch(Consumer<List<Account>> onBatch) throws ClientOperationException {
         logger.info("Solicitando todas las cuentas...");
         Message message = new Message();
         message.setType("GET_ALL_ACCOUNTS");
 
-        serverConnectionService.sendMessage(message);
-
         try {
-            Message response = serverConnectionService.waitForMessage("GET_ALL_ACCOUNTS");
-            ServerResponseValidator.validateResponse(response);
-            Object raw = response.getData("accounts");
-
-            if (raw == null) {
-                throw new AccountExceptions.AccountRetrievalException("Lista de cuentas vacía", null);
-            }
-
-            if (raw instanceof List<?> rawList) {
-                List<Account> accounts = new ArrayList<>();
-                for (Object item : rawList) {
-                    if (item instanceof Map<?, ?> map) {
-                        accounts.add(AccountUtils.mapToAccount((Map<String, Object>) map));
-                    }
+            long[] total = {0};
+            Message end = serverConnectionService.requestStream(message, "accounts", raw -> {
+                if (raw == null) {
+                    throw new AccountExceptions.AccountRetrievalException("Lista de cuentas vacía", null);
+                }
+                List<Account> batch = AccountUtils.dataToAccounts(raw);
+                if (batch == null) {
+                    throw new AccountExceptions.AccountParsingException("Formato inesperado: " + raw.getClass().getName(), null);
                 }
-                logger.info("Cuentas obtenidas correctamente. Total: " + accounts.size());
-                return accounts;
-            } else {
-                throw new AccountExceptions.AccountParsingException("Formato inesperado: " + raw.getClass().getName(), null);
-            }
+                total[0] += batch.size();
+                onBatch.accept(batch);
+            });
+            ServerResponseValidator.validateResponse(end);
+            logger.info("Cuentas obtenidas correctamente. Total: " + total[0]);
+            return total[0];
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -3,6 +3,8 @@ package com.giozar04.accounts.presentation.views.detail;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -12,6 +14,9 @@ import javax.swing.JPanel;
 import javax.swing.border.EmptyBorder;
 
 import com.giozar04.accounts.domain.entities.Account;
+import com.giozar04.creditStatements.domain.entities.CreditStatement;
+import com.giozar04.creditStatements.infrastructure.services.CreditStatementService;
+import com.giozar04.serverConnection.application.exceptions.ClientOperationException;
 import com.giozar04.shared.components.CreditUsagePanel;
 
 /**
@@ -21,11 +26,14 @@ import com.giozar04.shared.components.CreditUsagePanel;
  * <ol>
  *   <li>Tarjeta de crédito disponible con barra visual ({@link CreditUsagePanel}) — prominente</li>
  *   <li>Ciclo de pago (día de corte, día de pago)</li>
+ *   <li>Último estado de cuenta (cargado desde {@link CreditStatementService})</li>
  *   <li>Datos bancarios (número de cuenta, CLABE)</li>
  * </ol>
  */
 public class CreditAccountDetailView extends BaseAccountDetailView {
 
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
     public CreditAccountDetailView(Account account) {
         super(account);
     }
@@ -45,6 +53,11 @@ public class CreditAccountDetailView extends BaseAccountDetailView {
         panel.add(buildRow("Día de corte", account.getCutoffDay()  != null ? "Día " + account.getCutoffDay()  : null));
         panel.add(buildRow("Día de pago",  account.getPaymentDay() != null ? "Día " + account.getPaymentDay() : null));
 
+        // --- Último estado de cuenta ---
+        addGap(panel);
+        panel.add(buildSection("Último estado de cuenta"));
+        panel.add(buildStatementPanel());
+
         // --- Datos bancarios ---
         addGap(panel);
         panel.add(buildSection("Datos bancarios"));
@@ -54,6 +67,50 @@ public class CreditAccountDetailView extends BaseAccountDetailView {
         return panel;
     }
 
+    /**
+     * Carga el estado de cuenta del último ciclo cerrado; el servidor lo guarda al cerrar el
+     * ciclo, así que es una sola consulta.
+     */
+    private JPanel buildStatementPanel() {
+        JPanel container = new JPanel();
+        container.setLayout(new BoxLayout(container, BoxLayout.Y_AXIS));
+        container.setOpaque(false);
+        container.setAlignmentX(LEFT_ALIGNMENT);
+
+        try {
+            CreditStatement statement = CreditStatementService.getInstance().getLatestStatement(account.getId());
+            container.add(buildRow("Periodo", statement.getPeriodStart().format(DATE_FORMAT)
+                    + " al " + statement.getPeriodEnd().format(DATE_FORMAT)));
+            container.add(buildRow("Fecha límite de pago", statement.getPaymentDueDate().format(DATE_FORMAT)));
+            container.add(buildRow("Saldo anterior",     formatAmount(statement.getOpeningBalance())));
+            container.add(buildRow("Cargos",             formatAmount(statement.getCharges())
+                    + "  (" + statement.getChargeCount() + ")"));
+            container.add(buildRow("Pagos y abonos",     formatAmount(statement.getPayments())
+                    + "  (" + statement.getPaymentCount() + ")"));
+            container.add(buildRow("Saldo al corte",     formatAmount(statement.getClosingBalance())));
+            if (statement.getInstallmentCount() > 0 || statement.getDeferredBalance().signum() > 0) {
+                container.add(buildRow("Mensualidades MSI", formatAmount(statement.getInstallmentsBilled())
+                        + "  (" + statement.getInstallmentCount() + ")"));
+                container.add(buildRow("MSI por vencer",    formatAmount(statement.getDeferredBalance())));
+            }
+            container.add(buildRow("Pago sin intereses", formatAmount(statement.getNoInterestPayment())));
+            container.add(buildRow("Pago mínimo",        formatAmount(statement.getMinimumPayment())));
+
+        } catch (ClientOperationException | RuntimeException e) {
+            JLabel info = new JLabel("No se pudo cargar el estado de cuenta: " + e.getMessage());
+            info.setFont(new Font("SansSerif", Font.ITALIC, 12));
+            info.setForeground(new Color(120, 120, 135));
+            info.setAlignmentX(LEFT_ALIGNMENT);
+            container.add(info);
+        }
+
+        return container;
+    }
+
+    private static String formatAmount(BigDecimal amount) {
+        return String.format("$%,.2f", amount);
+    }
+
     /**
      * Tarjeta visual con la barra de crédito disponible destacada.
      */
@@ -41,9 +41,8 @@ public class BankClientService {
         message.setType("CREATE_BANK_CLIENT");
         message.addData("bankClient", BankClientUtils.bankClientToMap(bankClient));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("CREATE_BANK_CLIENT");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Cliente creado exitosamente: " + response);
             return BankClientUtils.mapToBankClient((Map<String, Object>) response.getData("bankClient"));
@@ -60,9 +59,8 @@ public class BankClientService {
         message.addData("id", id);
         message.addData("bankClient", BankClientUtils.bankClientToMap(bankClient));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("UPDATE_BANK_CLIENT");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Cliente actualizado correctamente: " + response);
             return BankClientUtils.mapToBankClient((Map<String, Object>) response.getData("bankClient"));
@@ -77,9 +75,8 @@ public class BankClientService {
         message.setType("DELETE_BANK_CLIENT");
         message.addData("id", id);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("DELETE_BANK_CLIENT");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Cliente eliminado exitosamente: " + response);
         } catch (InterruptedException e) {
@@ -94,9 +91,8 @@ public class BankClientService {
         message.setType("GET_BANK_CLIENT");
         message.addData("id", id);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_BANK_CLIENT");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Cliente obtenido correctamente: " + response);
             return BankClientUtils.mapToBankClient((Map<String, Object>) response.getData("bankClient"));
@@ -112,10 +108,8 @@ public class BankClientService {
         Message message = new Message();
         message.setType("GET_ALL_BANK_CLIENTS");
 
-        serverConnectionService.sendMessage(message);
-
         try {
-            Message response = serverConnectionService.waitForMessage("GET_ALL_BANK_CLIENTS");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             Object raw = response.getData("bankClients");
 
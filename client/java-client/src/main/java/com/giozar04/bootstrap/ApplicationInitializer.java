@@ -11,10 +11,13 @@ import com.giozar04.cardTransactionDetails.infrastructure.services.CardTransacti
 import com.giozar04.cards.infrastructure.services.CardService;
 import com.giozar04.categories.infrastructure.services.CategoryService;
 import com.giozar04.configs.ServerConnectionConfig;
+import com.giozar04.creditStatements.infrastructure.services.CreditStatementService;
 import com.giozar04.externalEntities.infrastructure.services.ExternalEntityService;
 import com.giozar04.logging.CustomLogger;
+import com.giozar04.monthlySummaries.infrastructure.services.MonthlySummaryService;
 import com.giozar04.serverConnection.application.services.ServerConnectionService;
 import com.giozar04.shared.layouts.AppLayout;
+import com.giozar04.statementImports.infrastructure.services.StatementImportService;
 import com.giozar04.tags.infrastructure.services.TagService;
 import com.giozar04.transactions.infrastructure.services.TransactionService;
 import com.giozar04.users.infrastructure.services.UserService;
@@ -48,6 +51,8 @@ public class ApplicationInitializer {
         try {
             ServerConnectionConfig config = new ServerConnectionConfig();
             connectionService = ServerConnectionService.getInstance(config.getHost(), config.getPort());
+            connectionService.setPreferredProtocol(config.getProtocol());
+            connectionService.setPreferredCompression(config.getCompression());
             connectionService.connect();
             System.out.println("✅ Conexión establecida con el servidor.");
             return true;
@@ -83,6 +88,15 @@ public class ApplicationInitializer {
             this.transactionService = TransactionService.connectService(connectionService);
             System.out.println("✅ Servicio de transacciones conectado correctamente.");
 
+            StatementImportService.connectService(transactionService, categoryService, externalEntityService);
+            System.out.println("✅ Servicio de importación de estados de cuenta conectado correctamente.");
+
+            MonthlySummaryService.connectService(connectionService);
+            System.out.println("✅ Servicio de resúmenes mensuales conectado correctamente.");
+
+            CreditStatementService.connectService(connectionService);
+            System.out.println("✅ Servicio de estados de cuenta de crédito conectado correctamente.");
+
             CardTransactionDetailService.connectService(connectionService);
             System.out.println("✅ Servicio de detalles de transacciones con tarjeta conectado correctamente.");
 
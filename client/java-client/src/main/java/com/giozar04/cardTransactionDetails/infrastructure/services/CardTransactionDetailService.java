@@ -37,9 +37,8 @@ public class CardTransactionDetailService {
         message.setType("GET_CARD_DETAIL_BY_TRANSACTION_ID");
         message.addData("transactionId", transactionId);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_CARD_DETAIL_BY_TRANSACTION_ID");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Detalle de tarjeta obtenido: " + response);
             return CardTransactionDetailUtils.fromMap((Map<String, Object>) response.getData("cardDetail"));
@@ -2,7 +2,7 @@ package com.giozar04.cards.infrastructure.services;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 import com.giozar04.card.application.utils.CardUtils;
 import com.giozar04.card.domain.entities.Card;
@@ -34,37 +34,33 @@ public class CardService {
         return instance;
     }
 
-    @SuppressWarnings("unchecked")
     public Card createCard(Card card) throws ClientOperationException {
         Message message = new Message();
         message.setType("CREATE_CARD");
-        message.addData("card", CardUtils.cardToMap(card));
+        message.addData("card", card);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("CREATE_CARD");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Tarjeta creada exitosamente: " + response);
-            return CardUtils.mapToCard((Map<String, Object>) response.getData("card"));
+            return CardUtils.dataToCard(response.getData("card"));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new CardExceptions.CardCreationException("Error al esperar respuesta del servidor", e);
         }
     }
 
-    @SuppressWarnings("unchecked")
     public Card updateCardById(Long id, Card card) throws ClientOperationException {
         Message message = new Message();
         message.setType("UPDATE_CARD");
         message.addData("id", id);
-        message.addData("card", CardUtils.cardToMap(card));
+        message.addData("card", card);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("UPDATE_CARD");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Tarjeta actualizada correctamente: " + response);
-            return CardUtils.mapToCard((Map<String, Object>) response.getData("card"));
+            return CardUtils.dataToCard(response.getData("card"));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new CardExceptions.CardUpdateException("Error al esperar respuesta del servidor", e);
@@ -76,9 +72,8 @@ public class CardService {
         message.setType("DELETE_CARD");
         message.addData("id", id);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("DELETE_CARD");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Tarjeta eliminada exitosamente: " + response);
         } catch (InterruptedException e) {
@@ -87,34 +82,38 @@ public class CardService {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public List<Card> getAllCards() throws ClientOperationException {
+        List<Card> all = new ArrayList<>();
+        forEachCardBatch(all::addAll);
+        return all;
+    }
+
+    /**
+     * Solicita la lista por partes y entrega cada lote en cuanto llega.
+     *
+     * @return El total recibido.
+     */
+    public long forEachCardBatch(Consumer<List<Card>> onBatch) throws ClientOperationException {
         logger.info("Solicitando todas las tarjetas...");
         Message message = new Message();
         message.setType("GET_ALL_CARDS");
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_ALL_CARDS");
-            ServerResponseValidator.validateResponse(response);
-            Object raw = response.getData("cards");
-
-            if (raw == null) {
-                throw new CardExceptions.CardRetrievalException("Lista de tarjetas vacía", null);
-            }
-
-            if (raw instanceof List<?> rawList) {
-                List<Card> cards = new ArrayList<>();
-                for (Object item : rawList) {
-                    if (item instanceof Map<?, ?> map) {
-                        cards.add(CardUtils.mapToCard((Map<String, Object>) map));
-                    }
+            long[] total = {0};
+            Message end = serverConnectionService.requestStream(message, "cards", raw -> {
+                if (raw == null) {
+                    throw new CardExceptions.CardRetrievalException("Lista de tarjetas vacía", null);
+                }
+                List<Card> batch = CardUtils.dataToCards(raw);
+                if (batch == null) {
+                    throw new CardExceptions.CardParsingException("Formato inesperado: " + raw.getClass().getName(), null);
                 }
-                logger.info("Tarjetas obtenidas correctamente. Total: " + cards.size());
-                return cards;
-            } else {
-                throw new CardExceptions.CardParsingException("Formato inesperado: " + raw.getClass().getName(), null);
-            }
+                total[0] += batch.size();
+                onBatch.accept(batch);
+            });
+            ServerResponseValidator.validateResponse(end);
+            logger.info("Tarjetas obtenidas correctamente. Total: " + total[0]);
+            return total[0];
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -40,9 +40,8 @@ public class CategoryService {
         message.setType("CREATE_CATEGORY");
         message.addData("category", CategoryUtils.categoryToMap(category));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("CREATE_CATEGORY");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Categoría creada exitosamente: " + response);
             return CategoryUtils.mapToCategory((Map<String, Object>) response.getData("category"));
@@ -59,9 +58,8 @@ public class CategoryService {
         message.addData("id", id);
         message.addData("category", CategoryUtils.categoryToMap(category));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("UPDATE_CATEGORY");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Categoría actualizada correctamente: " + response);
             return CategoryUtils.mapToCategory((Map<String, Object>) response.getData("category"));
@@ -76,9 +74,8 @@ public class CategoryService {
         message.setType("DELETE_CATEGORY");
         message.addData("id", id);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("DELETE_CATEGORY");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Categoría eliminada exitosamente: " + response);
         } catch (InterruptedException e) {
@@ -93,9 +90,8 @@ public class CategoryService {
         Message message = new Message();
         message.setType("GET_ALL_CATEGORIES");
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_ALL_CATEGORIES");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             Object raw = response.getData("categories");
 
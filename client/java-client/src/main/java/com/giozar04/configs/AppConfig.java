@@ -21,4 +21,12 @@ public final class AppConfig {
     public static String getProperty(String key) {
         return properties.getProperty(key);
     }
+
+    /**
+     * @return El valor de la propiedad sin espacios, o defaultValue si no existe o está vacía.
+     */
+    public static String getProperty(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
 }
\ No newline at end of file
@@ -1,13 +1,25 @@
 package com.giozar04.configs;
 
+import com.giozar04.messages.application.io.MessageCompression;
+import com.giozar04.messages.domain.enums.WireProtocol;
+
 public class ServerConnectionConfig {
 
     private final String host;
     private final int port;
+    private final WireProtocol protocol;
+    private final MessageCompression compression;
 
     public ServerConnectionConfig() {
         this.host = AppConfig.getProperty("server.host");
         this.port = Integer.parseInt(AppConfig.getProperty("server.port"));
+        this.protocol = WireProtocol.fromValue(AppConfig.getProperty("server.protocol", "binary"));
+        this.compression = Boolean.parseBoolean(AppConfig.getProperty("server.compression", "true"))
+                ? MessageCompression.deflate(
+                        Integer.parseInt(AppConfig.getProperty("server.compression.threshold",
+                                String.valueOf(MessageCompression.DEFAULT_THRESHOLD))),
+                        MessageCompression.DEFAULT_LEVEL)
+                : MessageCompression.NONE;
     }
 
     public String getHost() {
@@ -17,5 +29,19 @@ public class ServerConnectionConfig {
     public int getPort() {
         return port;
     }
-}
 
+    /**
+     * @return Protocolo que se negocia al conectar; si el servidor no lo ofrece se usa JSON.
+     */
+    public WireProtocol getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * @return Compresión que se pide al conectar, o MessageCompression.NONE; el servidor usa el
+     *         mayor de los dos umbrales.
+     */
+    public MessageCompression getCompression() {
+        return compression;
+    }
+}
@@ -0,0 +1,70 @@
+package com.giozar04.creditStatements.infrastructure.services;
+
+import java.time.LocalDate;
+
+import com.giozar04.creditStatements.application.utils.CreditStatementUtils;
+import com.giozar04.creditStatements.domain.entities.CreditStatement;
+import com.giozar04.creditStatements.domain.exceptions.CreditStatementExceptions;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.serverConnection.application.exceptions.ClientOperationException;
+import com.giozar04.serverConnection.application.services.ServerConnectionService;
+import com.giozar04.serverConnection.application.validators.ServerResponseValidator;
+
+public class CreditStatementService {
+
+    private final ServerConnectionService serverConnectionService;
+    private static final CustomLogger logger = CustomLogger.getInstance();
+    private static CreditStatementService instance;
+
+    private CreditStatementService(ServerConnectionService serverConnectionService) {
+        this.serverConnectionService = serverConnectionService;
+    }
+
+    public static CreditStatementService connectService(ServerConnectionService serverConnectionService) {
+        if (instance == null) {
+            instance = new CreditStatementService(serverConnectionService);
+        }
+        return instance;
+    }
+
+    public static CreditStatementService getInstance() {
+        return instance;
+    }
+
+    /**
+     * Obtiene el estado de cuenta del último ciclo cerrado de una cuenta de crédito.
+     */
+    public CreditStatement getLatestStatement(long accountId) throws ClientOperationException {
+        return getStatement(accountId, null);
+    }
+
+    /**
+     * Obtiene el estado de cuenta del ciclo que incluye date, o del último ciclo cerrado si
+     * date es null.
+     */
+    public CreditStatement getStatement(long accountId, LocalDate date) throws ClientOperationException {
+        Message message = new Message();
+        message.setType("GET_CREDIT_STATEMENT");
+        message.addData("accountId", accountId);
+        if (date != null) {
+            message.addData("date", date.toString());
+        }
+
+        try {
+            Message response = serverConnectionService.request(message);
+            ServerResponseValidator.validateResponse(response);
+            CreditStatement statement = CreditStatementUtils.statementFromMessage(response);
+            if (statement == null) {
+                throw new CreditStatementExceptions.ParsingException("El servidor respondió sin incluir el estado de cuenta", null);
+            }
+            logger.info("Estado de cuenta obtenido: " + statement.getPeriodStart() + " a " + statement.getPeriodEnd());
+            return statement;
+        } catch (IllegalArgumentException e) {
+            throw new CreditStatementExceptions.ParsingException("Formato inesperado del estado de cuenta: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CreditStatementExceptions.RetrievalException("Error al esperar la respuesta del servidor", e);
+        }
+    }
+}
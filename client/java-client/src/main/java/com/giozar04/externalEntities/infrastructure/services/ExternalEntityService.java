@@ -40,9 +40,8 @@ public class ExternalEntityService {
         message.setType("CREATE_EXTERNAL_ENTITY");
         message.addData("externalEntity", ExternalEntityUtils.externalEntityToMap(entity));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("CREATE_EXTERNAL_ENTITY");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Entidad externa creada exitosamente: " + response);
             return ExternalEntityUtils.mapToExternalEntity((Map<String, Object>) response.getData("externalEntity"));
@@ -59,9 +58,8 @@ public class ExternalEntityService {
         message.addData("id", id);
         message.addData("externalEntity", ExternalEntityUtils.externalEntityToMap(entity));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("UPDATE_EXTERNAL_ENTITY");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Entidad externa actualizada correctamente: " + response);
             return ExternalEntityUtils.mapToExternalEntity((Map<String, Object>) response.getData("externalEntity"));
@@ -76,9 +74,8 @@ public class ExternalEntityService {
         message.setType("DELETE_EXTERNAL_ENTITY");
         message.addData("id", id);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("DELETE_EXTERNAL_ENTITY");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Entidad externa eliminada exitosamente: " + response);
         } catch (InterruptedException e) {
@@ -93,9 +90,8 @@ public class ExternalEntityService {
         Message message = new Message();
         message.setType("GET_ALL_EXTERNAL_ENTITIES");
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_ALL_EXTERNAL_ENTITIES");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             Object raw = response.getData("externalEntities");
 
@@ -0,0 +1,61 @@
+package com.giozar04.monthlySummaries.infrastructure.services;
+
+import java.util.List;
+
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.monthlySummaries.application.utils.MonthlySummaryUtils;
+import com.giozar04.monthlySummaries.domain.entities.MonthlySummary;
+import com.giozar04.monthlySummaries.domain.exceptions.MonthlySummaryExceptions;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRequest;
+import com.giozar04.serverConnection.application.exceptions.ClientOperationException;
+import com.giozar04.serverConnection.application.services.ServerConnectionService;
+import com.giozar04.serverConnection.application.validators.ServerResponseValidator;
+
+public class MonthlySummaryService {
+
+    private final ServerConnectionService serverConnectionService;
+    private static final CustomLogger logger = CustomLogger.getInstance();
+    private static MonthlySummaryService instance;
+
+    private MonthlySummaryService(ServerConnectionService serverConnectionService) {
+        this.serverConnectionService = serverConnectionService;
+    }
+
+    public static MonthlySummaryService connectService(ServerConnectionService serverConnectionService) {
+        if (instance == null) {
+            instance = new MonthlySummaryService(serverConnectionService);
+        }
+        return instance;
+    }
+
+    public static MonthlySummaryService getInstance() {
+        return instance;
+    }
+
+    /**
+     * Obtiene los totales por mes, cuenta, categoría y tipo de operación. Sin rango de meses,
+     * el servidor devuelve los últimos doce.
+     */
+    public List<MonthlySummary> getMonthlySummaries(MonthlySummaryRequest request) throws ClientOperationException {
+        Message message = new Message();
+        message.setType("GET_MONTHLY_SUMMARY");
+        message.addData("filter", MonthlySummaryUtils.requestToMap(request));
+
+        try {
+            Message response = serverConnectionService.request(message);
+            ServerResponseValidator.validateResponse(response);
+            List<MonthlySummary> summaries = MonthlySummaryUtils.summariesFromMessage(response);
+            if (summaries == null) {
+                throw new MonthlySummaryExceptions.ParsingException("El servidor respondió sin incluir el resumen mensual", null);
+            }
+            logger.info("Resumen mensual obtenido. Renglones: " + summaries.size());
+            return summaries;
+        } catch (IllegalArgumentException e) {
+            throw new MonthlySummaryExceptions.ParsingException("Formato inesperado del resumen mensual: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MonthlySummaryExceptions.RetrievalException("Error al esperar la respuesta del servidor", e);
+        }
+    }
+}
@@ -1,30 +1,57 @@
 package com.giozar04.serverConnection.application.services;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
+import java.io.InterruptedIOException;
 import java.net.Socket;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
-import com.giozar04.json.utils.JsonUtils;
+import com.giozar04.binary.domain.exceptions.BinaryExceptions;
+import com.giozar04.json.domain.exceptions.JsonExceptions;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.messages.application.io.MessageCompression;
+import com.giozar04.messages.application.io.MessageReader;
+import com.giozar04.messages.application.io.MessageWriter;
+import com.giozar04.messages.application.utils.MessageProtocolUtils;
+import com.giozar04.messages.domain.enums.WireProtocol;
 import com.giozar04.messages.domain.models.Message;
 import com.giozar04.serverConnection.application.exceptions.ClientOperationException;
 import com.giozar04.serverConnection.domain.models.ServerConnectionAbstract;
 
+/**
+ * Conexión con el servidor. Empieza en JSON y, si se prefiere otro protocolo o compresión y el
+ * WELCOME del servidor los ofrece, connect() los negocia antes de devolver el control.
+ */
 public class ServerConnectionService extends ServerConnectionAbstract {
 
+    // Tiempo máximo de espera de una respuesta (o de cada trama de una respuesta por partes)
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
     private Socket socket;
-    private PrintWriter out;
-    private BufferedReader in;
+    private MessageWriter out;
+    private MessageReader in;
+    private WireProtocol preferredProtocol = WireProtocol.JSON;
+    private MessageCompression preferredCompression = MessageCompression.NONE;
     private static ServerConnectionService instance;
+    private final CustomLogger logger = CustomLogger.getInstance();
 
-    // Cola de mensajes por tipo
+    // Cola de mensajes por tipo, para los mensajes sin requestId (WELCOME, notificaciones)
     private final Map<String, BlockingQueue<Message>> messageQueues = new ConcurrentHashMap<>();
 
+    // Solicitudes en curso por requestId: respuestas únicas y respuestas por partes
+    private final AtomicLong requestIds = new AtomicLong();
+    private final Map<String, CompletableFuture<Message>> pendingRequests = new ConcurrentHashMap<>();
+    private final Map<String, BlockingQueue<Message>> pendingStreams = new ConcurrentHashMap<>();
+
     private ServerConnectionService(String host, int port) {
         super(host, port);
     }
@@ -36,45 +63,154 @@ public class ServerConnectionService extends ServerConnectionAbstract {
         return instance;
     }
 
+    /**
+     * Protocolo que connect() intenta negociar. Por defecto JSON, que no requiere negociación.
+     */
+    public void setPreferredProtocol(WireProtocol preferredProtocol) {
+        this.preferredProtocol = preferredProtocol;
+    }
+
+    /**
+     * Compresión que connect() intenta negociar. Por defecto ninguna.
+     */
+    public void setPreferredCompression(MessageCompression preferredCompression) {
+        this.preferredCompression = preferredCompression;
+    }
+
+    /**
+     * @return El protocolo con el que se envían los mensajes.
+     */
+    public WireProtocol getProtocol() {
+        return out != null ? out.getProtocol() : WireProtocol.JSON;
+    }
+
     @Override
     public void connect() throws IOException {
         socket = new Socket(serverHost, serverPort);
-        out = new PrintWriter(socket.getOutputStream(), true);
-        in = new BufferedReader(new InputStreamReader(socket.getInputStream()));
+        out = new MessageWriter(socket.getOutputStream());
+        in = new MessageReader(socket.getInputStream());
         isConnected = true;
         startListening();
+        negotiateProtocol();
+    }
+
+    /**
+     * Espera el WELCOME y, si ofrece el protocolo o la compresión preferidos, los pide con
+     * SET_PROTOCOL. Como connect() todavía no devolvió el control, ningún otro hilo escribe
+     * mientras se cambia de protocolo. Un servidor que no los ofrece (por ejemplo, una versión
+     * anterior) sigue en JSON sin compresión.
+     */
+    private void negotiateProtocol() throws IOException {
+        if (preferredProtocol == WireProtocol.JSON && !preferredCompression.isEnabled()) {
+            return;
+        }
+        try {
+            BlockingQueue<Message> welcomes = messageQueues
+                    .computeIfAbsent(MessageProtocolUtils.WELCOME, k -> new LinkedBlockingQueue<>());
+            Message welcome = welcomes.poll(DEFAULT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            if (welcome == null) {
+                throw new IOException("El servidor no envió el mensaje de bienvenida");
+            }
+            // Se devuelve a la cola para quien espere el WELCOME con waitForMessage
+            welcomes.offer(welcome);
+            WireProtocol protocol = preferredProtocol;
+            if (protocol != WireProtocol.JSON && !MessageProtocolUtils.offers(welcome, protocol)) {
+                logger.info("El servidor no ofrece el protocolo " + protocol.getValue() + ", se usa JSON");
+                protocol = WireProtocol.JSON;
+            }
+            MessageCompression compression = MessageProtocolUtils.offersCompression(welcome)
+                    ? preferredCompression
+                    : MessageCompression.NONE;
+            if (protocol == WireProtocol.JSON && !compression.isEnabled()) {
+                return;
+            }
+
+            Message ack = request(MessageProtocolUtils.createProtocolRequest(protocol, compression));
+            if (!MessageProtocolUtils.isProtocolAck(ack)) {
+                logger.warn("El servidor rechazó el protocolo " + protocol.getValue() + ": " + ack.getContent());
+                return;
+            }
+            MessageCompression agreed = MessageProtocolUtils.compressionFrom(ack, compression.getLevel());
+            out.switchTo(protocol, MessageProtocolUtils.opcodesFrom(ack), agreed);
+            logger.info("Protocolo " + protocol.getValue() + " negociado con el servidor, " + agreed);
+        } catch (ClientOperationException e) {
+            throw new IOException("No se pudo negociar el protocolo: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Negociación del protocolo interrumpida");
+        }
     }
 
     private void startListening() {
         new Thread(() -> {
             try {
                 while (isConnected) {
-                    String line = in.readLine();
-                    if (line == null) {
+                    Message message;
+                    try {
+                        message = in.read();
+                    } catch (JsonExceptions.JsonException | BinaryExceptions.BinaryException e) {
+                        System.err.println("Mensaje inválido del servidor: " + e.getMessage());
+                        continue;
+                    }
+                    if (message == null) {
                         break;
                     }
 
-                    Message message = JsonUtils.jsonToMessage(line);
-                    if (message != null) {
-                        processIncomingMessage(message); // extensible para el futuro
-
-                        // Encolar el mensaje en la cola correspondiente a su tipo
-                        String type = message.getType();
-                        messageQueues
-                                .computeIfAbsent(type, k -> new LinkedBlockingQueue<>())
-                                .offer(message);
+                    // El servidor escribe en el protocolo nuevo desde el mensaje que sigue a la respuesta
+                    if (MessageProtocolUtils.isProtocolAck(message)) {
+                        in.switchTo(MessageProtocolUtils.protocolOf(message), MessageProtocolUtils.opcodesFrom(message),
+                                MessageProtocolUtils.compressionFrom(message, MessageCompression.DEFAULT_LEVEL));
                     }
+                    processIncomingMessage(message); // extensible para el futuro
+                    routeMessage(message);
                 }
             } catch (IOException e) {
                 System.err.println("Error al recibir mensajes: " + e.getMessage());
+            } finally {
                 isConnected = false;
+                failPendingRequests();
             }
         }).start();
     }
 
+    /**
+     * Entrega la respuesta a la solicitud que la espera según su requestId; los mensajes sin
+     * requestId se encolan por tipo como antes.
+     */
+    private void routeMessage(Message message) {
+        String requestId = message.getRequestId();
+        if (requestId == null) {
+            messageQueues
+                    .computeIfAbsent(message.getType(), k -> new LinkedBlockingQueue<>())
+                    .offer(message);
+            return;
+        }
+
+        BlockingQueue<Message> frames = pendingStreams.get(requestId);
+        if (frames != null) {
+            frames.offer(message);
+            return;
+        }
+        CompletableFuture<Message> future = pendingRequests.remove(requestId);
+        if (future != null) {
+            future.complete(message);
+            return;
+        }
+        System.err.println("Respuesta descartada, la solicitud " + requestId + " ya no está en curso");
+    }
+
+    /** Al perder la conexión ninguna solicitud en curso recibirá respuesta. */
+    private void failPendingRequests() {
+        ClientOperationException closed = new ClientOperationException("Se perdió la conexión con el servidor");
+        pendingRequests.values().forEach(future -> future.completeExceptionally(closed));
+        pendingStreams.values().forEach(frames ->
+                frames.offer(Message.createErrorMessage(null, closed.getMessage())));
+    }
+
     /**
      * Método para obtener un mensaje por tipo. Se bloquea hasta recibir el
-     * mensaje solicitado.
+     * mensaje solicitado. Solo recibe mensajes sin requestId; para las respuestas
+     * a solicitudes se usa send o request.
      */
     public Message waitForMessage(String type) throws InterruptedException {
         BlockingQueue<Message> queue = messageQueues
@@ -82,18 +218,134 @@ public class ServerConnectionService extends ServerConnectionAbstract {
         return queue.take(); // Espera el mensaje de ese tipo
     }
 
+    /**
+     * Envía la solicitud con un requestId nuevo y devuelve su respuesta como futuro, de modo
+     * que varias solicitudes (incluso del mismo tipo) pueden estar en curso sobre el mismo
+     * socket. El futuro falla con TimeoutException si no hay respuesta a tiempo.
+     */
+    public CompletableFuture<Message> send(Message message) {
+        return send(message, DEFAULT_TIMEOUT);
+    }
+
+    public CompletableFuture<Message> send(Message message, Duration timeout) {
+        String requestId = nextRequestId();
+        message.setRequestId(requestId);
+
+        CompletableFuture<Message> future = new CompletableFuture<>();
+        pendingRequests.put(requestId, future);
+        future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((response, error) -> pendingRequests.remove(requestId));
+
+        try {
+            sendMessage(message);
+        } catch (ClientOperationException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Envía la solicitud y espera su respuesta.
+     *
+     * @throws ClientOperationException Si no se pudo enviar, se agotó el tiempo o se perdió la conexión.
+     */
+    public Message request(Message message) throws ClientOperationException, InterruptedException {
+        return request(message, DEFAULT_TIMEOUT);
+    }
+
+    public Message request(Message message, Duration timeout) throws ClientOperationException, InterruptedException {
+        try {
+            return send(message, timeout).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ClientOperationException clientError) {
+                throw clientError;
+            }
+            if (cause instanceof TimeoutException) {
+                throw new ClientOperationException("Tiempo de espera agotado para " + message.getType(), cause);
+            }
+            throw new ClientOperationException("Error al esperar la respuesta: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Envía una solicitud cuya respuesta llega por partes (ver Message.StreamFrame) y entrega al
+     * consumidor el campo de filas de cada lote en cuanto llega, sin esperar a la respuesta
+     * completa. Si el servidor contesta con un único mensaje, su campo se entrega como un solo
+     * lote. El tiempo de espera se aplica a cada trama, no a la respuesta completa.
+     *
+     * Si el consumidor falla, se siguen descartando tramas hasta la final y después se relanza
+     * el error.
+     *
+     * @param message La solicitud; se marca para pedir la respuesta por partes.
+     * @param field El campo de data que trae las filas.
+     * @param onBatch Recibe el valor del campo de cada lote.
+     * @return La trama END, o el mensaje único; trae el estado final y el total en "count".
+     */
+    public Message requestStream(Message message, String field, Consumer<Object> onBatch)
+            throws ClientOperationException, InterruptedException {
+        String requestId = nextRequestId();
+        message.setRequestId(requestId);
+        message.addData(Message.STREAM_KEY, true);
+
+        BlockingQueue<Message> frames = new LinkedBlockingQueue<>();
+        pendingStreams.put(requestId, frames);
+        try {
+            sendMessage(message);
+
+            Message first = nextFrame(frames, message.getType());
+            if (first.getStreamFrame() != Message.StreamFrame.BEGIN) {
+                if (first.getStatus() != Message.Status.ERROR) {
+                    onBatch.accept(first.getData(field));
+                }
+                return first;
+            }
+
+            RuntimeException failure = null;
+            while (true) {
+                Message frame = nextFrame(frames, message.getType());
+                if (frame.getStreamFrame() != Message.StreamFrame.BATCH) {
+                    if (failure != null) throw failure;
+                    return frame;
+                }
+                if (failure == null) {
+                    try {
+                        onBatch.accept(frame.getData(field));
+                    } catch (RuntimeException e) {
+                        failure = e;
+                    }
+                }
+            }
+        } finally {
+            pendingStreams.remove(requestId);
+        }
+    }
+
+    private Message nextFrame(BlockingQueue<Message> frames, String type)
+            throws ClientOperationException, InterruptedException {
+        Message frame = frames.poll(DEFAULT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        if (frame == null) {
+            throw new ClientOperationException("Tiempo de espera agotado para " + type);
+        }
+        return frame;
+    }
+
+    private String nextRequestId() {
+        return Long.toString(requestIds.incrementAndGet());
+    }
+
     @Override
     protected void processIncomingMessage(Message message) {
         // Puedes expandir esto en el futuro para manejar otros tipos globales como NOTIFICATIONS
-        System.out.println("[CLIENT] Mensaje recibido del servidor: " + message);
+        logger.debug(() -> "Mensaje recibido del servidor: " + message);
     }
 
     @Override
     public void sendMessage(Message message) throws ClientOperationException {
         if (socket != null && !socket.isClosed() && out != null) {
             try {
-                String json = JsonUtils.messageToJson(message);
-                out.println(json);
+                // Se escribe directamente al socket; MessageWriter evita intercalar mensajes de varios hilos
+                out.write(message);
             } catch (Exception e) {
                 throw new ClientOperationException("Error al enviar el mensaje: " + e.getMessage(), e);
             }
@@ -104,7 +356,7 @@ public class ServerConnectionService extends ServerConnectionAbstract {
 
     @Override
     public Message receiveMessage() throws InterruptedException {
-        throw new UnsupportedOperationException("Usa waitForMessage(type) en lugar de receiveMessage()");
+        throw new UnsupportedOperationException("Usa request(message) o waitForMessage(type) en lugar de receiveMessage()");
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.giozar04.serverConnection.domain.interfaces;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import com.giozar04.messages.domain.models.Message;
 import com.giozar04.serverConnection.application.exceptions.ClientOperationException;
@@ -9,5 +10,6 @@ public interface ServerConnectionInterface {
     void connect() throws ClientOperationException, IOException;
     void disconnect() throws ClientOperationException, IOException;
     void sendMessage(Message message) throws ClientOperationException, IOException;
+    CompletableFuture<Message> send(Message message);
     Message receiveMessage() throws InterruptedException, ClientOperationException, IOException;
 }
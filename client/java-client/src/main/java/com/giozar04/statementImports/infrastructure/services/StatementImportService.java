@@ -0,0 +1,104 @@
+package com.giozar04.statementImports.infrastructure.services;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.giozar04.categories.infrastructure.services.CategoryService;
+import com.giozar04.externalEntities.infrastructure.services.ExternalEntityService;
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.serverConnection.application.exceptions.ClientOperationException;
+import com.giozar04.statementImports.application.services.StatementImporter;
+import com.giozar04.statementImports.application.utils.StatementImportUtils;
+import com.giozar04.statementImports.domain.exceptions.StatementImportExceptions;
+import com.giozar04.statementImports.domain.interfaces.StatementReader;
+import com.giozar04.statementImports.domain.models.StatementCategorizer;
+import com.giozar04.statementImports.domain.models.StatementImportOptions;
+import com.giozar04.statementImports.domain.models.StatementImportReport;
+import com.giozar04.statementImports.domain.models.TransactionDedupeIndex;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.models.TransactionPage;
+import com.giozar04.transactions.domain.models.TransactionPageRequest;
+import com.giozar04.transactions.infrastructure.services.TransactionService;
+
+/**
+ * Importa estados de cuenta CSV u OFX a una cuenta.
+ *
+ * Antes de leer el archivo se piden una vez las categorías, las entidades externas y las
+ * transacciones de la cuenta (por páginas), para clasificar y descartar duplicados sin volver
+ * a consultar al servidor por cada fila. Las transacciones nuevas se envían con
+ * CREATE_TRANSACTIONS_BATCH.
+ */
+public class StatementImportService {
+
+    private static final CustomLogger logger = CustomLogger.getInstance();
+    private static StatementImportService instance;
+
+    private final TransactionService transactionService;
+    private final CategoryService categoryService;
+    private final ExternalEntityService externalEntityService;
+
+    private StatementImportService(TransactionService transactionService, CategoryService categoryService,
+                                   ExternalEntityService externalEntityService) {
+        this.transactionService = transactionService;
+        this.categoryService = categoryService;
+        this.externalEntityService = externalEntityService;
+    }
+
+    public static StatementImportService connectService(TransactionService transactionService, CategoryService categoryService,
+                                                        ExternalEntityService externalEntityService) {
+        if (instance == null) {
+            instance = new StatementImportService(transactionService, categoryService, externalEntityService);
+        }
+        return instance;
+    }
+
+    public static StatementImportService getInstance() {
+        return instance;
+    }
+
+    /**
+     * @throws StatementImportExceptions.FormatException Si el archivo no tiene un formato reconocible.
+     * @throws StatementImportExceptions.ImportException Si la importación se detiene a la mitad.
+     */
+    public StatementImportReport importFile(Path file, StatementImportOptions options) throws ClientOperationException {
+        options.validate();
+        logger.info("Importando estado de cuenta " + file.getFileName() + " en la cuenta " + options.getAccountId() + "...");
+
+        StatementCategorizer categorizer = new StatementCategorizer(
+                categoryService.getAllCategories(), externalEntityService.getAllExternalEntities(), options);
+        TransactionDedupeIndex dedupe = new TransactionDedupeIndex(options.getAccountId(), options.getZone());
+        loadAccountTransactions(options.getAccountId(), categorizer, dedupe);
+
+        StatementImporter importer = new StatementImporter(categorizer, dedupe, rows -> {
+            try {
+                return transactionService.createTransactionsBatch(rows, options.getChunkSize());
+            } catch (ClientOperationException e) {
+                throw new StatementImportExceptions.ImportException(e.getMessage(), e);
+            }
+        }, options);
+
+        try (StatementReader reader = StatementImportUtils.openReader(file, options)) {
+            return importer.run(reader);
+        } catch (IOException e) {
+            throw new StatementImportExceptions.ImportException("No se pudo leer el archivo: " + e.getMessage(), e);
+        }
+    }
+
+    private void loadAccountTransactions(long accountId, StatementCategorizer categorizer, TransactionDedupeIndex dedupe)
+            throws ClientOperationException {
+        TransactionPageRequest request = new TransactionPageRequest();
+        request.setAccountId(accountId);
+        request.setLimit(TransactionPageRequest.MAX_LIMIT);
+
+        while (true) {
+            TransactionPage page = transactionService.getTransactionsPage(request);
+            for (Transaction tx : page.getTransactions()) {
+                dedupe.add(tx);
+                categorizer.learn(tx);
+            }
+            if (!page.hasMore()) break;
+            request = request.nextPage(page);
+        }
+        logger.info("Transacciones existentes de la cuenta " + accountId + ": " + dedupe.size());
+    }
+}
@@ -40,9 +40,8 @@ public class TagService {
         message.setType("CREATE_TAG");
         message.addData("tag", TagUtils.tagToMap(tag));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("CREATE_TAG");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Etiqueta creada exitosamente: " + response);
             return TagUtils.mapToTag((Map<String, Object>) response.getData("tag"));
@@ -59,9 +58,8 @@ public class TagService {
         message.addData("id", id);
         message.addData("tag", TagUtils.tagToMap(tag));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("UPDATE_TAG");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Etiqueta actualizada correctamente: " + response);
             return TagUtils.mapToTag((Map<String, Object>) response.getData("tag"));
@@ -76,9 +74,8 @@ public class TagService {
         message.setType("DELETE_TAG");
         message.addData("id", id);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("DELETE_TAG");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Etiqueta eliminada exitosamente: " + response);
         } catch (InterruptedException e) {
@@ -93,9 +90,8 @@ public class TagService {
         Message message = new Message();
         message.setType("GET_ALL_TAGS");
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_ALL_TAGS");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             Object raw = response.getData("tags");
 
@@ -1,17 +1,23 @@
 package com.giozar04.transactions.infrastructure.services;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 import com.giozar04.logging.CustomLogger;
 import com.giozar04.messages.domain.models.Message;
 import com.giozar04.serverConnection.application.exceptions.ClientOperationException;
 import com.giozar04.serverConnection.application.services.ServerConnectionService;
 import com.giozar04.serverConnection.application.validators.ServerResponseValidator;
+import com.giozar04.transactions.application.utils.TransactionBatchUtils;
+import com.giozar04.transactions.application.utils.TransactionPageUtils;
 import com.giozar04.transactions.application.utils.TransactionUtils;
 import com.giozar04.transactions.domain.entities.Transaction;
 import com.giozar04.transactions.domain.exceptions.TransactionExceptions;
+import com.giozar04.transactions.domain.models.TransactionBatchResult;
+import com.giozar04.transactions.domain.models.TransactionPage;
+import com.giozar04.transactions.domain.models.TransactionPageRequest;
 
 public class TransactionService {
 
@@ -19,6 +25,9 @@ public class TransactionService {
     private static final CustomLogger logger = CustomLogger.getInstance();
     private static TransactionService instance;
 
+    // Un lote grande tarda más que una solicitud normal en procesarse
+    private static final Duration BATCH_TIMEOUT = Duration.ofMinutes(5);
+
     private TransactionService(ServerConnectionService serverConnectionService) {
         this.serverConnectionService = serverConnectionService;
     }
@@ -34,37 +43,66 @@ public class TransactionService {
         return instance;
     }
 
-    @SuppressWarnings("unchecked")
     public Transaction createTransaction(Transaction transaction) throws ClientOperationException {
         Message message = new Message();
         message.setType("CREATE_TRANSACTION");
-        message.addData("transaction", TransactionUtils.toMap(transaction));
+        message.addData("transaction", transaction);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("CREATE_TRANSACTION");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Transacción creada exitosamente: " + response);
-            return TransactionUtils.fromMap((Map<String, Object>) response.getData("transaction"));
+            return TransactionUtils.fromData(response.getData("transaction"));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new TransactionExceptions.TransactionCreationException("Error al esperar la respuesta del servidor", e);
         }
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Crea varias transacciones en una sola solicitud. El servidor las confirma por bloques y
+     * devuelve el id o el error de cada fila, en el mismo orden que la lista enviada.
+     *
+     * @param chunkSize Filas por transacción de la base de datos, o null para el valor del servidor.
+     */
+    public TransactionBatchResult createTransactionsBatch(List<Transaction> transactions, Integer chunkSize) throws ClientOperationException {
+        Message message = new Message();
+        message.setType("CREATE_TRANSACTIONS_BATCH");
+        message.addData(TransactionBatchUtils.ROWS_KEY, transactions);
+        if (chunkSize != null) {
+            message.addData("chunkSize", chunkSize);
+        }
+
+        try {
+            Message response = serverConnectionService.request(message, BATCH_TIMEOUT);
+            ServerResponseValidator.validateResponse(response);
+            TransactionBatchResult result = TransactionBatchUtils.resultFromMessage(response);
+            if (result == null) {
+                throw new TransactionExceptions.TransactionParsingException("El servidor respondió sin incluir el resultado del lote", null);
+            }
+            logger.info("Lote de transacciones procesado. Creadas: " + result.getCreatedCount() + ", con error: " + result.getFailedCount());
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionExceptions.TransactionCreationException("Error al esperar la respuesta del servidor", e);
+        }
+    }
+
+    public TransactionBatchResult createTransactionsBatch(List<Transaction> transactions) throws ClientOperationException {
+        return createTransactionsBatch(transactions, null);
+    }
+
     public Transaction updateTransactionById(Long transactionId, Transaction transaction) throws ClientOperationException {
         Message message = new Message();
         message.setType("UPDATE_TRANSACTION");
         message.addData("id", transactionId);
-        message.addData("transaction", TransactionUtils.toMap(transaction));
+        message.addData("transaction", transaction);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("UPDATE_TRANSACTION");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Transacción actualizada correctamente: " + response);
-            return TransactionUtils.fromMap((Map<String, Object>) response.getData("transaction"));
+            return TransactionUtils.fromData(response.getData("transaction"));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new TransactionExceptions.TransactionUpdateException("Error al esperar la respuesta del servidor", e);
@@ -76,9 +114,8 @@ public class TransactionService {
         message.setType("DELETE_TRANSACTION");
         message.addData("id", transactionId);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("DELETE_TRANSACTION");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Transacción eliminada exitosamente: " + response);
         } catch (InterruptedException e) {
@@ -87,54 +124,80 @@ public class TransactionService {
         }
     }
 
-    @SuppressWarnings("unchecked")
     public Transaction getTransactionById(Long transactionId) throws ClientOperationException {
         Message message = new Message();
         message.setType("GET_TRANSACTION");
         message.addData("id", transactionId);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_TRANSACTION");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Transacción obtenida correctamente: " + response);
-            return TransactionUtils.fromMap((Map<String, Object>) response.getData("transaction"));
+            return TransactionUtils.fromData(response.getData("transaction"));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new TransactionExceptions.TransactionRetrievalException("Error al esperar la respuesta del servidor", e);
         }
     }
 
-    @SuppressWarnings("unchecked")
     public List<Transaction> getAllTransactions() throws ClientOperationException {
+        List<Transaction> transactions = new ArrayList<>();
+        forEachTransactionBatch(transactions::addAll);
+        return transactions;
+    }
+
+    /**
+     * Solicita todas las transacciones por partes y entrega cada lote en cuanto llega, así que
+     * quien llama decide si acumularlas o procesarlas y descartarlas.
+     *
+     * @return El total de transacciones recibidas.
+     */
+    public long forEachTransactionBatch(Consumer<List<Transaction>> onBatch) throws ClientOperationException {
         logger.info("Solicitando todas las transacciones...");
         Message message = new Message();
         message.setType("GET_ALL_TRANSACTIONS");
 
-        serverConnectionService.sendMessage(message);
-
         try {
-            Message response = serverConnectionService.waitForMessage("GET_ALL_TRANSACTIONS");
-            ServerResponseValidator.validateResponse(response);
-            Object raw = response.getData("transactions");
+            long[] total = {0};
+            Message end = serverConnectionService.requestStream(message, "transactions", raw -> {
+                if (raw == null) {
+                    throw new TransactionExceptions.TransactionRetrievalException("El servidor respondió sin incluir la lista de transacciones", null);
+                }
+                List<Transaction> batch = TransactionUtils.listFromData(raw);
+                if (batch == null) {
+                    throw new TransactionExceptions.TransactionParsingException("Formato inesperado: " + raw.getClass().getName(), null);
+                }
+                total[0] += batch.size();
+                onBatch.accept(batch);
+            });
+            ServerResponseValidator.validateResponse(end);
+            logger.info("Transacciones obtenidas correctamente. Total: " + total[0]);
+            return total[0];
 
-            if (raw == null) {
-                throw new TransactionExceptions.TransactionRetrievalException("El servidor respondió sin incluir la lista de transacciones", null);
-            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionExceptions.TransactionRetrievalException("Error al esperar la respuesta del servidor", e);
+        }
+    }
 
-            if (raw instanceof List<?> rawList) {
-                List<Transaction> transactions = new ArrayList<>();
-                for (Object obj : rawList) {
-                    if (obj instanceof Map<?, ?> map) {
-                        transactions.add(TransactionUtils.fromMap((Map<String, Object>) map));
-                    }
-                }
-                logger.info("Transacciones obtenidas correctamente. Total: " + transactions.size());
-                return transactions;
-            } else {
-                throw new TransactionExceptions.TransactionParsingException("Formato inesperado: " + raw.getClass().getName(), null);
-            }
+    /**
+     * Obtiene una página de transacciones filtrada en el servidor. Para la siguiente página se
+     * envía request.nextPage(page).
+     */
+    public TransactionPage getTransactionsPage(TransactionPageRequest request) throws ClientOperationException {
+        Message message = new Message();
+        message.setType("GET_TRANSACTIONS_PAGE");
+        message.addData("filter", TransactionPageUtils.requestToMap(request));
 
+        try {
+            Message response = serverConnectionService.request(message);
+            ServerResponseValidator.validateResponse(response);
+            TransactionPage page = TransactionPageUtils.pageFromMessage(response);
+            if (page == null) {
+                throw new TransactionExceptions.TransactionParsingException("El servidor respondió sin incluir la página de transacciones", null);
+            }
+            logger.info("Página de transacciones obtenida. Total: " + page.getTransactions().size() + ", hay más: " + page.hasMore());
+            return page;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new TransactionExceptions.TransactionRetrievalException("Error al esperar la respuesta del servidor", e);
@@ -7,6 +7,7 @@ import java.awt.Font;
 import java.awt.HeadlessException;
 import java.awt.event.ActionEvent;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -28,6 +29,9 @@ import com.giozar04.shared.components.table.OptionsCellRenderer;
 import com.giozar04.shared.components.table.PopupMenuActionHandler;
 import com.giozar04.shared.utils.DialogUtil;
 import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+import com.giozar04.transactions.domain.models.TransactionPage;
+import com.giozar04.transactions.domain.models.TransactionPageRequest;
 import com.giozar04.transactions.infrastructure.services.TransactionService;
 import com.giozar04.transactions.presentation.components.PaymentMethodCellRenderer;
 import com.giozar04.transactions.presentation.components.TransactionFormPanel;
@@ -38,8 +42,14 @@ public class TransactionsView extends JPanel implements PopupMenuActionHandler {
     private JTextField searchField;
     private JComboBox<String> filterCombo;
     private GenericTablePanel<Transaction> tablePanel;
+    private JButton loadMoreButton;
     private final TransactionService transactionService;
 
+    // Paginación en el servidor: filtros de la búsqueda actual y transacciones ya cargadas
+    private TransactionPageRequest currentRequest;
+    private TransactionPage lastPage;
+    private final List<Transaction> loadedTransactions = new ArrayList<>();
+
     public TransactionsView() {
         transactionService = TransactionService.getInstance();
         setLayout(new BorderLayout());
@@ -51,6 +61,14 @@ public class TransactionsView extends JPanel implements PopupMenuActionHandler {
 
         // Inicializa la tabla de transacciones
         initTablePanel();
+
+        // Botón para pedir la siguiente página
+        JPanel bottomPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        loadMoreButton = new JButton("Cargar más");
+        loadMoreButton.setEnabled(lastPage != null && lastPage.hasMore());
+        loadMoreButton.addActionListener(e -> loadMoreTransactions());
+        bottomPanel.add(loadMoreButton);
+        add(bottomPanel, BorderLayout.SOUTH);
     }
 
     // ----------------------------
@@ -74,6 +92,7 @@ public class TransactionsView extends JPanel implements PopupMenuActionHandler {
         JPanel searchPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
         searchPanel.add(new JLabel("Buscar:"));
         searchField = new JTextField(20);
+        searchField.addActionListener(e -> performSearch());
         searchPanel.add(searchField);
 
         filterCombo = new JComboBox<>(new String[]{"Todos los tipos", "INCOME", "EXPENSE"});
@@ -120,10 +139,12 @@ public class TransactionsView extends JPanel implements PopupMenuActionHandler {
         rightRenderer.setHorizontalAlignment(SwingConstants.RIGHT);
         columns.get(4).setRenderer(rightRenderer);
 
-        // Crear el panel de la tabla con los datos iniciales
+        // Crear el panel de la tabla con la primera página
         try {
-            List<Transaction> transactions = transactionService.getAllTransactions();
-            tablePanel = new GenericTablePanel<>(columns, transactions);
+            currentRequest = buildPageRequest();
+            lastPage = transactionService.getTransactionsPage(currentRequest);
+            loadedTransactions.addAll(lastPage.getTransactions());
+            tablePanel = new GenericTablePanel<>(columns, new ArrayList<>(loadedTransactions));
             add(tablePanel, BorderLayout.CENTER);
         } catch (ClientOperationException e) {
             DialogUtil.showError(this, "Error al cargar las transacciones");
@@ -134,39 +155,72 @@ public class TransactionsView extends JPanel implements PopupMenuActionHandler {
     // Funcionalidades lógicas
     // ------------------------
     /**
-     * Carga o recarga las transacciones en la tabla.
+     * Carga o recarga la primera página de transacciones con los filtros actuales.
      */
     private void loadTransactions() {
         try {
-            List<Transaction> transactions = transactionService.getAllTransactions();
-            tablePanel.setData(transactions);
+            showFirstPage(buildPageRequest());
         } catch (ClientOperationException e) {
             DialogUtil.showError(this, "Error al cargar las transacciones");
         }
     }
 
     /**
-     * Realiza la búsqueda de transacciones en función del texto y filtro
-     * seleccionado.
+     * Realiza la búsqueda de transacciones en el servidor en función del texto
+     * (concepto) y del tipo seleccionado.
      */
     private void performSearch() {
-        String query = searchField.getText().trim().toLowerCase();
-        String typeFilter = (String) filterCombo.getSelectedItem();
         try {
-            List<Transaction> allTransactions = transactionService.getAllTransactions();
-            List<Transaction> filtered = allTransactions.stream().filter(t -> {
-                boolean matchesQuery = t.getConcept().toLowerCase().contains(query)
-                        || t.getCategory().toLowerCase().contains(query)
-                        || t.getPaymentMethod().toString().toLowerCase().contains(query);
-                boolean matchesType = "Todos los tipos".equals(typeFilter)
-                        || t.getOperationType().name().equalsIgnoreCase(typeFilter);
-                return matchesQuery && matchesType;
-            }).toList();
-            tablePanel.setData(filtered);
+            showFirstPage(buildPageRequest());
         } catch (ClientOperationException e) {
             DialogUtil.showError(this, "Error al buscar las transacciones: " + e.getMessage());
         }
+    }
 
+    /**
+     * Agrega a la tabla la siguiente página de la búsqueda actual.
+     */
+    private void loadMoreTransactions() {
+        if (currentRequest == null || lastPage == null || !lastPage.hasMore()) {
+            return;
+        }
+        try {
+            lastPage = transactionService.getTransactionsPage(currentRequest.nextPage(lastPage));
+            loadedTransactions.addAll(lastPage.getTransactions());
+            tablePanel.setData(new ArrayList<>(loadedTransactions));
+            loadMoreButton.setEnabled(lastPage.hasMore());
+        } catch (ClientOperationException e) {
+            DialogUtil.showError(this, "Error al cargar más transacciones: " + e.getMessage());
+        }
+    }
+
+    private void showFirstPage(TransactionPageRequest request) throws ClientOperationException {
+        currentRequest = request;
+        lastPage = transactionService.getTransactionsPage(request);
+        loadedTransactions.clear();
+        loadedTransactions.addAll(lastPage.getTransactions());
+        if (tablePanel != null) {
+            tablePanel.setData(new ArrayList<>(loadedTransactions));
+        }
+        if (loadMoreButton != null) {
+            loadMoreButton.setEnabled(lastPage.hasMore());
+        }
+    }
+
+    /**
+     * Construye la solicitud de la primera página a partir de la barra de búsqueda.
+     */
+    private TransactionPageRequest buildPageRequest() {
+        TransactionPageRequest request = new TransactionPageRequest();
+        String query = searchField.getText().trim();
+        if (!query.isEmpty()) {
+            request.setConceptText(query);
+        }
+        String typeFilter = (String) filterCombo.getSelectedItem();
+        if (typeFilter != null && !"Todos los tipos".equals(typeFilter)) {
+            request.setOperationType(OperationTypes.fromValue(typeFilter));
+        }
+        return request;
     }
 
     /**
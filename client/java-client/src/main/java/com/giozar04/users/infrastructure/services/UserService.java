@@ -40,9 +40,8 @@ public class UserService {
         message.setType("CREATE_USER");
         message.addData("user", UserUtils.userToMap(user));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("CREATE_USER");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Usuario creado exitosamente: " + response);
             return UserUtils.mapToUser((Map<String, Object>) response.getData("user"));
@@ -59,9 +58,8 @@ public class UserService {
         message.addData("id", userId);
         message.addData("user", UserUtils.userToMap(user));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("UPDATE_USER");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Usuario actualizado correctamente: " + response);
             return UserUtils.mapToUser((Map<String, Object>) response.getData("user"));
@@ -76,9 +74,8 @@ public class UserService {
         message.setType("DELETE_USER");
         message.addData("id", userId);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("DELETE_USER");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Usuario eliminado exitosamente: " + response);
         } catch (InterruptedException e) {
@@ -93,9 +90,8 @@ public class UserService {
         message.setType("GET_USER");
         message.addData("id", userId);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_USER");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Usuario obtenido: " + response);
             return UserUtils.mapToUser((Map<String, Object>) response.getData("user"));
@@ -110,10 +106,8 @@ public class UserService {
         Message message = new Message();
         message.setType("GET_ALL_USERS");
 
-        serverConnectionService.sendMessage(message);
-
         try {
-            Message response = serverConnectionService.waitForMessage("GET_ALL_USERS");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             Object raw = response.getData("users");
 
@@ -39,9 +39,8 @@ public class WalletCardLinkService {
         message.setType("GET_LINKS_BY_WALLET_ACCOUNT_ID");
         message.addData("walletAccountId", walletAccountId);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_LINKS_BY_WALLET_ACCOUNT_ID");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             Object raw = response.getData("walletCardLinks");
 
@@ -69,9 +68,8 @@ public class WalletCardLinkService {
         message.setType("CREATE_WALLET_CARD_LINK");
         message.addData("walletCardLink", WalletCardLinkUtils.toMap(link));
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("CREATE_WALLET_CARD_LINK");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Vínculo wallet-tarjeta creado exitosamente: " + response);
             return WalletCardLinkUtils.fromMap((Map<String, Object>) response.getData("walletCardLink"));
@@ -86,9 +84,8 @@ public class WalletCardLinkService {
         message.setType("DELETE_WALLET_CARD_LINK");
         message.addData("id", id);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("DELETE_WALLET_CARD_LINK");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             logger.info("Vínculo wallet-tarjeta eliminado exitosamente: " + response);
         } catch (InterruptedException e) {
@@ -39,9 +39,8 @@ public class WalletTransactionDetailService {
         message.setType("GET_WALLET_DETAILS_BY_TRANSACTION_ID");
         message.addData("transactionId", transactionId);
 
-        serverConnectionService.sendMessage(message);
         try {
-            Message response = serverConnectionService.waitForMessage("GET_WALLET_DETAILS_BY_TRANSACTION_ID");
+            Message response = serverConnectionService.request(message);
             ServerResponseValidator.validateResponse(response);
             Object raw = response.getData("walletDetails");
 
@@ -384,6 +384,8 @@ CREATE TABLE IF NOT EXISTS transactions (
 
 CREATE INDEX idx_tx_user_id ON transactions (user_id);
 CREATE INDEX idx_tx_date ON transactions (date);
+-- Paginación por llave de GET_TRANSACTIONS_PAGE filtrada por usuario: (user_id, date, id implícito)
+CREATE INDEX idx_tx_user_date ON transactions (user_id, date);
 CREATE INDEX idx_tx_type ON transactions (operation_type);
 CREATE INDEX idx_tx_method ON transactions (payment_method);
 CREATE INDEX idx_tx_source_account ON transactions (source_account_id);
@@ -465,6 +467,115 @@ CREATE INDEX idx_wallet_payment_wallet ON wallet_transaction_details (wallet_acc
 CREATE INDEX idx_wallet_payment_card ON wallet_transaction_details (card_id);
 CREATE INDEX idx_wallet_cashback ON wallet_transaction_details (cashback_percentage);
 
+-- ======================================================
+-- 12. MONTHLY_SUMMARIES (Totales mensuales para reportes)
+-- ======================================================
+-- Los mantiene TransactionRepositoryMySQL en la misma transacción que cada alta, cambio o
+-- baja de transactions; MonthlySummaryRepositoryMySQL.rebuildMonthlySummaries() los recalcula.
+CREATE TABLE IF NOT EXISTS monthly_summaries (
+    user_id BIGINT NOT NULL,        -- Dueño de la cuenta (0 sin cuenta)
+    month_start DATE NOT NULL,      -- Primer día del mes
+    account_id BIGINT NOT NULL,     -- Origen de un egreso, destino de un ingreso (0 sin cuenta)
+    category VARCHAR(100) NOT NULL,
+    operation_type VARCHAR(10) NOT NULL,
+    total DECIMAL(16, 2) NOT NULL,
+    tx_count INT NOT NULL,
+    min_amount DECIMAL(12, 2) NOT NULL,
+    max_amount DECIMAL(12, 2) NOT NULL,
+    PRIMARY KEY (user_id, month_start, account_id, category, operation_type)
+);
+
+CREATE INDEX idx_ms_account_month ON monthly_summaries (account_id, month_start);
+
+-- ======================================================
+-- 13. CONCILIACIÓN DE SALDOS
+-- ======================================================
+-- Las usa BalanceReconciliationService para comparar los saldos que mantienen los triggers
+-- con el saldo inicial de cada cuenta más sus movimientos.
+
+-- Saldo neto (current_balance - credit_used) que tendría cada cuenta sin movimientos. Se
+-- guarda al crear la cuenta y se ajusta cuando el saldo se cambia a mano (UPDATE_ACCOUNT);
+-- las cuentas que no lo tienen lo reciben en su primera conciliación.
+CREATE TABLE IF NOT EXISTS account_balance_baselines (
+    account_id BIGINT PRIMARY KEY,
+    opening_balance DECIMAL(14,2) NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_baseline_account FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE
+);
+
+-- Una ejecución de la conciliación; el cursor permite continuarla después de un error
+CREATE TABLE IF NOT EXISTS balance_reconciliation_runs (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    mode VARCHAR(10) NOT NULL,                        -- 'REPORT' o 'REPAIR'
+    status VARCHAR(10) NOT NULL,                      -- 'RUNNING', 'COMPLETED' o 'FAILED'
+    phase VARCHAR(10) NOT NULL,                       -- 'ACCOUNTS', 'USERS' o 'DONE'
+    last_account_id BIGINT NOT NULL DEFAULT 0,
+    last_user_id BIGINT NOT NULL DEFAULT 0,
+
+    accounts_checked INT NOT NULL DEFAULT 0,
+    accounts_baselined INT NOT NULL DEFAULT 0,
+    accounts_drifted INT NOT NULL DEFAULT 0,
+    accounts_repaired INT NOT NULL DEFAULT 0,
+    users_checked INT NOT NULL DEFAULT 0,
+    users_drifted INT NOT NULL DEFAULT 0,
+    users_repaired INT NOT NULL DEFAULT 0,
+
+    started_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL,
+    finished_at DATETIME NULL
+);
+
+-- Diferencias encontradas en cada ejecución
+CREATE TABLE IF NOT EXISTS balance_reconciliation_findings (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    run_id BIGINT NOT NULL,
+    subject_type VARCHAR(10) NOT NULL,                -- 'ACCOUNT' o 'USER'
+    subject_id BIGINT NOT NULL,
+    observed_balance DECIMAL(14,2) NOT NULL,
+    expected_balance DECIMAL(14,2) NOT NULL,
+    observed_credit_used DECIMAL(12,2) NULL,
+    expected_credit_used DECIMAL(12,2) NULL,
+    repaired BOOLEAN NOT NULL DEFAULT FALSE,
+    message VARCHAR(255) NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_finding_run FOREIGN KEY (run_id) REFERENCES balance_reconciliation_runs(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_finding_run_subject ON balance_reconciliation_findings(run_id, subject_type, subject_id);
+
+-- ======================================================
+-- 14. ESTADOS DE CUENTA DE CRÉDITO
+-- ======================================================
+-- Estado de cuenta de cada ciclo cerrado de las cuentas de crédito. Lo genera
+-- CreditStatementService al día siguiente del corte; GET_CREDIT_STATEMENT lee una sola fila.
+CREATE TABLE IF NOT EXISTS credit_statements (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    account_id BIGINT NOT NULL,
+    period_start DATE NOT NULL,                       -- Día siguiente al corte anterior
+    period_end DATE NOT NULL,                         -- Día de corte
+    payment_due_date DATE NOT NULL,
+
+    opening_balance DECIMAL(14,2) NOT NULL,           -- Saldo al corte anterior
+    charges DECIMAL(14,2) NOT NULL,
+    payments DECIMAL(14,2) NOT NULL,
+    closing_balance DECIMAL(14,2) NOT NULL,           -- opening_balance + charges - payments
+    installments_billed DECIMAL(14,2) NOT NULL,       -- Mensualidades MSI de este ciclo
+    deferred_balance DECIMAL(14,2) NOT NULL,          -- Mensualidades MSI de ciclos siguientes
+    no_interest_payment DECIMAL(14,2) NOT NULL,
+    minimum_payment DECIMAL(14,2) NOT NULL,
+    charge_count INT NOT NULL,
+    payment_count INT NOT NULL,
+    installment_count INT NOT NULL,
+
+    generated_at DATETIME NOT NULL,
+
+    CONSTRAINT fk_statement_account FOREIGN KEY (account_id) REFERENCES accounts(id) ON DELETE CASCADE,
+    CONSTRAINT uq_statement_account_period UNIQUE (account_id, period_end)
+);
+
 -- ======================================================
 -- AUTOMATIZACIÓN DE SALDOS (TRIGGERS)
 -- ======================================================
@@ -0,0 +1,132 @@
+package com.giozar04.accounts.application.codecs;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+import com.giozar04.accounts.domain.entities.Account;
+import com.giozar04.accounts.domain.enums.AccountTypes;
+import com.giozar04.json.codec.JsonEntityCodec;
+import com.giozar04.json.codec.ValueReader;
+import com.giozar04.json.codec.ValueWriter;
+
+/**
+ * Códec JSON de Account con los mismos campos que AccountUtils.accountToMap/mapToAccount.
+ */
+public final class AccountJsonCodec extends JsonEntityCodec<Account> {
+
+    private static final AccountJsonCodec INSTANCE = new AccountJsonCodec();
+
+    private AccountJsonCodec() {
+        super(Account.class);
+    }
+
+    public static AccountJsonCodec getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void write(ValueWriter writer, Account account) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(account.getId());
+        writer.name("userId").value(account.getUserId());
+        writer.name("bankClientId").value(account.getBankClientId());
+        writer.name("name").value(account.getName());
+        writer.name("type").value(account.getType() != null ? account.getType().getValue() : null);
+        writer.name("currentBalance").value(account.getCurrentBalance());
+        writer.name("accountNumber").value(account.getAccountNumber());
+        writer.name("clabe").value(account.getClabe());
+        writer.name("canTransferOut").value((Object) account.getCanTransferOut());
+        writer.name("creditLimit").value(account.getCreditLimit());
+        writer.name("creditUsed").value(account.getCreditUsed());
+        writer.name("cutoffDay").value(account.getCutoffDay());
+        writer.name("paymentDay").value(account.getPaymentDay());
+        writer.name("annualYield").value(account.getAnnualYield());
+        writer.name("yieldCapAmount").value(account.getYieldCapAmount());
+        writer.name("lastYieldCalculation").value(account.getLastYieldCalculation());
+        // investment_details
+        writer.name("instrumentType").value(account.getInstrumentType());
+        writer.name("termDays").value(account.getTermDays());
+        writer.name("principalAmount").value(account.getPrincipalAmount());
+        writer.name("investmentAnnualYield").value(account.getInvestmentAnnualYield());
+        writer.name("dayCountBasis").value(account.getDayCountBasis());
+        writer.name("startDate").value(account.getStartDate());
+        writer.name("maturityDate").value(account.getMaturityDate());
+        writer.name("investmentStatus").value(account.getInvestmentStatus());
+        writer.name("autoReinvest").value((Object) account.getAutoReinvest());
+        writer.name("reinvestTermDays").value(account.getReinvestTermDays());
+        writer.name("reinvestAnnualYield").value(account.getReinvestAnnualYield());
+        writeDateTime(writer, "createdAt", account.getCreatedAt());
+        writeDateTime(writer, "updatedAt", account.getUpdatedAt());
+        writer.endObject();
+    }
+
+    @Override
+    protected Account newEntity() {
+        Account account = new Account();
+        account.setName("");
+        return account;
+    }
+
+    @Override
+    protected boolean readField(ValueReader reader, String name, Account account) {
+        switch (name) {
+            case "id" -> account.setId(readLong(reader));
+            case "userId" -> account.setUserId(readLong(reader));
+            case "bankClientId" -> account.setBankClientId(readNullableLong(reader));
+            case "name" -> account.setName(readString(reader));
+            case "type" -> {
+                String type = readText(reader);
+                if (type != null && !type.isEmpty()) {
+                    account.setType(AccountTypes.fromValue(type));
+                }
+            }
+            case "currentBalance" -> account.setCurrentBalance(readDouble(reader));
+            case "accountNumber" -> account.setAccountNumber(readText(reader));
+            case "clabe" -> account.setClabe(readText(reader));
+            case "canTransferOut" -> {
+                String canTransferOut = readString(reader);
+                account.setCanTransferOut(canTransferOut == null || Boolean.parseBoolean(canTransferOut));
+            }
+            case "creditLimit" -> account.setCreditLimit(readNullableDouble(reader));
+            case "creditUsed" -> account.setCreditUsed(readNullableDouble(reader));
+            case "cutoffDay" -> account.setCutoffDay(readNullableInt(reader));
+            case "paymentDay" -> account.setPaymentDay(readNullableInt(reader));
+            case "annualYield" -> account.setAnnualYield(readNullableDouble(reader));
+            case "yieldCapAmount" -> account.setYieldCapAmount(readNullableDouble(reader));
+            case "lastYieldCalculation" -> account.setLastYieldCalculation(readText(reader));
+            // investment_details
+            case "instrumentType" -> account.setInstrumentType(readText(reader));
+            case "termDays" -> account.setTermDays(readNullableInt(reader));
+            case "principalAmount" -> account.setPrincipalAmount(readNullableDouble(reader));
+            case "investmentAnnualYield" -> account.setInvestmentAnnualYield(readNullableDouble(reader));
+            case "dayCountBasis" -> account.setDayCountBasis(readNullableInt(reader));
+            case "startDate" -> account.setStartDate(readText(reader));
+            case "maturityDate" -> account.setMaturityDate(readText(reader));
+            case "investmentStatus" -> account.setInvestmentStatus(readText(reader));
+            case "autoReinvest" -> {
+                String autoReinvest = readText(reader);
+                if (autoReinvest != null) {
+                    account.setAutoReinvest(Boolean.parseBoolean(autoReinvest));
+                }
+            }
+            case "reinvestTermDays" -> account.setReinvestTermDays(readNullableInt(reader));
+            case "reinvestAnnualYield" -> account.setReinvestAnnualYield(readNullableDouble(reader));
+            case "createdAt" -> account.setCreatedAt(readDateTime(reader));
+            case "updatedAt" -> account.setUpdatedAt(readDateTime(reader));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void complete(Account account) {
+        if (account.getCreatedAt() == null) {
+            account.setCreatedAt(ZonedDateTime.now());
+        }
+        if (account.getUpdatedAt() == null) {
+            account.setUpdatedAt(ZonedDateTime.now());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.giozar04.accounts.application.utils;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.giozar04.accounts.domain.entities.Account;
@@ -110,4 +112,28 @@ public class AccountUtils {
 
         return account;
     }
+
+    /**
+     * Convierte el valor de Message.data en Account. El códec JSON ya entrega la entidad;
+     * los mapas se siguen aceptando para mensajes construidos en memoria.
+     */
+    @SuppressWarnings("unchecked")
+    public static Account dataToAccount(Object raw) {
+        if (raw instanceof Account account) return account;
+        if (raw instanceof Map<?, ?> map) return mapToAccount((Map<String, Object>) map);
+        return null;
+    }
+
+    /**
+     * Convierte una lista de Message.data en entidades, o devuelve null si el valor no es una lista.
+     */
+    public static List<Account> dataToAccounts(Object raw) {
+        if (!(raw instanceof List<?> rawList)) return null;
+        List<Account> result = new ArrayList<>(rawList.size());
+        for (Object element : rawList) {
+            Account account = dataToAccount(element);
+            if (account != null) result.add(account);
+        }
+        return result;
+    }
 }
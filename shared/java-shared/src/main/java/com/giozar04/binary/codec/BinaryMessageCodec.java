@@ -0,0 +1,157 @@
+package com.giozar04.binary.codec;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.giozar04.binary.domain.exceptions.BinaryExceptions.DecodeException;
+import com.giozar04.json.codec.JsonCodecRegistry;
+import com.giozar04.json.codec.JsonEntityCodec;
+import com.giozar04.json.codec.JsonToken;
+import com.giozar04.messages.domain.models.Message;
+
+/**
+ * Convierte mensajes del protocolo al formato binario y viceversa.
+ *
+ * Contenido de una trama:
+ *   flags     1 byte: bits 0-1 estado (0 PENDING, 1 SUCCESS, 2 ERROR); bit 2 requestId
+ *             numérico (varint); bit 3 requestId de texto
+ *   opcode    varint según MessageOpcodes; 0 = el tipo sigue como texto
+ *   requestId si alguno de sus bits está activo
+ *   content   texto ("" si es null, igual que en JSON)
+ *   data      objeto con los mismos campos y códecs de entidad que en JSON
+ */
+public final class BinaryMessageCodec {
+
+    private static final int STATUS_MASK = 0b11;
+    private static final int NUMERIC_REQUEST_ID = 0b100;
+    private static final int TEXT_REQUEST_ID = 0b1000;
+
+    private BinaryMessageCodec() {
+    }
+
+    /**
+     * Escribe el mensaje completo en el escritor, que debe estar vacío (recién reiniciado).
+     */
+    public static void write(BinaryWriter writer, Message message, MessageOpcodes opcodes) throws IOException {
+        String type = message.getType() == null ? "" : message.getType();
+        String requestId = message.getRequestId();
+        long numericId = requestId != null ? parseRequestId(requestId) : -1;
+
+        int flags = statusCode(message.getStatus());
+        if (numericId >= 0) {
+            flags |= NUMERIC_REQUEST_ID;
+        } else if (requestId != null) {
+            flags |= TEXT_REQUEST_ID;
+        }
+        writer.writeByte(flags);
+
+        int opcode = opcodes.codeOf(type);
+        writer.writeVarint(opcode);
+        if (opcode == 0) {
+            writer.writeText(type);
+        }
+        if (numericId >= 0) {
+            writer.writeVarint(numericId);
+        } else if (requestId != null) {
+            writer.writeText(requestId);
+        }
+        writer.writeText(message.getContent() == null ? "" : message.getContent());
+        writer.value((Object) message.getData());
+    }
+
+    /**
+     * Lee el mensaje de una trama completa.
+     *
+     * @throws DecodeException Si la trama no es válida o usa un código fuera de la tabla.
+     */
+    public static Message read(BinaryReader reader, MessageOpcodes opcodes) {
+        Message message = new Message();
+        int flags = reader.readByte();
+        message.setStatus(status(flags & STATUS_MASK));
+
+        long opcode = reader.readVarint();
+        if (opcode == 0) {
+            message.setType(reader.readText());
+        } else {
+            String type = opcodes.typeOf(opcode);
+            if (type == null) {
+                throw new DecodeException("Código de operación desconocido " + opcode);
+            }
+            message.setType(type);
+        }
+        if ((flags & NUMERIC_REQUEST_ID) != 0) {
+            message.setRequestId(Long.toString(reader.readVarint()));
+        } else if ((flags & TEXT_REQUEST_ID) != 0) {
+            message.setRequestId(reader.readText());
+        }
+        message.setContent(reader.readText());
+        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+            message.setData(readData(reader));
+        } else {
+            reader.skipValue();
+        }
+        if (!reader.isAtEnd()) {
+            throw new DecodeException("La trama tiene bytes de más después del mensaje");
+        }
+        return message;
+    }
+
+    /**
+     * Lee el objeto data con las mismas reglas que JsonMessageCodec: los campos con códec
+     * registrado llegan como entidad o lista de entidades, o null si no son válidos.
+     */
+    private static Map<String, Object> readData(BinaryReader reader) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            JsonEntityCodec<?> codec = JsonCodecRegistry.forDataField(name);
+            if (codec == null) {
+                data.put(name, reader.readValue());
+                continue;
+            }
+            try {
+                data.put(name, codec.readValue(reader));
+            } catch (IllegalArgumentException e) {
+                data.put(name, null);
+            }
+        }
+        reader.endObject();
+        return data;
+    }
+
+    /**
+     * @return El requestId como número si es un entero decimal canónico no negativo, o -1.
+     */
+    private static long parseRequestId(String requestId) {
+        int length = requestId.length();
+        if (length == 0 || length > 18 || (length > 1 && requestId.charAt(0) == '0')) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            char c = requestId.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static int statusCode(Message.Status status) {
+        if (status == null) return 0;
+        return switch (status) {
+            case PENDING -> 0;
+            case SUCCESS -> 1;
+            case ERROR -> 2;
+        };
+    }
+
+    private static Message.Status status(int code) {
+        return switch (code) {
+            case 1 -> Message.Status.SUCCESS;
+            case 2 -> Message.Status.ERROR;
+            default -> Message.Status.PENDING;
+        };
+    }
+}
@@ -0,0 +1,430 @@
+package com.giozar04.binary.codec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.giozar04.binary.domain.exceptions.BinaryExceptions.DecodeException;
+import com.giozar04.json.codec.JsonToken;
+import com.giozar04.json.codec.ValueReader;
+
+/**
+ * Lector del formato binario (ver BinaryTags) sobre el contenido de una trama.
+ *
+ * Entrega los mismos tokens y tipos que JsonReader para el mismo mensaje, así que los códecs
+ * de entidad y quien lee Message.data no distinguen el formato: los números llegan como Long o
+ * BigDecimal y las fechas, fuera de nextDateTime, como texto ISO_ZONED_DATE_TIME.
+ */
+public final class BinaryReader implements ValueReader {
+
+    private static final int MAX_CACHED_ZONES = 64;
+    private static final Map<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+
+    private static final int DOCUMENT = 0;
+    private static final int OBJECT_NAME = 1;
+    private static final int OBJECT_VALUE = 2;
+    private static final int ARRAY = 3;
+
+    private final byte[] buffer;
+    private final int start;
+    private final int limit;
+    private int pos;
+    private final List<String> names = new ArrayList<>();
+    private final List<String> strings = new ArrayList<>();
+    private int[] stack = new int[32];
+    private int depth = 1;
+
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.start = offset;
+        this.pos = offset;
+        this.limit = offset + length;
+    }
+
+    // ------------------------------------------------------------------
+    // ValueReader
+    // ------------------------------------------------------------------
+
+    @Override
+    public JsonToken peek() {
+        int scope = stack[depth - 1];
+        if (scope == OBJECT_NAME) {
+            return peekByte() == BinaryTags.END_OBJECT ? JsonToken.END_OBJECT : JsonToken.NAME;
+        }
+        if (scope == DOCUMENT && pos == limit) {
+            return JsonToken.END_DOCUMENT;
+        }
+        int tag = peekByte();
+        return switch (tag) {
+            case BinaryTags.NULL -> JsonToken.NULL;
+            case BinaryTags.FALSE, BinaryTags.TRUE -> JsonToken.BOOLEAN;
+            case BinaryTags.INT, BinaryTags.DECIMAL, BinaryTags.BIG_DECIMAL -> JsonToken.NUMBER;
+            case BinaryTags.STRING, BinaryTags.DATETIME -> JsonToken.STRING;
+            case BinaryTags.BEGIN_OBJECT -> JsonToken.BEGIN_OBJECT;
+            case BinaryTags.BEGIN_ARRAY -> JsonToken.BEGIN_ARRAY;
+            case BinaryTags.END_ARRAY -> {
+                if (scope != ARRAY) throw decodeError("Fin de arreglo inesperado");
+                yield JsonToken.END_ARRAY;
+            }
+            default -> throw decodeError("Etiqueta desconocida " + tag);
+        };
+    }
+
+    @Override
+    public void beginObject() {
+        expectTag(BinaryTags.BEGIN_OBJECT, "un objeto");
+        push(OBJECT_NAME);
+    }
+
+    @Override
+    public void endObject() {
+        if (stack[depth - 1] != OBJECT_NAME || peekByte() != BinaryTags.END_OBJECT) {
+            throw decodeError("Se esperaba el fin del objeto");
+        }
+        pos++;
+        depth--;
+    }
+
+    @Override
+    public void beginArray() {
+        expectTag(BinaryTags.BEGIN_ARRAY, "un arreglo");
+        push(ARRAY);
+    }
+
+    @Override
+    public void endArray() {
+        if (stack[depth - 1] != ARRAY || peekByte() != BinaryTags.END_ARRAY) {
+            throw decodeError("Se esperaba el fin del arreglo");
+        }
+        pos++;
+        depth--;
+    }
+
+    @Override
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public String nextName() {
+        if (stack[depth - 1] != OBJECT_NAME || peekByte() == BinaryTags.END_OBJECT) {
+            throw decodeError("Se esperaba el nombre de un campo");
+        }
+        String name = readTableText(names, true);
+        stack[depth - 1] = OBJECT_VALUE;
+        return name;
+    }
+
+    /**
+     * Lee un texto. Los números, booleanos y fechas se devuelven con su representación textual.
+     */
+    @Override
+    public String nextString() {
+        int tag = consumeTag();
+        return switch (tag) {
+            case BinaryTags.STRING -> readText();
+            case BinaryTags.DATETIME -> readDateTime().format(DateTimeFormatter.ISO_ZONED_DATE_TIME);
+            case BinaryTags.INT -> Long.toString(unzigzag(readVarint()));
+            case BinaryTags.DECIMAL -> readDecimal().toPlainString();
+            case BinaryTags.BIG_DECIMAL -> readText();
+            case BinaryTags.TRUE -> "true";
+            case BinaryTags.FALSE -> "false";
+            case BinaryTags.NULL -> null;
+            default -> throw decodeError("Se esperaba un texto pero se encontró la etiqueta " + tag);
+        };
+    }
+
+    /**
+     * Lee un número como Long si es entero y cabe, o como BigDecimal en otro caso (las mismas
+     * reglas que JsonReader). Acepta también números escritos como texto.
+     */
+    @Override
+    public Number nextNumber() {
+        int tag = consumeTag();
+        return switch (tag) {
+            case BinaryTags.INT -> unzigzag(readVarint());
+            case BinaryTags.DECIMAL -> toNumber(readDecimal());
+            case BinaryTags.BIG_DECIMAL, BinaryTags.STRING -> parseNumber(readText());
+            case BinaryTags.NULL -> null;
+            default -> throw decodeError("Se esperaba un número pero se encontró la etiqueta " + tag);
+        };
+    }
+
+    @Override
+    public BigDecimal nextBigDecimal() {
+        Number number = nextNumber();
+        if (number == null) return null;
+        return number instanceof BigDecimal value ? value : BigDecimal.valueOf(number.longValue());
+    }
+
+    public boolean nextBoolean() {
+        int tag = consumeTag();
+        return switch (tag) {
+            case BinaryTags.TRUE -> true;
+            case BinaryTags.FALSE -> false;
+            case BinaryTags.STRING -> Boolean.parseBoolean(readText());
+            default -> throw decodeError("Se esperaba un booleano pero se encontró la etiqueta " + tag);
+        };
+    }
+
+    @Override
+    public void nextNull() {
+        expectTag(BinaryTags.NULL, "null");
+    }
+
+    /**
+     * Lee la fecha de su forma binaria o de un texto ISO. Los objetos y arreglos se descartan.
+     */
+    @Override
+    public ZonedDateTime nextDateTime() {
+        JsonToken token = peek();
+        if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+            skipValue();
+            return null;
+        }
+        if (peekByte() == BinaryTags.DATETIME) {
+            consumeTag();
+            return readDateTime();
+        }
+        String text = nextString();
+        if (text == null) return null;
+        try {
+            return ZonedDateTime.parse(text, DateTimeFormatter.ISO_ZONED_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void skipValue() {
+        switch (peek()) {
+            case BEGIN_OBJECT -> {
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+            }
+            case BEGIN_ARRAY -> {
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+            }
+            case BOOLEAN -> nextBoolean();
+            case NULL -> nextNull();
+            case NAME -> nextName();
+            case END_OBJECT, END_ARRAY, END_DOCUMENT -> throw decodeError("No hay un valor para descartar");
+            // Los textos se leen completos para mantener la tabla de textos de la trama
+            default -> nextString();
+        }
+    }
+
+    @Override
+    public Object readValue() {
+        return switch (peek()) {
+            case BEGIN_OBJECT -> readObject();
+            case BEGIN_ARRAY -> readArray();
+            case STRING -> nextString();
+            case NUMBER -> nextNumber();
+            case BOOLEAN -> nextBoolean();
+            case NULL -> {
+                nextNull();
+                yield null;
+            }
+            default -> throw decodeError("Se esperaba un valor");
+        };
+    }
+
+    public Map<String, Object> readObject() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        beginObject();
+        while (hasNext()) {
+            String name = nextName();
+            map.put(name, readValue());
+        }
+        endObject();
+        return map;
+    }
+
+    public List<Object> readArray() {
+        List<Object> list = new ArrayList<>();
+        beginArray();
+        while (hasNext()) {
+            list.add(readValue());
+        }
+        endArray();
+        return list;
+    }
+
+    // ------------------------------------------------------------------
+    // Primitivas del formato (las usa BinaryMessageCodec para la cabecera)
+    // ------------------------------------------------------------------
+
+    int readByte() {
+        if (pos >= limit) throw decodeError("Trama incompleta");
+        return buffer[pos++] & 0xFF;
+    }
+
+    long readVarint() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw decodeError("Varint demasiado largo");
+    }
+
+    /**
+     * Lee un texto con la tabla de textos de la trama (sin etiqueta).
+     */
+    String readText() {
+        return readTableText(strings, false);
+    }
+
+    /**
+     * @return true si ya se leyó todo el contenido de la trama.
+     */
+    boolean isAtEnd() {
+        return pos == limit;
+    }
+
+    // ------------------------------------------------------------------
+    // Utilidades
+    // ------------------------------------------------------------------
+
+    private String readTableText(List<String> table, boolean alwaysIntern) {
+        long header = readVarint();
+        if ((header & 1) == 1) {
+            long index = header >>> 1;
+            if (index >= table.size()) throw decodeError("Referencia a texto inexistente " + index);
+            return table.get((int) index);
+        }
+        long length = (header >>> 1) - 1;
+        if (length < 0 || length > limit - pos) throw decodeError("Longitud de texto inválida " + length);
+        String text = new String(buffer, pos, (int) length, StandardCharsets.UTF_8);
+        pos += (int) length;
+        if (alwaysIntern || text.length() <= BinaryWriter.MAX_INTERNED_LENGTH) {
+            table.add(text);
+        }
+        return text;
+    }
+
+    private BigDecimal readDecimal() {
+        long scale = unzigzag(readVarint());
+        if (scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) throw decodeError("Escala inválida " + scale);
+        return BigDecimal.valueOf(unzigzag(readVarint()), (int) scale);
+    }
+
+    private ZonedDateTime readDateTime() {
+        long epochSecond = unzigzag(readVarint());
+        long nano = readVarint();
+        long offsetSeconds = unzigzag(readVarint());
+        String region = null;
+        if (peekByte() == 0) {
+            pos++;
+        } else {
+            region = readText();
+        }
+        try {
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(Math.toIntExact(offsetSeconds));
+            Instant instant = Instant.ofEpochSecond(epochSecond, nano);
+            return ZonedDateTime.ofInstant(instant, region != null ? zone(region) : offset);
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new DecodeException("Fecha inválida en la posición " + (pos - start), e);
+        }
+    }
+
+    private static ZoneId zone(String id) {
+        ZoneId zone = ZONES.get(id);
+        if (zone == null) {
+            zone = ZoneId.of(id);
+            if (ZONES.size() < MAX_CACHED_ZONES) {
+                ZONES.put(id, zone);
+            }
+        }
+        return zone;
+    }
+
+    private Number toNumber(BigDecimal decimal) {
+        if (decimal.scale() <= 0) {
+            try {
+                return decimal.longValueExact();
+            } catch (ArithmeticException ignored) {
+                // No cabe en un long
+            }
+        }
+        return decimal;
+    }
+
+    private Number parseNumber(String text) {
+        if (text == null || text.isBlank()) return null;
+        try {
+            return toNumber(new BigDecimal(text.strip()));
+        } catch (NumberFormatException e) {
+            throw decodeError("Número inválido '" + text + "'");
+        }
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Consume la etiqueta del siguiente valor y marca el valor del campo como leído.
+     */
+    private int consumeTag() {
+        int scope = stack[depth - 1];
+        if (scope == OBJECT_NAME) throw decodeError("Se esperaba el nombre de un campo");
+        int tag = readByte();
+        if (tag == BinaryTags.END_ARRAY) throw decodeError("Fin de arreglo inesperado");
+        if (scope == OBJECT_VALUE) stack[depth - 1] = OBJECT_NAME;
+        return tag;
+    }
+
+    private void expectTag(int expected, String description) {
+        if (peekTag() != expected) {
+            throw decodeError("Se esperaba " + description);
+        }
+        consumeTag();
+    }
+
+    private int peekTag() {
+        if (stack[depth - 1] == OBJECT_NAME) throw decodeError("Se esperaba el nombre de un campo");
+        return peekByte();
+    }
+
+    private int peekByte() {
+        if (pos >= limit) throw decodeError("Trama incompleta");
+        return buffer[pos] & 0xFF;
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = scope;
+    }
+
+    private DecodeException decodeError(String message) {
+        return new DecodeException(message + " (posición " + (pos - start) + ")");
+    }
+}
@@ -0,0 +1,35 @@
+package com.giozar04.binary.codec;
+
+/**
+ * Etiquetas de tipo que preceden a cada valor en el formato binario.
+ *
+ * Los nombres de campo no llevan etiqueta: se escriben con una cabecera varint que vale 0 al
+ * cerrar el objeto, (índice << 1) | 1 para repetir un nombre ya enviado en la trama, o
+ * (longitud + 1) << 1 seguida de los bytes UTF-8 para un nombre nuevo. Los textos usan la
+ * misma cabecera con su propia tabla; solo se registran los de hasta
+ * BinaryWriter.MAX_INTERNED_LENGTH caracteres.
+ */
+final class BinaryTags {
+
+    static final int NULL = 0;
+    static final int FALSE = 1;
+    static final int TRUE = 2;
+    // Entero con signo en varint zigzag
+    static final int INT = 3;
+    // Escala en varint zigzag y valor sin escala (cabe en un long) en varint zigzag
+    static final int DECIMAL = 4;
+    // Decimal que no cabe en un long, como texto
+    static final int BIG_DECIMAL = 5;
+    static final int STRING = 6;
+    // Segundos de época y desplazamiento en varint zigzag, nanos en varint y la zona como texto
+    static final int DATETIME = 7;
+    static final int BEGIN_OBJECT = 8;
+    static final int BEGIN_ARRAY = 9;
+    static final int END_ARRAY = 10;
+
+    // Cabecera de nombre que cierra el objeto actual
+    static final int END_OBJECT = 0;
+
+    private BinaryTags() {
+    }
+}
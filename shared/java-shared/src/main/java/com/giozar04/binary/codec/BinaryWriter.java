@@ -0,0 +1,376 @@
+package com.giozar04.binary.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.giozar04.json.codec.JsonCodecRegistry;
+import com.giozar04.json.codec.JsonEntityCodec;
+import com.giozar04.json.codec.ValueWriter;
+
+/**
+ * Escritor del formato binario (ver BinaryTags) sobre un búfer propio que se reutiliza entre
+ * tramas. Los enteros van en varint, los decimales como escala y valor sin escala, las fechas
+ * como segundos de época y los nombres de campo y textos cortos se envían una sola vez por
+ * trama: en una lista de miles de transacciones "sourceAccountId" o "EXPENSE" ocupan un byte
+ * después de la primera fila.
+ *
+ * No es seguro entre hilos; cada conexión usa el suyo bajo su lock de escritura.
+ */
+public final class BinaryWriter implements ValueWriter {
+
+    // Textos de hasta esta longitud se registran en la tabla de la trama
+    static final int MAX_INTERNED_LENGTH = 32;
+    // Búferes más grandes que esto se liberan al reiniciar el escritor
+    private static final int RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private static final int DOCUMENT = 0;
+    private static final int OBJECT_NAME = 1;
+    private static final int OBJECT_VALUE = 2;
+    private static final int ARRAY = 3;
+
+    private byte[] buffer = new byte[1024];
+    private int size;
+    private final Map<String, Integer> names = new HashMap<>();
+    private final Map<String, Integer> strings = new HashMap<>();
+    private int[] stack = new int[32];
+    private int depth = 1;
+
+    /**
+     * Descarta el contenido y las tablas de nombres y textos para empezar otra trama.
+     */
+    public void reset() {
+        if (buffer.length > RETAINED_BUFFER_SIZE) {
+            buffer = new byte[1024];
+        }
+        size = 0;
+        names.clear();
+        strings.clear();
+        depth = 1;
+        stack[0] = DOCUMENT;
+    }
+
+    /**
+     * @return Bytes escritos desde el último reset.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return El búfer interno; la trama ocupa [0, size()) hasta la siguiente escritura o reset.
+     */
+    public byte[] getBuffer() {
+        return buffer;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Escribe la trama: su longitud en 4 bytes (big-endian) seguida del contenido. No hace flush.
+     */
+    public void writeFrameTo(OutputStream out) throws IOException {
+        out.write(size >>> 24);
+        out.write(size >>> 16);
+        out.write(size >>> 8);
+        out.write(size);
+        out.write(buffer, 0, size);
+    }
+
+    // ------------------------------------------------------------------
+    // ValueWriter
+    // ------------------------------------------------------------------
+
+    @Override
+    public BinaryWriter beginObject() {
+        beforeValue();
+        writeByte(BinaryTags.BEGIN_OBJECT);
+        push(OBJECT_NAME);
+        return this;
+    }
+
+    @Override
+    public BinaryWriter endObject() {
+        if (stack[depth - 1] != OBJECT_NAME) {
+            throw new IllegalStateException("No hay un objeto abierto para cerrar");
+        }
+        depth--;
+        writeByte(BinaryTags.END_OBJECT);
+        return this;
+    }
+
+    @Override
+    public BinaryWriter beginArray() {
+        beforeValue();
+        writeByte(BinaryTags.BEGIN_ARRAY);
+        push(ARRAY);
+        return this;
+    }
+
+    @Override
+    public BinaryWriter endArray() {
+        if (stack[depth - 1] != ARRAY) {
+            throw new IllegalStateException("No hay un arreglo abierto para cerrar");
+        }
+        depth--;
+        writeByte(BinaryTags.END_ARRAY);
+        return this;
+    }
+
+    @Override
+    public BinaryWriter name(String name) {
+        if (stack[depth - 1] != OBJECT_NAME) {
+            throw new IllegalStateException("Un nombre solo puede escribirse dentro de un objeto");
+        }
+        writeTableText(name, names, true);
+        stack[depth - 1] = OBJECT_VALUE;
+        return this;
+    }
+
+    @Override
+    public BinaryWriter value(String value) {
+        if (value == null) return nullValue();
+        beforeValue();
+        writeByte(BinaryTags.STRING);
+        writeText(value);
+        return this;
+    }
+
+    @Override
+    public BinaryWriter value(long value) {
+        beforeValue();
+        writeByte(BinaryTags.INT);
+        writeVarint(zigzag(value));
+        return this;
+    }
+
+    @Override
+    public BinaryWriter value(boolean value) {
+        beforeValue();
+        writeByte(value ? BinaryTags.TRUE : BinaryTags.FALSE);
+        return this;
+    }
+
+    /**
+     * Escribe un número. Los enteros van en varint y el resto como decimal exacto; los double
+     * se convierten con su representación decimal más corta, la misma que escribe JsonWriter.
+     * NaN e infinito se escriben como null.
+     */
+    @Override
+    public BinaryWriter value(Number value) {
+        if (value == null) return nullValue();
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value(value.longValue());
+        }
+        if (value instanceof BigDecimal decimal) return decimal(decimal);
+        if (value instanceof Double number) {
+            if (number.isNaN() || number.isInfinite()) return nullValue();
+            return decimal(BigDecimal.valueOf(number));
+        }
+        if (value instanceof Float number) {
+            if (number.isNaN() || number.isInfinite()) return nullValue();
+            return decimal(new BigDecimal(number.toString()));
+        }
+        if (value instanceof BigInteger integer) return decimal(new BigDecimal(integer));
+        try {
+            return decimal(new BigDecimal(value.toString()));
+        } catch (NumberFormatException e) {
+            return value(value.toString());
+        }
+    }
+
+    @Override
+    public BinaryWriter value(ZonedDateTime value) {
+        if (value == null) return nullValue();
+        beforeValue();
+        writeByte(BinaryTags.DATETIME);
+        writeVarint(zigzag(value.toEpochSecond()));
+        writeVarint(value.getNano());
+        writeVarint(zigzag(value.getOffset().getTotalSeconds()));
+        if (value.getZone() instanceof ZoneOffset) {
+            writeVarint(0);
+        } else {
+            writeText(value.getZone().getId());
+        }
+        return this;
+    }
+
+    @Override
+    public BinaryWriter nullValue() {
+        beforeValue();
+        writeByte(BinaryTags.NULL);
+        return this;
+    }
+
+    /**
+     * Escribe cualquier valor con las mismas reglas que JsonWriter: mapas como objetos,
+     * iterables como arreglos, entidades con su códec registrado y el resto como texto.
+     */
+    @Override
+    public BinaryWriter value(Object value) throws IOException {
+        if (value == null) return nullValue();
+        if (value instanceof String text) return value(text);
+        if (value instanceof Number number) return value(number);
+        if (value instanceof Boolean bool) return value(bool.booleanValue());
+        if (value instanceof ZonedDateTime dateTime) return value(dateTime);
+        if (value instanceof Map<?, ?> map) {
+            beginObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                name(String.valueOf(entry.getKey()));
+                value(entry.getValue());
+            }
+            return endObject();
+        }
+        if (value instanceof Iterable<?> iterable) {
+            beginArray();
+            for (Object element : iterable) {
+                value(element);
+            }
+            return endArray();
+        }
+        @SuppressWarnings("unchecked")
+        JsonEntityCodec<Object> codec = (JsonEntityCodec<Object>) JsonCodecRegistry.forType(value.getClass());
+        if (codec != null) {
+            codec.write(this, value);
+            return this;
+        }
+        return value(value.toString());
+    }
+
+    // ------------------------------------------------------------------
+    // Primitivas del formato (las usa BinaryMessageCodec para la cabecera)
+    // ------------------------------------------------------------------
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    void writeVarint(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * Escribe un texto con la tabla de textos de la trama (sin etiqueta).
+     */
+    void writeText(String text) {
+        writeTableText(text, strings, text.length() <= MAX_INTERNED_LENGTH);
+    }
+
+    // ------------------------------------------------------------------
+    // Utilidades
+    // ------------------------------------------------------------------
+
+    private BinaryWriter decimal(BigDecimal decimal) {
+        beforeValue();
+        BigInteger unscaled = decimal.unscaledValue();
+        if (unscaled.bitLength() < 64) {
+            writeByte(BinaryTags.DECIMAL);
+            writeVarint(zigzag(decimal.scale()));
+            writeVarint(zigzag(unscaled.longValue()));
+        } else {
+            writeByte(BinaryTags.BIG_DECIMAL);
+            writeText(decimal.toString());
+        }
+        return this;
+    }
+
+    private void writeTableText(String text, Map<String, Integer> table, boolean intern) {
+        if (intern) {
+            Integer index = table.get(text);
+            if (index != null) {
+                writeVarint(((long) index << 1) | 1);
+                return;
+            }
+            table.put(text, table.size());
+        }
+        int length = utf8Length(text);
+        writeVarint((long) (length + 1) << 1);
+        writeUtf8(text, length);
+    }
+
+    private void writeUtf8(String text, int byteLength) {
+        ensureCapacity(byteLength);
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                buffer[size++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[size++] = (byte) (0xC0 | (c >> 6));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++i));
+                buffer[size++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[size++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Surrogate suelto: se reemplaza como lo hace String.getBytes
+                buffer[size++] = (byte) '?';
+            } else {
+                buffer[size++] = (byte) (0xE0 | (c >> 12));
+                buffer[size++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[size++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static int utf8Length(String text) {
+        int length = text.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) continue;
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private void beforeValue() {
+        switch (stack[depth - 1]) {
+            case OBJECT_VALUE -> stack[depth - 1] = OBJECT_NAME;
+            case OBJECT_NAME -> throw new IllegalStateException("Se esperaba un nombre antes del valor");
+            default -> {
+                // Arreglo o documento: los valores van seguidos
+            }
+        }
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = scope;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.giozar04.binary.codec;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Tabla de códigos de operación del protocolo binario: cada tipo de mensaje (las constantes
+ * MessageTypes de los controladores del servidor) se envía como un varint en lugar de su
+ * nombre. El servidor la arma con los tipos que tiene registrados y la entrega al cliente al
+ * negociar el protocolo, así que ambos lados usan siempre la misma tabla aunque cambien las
+ * versiones. El código 0 indica que el tipo viaja como texto (tipos que no están en la tabla).
+ */
+public final class MessageOpcodes {
+
+    public static final MessageOpcodes EMPTY = new MessageOpcodes(List.of());
+
+    private final List<String> types;
+    private final Map<String, Integer> codes;
+
+    private MessageOpcodes(List<String> types) {
+        this.types = types;
+        this.codes = new HashMap<>(types.size() * 2);
+        for (int i = 0; i < types.size(); i++) {
+            codes.put(types.get(i), i + 1);
+        }
+    }
+
+    /**
+     * Crea la tabla en orden alfabético, sin repetidos ni nulos.
+     */
+    public static MessageOpcodes of(Collection<?> types) {
+        TreeSet<String> sorted = new TreeSet<>();
+        for (Object type : types) {
+            if (type != null) {
+                sorted.add(type.toString());
+            }
+        }
+        return new MessageOpcodes(List.copyOf(sorted));
+    }
+
+    /**
+     * @return El código del tipo, o 0 si no está en la tabla.
+     */
+    public int codeOf(String type) {
+        Integer code = codes.get(type);
+        return code != null ? code : 0;
+    }
+
+    /**
+     * @return El tipo del código, o null si no está en la tabla.
+     */
+    public String typeOf(long code) {
+        return code >= 1 && code <= types.size() ? types.get((int) code - 1) : null;
+    }
+
+    /**
+     * @return Los tipos en el orden de sus códigos (el primero es el código 1).
+     */
+    public List<String> getTypes() {
+        return types;
+    }
+}
@@ -0,0 +1,37 @@
+package com.giozar04.binary.domain.exceptions;
+
+/**
+ * Excepciones del códec binario.
+ */
+public class BinaryExceptions {
+
+    /**
+     * Excepción base para errores del protocolo binario.
+     */
+    public static class BinaryException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public BinaryException(String message) {
+            super(message);
+        }
+
+        public BinaryException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * Excepción lanzada cuando una trama recibida no es válida.
+     */
+    public static class DecodeException extends BinaryException {
+        private static final long serialVersionUID = 1L;
+
+        public DecodeException(String message) {
+            super(message);
+        }
+
+        public DecodeException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
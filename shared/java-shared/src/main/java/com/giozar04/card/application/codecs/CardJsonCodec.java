@@ -0,0 +1,87 @@
+package com.giozar04.card.application.codecs;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+import com.giozar04.card.domain.entities.Card;
+import com.giozar04.card.domain.enums.CardTypes;
+import com.giozar04.json.codec.JsonEntityCodec;
+import com.giozar04.json.codec.ValueReader;
+import com.giozar04.json.codec.ValueWriter;
+
+/**
+ * Códec JSON de Card con los mismos campos que CardUtils.cardToMap/mapToCard.
+ */
+public final class CardJsonCodec extends JsonEntityCodec<Card> {
+
+    private static final CardJsonCodec INSTANCE = new CardJsonCodec();
+
+    private CardJsonCodec() {
+        super(Card.class);
+    }
+
+    public static CardJsonCodec getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void write(ValueWriter writer, Card card) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(card.getId());
+        writer.name("accountId").value(card.getAccountId());
+        writer.name("name").value(card.getName());
+        writer.name("cardType").value(card.getCardType() != null ? card.getCardType().getValue() : null);
+        writer.name("cardNumber").value(card.getCardNumber());
+        writer.name("status").value(card.getStatus());
+        writeDateTime(writer, "expirationDate", card.getExpirationDate());
+        writeDateTime(writer, "createdAt", card.getCreatedAt());
+        writeDateTime(writer, "updatedAt", card.getUpdatedAt());
+        writer.endObject();
+    }
+
+    @Override
+    protected Card newEntity() {
+        Card card = new Card();
+        card.setName("");
+        card.setCardNumber("");
+        card.setStatus("ACTIVE");
+        return card;
+    }
+
+    @Override
+    protected boolean readField(ValueReader reader, String name, Card card) {
+        switch (name) {
+            case "id" -> card.setId(readLong(reader));
+            case "accountId" -> card.setAccountId(readLong(reader));
+            case "name" -> card.setName(readString(reader));
+            case "cardType" -> {
+                String cardType = readString(reader);
+                if (cardType != null) {
+                    card.setCardType(CardTypes.fromValue(cardType));
+                }
+            }
+            case "cardNumber" -> card.setCardNumber(readString(reader));
+            case "status" -> card.setStatus(readString(reader));
+            case "expirationDate" -> card.setExpirationDate(readDateTime(reader));
+            case "createdAt" -> card.setCreatedAt(readDateTime(reader));
+            case "updatedAt" -> card.setUpdatedAt(readDateTime(reader));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void complete(Card card) {
+        if (card.getExpirationDate() == null) {
+            card.setExpirationDate(ZonedDateTime.now());
+        }
+        if (card.getCreatedAt() == null) {
+            card.setCreatedAt(ZonedDateTime.now());
+        }
+        if (card.getUpdatedAt() == null) {
+            card.setUpdatedAt(ZonedDateTime.now());
+        }
+    }
+}
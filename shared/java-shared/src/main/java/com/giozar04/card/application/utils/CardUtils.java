@@ -1,6 +1,8 @@
 package com.giozar04.card.application.utils;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.giozar04.card.domain.entities.Card;
@@ -50,4 +52,28 @@ public class CardUtils {
 
         return card;
     }
+
+    /**
+     * Convierte el valor de Message.data en Card. El códec JSON ya entrega la entidad;
+     * los mapas se siguen aceptando para mensajes construidos en memoria.
+     */
+    @SuppressWarnings("unchecked")
+    public static Card dataToCard(Object raw) {
+        if (raw instanceof Card card) return card;
+        if (raw instanceof Map<?, ?> map) return mapToCard((Map<String, Object>) map);
+        return null;
+    }
+
+    /**
+     * Convierte una lista de Message.data en entidades, o devuelve null si el valor no es una lista.
+     */
+    public static List<Card> dataToCards(Object raw) {
+        if (!(raw instanceof List<?> rawList)) return null;
+        List<Card> result = new ArrayList<>(rawList.size());
+        for (Object element : rawList) {
+            Card card = dataToCard(element);
+            if (card != null) result.add(card);
+        }
+        return result;
+    }
 }
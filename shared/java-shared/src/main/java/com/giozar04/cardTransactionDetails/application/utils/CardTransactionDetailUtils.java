@@ -33,7 +33,8 @@ public class CardTransactionDetailUtils {
         detail.setCardId(SharedUtils.parseLong(map.get("cardId")));
         detail.setAmount(SharedUtils.parseBigDecimal(map.get("amount")));
         detail.setInstallmentMonths(SharedUtils.parseNullableInt(map.get("installmentMonths")));
-        detail.setInterestFree(Boolean.parseBoolean(map.get("interestFree").toString()));
+        Object interestFree = map.get("interestFree");
+        detail.setInterestFree(interestFree != null && Boolean.parseBoolean(interestFree.toString()));
         detail.setCreatedAt(SharedUtils.parseZonedDateTime(map.get("createdAt")));
         detail.setUpdatedAt(SharedUtils.parseZonedDateTime(map.get("updatedAt")));
         return detail;
@@ -0,0 +1,96 @@
+package com.giozar04.creditStatements.application.utils;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.giozar04.creditStatements.domain.entities.CreditStatement;
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.shared.utils.SharedUtils;
+
+/**
+ * Conversión de CreditStatement a los datos del mensaje GET_CREDIT_STATEMENT. Las fechas del
+ * ciclo viajan como "AAAA-MM-DD" y los montos como texto, para no perder centavos.
+ */
+public class CreditStatementUtils {
+
+    public static final String STATEMENT_KEY = "statement";
+
+    public static Map<String, Object> toMap(CreditStatement statement) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("accountId", statement.getAccountId());
+        map.put("periodStart", statement.getPeriodStart().toString());
+        map.put("periodEnd", statement.getPeriodEnd().toString());
+        map.put("paymentDueDate", statement.getPaymentDueDate().toString());
+        map.put("openingBalance", statement.getOpeningBalance().toPlainString());
+        map.put("charges", statement.getCharges().toPlainString());
+        map.put("payments", statement.getPayments().toPlainString());
+        map.put("installmentsBilled", statement.getInstallmentsBilled().toPlainString());
+        map.put("deferredBalance", statement.getDeferredBalance().toPlainString());
+        map.put("closingBalance", statement.getClosingBalance().toPlainString());
+        map.put("noInterestPayment", statement.getNoInterestPayment().toPlainString());
+        map.put("minimumPayment", statement.getMinimumPayment().toPlainString());
+        map.put("chargeCount", statement.getChargeCount());
+        map.put("paymentCount", statement.getPaymentCount());
+        map.put("installmentCount", statement.getInstallmentCount());
+        if (statement.getGeneratedAt() != null) {
+            map.put("generatedAt", statement.getGeneratedAt().format(SharedUtils.getFormatter()));
+        }
+        return map;
+    }
+
+    /**
+     * @throws IllegalArgumentException si alguna fecha del ciclo no es válida.
+     */
+    public static CreditStatement fromMap(Map<?, ?> map) {
+        CreditStatement statement = new CreditStatement();
+        statement.setAccountId(SharedUtils.parseLong(map.get("accountId")));
+        statement.setPeriodStart(parseDate(map.get("periodStart")));
+        statement.setPeriodEnd(parseDate(map.get("periodEnd")));
+        statement.setPaymentDueDate(parseDate(map.get("paymentDueDate")));
+        statement.setOpeningBalance(SharedUtils.parseBigDecimal(map.get("openingBalance")));
+        statement.setCharges(SharedUtils.parseBigDecimal(map.get("charges")));
+        statement.setPayments(SharedUtils.parseBigDecimal(map.get("payments")));
+        statement.setInstallmentsBilled(SharedUtils.parseBigDecimal(map.get("installmentsBilled")));
+        statement.setDeferredBalance(SharedUtils.parseBigDecimal(map.get("deferredBalance")));
+        statement.setClosingBalance(SharedUtils.parseBigDecimal(map.get("closingBalance")));
+        statement.setNoInterestPayment(SharedUtils.parseBigDecimal(map.get("noInterestPayment")));
+        statement.setMinimumPayment(SharedUtils.parseBigDecimal(map.get("minimumPayment")));
+        statement.setChargeCount((int) SharedUtils.parseLong(map.get("chargeCount")));
+        statement.setPaymentCount((int) SharedUtils.parseLong(map.get("paymentCount")));
+        statement.setInstallmentCount((int) SharedUtils.parseLong(map.get("installmentCount")));
+        if (map.get("generatedAt") != null) {
+            statement.setGeneratedAt(SharedUtils.parseZonedDateTime(map.get("generatedAt")));
+        }
+        return statement;
+    }
+
+    public static void addStatementData(Message response, CreditStatement statement) {
+        response.addData(STATEMENT_KEY, toMap(statement));
+    }
+
+    /**
+     * @return El estado de cuenta de la respuesta, o null si no lo incluye.
+     * @throws IllegalArgumentException si no tiene un formato válido.
+     */
+    public static CreditStatement statementFromMessage(Message response) {
+        if (!(response.getData(STATEMENT_KEY) instanceof Map<?, ?> map)) {
+            return null;
+        }
+        return fromMap(map);
+    }
+
+    /**
+     * @return La fecha, o null si el valor está vacío.
+     * @throws IllegalArgumentException si no tiene el formato AAAA-MM-DD.
+     */
+    public static LocalDate parseDate(Object value) {
+        if (value == null || value.toString().isBlank()) return null;
+        try {
+            return LocalDate.parse(value.toString().trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Fecha inválida (se espera AAAA-MM-DD): " + value, e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.giozar04.creditStatements.domain.entities;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * Estado de cuenta de un ciclo de una cuenta de crédito, del día siguiente al corte anterior
+ * (periodStart) al día de corte (periodEnd), inclusive.
+ *
+ * - charges: cargos del periodo (egresos y transferencias desde la cuenta), incluidas las
+ *   compras a meses sin intereses completas.
+ * - payments: pagos y abonos del periodo (transacciones hacia la cuenta).
+ * - closingBalance: openingBalance + charges - payments; lo que se debe al corte.
+ * - installmentsBilled: mensualidades MSI que vencen en este ciclo (installmentCount).
+ * - deferredBalance: mensualidades MSI que quedan para los ciclos siguientes.
+ * - noInterestPayment: pago para no generar intereses, closingBalance - deferredBalance.
+ * - minimumPayment: las mensualidades del ciclo más un porcentaje del resto.
+ */
+public class CreditStatement {
+
+    private long accountId;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private LocalDate paymentDueDate;
+    private BigDecimal openingBalance = BigDecimal.ZERO;
+    private BigDecimal charges = BigDecimal.ZERO;
+    private BigDecimal payments = BigDecimal.ZERO;
+    private BigDecimal installmentsBilled = BigDecimal.ZERO;
+    private BigDecimal deferredBalance = BigDecimal.ZERO;
+    private BigDecimal closingBalance = BigDecimal.ZERO;
+    private BigDecimal noInterestPayment = BigDecimal.ZERO;
+    private BigDecimal minimumPayment = BigDecimal.ZERO;
+    private int chargeCount;
+    private int paymentCount;
+    private int installmentCount;
+    private ZonedDateTime generatedAt;
+
+    public CreditStatement() {}
+
+    // Getters y setters
+
+    public long getAccountId() { return accountId; }
+    public void setAccountId(long accountId) { this.accountId = accountId; }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
+
+    public LocalDate getPaymentDueDate() { return paymentDueDate; }
+    public void setPaymentDueDate(LocalDate paymentDueDate) { this.paymentDueDate = paymentDueDate; }
+
+    public BigDecimal getOpeningBalance() { return openingBalance; }
+    public void setOpeningBalance(BigDecimal openingBalance) { this.openingBalance = openingBalance; }
+
+    public BigDecimal getCharges() { return charges; }
+    public void setCharges(BigDecimal charges) { this.charges = charges; }
+
+    public BigDecimal getPayments() { return payments; }
+    public void setPayments(BigDecimal payments) { this.payments = payments; }
+
+    public BigDecimal getInstallmentsBilled() { return installmentsBilled; }
+    public void setInstallmentsBilled(BigDecimal installmentsBilled) { this.installmentsBilled = installmentsBilled; }
+
+    public BigDecimal getDeferredBalance() { return deferredBalance; }
+    public void setDeferredBalance(BigDecimal deferredBalance) { this.deferredBalance = deferredBalance; }
+
+    public BigDecimal getClosingBalance() { return closingBalance; }
+    public void setClosingBalance(BigDecimal closingBalance) { this.closingBalance = closingBalance; }
+
+    public BigDecimal getNoInterestPayment() { return noInterestPayment; }
+    public void setNoInterestPayment(BigDecimal noInterestPayment) { this.noInterestPayment = noInterestPayment; }
+
+    public BigDecimal getMinimumPayment() { return minimumPayment; }
+    public void setMinimumPayment(BigDecimal minimumPayment) { this.minimumPayment = minimumPayment; }
+
+    public int getChargeCount() { return chargeCount; }
+    public void setChargeCount(int chargeCount) { this.chargeCount = chargeCount; }
+
+    public int getPaymentCount() { return paymentCount; }
+    public void setPaymentCount(int paymentCount) { this.paymentCount = paymentCount; }
+
+    public int getInstallmentCount() { return installmentCount; }
+    public void setInstallmentCount(int installmentCount) { this.installmentCount = installmentCount; }
+
+    public ZonedDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(ZonedDateTime generatedAt) { this.generatedAt = generatedAt; }
+
+    @Override
+    public String toString() {
+        return "CreditStatement{" +
+                "accountId=" + accountId +
+                ", periodStart=" + periodStart +
+                ", periodEnd=" + periodEnd +
+                ", paymentDueDate=" + paymentDueDate +
+                ", openingBalance=" + openingBalance +
+                ", charges=" + charges +
+                ", payments=" + payments +
+                ", installmentsBilled=" + installmentsBilled +
+                ", deferredBalance=" + deferredBalance +
+                ", closingBalance=" + closingBalance +
+                ", noInterestPayment=" + noInterestPayment +
+                ", minimumPayment=" + minimumPayment +
+                '}';
+    }
+}
@@ -0,0 +1,20 @@
+package com.giozar04.creditStatements.domain.exceptions;
+
+public class CreditStatementExceptions {
+
+    public static class RetrievalException extends RuntimeException {
+        public RetrievalException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class GenerationException extends RuntimeException {
+        public GenerationException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class NotFoundException extends RuntimeException {
+        public NotFoundException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class ParsingException extends RuntimeException {
+        public ParsingException(String message, Throwable cause) { super(message, cause); }
+    }
+}
@@ -0,0 +1,241 @@
+package com.giozar04.json.codec;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formato y lectura directos de fechas ISO_ZONED_DATE_TIME (el formato de SharedUtils),
+ * por ejemplo 2025-03-01T10:15:30.5-06:00[America/Mexico_City].
+ *
+ * DateTimeFormatter construye varios objetos intermedios por fecha; en una lista de miles de
+ * entidades con tres fechas cada una eso domina la asignación del códec. Aquí solo se cubre
+ * la forma exacta que produce ISO_ZONED_DATE_TIME; cualquier otra entrada devuelve null y
+ * quien llama recurre a DateTimeFormatter.
+ */
+final class IsoZonedDateTime {
+
+    /** Longitud suficiente para fecha, hora, nanos y desplazamiento, sin la zona. */
+    static final int MAX_FIXED_LENGTH = 38;
+
+    private static final int MAX_CACHED_ZONES = 64;
+    private static final Map<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+
+    private IsoZonedDateTime() {
+    }
+
+    /**
+     * Escribe la parte de fecha, hora y desplazamiento en el buffer. La zona (entre corchetes)
+     * la añade quien llama, porque su longitud es variable.
+     *
+     * @return Número de caracteres escritos, o -1 si el año no tiene cuatro dígitos.
+     */
+    static int formatWithoutZone(ZonedDateTime value, char[] buffer) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        int pos = 0;
+        pos = digits(buffer, pos, year, 4);
+        buffer[pos++] = '-';
+        pos = digits(buffer, pos, value.getMonthValue(), 2);
+        buffer[pos++] = '-';
+        pos = digits(buffer, pos, value.getDayOfMonth(), 2);
+        buffer[pos++] = 'T';
+        pos = digits(buffer, pos, value.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = digits(buffer, pos, value.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = digits(buffer, pos, value.getSecond(), 2);
+
+        int nano = value.getNano();
+        if (nano != 0) {
+            // Fracción con los dígitos mínimos, como appendFraction(NANO_OF_SECOND, 0, 9, true)
+            int width = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                width--;
+            }
+            buffer[pos++] = '.';
+            pos = digits(buffer, pos, nano, width);
+        }
+
+        int totalSeconds = value.getOffset().getTotalSeconds();
+        if (totalSeconds == 0) {
+            buffer[pos++] = 'Z';
+        } else {
+            buffer[pos++] = totalSeconds < 0 ? '-' : '+';
+            int absolute = Math.abs(totalSeconds);
+            pos = digits(buffer, pos, absolute / 3600, 2);
+            buffer[pos++] = ':';
+            pos = digits(buffer, pos, absolute / 60 % 60, 2);
+            if (absolute % 60 != 0) {
+                buffer[pos++] = ':';
+                pos = digits(buffer, pos, absolute % 60, 2);
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * @return La zona que ISO_ZONED_DATE_TIME escribe entre corchetes, o null si la zona es
+     *         un desplazamiento fijo.
+     */
+    static String regionId(ZonedDateTime value) {
+        ZoneId zone = value.getZone();
+        return zone instanceof ZoneOffset ? null : zone.getId();
+    }
+
+    /**
+     * @return La fecha, o null si el texto no tiene exactamente la forma de ISO_ZONED_DATE_TIME.
+     */
+    static ZonedDateTime parse(String text) {
+        if (text == null) {
+            return null;
+        }
+        int length = text.length();
+        if (length < 17
+                || text.charAt(4) != '-' || text.charAt(7) != '-' || text.charAt(10) != 'T'
+                || text.charAt(13) != ':') {
+            return null;
+        }
+        int year = number(text, 0, 4);
+        int month = number(text, 5, 2);
+        int day = number(text, 8, 2);
+        int hour = number(text, 11, 2);
+        int minute = number(text, 14, 2);
+        if ((year | month | day | hour | minute) < 0) {
+            return null;
+        }
+
+        int pos = 16;
+        int second = 0;
+        int nano = 0;
+        if (pos < length && text.charAt(pos) == ':') {
+            second = number(text, pos + 1, 2);
+            if (second < 0) {
+                return null;
+            }
+            pos += 3;
+            if (pos < length && text.charAt(pos) == '.') {
+                pos++;
+                int start = pos;
+                while (pos < length && pos - start < 9 && isDigit(text.charAt(pos))) {
+                    nano = nano * 10 + (text.charAt(pos) - '0');
+                    pos++;
+                }
+                int width = pos - start;
+                if (width == 0) {
+                    return null;
+                }
+                for (int i = width; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+
+        if (pos >= length) {
+            return null;
+        }
+        ZoneOffset offset;
+        char sign = text.charAt(pos);
+        if (sign == 'Z') {
+            offset = ZoneOffset.UTC;
+            pos++;
+        } else if (sign == '+' || sign == '-') {
+            int offsetHours = number(text, pos + 1, 2);
+            if (offsetHours < 0 || pos + 3 >= length || text.charAt(pos + 3) != ':') {
+                return null;
+            }
+            int offsetMinutes = number(text, pos + 4, 2);
+            if (offsetMinutes < 0) {
+                return null;
+            }
+            pos += 6;
+            int offsetSeconds = 0;
+            if (pos < length && text.charAt(pos) == ':') {
+                offsetSeconds = number(text, pos + 1, 2);
+                if (offsetSeconds < 0) {
+                    return null;
+                }
+                pos += 3;
+            }
+            int total = offsetHours * 3600 + offsetMinutes * 60 + offsetSeconds;
+            try {
+                offset = ZoneOffset.ofTotalSeconds(sign == '-' ? -total : total);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        } else {
+            return null;
+        }
+
+        ZoneId zone = offset;
+        if (pos < length) {
+            if (text.charAt(pos) != '[' || text.charAt(length - 1) != ']') {
+                return null;
+            }
+            zone = zone(text.substring(pos + 1, length - 1));
+            if (zone == null) {
+                return null;
+            }
+        }
+
+        try {
+            LocalDateTime local = LocalDateTime.of(year, month, day, hour, minute, second, nano);
+            return ZonedDateTime.ofInstant(local, offset, zone);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static ZoneId zone(String id) {
+        ZoneId zone = ZONES.get(id);
+        if (zone != null) {
+            return zone;
+        }
+        try {
+            zone = ZoneId.of(id);
+        } catch (DateTimeException e) {
+            return null;
+        }
+        if (ZONES.size() < MAX_CACHED_ZONES) {
+            ZONES.putIfAbsent(id, zone);
+        }
+        return zone;
+    }
+
+    private static int digits(char[] buffer, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+
+    /**
+     * @return El número de dígitos fijos, o -1 si algún carácter no es un dígito.
+     */
+    private static int number(String text, int start, int width) {
+        if (start + width > text.length()) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < start + width; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
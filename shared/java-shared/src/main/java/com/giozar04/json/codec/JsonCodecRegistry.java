@@ -0,0 +1,53 @@
+package com.giozar04.json.codec;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.giozar04.accounts.application.codecs.AccountJsonCodec;
+import com.giozar04.card.application.codecs.CardJsonCodec;
+import com.giozar04.transactions.application.codecs.TransactionJsonCodec;
+
+/**
+ * Registro de códecs especializados por entidad.
+ *
+ * - Al escribir, JsonWriter busca el códec por la clase exacta del valor.
+ * - Al leer un mensaje, JsonMessageCodec busca el códec por el nombre del campo de data
+ *   ("transaction", "transactions", ...) y entrega la entidad o la lista ya construidas.
+ *
+ * Las entidades del proyecto viven en este mismo módulo, así que sus códecs se registran aquí
+ * y cliente y servidor los usan sin inicialización adicional.
+ */
+public final class JsonCodecRegistry {
+
+    private static final Map<Class<?>, JsonEntityCodec<?>> BY_TYPE = new ConcurrentHashMap<>();
+    private static final Map<String, JsonEntityCodec<?>> BY_DATA_FIELD = new ConcurrentHashMap<>();
+
+    static {
+        register(TransactionJsonCodec.getInstance(), "transaction", "transactions");
+        register(AccountJsonCodec.getInstance(), "account", "accounts");
+        register(CardJsonCodec.getInstance(), "card", "cards");
+    }
+
+    private JsonCodecRegistry() {
+    }
+
+    /**
+     * Registra un códec para su tipo y para los campos de Message.data que contienen esa entidad
+     * (un objeto) o una lista de ellas (un arreglo).
+     */
+    public static void register(JsonEntityCodec<?> codec, String... dataFields) {
+        BY_TYPE.put(codec.getType(), codec);
+        for (String field : dataFields) {
+            BY_DATA_FIELD.put(field, codec);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> JsonEntityCodec<T> forType(Class<T> type) {
+        return (JsonEntityCodec<T>) BY_TYPE.get(type);
+    }
+
+    public static JsonEntityCodec<?> forDataField(String field) {
+        return BY_DATA_FIELD.get(field);
+    }
+}
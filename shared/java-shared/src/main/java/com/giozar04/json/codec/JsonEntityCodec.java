@@ -0,0 +1,213 @@
+package com.giozar04.json.codec;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.giozar04.shared.utils.SharedUtils;
+
+/**
+ * Códec especializado que escribe una entidad directamente en el JsonWriter y la lee
+ * directamente del JsonReader, sin pasar por un Map intermedio ni por reflexión.
+ *
+ * Los nombres de campo y las conversiones deben coincidir con los de XxxUtils.toMap/fromMap
+ * para que ambos formatos sigan siendo intercambiables. El códec escribe y lee a través de
+ * ValueWriter/ValueReader, así que también sirve para el protocolo binario.
+ *
+ * @param <T> Tipo de la entidad.
+ */
+public abstract class JsonEntityCodec<T> {
+
+    private final Class<T> type;
+
+    protected JsonEntityCodec(Class<T> type) {
+        this.type = type;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Escribe la entidad como un objeto JSON.
+     */
+    public abstract void write(ValueWriter writer, T entity) throws IOException;
+
+    /**
+     * Lee un objeto JSON como entidad. Los campos desconocidos se ignoran. Si algún valor no es
+     * válido (por ejemplo, un enum desconocido) el objeto se consume completo antes de lanzar
+     * la IllegalArgumentException, para que el lector quede en una posición coherente.
+     */
+    public T read(ValueReader reader) {
+        T entity = newEntity();
+        IllegalArgumentException error = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            try {
+                if (!readField(reader, name, entity)) {
+                    reader.skipValue();
+                }
+            } catch (IllegalArgumentException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+        reader.endObject();
+        if (error != null) {
+            throw error;
+        }
+        complete(entity);
+        return entity;
+    }
+
+    /**
+     * Lee un arreglo de objetos JSON como lista de entidades. Los null se conservan. Igual que
+     * en read, el arreglo se consume completo antes de lanzar el primer error de validación.
+     */
+    public List<T> readList(ValueReader reader) {
+        List<T> list = new ArrayList<>();
+        IllegalArgumentException error = null;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                list.add(null);
+                continue;
+            }
+            try {
+                list.add(read(reader));
+            } catch (IllegalArgumentException e) {
+                if (error == null) {
+                    error = e;
+                }
+            }
+        }
+        reader.endArray();
+        if (error != null) {
+            throw error;
+        }
+        return list;
+    }
+
+    /**
+     * Lee el valor de un campo de Message.data: un objeto como entidad, un arreglo como lista
+     * de entidades y cualquier otro valor como árbol genérico.
+     */
+    public Object readValue(ValueReader reader) {
+        return switch (reader.peek()) {
+            case BEGIN_OBJECT -> read(reader);
+            case BEGIN_ARRAY -> readList(reader);
+            default -> reader.readValue();
+        };
+    }
+
+    protected abstract T newEntity();
+
+    /**
+     * Lee el valor del campo indicado sobre la entidad.
+     *
+     * @return false si el campo no pertenece a la entidad; el valor se descarta.
+     */
+    protected abstract boolean readField(ValueReader reader, String name, T entity);
+
+    /**
+     * Aplica los valores por defecto de fromMap a los campos que no llegaron.
+     */
+    protected void complete(T entity) {
+    }
+
+    // ------------------------------------------------------------------
+    // Lectura tolerante con las mismas reglas que SharedUtils
+    // ------------------------------------------------------------------
+
+    /**
+     * @return El valor como texto, o null si es null. Los objetos y arreglos se descartan.
+     */
+    protected static String readString(ValueReader reader) {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+            reader.skipValue();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    /**
+     * @return El texto, o null si es null o la cadena "null".
+     */
+    protected static String readText(ValueReader reader) {
+        String value = readString(reader);
+        return value == null || "null".equals(value) ? null : value;
+    }
+
+    protected static long readLong(ValueReader reader) {
+        if (reader.peek() == JsonToken.NUMBER) {
+            return reader.nextNumber().longValue();
+        }
+        return SharedUtils.parseLong(readString(reader));
+    }
+
+    protected static Long readNullableLong(ValueReader reader) {
+        if (reader.peek() == JsonToken.NUMBER) {
+            return reader.nextNumber().longValue();
+        }
+        return SharedUtils.parseNullableLong(readString(reader));
+    }
+
+    protected static double readDouble(ValueReader reader) {
+        if (reader.peek() == JsonToken.NUMBER) {
+            return reader.nextNumber().doubleValue();
+        }
+        return SharedUtils.parseDouble(readString(reader));
+    }
+
+    protected static Double readNullableDouble(ValueReader reader) {
+        if (reader.peek() == JsonToken.NUMBER) {
+            return reader.nextNumber().doubleValue();
+        }
+        return SharedUtils.parseNullableDouble(readString(reader));
+    }
+
+    protected static Integer readNullableInt(ValueReader reader) {
+        if (reader.peek() == JsonToken.NUMBER) {
+            return reader.nextNumber().intValue();
+        }
+        return SharedUtils.parseNullableInt(readString(reader));
+    }
+
+    /**
+     * @return El número exacto, o null si es null. Un texto no numérico lanza NumberFormatException.
+     */
+    protected static BigDecimal readBigDecimal(ValueReader reader) {
+        if (reader.peek() == JsonToken.NUMBER) {
+            return reader.nextBigDecimal();
+        }
+        String value = readString(reader);
+        return value == null ? null : new BigDecimal(value);
+    }
+
+    /**
+     * @return La fecha, o la fecha actual si es null o no es válida (igual que SharedUtils).
+     */
+    protected static ZonedDateTime readDateTime(ValueReader reader) {
+        ZonedDateTime parsed = reader.nextDateTime();
+        return parsed != null ? parsed : ZonedDateTime.now();
+    }
+
+    // ------------------------------------------------------------------
+    // Escritura
+    // ------------------------------------------------------------------
+
+    /**
+     * Escribe la fecha con el formato de SharedUtils; si es null el campo se omite, como en toMap.
+     */
+    protected static void writeDateTime(ValueWriter writer, String name, ZonedDateTime value) throws IOException {
+        if (value != null) {
+            writer.name(name).value(value);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.giozar04.json.codec;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.giozar04.messages.domain.models.Message;
+
+/**
+ * Convierte mensajes del protocolo a JSON y viceversa usando JsonReader/JsonWriter.
+ * Formato: {"type":"...","content":"...","status":"...","requestId":"...","data":{...}}
+ * requestId solo se escribe si el mensaje lo lleva.
+ */
+public final class JsonMessageCodec {
+
+    private JsonMessageCodec() {
+    }
+
+    /**
+     * Escribe el mensaje completo en el writer.
+     */
+    public static void write(JsonWriter writer, Message message) throws IOException {
+        writer.beginObject();
+        writer.name("type").value(message.getType() == null ? "" : message.getType());
+        writer.name("content").value(message.getContent() == null ? "" : message.getContent());
+        writer.name("status").value(message.getStatus() == null ? "PENDING" : message.getStatus().name());
+        if (message.getRequestId() != null) {
+            writer.name("requestId").value(message.getRequestId());
+        }
+        writer.name("data").value((Object) message.getData());
+        writer.endObject();
+    }
+
+    /**
+     * Lee el siguiente mensaje del lector. Los campos desconocidos se ignoran y un estado
+     * inválido se interpreta como PENDING.
+     */
+    public static Message read(JsonReader reader) {
+        Message message = new Message();
+        message.setStatus(Message.Status.PENDING);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "type" -> message.setType(reader.nextString());
+                case "content" -> message.setContent(reader.nextString());
+                case "status" -> message.setStatus(parseStatus(reader.nextString()));
+                case "requestId" -> message.setRequestId(reader.nextString());
+                case "data" -> {
+                    if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        message.setData(readData(reader));
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return message;
+    }
+
+    /**
+     * Lee el objeto data. Los campos con un códec registrado se leen directamente como entidad
+     * o lista de entidades; si la entidad no es válida el campo queda en null y el controlador
+     * responde como si no se hubieran enviado los datos.
+     */
+    private static Map<String, Object> readData(JsonReader reader) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            JsonEntityCodec<?> codec = JsonCodecRegistry.forDataField(name);
+            if (codec == null) {
+                data.put(name, reader.readValue());
+                continue;
+            }
+            try {
+                data.put(name, codec.readValue(reader));
+            } catch (IllegalArgumentException e) {
+                data.put(name, null);
+            }
+        }
+        reader.endObject();
+        return data;
+    }
+
+    private static Message.Status parseStatus(String value) {
+        if (value == null) {
+            return Message.Status.PENDING;
+        }
+        try {
+            return Message.Status.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            return Message.Status.PENDING;
+        }
+    }
+}
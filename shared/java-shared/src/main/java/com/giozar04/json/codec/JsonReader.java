@@ -0,0 +1,636 @@
+package com.giozar04.json.codec;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.giozar04.json.domain.exceptions.JsonExceptions.ParseException;
+
+/**
+ * Lector JSON de una sola pasada.
+ *
+ * Lee token a token desde un Reader o un CharSequence/CharBuffer sin cargar el documento
+ * completo ni crear cadenas intermedias: los textos se copian una sola vez al String final
+ * y los números se convierten directamente desde el búfer a Long o BigDecimal.
+ * Después de un documento puede leerse el siguiente, lo que permite consumir un flujo
+ * de mensajes separados por saltos de línea.
+ */
+public final class JsonReader implements ValueReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    // Estados de la pila de contenedores
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    // Origen: un Reader o una secuencia de caracteres
+    private final Reader reader;
+    private final CharSequence sequence;
+    private int sequenceOffset;
+    private final int sequenceEnd;
+
+    private char[] buffer;
+    private int pos;
+    private int limit;
+    // Caracteres descartados antes del búfer actual, para reportar posiciones
+    private long consumed;
+
+    private int[] stack = new int[32];
+    private int depth;
+    private JsonToken peeked;
+
+    // Solo se usa cuando un texto tiene escapes o cruza el límite del búfer
+    private final StringBuilder scratch = new StringBuilder();
+
+    public JsonReader(Reader reader) {
+        this.reader = reader;
+        this.sequence = null;
+        this.sequenceEnd = 0;
+        this.buffer = new char[BUFFER_SIZE];
+        push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * Lee desde una secuencia de caracteres. Si es un CharBuffer con arreglo accesible se
+     * recorre el arreglo directamente, sin copiarlo.
+     */
+    public JsonReader(CharSequence input) {
+        this.reader = null;
+        if (input instanceof CharBuffer charBuffer && charBuffer.hasArray()) {
+            this.sequence = null;
+            this.sequenceEnd = 0;
+            this.buffer = charBuffer.array();
+            this.pos = charBuffer.arrayOffset() + charBuffer.position();
+            this.limit = charBuffer.arrayOffset() + charBuffer.limit();
+            this.consumed = -pos;
+        } else {
+            this.sequence = input;
+            this.sequenceEnd = input.length();
+            this.buffer = new char[Math.min(BUFFER_SIZE, Math.max(16, sequenceEnd))];
+        }
+        push(EMPTY_DOCUMENT);
+    }
+
+    // ------------------------------------------------------------------
+    // API de lectura
+    // ------------------------------------------------------------------
+
+    /**
+     * @return El tipo del siguiente token, sin consumirlo.
+     */
+    @Override
+    public JsonToken peek() {
+        if (peeked != null) {
+            return peeked;
+        }
+        int scope = stack[depth - 1];
+        int c;
+        switch (scope) {
+            case EMPTY_ARRAY -> {
+                c = nextNonWhitespace();
+                if (c == ']') return peeked = JsonToken.END_ARRAY;
+                stack[depth - 1] = NONEMPTY_ARRAY;
+            }
+            case NONEMPTY_ARRAY -> {
+                c = nextNonWhitespace();
+                if (c == ']') return peeked = JsonToken.END_ARRAY;
+                if (c != ',') throw syntaxError("Se esperaba ',' o ']' en el arreglo");
+                c = nextNonWhitespace();
+            }
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                c = nextNonWhitespace();
+                if (c == '}') return peeked = JsonToken.END_OBJECT;
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') throw syntaxError("Se esperaba ',' o '}' en el objeto");
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') throw syntaxError("Se esperaba el nombre de un campo");
+                stack[depth - 1] = DANGLING_NAME;
+                return peeked = JsonToken.NAME;
+            }
+            case DANGLING_NAME -> {
+                if (nextNonWhitespace() != ':') throw syntaxError("Se esperaba ':' después del nombre");
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                c = nextNonWhitespace();
+            }
+            default -> {
+                c = nextNonWhitespace();
+                if (c == -1) return peeked = JsonToken.END_DOCUMENT;
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+            }
+        }
+        return peeked = valueToken(c);
+    }
+
+    @Override
+    public void beginObject() {
+        expect(JsonToken.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+        peeked = null;
+    }
+
+    @Override
+    public void endObject() {
+        expect(JsonToken.END_OBJECT);
+        depth--;
+        peeked = null;
+    }
+
+    @Override
+    public void beginArray() {
+        expect(JsonToken.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+        peeked = null;
+    }
+
+    @Override
+    public void endArray() {
+        expect(JsonToken.END_ARRAY);
+        depth--;
+        peeked = null;
+    }
+
+    /**
+     * @return true si el objeto o arreglo actual tiene más elementos.
+     */
+    @Override
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    @Override
+    public String nextName() {
+        expect(JsonToken.NAME);
+        peeked = null;
+        return readString();
+    }
+
+    /**
+     * Lee un texto. Los números y booleanos se devuelven con su representación textual.
+     *
+     * @return El texto, o null si el valor es null.
+     */
+    @Override
+    public String nextString() {
+        JsonToken token = peek();
+        peeked = null;
+        return switch (token) {
+            case STRING -> readString();
+            case NUMBER -> readNumberText();
+            case BOOLEAN -> String.valueOf(readBoolean());
+            case NULL -> {
+                readLiteral("null");
+                yield null;
+            }
+            default -> throw syntaxError("Se esperaba un texto pero se encontró " + token);
+        };
+    }
+
+    /**
+     * Lee un número como Long si es entero y cabe, o como BigDecimal en otro caso.
+     * Acepta también números escritos como texto.
+     *
+     * @return El número, o null si el valor es null.
+     */
+    @Override
+    public Number nextNumber() {
+        JsonToken token = peek();
+        peeked = null;
+        return switch (token) {
+            case NUMBER -> readNumber();
+            case STRING -> parseNumber(readString());
+            case NULL -> {
+                readLiteral("null");
+                yield null;
+            }
+            default -> throw syntaxError("Se esperaba un número pero se encontró " + token);
+        };
+    }
+
+    public long nextLong() {
+        Number number = nextNumber();
+        if (number == null) throw syntaxError("Se esperaba un número pero se encontró null");
+        if (number instanceof Long value) return value;
+        try {
+            return ((BigDecimal) number).longValueExact();
+        } catch (ArithmeticException e) {
+            throw syntaxError("El número " + number + " no es un entero de 64 bits");
+        }
+    }
+
+    @Override
+    public BigDecimal nextBigDecimal() {
+        Number number = nextNumber();
+        if (number == null) return null;
+        return number instanceof BigDecimal value ? value : BigDecimal.valueOf(number.longValue());
+    }
+
+    public boolean nextBoolean() {
+        JsonToken token = peek();
+        peeked = null;
+        if (token == JsonToken.BOOLEAN) return readBoolean();
+        if (token == JsonToken.STRING) return Boolean.parseBoolean(readString());
+        throw syntaxError("Se esperaba un booleano pero se encontró " + token);
+    }
+
+    @Override
+    public void nextNull() {
+        expect(JsonToken.NULL);
+        peeked = null;
+        readLiteral("null");
+    }
+
+    /**
+     * Lee la fecha de un texto. Los objetos y arreglos se descartan.
+     */
+    @Override
+    public ZonedDateTime nextDateTime() {
+        JsonToken token = peek();
+        if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+            skipValue();
+            return null;
+        }
+        String text = nextString();
+        if (text == null) return null;
+        ZonedDateTime parsed = IsoZonedDateTime.parse(text);
+        if (parsed != null) return parsed;
+        try {
+            return ZonedDateTime.parse(text, DateTimeFormatter.ISO_ZONED_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Descarta el siguiente valor completo, incluidos objetos y arreglos anidados.
+     */
+    @Override
+    public void skipValue() {
+        int level = 0;
+        do {
+            JsonToken token = peek();
+            switch (token) {
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    level++;
+                }
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    level++;
+                }
+                case END_OBJECT -> {
+                    endObject();
+                    level--;
+                }
+                case END_ARRAY -> {
+                    endArray();
+                    level--;
+                }
+                case NAME -> nextName();
+                case STRING -> nextString();
+                case NUMBER -> {
+                    peeked = null;
+                    skipNumber();
+                }
+                case BOOLEAN -> nextBoolean();
+                case NULL -> nextNull();
+                case END_DOCUMENT -> throw syntaxError("Fin de documento inesperado");
+            }
+        } while (level > 0);
+    }
+
+    /**
+     * Lee el siguiente valor completo como árbol: objetos como LinkedHashMap, arreglos como
+     * ArrayList, números como Long o BigDecimal, booleanos como Boolean y null como null.
+     */
+    @Override
+    public Object readValue() {
+        return switch (peek()) {
+            case BEGIN_OBJECT -> readObject();
+            case BEGIN_ARRAY -> readArray();
+            case STRING -> nextString();
+            case NUMBER -> nextNumber();
+            case BOOLEAN -> nextBoolean();
+            case NULL -> {
+                nextNull();
+                yield null;
+            }
+            default -> throw syntaxError("Se esperaba un valor pero se encontró " + peeked);
+        };
+    }
+
+    public Map<String, Object> readObject() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        beginObject();
+        while (hasNext()) {
+            String name = nextName();
+            map.put(name, readValue());
+        }
+        endObject();
+        return map;
+    }
+
+    public List<Object> readArray() {
+        List<Object> list = new ArrayList<>();
+        beginArray();
+        while (hasNext()) {
+            list.add(readValue());
+        }
+        endArray();
+        return list;
+    }
+
+    // ------------------------------------------------------------------
+    // Tokenizador
+    // ------------------------------------------------------------------
+
+    private JsonToken valueToken(int c) {
+        switch (c) {
+            case '{':
+                return JsonToken.BEGIN_OBJECT;
+            case '[':
+                return JsonToken.BEGIN_ARRAY;
+            case '"':
+                return JsonToken.STRING;
+            case 't':
+            case 'f':
+                pos--;
+                return JsonToken.BOOLEAN;
+            case 'n':
+                pos--;
+                return JsonToken.NULL;
+            case -1:
+                throw syntaxError("Fin de documento inesperado");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    pos--;
+                    return JsonToken.NUMBER;
+                }
+                throw syntaxError("Carácter inesperado '" + (char) c + "'");
+        }
+    }
+
+    private int nextNonWhitespace() {
+        while (pos < limit || fill()) {
+            char c = buffer[pos++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Carga más caracteres en el búfer, descartando los ya consumidos.
+     *
+     * @return false si no hay más datos.
+     */
+    private boolean fill() {
+        if (reader == null && sequence == null) {
+            return false;
+        }
+        consumed += limit;
+        pos = 0;
+        limit = 0;
+        if (reader != null) {
+            try {
+                int read = reader.read(buffer, 0, buffer.length);
+                if (read <= 0) return false;
+                limit = read;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        int count = Math.min(buffer.length, sequenceEnd - sequenceOffset);
+        if (count <= 0) return false;
+        if (sequence instanceof String text) {
+            text.getChars(sequenceOffset, sequenceOffset + count, buffer, 0);
+        } else {
+            for (int i = 0; i < count; i++) {
+                buffer[i] = sequence.charAt(sequenceOffset + i);
+            }
+        }
+        sequenceOffset += count;
+        limit = count;
+        return true;
+    }
+
+    /**
+     * Lee un texto cuya comilla inicial ya se consumió.
+     */
+    private String readString() {
+        // Camino rápido: el texto completo está en el búfer y no tiene escapes
+        int start = pos;
+        for (int i = pos; i < limit; i++) {
+            char c = buffer[i];
+            if (c == '"') {
+                pos = i + 1;
+                return new String(buffer, start, i - start);
+            }
+            if (c == '\\') {
+                break;
+            }
+        }
+
+        scratch.setLength(0);
+        while (true) {
+            start = pos;
+            while (pos < limit) {
+                char c = buffer[pos++];
+                if (c == '"') {
+                    scratch.append(buffer, start, pos - start - 1);
+                    return scratch.toString();
+                }
+                if (c == '\\') {
+                    scratch.append(buffer, start, pos - start - 1);
+                    scratch.append(readEscape());
+                    start = pos;
+                }
+            }
+            scratch.append(buffer, start, pos - start);
+            if (!fill()) {
+                throw syntaxError("Texto sin cerrar");
+            }
+        }
+    }
+
+    private char readEscape() {
+        int c = nextChar();
+        switch (c) {
+            case '"': return '"';
+            case '\\': return '\\';
+            case '/': return '/';
+            case 'b': return '\b';
+            case 'f': return '\f';
+            case 'n': return '\n';
+            case 'r': return '\r';
+            case 't': return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(nextChar(), 16);
+                    if (digit < 0) throw syntaxError("Escape \\u inválido");
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw syntaxError("Escape inválido '\\" + (char) c + "'");
+        }
+    }
+
+    private int nextChar() {
+        if (pos < limit || fill()) {
+            return buffer[pos++];
+        }
+        throw syntaxError("Fin de documento inesperado");
+    }
+
+    private Number readNumber() {
+        int start = pos;
+        int end = scanNumber(start);
+        if (end < limit) {
+            pos = end;
+            return toNumber(buffer, start, end - start);
+        }
+        // El número cruza el límite del búfer
+        String text = readNumberAcrossBuffers(start);
+        return toNumber(text.toCharArray(), 0, text.length());
+    }
+
+    private String readNumberText() {
+        int start = pos;
+        int end = scanNumber(start);
+        if (end < limit) {
+            pos = end;
+            return new String(buffer, start, end - start);
+        }
+        return readNumberAcrossBuffers(start);
+    }
+
+    private void skipNumber() {
+        readNumberText();
+    }
+
+    private String readNumberAcrossBuffers(int start) {
+        scratch.setLength(0);
+        scratch.append(buffer, start, limit - start);
+        pos = limit;
+        while (fill()) {
+            int end = scanNumber(0);
+            scratch.append(buffer, 0, end);
+            pos = end;
+            if (end < limit) break;
+        }
+        return scratch.toString();
+    }
+
+    private int scanNumber(int from) {
+        int i = from;
+        while (i < limit && isNumberChar(buffer[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isNumberChar(char c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    private Number toNumber(char[] chars, int offset, int length) {
+        boolean negative = length > 0 && chars[offset] == '-';
+        int digitsStart = negative ? offset + 1 : offset;
+        int digits = offset + length - digitsStart;
+        // Enteros de hasta 18 dígitos: conversión directa sin objetos intermedios
+        if (digits > 0 && digits <= 18) {
+            long value = 0;
+            boolean integral = true;
+            for (int i = digitsStart; i < offset + length; i++) {
+                char c = chars[i];
+                if (c < '0' || c > '9') {
+                    integral = false;
+                    break;
+                }
+                value = value * 10 + (c - '0');
+            }
+            if (integral) {
+                return negative ? -value : value;
+            }
+        }
+        try {
+            BigDecimal decimal = new BigDecimal(chars, offset, length);
+            if (decimal.scale() <= 0) {
+                try {
+                    return decimal.longValueExact();
+                } catch (ArithmeticException ignored) {
+                    // No cabe en un long
+                }
+            }
+            return decimal;
+        } catch (NumberFormatException e) {
+            throw syntaxError("Número inválido '" + new String(chars, offset, length) + "'");
+        }
+    }
+
+    private Number parseNumber(String text) {
+        if (text == null || text.isBlank()) return null;
+        return toNumber(text.toCharArray(), 0, text.length());
+    }
+
+    private boolean readBoolean() {
+        if (pos < limit || fill()) {
+            if (buffer[pos] == 't') {
+                readLiteral("true");
+                return true;
+            }
+        }
+        readLiteral("false");
+        return false;
+    }
+
+    private void readLiteral(String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (nextChar() != literal.charAt(i)) {
+                throw syntaxError("Se esperaba '" + literal + "'");
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Utilidades
+    // ------------------------------------------------------------------
+
+    private void expect(JsonToken expected) {
+        JsonToken token = peek();
+        if (token != expected) {
+            throw syntaxError("Se esperaba " + expected + " pero se encontró " + token);
+        }
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = scope;
+    }
+
+    private ParseException syntaxError(String message) {
+        return new ParseException(message + " (posición " + (consumed + pos) + ")");
+    }
+}
@@ -0,0 +1,17 @@
+package com.giozar04.json.codec;
+
+/**
+ * Tipos de token que produce JsonReader.
+ */
+public enum JsonToken {
+    BEGIN_OBJECT,
+    END_OBJECT,
+    BEGIN_ARRAY,
+    END_ARRAY,
+    NAME,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    NULL,
+    END_DOCUMENT
+}
@@ -0,0 +1,264 @@
+package com.giozar04.json.codec;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Escritor JSON que escribe directamente sobre un Writer (por ejemplo, el del socket)
+ * sin construir el documento en memoria. Los textos se escapan correctamente.
+ */
+public final class JsonWriter implements ValueWriter, Flushable {
+
+    private static final int DOCUMENT = 0;
+    private static final int EMPTY_OBJECT = 1;
+    private static final int NONEMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int EMPTY_ARRAY = 4;
+    private static final int NONEMPTY_ARRAY = 5;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer out;
+    private int[] stack = new int[32];
+    private int depth;
+    private char[] dateBuffer;
+
+    public JsonWriter(Writer out) {
+        this.out = out;
+        stack[depth++] = DOCUMENT;
+    }
+
+    @Override
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        out.write('{');
+        return this;
+    }
+
+    @Override
+    public JsonWriter endObject() throws IOException {
+        int scope = stack[depth - 1];
+        if (scope != EMPTY_OBJECT && scope != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("No hay un objeto abierto para cerrar");
+        }
+        depth--;
+        out.write('}');
+        return this;
+    }
+
+    @Override
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        out.write('[');
+        return this;
+    }
+
+    @Override
+    public JsonWriter endArray() throws IOException {
+        int scope = stack[depth - 1];
+        if (scope != EMPTY_ARRAY && scope != NONEMPTY_ARRAY) {
+            throw new IllegalStateException("No hay un arreglo abierto para cerrar");
+        }
+        depth--;
+        out.write(']');
+        return this;
+    }
+
+    @Override
+    public JsonWriter name(String name) throws IOException {
+        int scope = stack[depth - 1];
+        if (scope == NONEMPTY_OBJECT) {
+            out.write(',');
+        } else if (scope != EMPTY_OBJECT) {
+            throw new IllegalStateException("Un nombre solo puede escribirse dentro de un objeto");
+        }
+        writeString(name);
+        out.write(':');
+        stack[depth - 1] = DANGLING_NAME;
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) return nullValue();
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        out.write(Long.toString(value));
+        return this;
+    }
+
+    @Override
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Escribe un número. NaN e infinito no existen en JSON y se escriben como null.
+     */
+    @Override
+    public JsonWriter value(Number value) throws IOException {
+        if (value == null) return nullValue();
+        if (value instanceof Double number && (number.isNaN() || number.isInfinite())) return nullValue();
+        if (value instanceof Float number && (number.isNaN() || number.isInfinite())) return nullValue();
+        beforeValue();
+        out.write(value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString());
+        return this;
+    }
+
+    /**
+     * Escribe la fecha como texto ISO_ZONED_DATE_TIME, el formato de SharedUtils, sin crear el
+     * String intermedio de DateTimeFormatter.
+     */
+    @Override
+    public JsonWriter value(ZonedDateTime value) throws IOException {
+        if (value == null) return nullValue();
+        if (dateBuffer == null) {
+            dateBuffer = new char[IsoZonedDateTime.MAX_FIXED_LENGTH];
+        }
+        int length = IsoZonedDateTime.formatWithoutZone(value, dateBuffer);
+        if (length < 0) {
+            return value(value.format(DateTimeFormatter.ISO_ZONED_DATE_TIME));
+        }
+        beforeValue();
+        out.write('"');
+        out.write(dateBuffer, 0, length);
+        String region = IsoZonedDateTime.regionId(value);
+        if (region != null) {
+            // Los identificadores de zona no contienen caracteres que requieran escape
+            out.write('[');
+            out.write(region);
+            out.write(']');
+        }
+        out.write('"');
+        return this;
+    }
+
+    @Override
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        out.write("null");
+        return this;
+    }
+
+    /**
+     * Escribe cualquier valor: mapas como objetos, iterables como arreglos, números y booleanos
+     * con su tipo, entidades con su códec registrado en JsonCodecRegistry y el resto con su
+     * representación textual.
+     */
+    @Override
+    public JsonWriter value(Object value) throws IOException {
+        if (value == null) return nullValue();
+        if (value instanceof String text) return value(text);
+        if (value instanceof Number number) return value(number);
+        if (value instanceof Boolean bool) return value(bool.booleanValue());
+        if (value instanceof Map<?, ?> map) {
+            beginObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                name(String.valueOf(entry.getKey()));
+                value(entry.getValue());
+            }
+            return endObject();
+        }
+        if (value instanceof Iterable<?> iterable) {
+            beginArray();
+            for (Object element : iterable) {
+                value(element);
+            }
+            return endArray();
+        }
+        @SuppressWarnings("unchecked")
+        JsonEntityCodec<Object> codec = (JsonEntityCodec<Object>) JsonCodecRegistry.forType(value.getClass());
+        if (codec != null) {
+            codec.write(this, value);
+            return this;
+        }
+        return value(value.toString());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    private void beforeValue() throws IOException {
+        switch (stack[depth - 1]) {
+            case DANGLING_NAME -> stack[depth - 1] = NONEMPTY_OBJECT;
+            case EMPTY_ARRAY -> stack[depth - 1] = NONEMPTY_ARRAY;
+            case NONEMPTY_ARRAY -> out.write(',');
+            case DOCUMENT -> {
+                // Varios documentos seguidos: el separador lo escribe quien usa el writer
+            }
+            default -> throw new IllegalStateException("Se esperaba un nombre antes del valor");
+        }
+    }
+
+    /**
+     * Escribe el texto entre comillas copiando por tramos los caracteres que no requieren escape.
+     */
+    private void writeString(String value) throws IOException {
+        out.write('"');
+        int start = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement;
+            if (c == '"') {
+                replacement = "\\\"";
+            } else if (c == '\\') {
+                replacement = "\\\\";
+            } else if (c >= 0x20) {
+                continue;
+            } else if (c == '\n') {
+                replacement = "\\n";
+            } else if (c == '\r') {
+                replacement = "\\r";
+            } else if (c == '\t') {
+                replacement = "\\t";
+            } else if (c == '\b') {
+                replacement = "\\b";
+            } else if (c == '\f') {
+                replacement = "\\f";
+            } else {
+                replacement = null;
+            }
+            if (start < i) {
+                out.write(value, start, i - start);
+            }
+            if (replacement != null) {
+                out.write(replacement);
+            } else {
+                out.write("\\u00");
+                out.write(HEX[c >> 4]);
+                out.write(HEX[c & 0xF]);
+            }
+            start = i + 1;
+        }
+        if (start < length) {
+            out.write(value, start, length - start);
+        }
+        out.write('"');
+    }
+
+    private void push(int scope) {
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = scope;
+    }
+}
@@ -0,0 +1,64 @@
+package com.giozar04.json.codec;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+
+/**
+ * Lectura token a token que usan los códecs de entidad. La implementan JsonReader y el lector
+ * del protocolo binario con las mismas reglas de tolerancia: nextString acepta números y
+ * booleanos, nextNumber acepta números escritos como texto y los enteros llegan como Long.
+ */
+public interface ValueReader {
+
+    /**
+     * @return El tipo del siguiente token, sin consumirlo.
+     */
+    JsonToken peek();
+
+    void beginObject();
+
+    void endObject();
+
+    void beginArray();
+
+    void endArray();
+
+    /**
+     * @return true si el objeto o arreglo actual tiene más elementos.
+     */
+    boolean hasNext();
+
+    String nextName();
+
+    /**
+     * @return El texto, o null si el valor es null.
+     */
+    String nextString();
+
+    /**
+     * @return El número como Long si es entero y cabe, o como BigDecimal; null si el valor es null.
+     */
+    Number nextNumber();
+
+    BigDecimal nextBigDecimal();
+
+    void nextNull();
+
+    /**
+     * Lee una fecha ISO_ZONED_DATE_TIME (el formato de SharedUtils).
+     *
+     * @return La fecha, o null si el valor es null o no es una fecha válida.
+     */
+    ZonedDateTime nextDateTime();
+
+    /**
+     * Descarta el siguiente valor completo, incluidos objetos y arreglos anidados.
+     */
+    void skipValue();
+
+    /**
+     * Lee el siguiente valor completo como árbol: objetos como LinkedHashMap, arreglos como
+     * ArrayList, números como Long o BigDecimal, booleanos como Boolean y null como null.
+     */
+    Object readValue();
+}
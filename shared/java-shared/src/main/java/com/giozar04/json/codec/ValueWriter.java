@@ -0,0 +1,39 @@
+package com.giozar04.json.codec;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+/**
+ * Escritura de valores estructurados (objetos, arreglos y escalares) que usan los códecs de
+ * entidad. La implementan JsonWriter y el escritor del protocolo binario, así que un mismo
+ * JsonEntityCodec sirve para los dos formatos.
+ */
+public interface ValueWriter {
+
+    ValueWriter beginObject() throws IOException;
+
+    ValueWriter endObject() throws IOException;
+
+    ValueWriter beginArray() throws IOException;
+
+    ValueWriter endArray() throws IOException;
+
+    ValueWriter name(String name) throws IOException;
+
+    ValueWriter value(String value) throws IOException;
+
+    ValueWriter value(long value) throws IOException;
+
+    ValueWriter value(boolean value) throws IOException;
+
+    ValueWriter value(Number value) throws IOException;
+
+    ValueWriter value(ZonedDateTime value) throws IOException;
+
+    ValueWriter nullValue() throws IOException;
+
+    /**
+     * Escribe cualquier valor: mapas, iterables, escalares y entidades con códec registrado.
+     */
+    ValueWriter value(Object value) throws IOException;
+}
@@ -0,0 +1,37 @@
+package com.giozar04.json.domain.exceptions;
+
+/**
+ * Excepciones del códec JSON.
+ */
+public class JsonExceptions {
+
+    /**
+     * Excepción base para errores de JSON.
+     */
+    public static class JsonException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public JsonException(String message) {
+            super(message);
+        }
+
+        public JsonException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    /**
+     * Excepción lanzada cuando el texto recibido no es JSON válido.
+     */
+    public static class ParseException extends JsonException {
+        private static final long serialVersionUID = 1L;
+
+        public ParseException(String message) {
+            super(message);
+        }
+
+        public ParseException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
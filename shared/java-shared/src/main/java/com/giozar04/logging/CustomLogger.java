@@ -1,21 +1,61 @@
 package com.giozar04.logging;
 
+import java.io.IOException;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 
 /**
  * Clase para manejar el registro de eventos y mensajes en la aplicación.
  * Proporciona métodos para diferentes niveles de registro.
+ *
+ * El registro es asíncrono: el hilo que registra solo filtra por nivel y publica el mensaje
+ * en un buffer circular sin bloqueos; un único hilo escritor le da formato y lo escribe en
+ * consola y/o en un archivo que se rota por tamaño (ver LoggerConfig). Si el buffer está lleno
+ * el mensaje se descarta en lugar de frenar al hilo que registra; los errores esperan un
+ * momento acotado antes de descartarse. El escritor avisa cuántos mensajes se descartaron.
+ *
+ * Las sobrecargas con Supplier solo construyen el mensaje si el nivel está habilitado.
  */
 public class CustomLogger {
 
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
+    // Espera máxima del escritor sin mensajes antes de vaciar y revisar la configuración
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    // Reintentos acotados de un ERROR con el buffer lleno
+    private static final int ERROR_RETRIES = 20;
+    private static final long ERROR_RETRY_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 2000;
+    private static final int CONSOLE_BATCH_CHARS = 8192;
+
     // Instancia singleton
-    private static final CustomLogger instance = null;
+    private static final CustomLogger instance = new CustomLogger();
+
+    private final LogRingBuffer buffer = new LogRingBuffer(LoggerConfig.bufferSizeFromSystemProperties());
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writerThread;
+
+    private volatile LogLevel level;
+    private volatile LoggerConfig config;
+    private volatile boolean writerIdle;
+    private volatile boolean stopping;
+    private volatile boolean stopped;
 
     // Constructor privado para evitar instanciación externa
-    private CustomLogger() {}
+    private CustomLogger() {
+        this.config = LoggerConfig.fromSystemProperties();
+        this.level = config.getLevel();
+        this.writerThread = new Thread(new LogWriter(), "logger-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "logger-shutdown"));
+    }
 
     /**
      * Obtiene la instancia compartida del logger.
@@ -23,21 +63,92 @@ public class CustomLogger {
      * @return instancia única de CustomLogger
      */
     public static CustomLogger getInstance() {
-        if (instance == null) {
-            return new CustomLogger();
-        }
         return instance;
     }
 
+    /**
+     * Aplica una nueva configuración. El nivel cambia de inmediato; el archivo de registro lo
+     * reabre el hilo escritor antes de escribir los siguientes mensajes.
+     */
+    public void configure(LoggerConfig newConfig) {
+        this.config = newConfig;
+        this.level = newConfig.getLevel();
+        LockSupport.unpark(writerThread);
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public void setLevel(LogLevel newLevel) {
+        configure(new LoggerConfig(newLevel, config.getFile(), config.getMaxFileBytes(),
+                config.getMaxFiles(), config.isConsole()));
+    }
+
+    /**
+     * @return true si los mensajes del nivel indicado se registran.
+     */
+    public boolean isEnabled(LogLevel messageLevel) {
+        return messageLevel.isAtLeast(level);
+    }
+
+    /**
+     * @return Mensajes descartados desde el arranque porque el buffer estaba lleno.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
     /**
      * Registra un mensaje con el nivel especificado.
      *
-     * @param level   El nivel del mensaje.
-     * @param message El mensaje a registrar.
+     * @param messageLevel El nivel del mensaje.
+     * @param message      El mensaje a registrar.
+     * @param error        La excepción asociada (puede ser null).
      */
-    private void log(String level, String message) {
-        String threadName = Thread.currentThread().getName();
-        System.out.println("[" + LocalDateTime.now().format(formatter) + "] [" + threadName + "] [" + level + "] " + message);
+    private void log(LogLevel messageLevel, String message, Throwable error) {
+        LogEvent event = new LogEvent(System.currentTimeMillis(), Thread.currentThread().getName(),
+                messageLevel, message, error);
+        if (stopped) {
+            // El escritor ya terminó (apagado de la JVM): se escribe directamente
+            writeDirect(event);
+            return;
+        }
+        if (!publish(event)) {
+            dropped.incrementAndGet();
+            return;
+        }
+        if (writerIdle) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private boolean publish(LogEvent event) {
+        if (buffer.offer(event)) {
+            return true;
+        }
+        if (event.level() == LogLevel.ERROR) {
+            for (int i = 0; i < ERROR_RETRIES; i++) {
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(ERROR_RETRY_NANOS);
+                if (buffer.offer(event)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void log(LogLevel messageLevel, Supplier<String> message, Throwable error) {
+        if (isEnabled(messageLevel)) {
+            log(messageLevel, message.get(), error);
+        }
+    }
+
+    private void logIfEnabled(LogLevel messageLevel, String message, Throwable error) {
+        if (isEnabled(messageLevel)) {
+            log(messageLevel, message, error);
+        }
     }
 
     /**
@@ -46,7 +157,16 @@ public class CustomLogger {
      * @param message El mensaje a registrar.
      */
     public void info(String message) {
-        log("INFO", message);
+        logIfEnabled(LogLevel.INFO, message, null);
+    }
+
+    /**
+     * Registra un mensaje informativo construido solo si el nivel INFO está habilitado.
+     *
+     * @param message Proveedor del mensaje a registrar.
+     */
+    public void info(Supplier<String> message) {
+        log(LogLevel.INFO, message, null);
     }
 
     /**
@@ -55,25 +175,28 @@ public class CustomLogger {
      * @param message El mensaje a registrar.
      */
     public void error(String message) {
-        log("ERROR", message);
+        logIfEnabled(LogLevel.ERROR, message, null);
     }
 
     /**
-     * Registra un mensaje de error junto con la excepción.
+     * Registra un mensaje de error junto con la excepción. El stack trace completo se escribe
+     * después del mensaje (en consola, por stderr).
      *
      * @param message El mensaje a registrar.
      * @param error   La excepción asociada.
      */
     public void error(String message, Throwable error) {
-        String errorMessage = message + ": " + error.getMessage();
-        log("ERROR", errorMessage);
+        logIfEnabled(LogLevel.ERROR, message, error);
+    }
 
-        // Stack trace completo (en stderr)
-        StringBuilder sb = new StringBuilder();
-        for (StackTraceElement element : error.getStackTrace()) {
-            sb.append("\tat ").append(element.toString()).append("\n");
-        }
-        System.err.println(sb.toString());
+    /**
+     * Registra un mensaje de error construido solo si el nivel ERROR está habilitado.
+     *
+     * @param message Proveedor del mensaje a registrar.
+     * @param error   La excepción asociada (puede ser null).
+     */
+    public void error(Supplier<String> message, Throwable error) {
+        log(LogLevel.ERROR, message, error);
     }
 
     /**
@@ -82,7 +205,7 @@ public class CustomLogger {
      * @param message El mensaje a registrar.
      */
     public void warn(String message) {
-        log("WARN", message);
+        logIfEnabled(LogLevel.WARN, message, null);
     }
 
     /**
@@ -92,19 +215,268 @@ public class CustomLogger {
      * @param error   La excepción asociada (puede ser null).
      */
     public void warn(String message, Throwable error) {
-        if (error != null) {
-            log("WARN", message + ": " + error.getMessage());
-        } else {
-            log("WARN", message);
+        if (isEnabled(LogLevel.WARN)) {
+            log(LogLevel.WARN, error != null ? message + ": " + error.getMessage() : message, null);
         }
     }
 
+    /**
+     * Registra un mensaje de advertencia construido solo si el nivel WARN está habilitado.
+     *
+     * @param message Proveedor del mensaje a registrar.
+     */
+    public void warn(Supplier<String> message) {
+        log(LogLevel.WARN, message, null);
+    }
+
     /**
      * Registra un mensaje de depuración.
      *
      * @param message El mensaje a registrar.
      */
     public void debug(String message) {
-        log("DEBUG", message);
+        logIfEnabled(LogLevel.DEBUG, message, null);
+    }
+
+    /**
+     * Registra un mensaje de depuración construido solo si el nivel DEBUG está habilitado.
+     *
+     * @param message Proveedor del mensaje a registrar.
+     */
+    public void debug(Supplier<String> message) {
+        log(LogLevel.DEBUG, message, null);
+    }
+
+    /**
+     * Vacía el buffer y cierra el archivo de registro. Se ejecuta al apagar la JVM; los
+     * mensajes posteriores se escriben directamente en consola.
+     */
+    private void shutdown() {
+        stopping = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Formato
+    // ------------------------------------------------------------------
+
+    private static void writeDirect(LogEvent event) {
+        try {
+            appendLine(event, new StringBuilder(), new TimestampCache(), System.out, System.err);
+        } catch (IOException e) {
+            // Consola: PrintStream no lanza IOException
+        }
+    }
+
+    /**
+     * Da formato a la línea del evento y la agrega a out; el stack trace, si lo hay, va a
+     * traceOut.
+     */
+    private static void appendLine(LogEvent event, StringBuilder line, TimestampCache timestamps,
+            Appendable out, Appendable traceOut) throws IOException {
+        line.setLength(0);
+        line.append('[').append(timestamps.format(event.timestampMillis())).append("] [")
+                .append(event.threadName()).append("] [")
+                .append(event.level().name()).append("] ")
+                .append(event.message());
+        Throwable error = event.error();
+        if (error != null) {
+            line.append(": ").append(error.getMessage());
+        }
+        line.append(System.lineSeparator());
+        out.append(line);
+
+        if (error != null) {
+            line.setLength(0);
+            for (StackTraceElement element : error.getStackTrace()) {
+                line.append("\tat ").append(element.toString()).append(System.lineSeparator());
+            }
+            line.append(System.lineSeparator());
+            traceOut.append(line);
+        }
+    }
+
+    /** Reutiliza el texto de la hora mientras no cambie el segundo. */
+    private static final class TimestampCache {
+        private final ZoneId zone = ZoneId.systemDefault();
+        private long second = Long.MIN_VALUE;
+        private String text;
+
+        private String format(long timestampMillis) {
+            long eventSecond = Math.floorDiv(timestampMillis, 1000);
+            if (eventSecond != second) {
+                second = eventSecond;
+                text = LocalDateTime.ofInstant(Instant.ofEpochSecond(eventSecond), zone).format(formatter);
+            }
+            return text;
+        }
+    }
+
+    // ------------------------------------------------------------------
+    // Hilo escritor
+    // ------------------------------------------------------------------
+
+    /**
+     * Vacía el buffer por tandas, aplicando antes la configuración nueva si la hay. Al quedarse
+     * sin mensajes vacía la consola y el archivo, informa de los mensajes descartados y espera.
+     */
+    private final class LogWriter implements Runnable {
+        private final StringBuilder line = new StringBuilder(256);
+        private final StringBuilder consoleOut = new StringBuilder(CONSOLE_BATCH_CHARS);
+        private final StringBuilder consoleErr = new StringBuilder();
+        private final TimestampCache timestamps = new TimestampCache();
+
+        private LoggerConfig applied;
+        private RollingFileAppender file;
+        private long reportedDrops;
+
+        @Override
+        public void run() {
+            while (true) {
+                boolean finishing = stopping;
+                if (config != applied) {
+                    flush();
+                    apply(config);
+                }
+                if (drain() > 0) {
+                    continue;
+                }
+
+                reportDrops();
+                flush();
+                if (finishing) {
+                    break;
+                }
+
+                writerIdle = true;
+                if (buffer.isEmpty() && !stopping) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                writerIdle = false;
+            }
+            // Desde aquí log() escribe directamente; lo publicado antes de ver stopped sigue en el buffer
+            stopped = true;
+            drain();
+            reportDrops();
+            close();
+        }
+
+        private int drain() {
+            LogEvent event;
+            int written = 0;
+            while ((event = buffer.poll()) != null) {
+                write(event);
+                written++;
+                if (consoleOut.length() >= CONSOLE_BATCH_CHARS) {
+                    flushConsole();
+                }
+            }
+            return written;
+        }
+
+        private void write(LogEvent event) {
+            try {
+                if (applied.isConsole()) {
+                    appendLine(event, line, timestamps, consoleOut, consoleErr);
+                    if (event.error() != null) {
+                        // Se vacía stdout antes del stack trace para que quede después de su mensaje
+                        flushConsole();
+                    }
+                }
+                if (file != null) {
+                    appendLine(event, line, timestamps, file, file);
+                }
+            } catch (IOException e) {
+                fileFailed(e);
+            }
+        }
+
+        private void reportDrops() {
+            long total = dropped.get();
+            if (total > reportedDrops) {
+                write(new LogEvent(System.currentTimeMillis(), Thread.currentThread().getName(), LogLevel.WARN,
+                        "Se descartaron " + (total - reportedDrops) + " mensajes del registro por saturación del buffer",
+                        null));
+                reportedDrops = total;
+            }
+        }
+
+        private void flush() {
+            if (applied == null) {
+                return;
+            }
+            flushConsole();
+            if (file != null) {
+                try {
+                    file.flush();
+                } catch (IOException e) {
+                    fileFailed(e);
+                }
+            }
+        }
+
+        private void flushConsole() {
+            if (consoleOut.length() > 0) {
+                System.out.print(consoleOut);
+                System.out.flush();
+                consoleOut.setLength(0);
+            }
+            if (consoleErr.length() > 0) {
+                System.err.print(consoleErr);
+                System.err.flush();
+                consoleErr.setLength(0);
+            }
+        }
+
+        private void apply(LoggerConfig newConfig) {
+            LoggerConfig previous = applied;
+            applied = newConfig;
+            if (previous != null && sameFile(previous, newConfig)) {
+                return;
+            }
+            closeFile();
+            if (newConfig.getFile() != null) {
+                try {
+                    file = new RollingFileAppender(newConfig.getFile(), newConfig.getMaxFileBytes(),
+                            newConfig.getMaxFiles());
+                } catch (IOException e) {
+                    System.err.println("No se pudo abrir el archivo de registro " + newConfig.getFile() + ": "
+                            + e.getMessage());
+                }
+            }
+        }
+
+        private boolean sameFile(LoggerConfig a, LoggerConfig b) {
+            return a.getFile() == null ? b.getFile() == null
+                    : a.getFile().equals(b.getFile())
+                            && a.getMaxFileBytes() == b.getMaxFileBytes()
+                            && a.getMaxFiles() == b.getMaxFiles();
+        }
+
+        private void fileFailed(IOException e) {
+            System.err.println("Error escribiendo el archivo de registro, se continúa solo en consola: " + e.getMessage());
+            closeFile();
+        }
+
+        private void closeFile() {
+            if (file != null) {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    // El archivo ya no se usa
+                }
+                file = null;
+            }
+        }
+
+        private void close() {
+            flushConsole();
+            closeFile();
+        }
     }
 }
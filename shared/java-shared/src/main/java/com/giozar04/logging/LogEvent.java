@@ -0,0 +1,8 @@
+package com.giozar04.logging;
+
+/**
+ * Mensaje pendiente de escribir. La hora y el hilo se toman en el hilo que registra; el
+ * formato completo de la línea lo arma el hilo escritor.
+ */
+record LogEvent(long timestampMillis, String threadName, LogLevel level, String message, Throwable error) {
+}
@@ -0,0 +1,35 @@
+package com.giozar04.logging;
+
+/**
+ * Niveles de registro, de menor a mayor severidad. OFF desactiva el registro.
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    /**
+     * @return true si un mensaje de este nivel se registra con el nivel mínimo indicado.
+     */
+    public boolean isAtLeast(LogLevel threshold) {
+        return this != OFF && compareTo(threshold) >= 0;
+    }
+
+    /**
+     * Convierte el texto de configuración en un nivel, sin distinguir mayúsculas.
+     *
+     * @return El nivel, o el valor por defecto si el texto es null, está vacío o no es válido.
+     */
+    public static LogLevel parse(String value, LogLevel defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+}
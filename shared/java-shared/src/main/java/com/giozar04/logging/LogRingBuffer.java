@@ -0,0 +1,87 @@
+package com.giozar04.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Buffer circular acotado sin bloqueos para varios productores y un solo consumidor.
+ *
+ * Cada casilla lleva un número de secuencia: un productor reserva la posición con un CAS sobre
+ * la cola y publica el evento al actualizar la secuencia de su casilla; el consumidor solo lee
+ * casillas ya publicadas y las libera para la siguiente vuelta. Si el buffer está lleno, offer
+ * devuelve false en lugar de esperar.
+ */
+final class LogRingBuffer {
+
+    private final int mask;
+    private final LogEvent[] events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+
+    // Solo lo usa el hilo consumidor
+    private long head;
+
+    /**
+     * @param requestedCapacity Capacidad mínima; se redondea a la siguiente potencia de dos.
+     */
+    LogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.events = new LogEvent[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return events.length;
+    }
+
+    /**
+     * Publica un evento desde cualquier hilo.
+     *
+     * @return false si el buffer está lleno.
+     */
+    boolean offer(LogEvent event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    events[index] = event;
+                    // La escritura volátil de la secuencia publica el evento al consumidor
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Retira el evento más antiguo. Solo debe llamarlo el hilo consumidor.
+     *
+     * @return El evento, o null si no hay ninguno publicado.
+     */
+    LogEvent poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        LogEvent event = events[index];
+        events[index] = null;
+        sequences.set(index, head + events.length);
+        head++;
+        return event;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+}
@@ -0,0 +1,100 @@
+package com.giozar04.logging;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Configuración de CustomLogger.
+ *
+ * Por defecto se lee de las propiedades del sistema, para que cliente y servidor puedan
+ * ajustarla sin archivo de configuración:
+ * - log.level: DEBUG, INFO, WARN, ERROR u OFF (por defecto INFO).
+ * - log.file: archivo de registro; si no se indica, solo se escribe en consola.
+ * - log.maxFileBytes: tamaño a partir del cual se rota el archivo (por defecto 10 MB).
+ * - log.maxFiles: archivos rotados que se conservan (por defecto 5).
+ * - log.console: también escribir en consola (por defecto true).
+ * - log.bufferSize: mensajes que caben en el buffer antes de descartar (por defecto 8192).
+ *   Solo se lee al crear el logger.
+ */
+public final class LoggerConfig {
+
+    public static final LogLevel DEFAULT_LEVEL = LogLevel.INFO;
+    public static final long DEFAULT_MAX_FILE_BYTES = 10L * 1024 * 1024;
+    public static final int DEFAULT_MAX_FILES = 5;
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final LogLevel level;
+    private final Path file;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final boolean console;
+
+    /**
+     * @param level Nivel mínimo que se registra.
+     * @param file Archivo de registro, o null para no escribir en archivo.
+     * @param maxFileBytes Tamaño máximo del archivo antes de rotarlo.
+     * @param maxFiles Archivos rotados que se conservan (archivo.1 ... archivo.N).
+     * @param console true para escribir también en consola.
+     */
+    public LoggerConfig(LogLevel level, Path file, long maxFileBytes, int maxFiles, boolean console) {
+        if (level == null) {
+            throw new IllegalArgumentException("El nivel de registro no puede ser nulo");
+        }
+        if (maxFileBytes <= 0 || maxFiles < 0) {
+            throw new IllegalArgumentException("Los límites de rotación del registro no son válidos");
+        }
+        this.level = level;
+        this.file = file;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        this.console = console;
+    }
+
+    /**
+     * @return La configuración indicada en las propiedades del sistema.
+     */
+    public static LoggerConfig fromSystemProperties() {
+        String file = System.getProperty("log.file");
+        return new LoggerConfig(
+                LogLevel.parse(System.getProperty("log.level"), DEFAULT_LEVEL),
+                file == null || file.isBlank() ? null : Paths.get(file.trim()),
+                parseLong(System.getProperty("log.maxFileBytes"), DEFAULT_MAX_FILE_BYTES),
+                (int) parseLong(System.getProperty("log.maxFiles"), DEFAULT_MAX_FILES),
+                !"false".equalsIgnoreCase(System.getProperty("log.console")));
+    }
+
+    static int bufferSizeFromSystemProperties() {
+        return (int) parseLong(System.getProperty("log.bufferSize"), DEFAULT_BUFFER_SIZE);
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public LogLevel getLevel() {
+        return level;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getMaxFileBytes() {
+        return maxFileBytes;
+    }
+
+    public int getMaxFiles() {
+        return maxFiles;
+    }
+
+    public boolean isConsole() {
+        return console;
+    }
+}
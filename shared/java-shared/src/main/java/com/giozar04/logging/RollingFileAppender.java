@@ -0,0 +1,128 @@
+package com.giozar04.logging;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Archivo de registro que se rota por tamaño: al superar el máximo, archivo pasa a archivo.1,
+ * archivo.1 a archivo.2, y así hasta el número de archivos que se conservan.
+ *
+ * No es seguro entre hilos; solo lo usa el hilo escritor de CustomLogger. El tamaño se mide
+ * sobre los bytes ya vaciados al disco, así que un archivo puede pasarse del máximo por lo que
+ * quepa en el buffer.
+ */
+final class RollingFileAppender implements Appendable, Closeable {
+
+    private final Path file;
+    private final long maxFileBytes;
+    private final int maxFiles;
+
+    private CountingOutputStream bytes;
+    private Writer writer;
+
+    RollingFileAppender(Path file, long maxFileBytes, int maxFiles) throws IOException {
+        this.file = file;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = maxFiles;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        open();
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    @Override
+    public RollingFileAppender append(CharSequence text) throws IOException {
+        writer.append(text);
+        if (bytes.count >= maxFileBytes) {
+            rotate();
+        }
+        return this;
+    }
+
+    @Override
+    public RollingFileAppender append(CharSequence text, int start, int end) throws IOException {
+        return append(text.subSequence(start, end));
+    }
+
+    @Override
+    public RollingFileAppender append(char c) throws IOException {
+        writer.append(c);
+        return this;
+    }
+
+    void flush() throws IOException {
+        writer.flush();
+        if (bytes.count >= maxFileBytes) {
+            rotate();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private void open() throws IOException {
+        OutputStream stream = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        bytes = new CountingOutputStream(stream, Files.size(file));
+        writer = new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8));
+    }
+
+    private void rotate() throws IOException {
+        writer.close();
+        if (maxFiles == 0) {
+            Files.deleteIfExists(file);
+        } else {
+            Files.deleteIfExists(rotated(maxFiles));
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path source = rotated(i);
+                if (Files.exists(source)) {
+                    Files.move(source, rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path rotated(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    /** Cuenta los bytes que llegan al archivo para decidir cuándo rotarlo. */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out, long initialCount) {
+            super(out);
+            this.count = initialCount;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
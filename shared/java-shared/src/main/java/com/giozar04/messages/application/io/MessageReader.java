@@ -0,0 +1,263 @@
+package com.giozar04.messages.application.io;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import com.giozar04.binary.codec.BinaryMessageCodec;
+import com.giozar04.binary.codec.BinaryReader;
+import com.giozar04.binary.codec.MessageOpcodes;
+import com.giozar04.binary.domain.exceptions.BinaryExceptions.DecodeException;
+import com.giozar04.json.utils.JsonUtils;
+import com.giozar04.messages.domain.enums.WireProtocol;
+import com.giozar04.messages.domain.models.Message;
+
+/**
+ * Lee los mensajes de un socket en el protocolo acordado: líneas JSON al inicio y, después de
+ * negociarlo, tramas binarias con prefijo de longitud. Lee bytes directamente (sin un Reader
+ * con búfer de caracteres) para poder cambiar de protocolo entre un mensaje y el siguiente.
+ * Con compresión negociada acepta además bloques deflate en lugar de cualquier mensaje (ver
+ * MessageCompression).
+ *
+ * Solo lo usa el hilo lector de la conexión.
+ */
+public final class MessageReader implements Closeable {
+
+    // Una línea o trama que supere este tamaño cierra la conexión
+    public static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+    // Búferes más grandes que esto se liberan al terminar el mensaje
+    private static final int RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    // Bytes leídos del socket y aún no consumidos: input[inputPos, inputLimit)
+    private final byte[] input = new byte[64 * 1024];
+    private int inputPos;
+    private int inputLimit;
+    // Mensaje que cruza el límite de input, o trama binaria completa
+    private byte[] buffer = new byte[8192];
+    // Mensaje descomprimido de un bloque deflate
+    private byte[] inflated;
+    private WireProtocol protocol = WireProtocol.JSON;
+    private MessageOpcodes opcodes = MessageOpcodes.EMPTY;
+    private MessageCompression compression = MessageCompression.NONE;
+
+    public MessageReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Lee el siguiente mensaje completo.
+     *
+     * @return El mensaje, o null si el otro extremo cerró la conexión.
+     * @throws IOException Si la conexión falla, se corta a mitad de un mensaje o el mensaje
+     *                     excede MAX_FRAME_SIZE.
+     * @throws com.giozar04.json.domain.exceptions.JsonExceptions.JsonException Si la línea no es
+     *         JSON válido; la siguiente lectura continúa con el mensaje que sigue.
+     * @throws com.giozar04.binary.domain.exceptions.BinaryExceptions.BinaryException Si la trama
+     *         o el bloque comprimido no son válidos; la siguiente lectura continúa con el mensaje
+     *         que sigue.
+     */
+    public Message read() throws IOException {
+        try {
+            if (protocol == WireProtocol.BINARY) {
+                return readFrame();
+            }
+            return compression.isEnabled() && startsBlock() ? readLineBlock() : readLine();
+        } finally {
+            if (buffer.length > RETAINED_BUFFER_SIZE) {
+                buffer = new byte[8192];
+            }
+            if (inflated != null && inflated.length > RETAINED_BUFFER_SIZE) {
+                inflated = null;
+            }
+        }
+    }
+
+    /**
+     * Cambia el protocolo y la compresión a partir del siguiente mensaje.
+     */
+    public void switchTo(WireProtocol protocol, MessageOpcodes opcodes, MessageCompression compression) {
+        this.protocol = protocol;
+        this.opcodes = opcodes;
+        this.compression = compression;
+    }
+
+    public WireProtocol getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * Lee hasta el siguiente salto de línea. Si la línea completa ya está en input se decodifica
+     * desde ahí; si no, se acumula en buffer.
+     */
+    private Message readLine() throws IOException {
+        int length = 0;
+        while (true) {
+            if (inputPos == inputLimit && !fill()) {
+                if (length == 0) return null;
+                return decodeLine(buffer, 0, length);
+            }
+            int newline = indexOfNewline();
+            if (newline >= 0) {
+                int start = inputPos;
+                inputPos = newline + 1;
+                if (length == 0) {
+                    return decodeLine(input, start, newline - start);
+                }
+                append(length, start, newline - start);
+                return decodeLine(buffer, 0, length + newline - start);
+            }
+            append(length, inputPos, inputLimit - inputPos);
+            length += inputLimit - inputPos;
+            inputPos = inputLimit;
+        }
+    }
+
+    private Message decodeLine(byte[] bytes, int offset, int length) {
+        if (length > 0 && bytes[offset + length - 1] == '\r') {
+            length--;
+        }
+        return JsonUtils.jsonToMessage(new String(bytes, offset, length, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return true si lo que sigue es un bloque comprimido y no una línea JSON.
+     */
+    private boolean startsBlock() throws IOException {
+        return (inputPos < inputLimit || fill()) && (input[inputPos] & 0x80) != 0;
+    }
+
+    private Message readLineBlock() throws IOException {
+        int length = inflateBlock(readInt());
+        return decodeLine(inflated, 0, length);
+    }
+
+    private Message readFrame() throws IOException {
+        if (inputPos == inputLimit && !fill()) return null;
+        int header = readInt();
+        if ((header & MessageCompression.COMPRESSED_FLAG) != 0 && compression.isEnabled()) {
+            int length = inflateBlock(header);
+            return BinaryMessageCodec.read(new BinaryReader(inflated, 0, length), opcodes);
+        }
+        int length = checkLength(header, "Trama");
+        int start = readFully(length);
+        return BinaryMessageCodec.read(new BinaryReader(start >= 0 ? input : buffer, Math.max(start, 0), length),
+                opcodes);
+    }
+
+    /**
+     * Lee el resto de un bloque comprimido y lo descomprime en inflated. Si los datos no son un
+     * deflate válido del tamaño declarado se descartan (el bloque ya se leyó completo).
+     *
+     * @return Longitud del mensaje descomprimido.
+     */
+    private int inflateBlock(int header) throws IOException {
+        int length = checkLength(header & ~MessageCompression.COMPRESSED_FLAG, "Bloque comprimido");
+        int originalLength = checkLength(readInt(), "Mensaje comprimido");
+        int start = readFully(length);
+        byte[] data = start >= 0 ? input : buffer;
+        // Un byte de más para detectar datos que descomprimen a más de lo declarado
+        if (inflated == null || inflated.length <= originalLength) {
+            inflated = new byte[Math.max(originalLength + 1, 8192)];
+        }
+        Inflater inflater = MessageCompression.acquireInflater();
+        try {
+            inflater.setInput(data, Math.max(start, 0), length);
+            int size = 0;
+            while (!inflater.finished() && size <= originalLength) {
+                int read = inflater.inflate(inflated, size, originalLength + 1 - size);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                size += read;
+            }
+            if (!inflater.finished() || size != originalLength) {
+                throw new DecodeException("El bloque comprimido no corresponde al tamaño declarado de "
+                        + originalLength + " bytes");
+            }
+            return size;
+        } catch (DataFormatException e) {
+            throw new DecodeException("Bloque comprimido inválido: " + e.getMessage(), e);
+        } finally {
+            MessageCompression.release(inflater);
+        }
+    }
+
+    private int checkLength(int length, String what) throws IOException {
+        if (length < 0 || length > MAX_FRAME_SIZE) {
+            throw new IOException(what + " de " + Integer.toUnsignedString(length)
+                    + " bytes excede el tamaño máximo de " + MAX_FRAME_SIZE + " bytes");
+        }
+        return length;
+    }
+
+    /**
+     * Consume los siguientes length bytes. Si ya están completos en input no se copian.
+     *
+     * @return Su posición en input, o -1 si quedaron en buffer[0, length).
+     */
+    private int readFully(int length) throws IOException {
+        int buffered = Math.min(length, inputLimit - inputPos);
+        if (buffered == length) {
+            int start = inputPos;
+            inputPos += length;
+            return start;
+        }
+        if (length > buffer.length) {
+            buffer = new byte[length];
+        }
+        System.arraycopy(input, inputPos, buffer, 0, buffered);
+        inputPos += buffered;
+        if (in.readNBytes(buffer, buffered, length - buffered) < length - buffered) {
+            throw new EOFException("Conexión cerrada a mitad de una trama");
+        }
+        return -1;
+    }
+
+    private int readInt() throws IOException {
+        return (readByte() << 24) | (readByte() << 16) | (readByte() << 8) | readByte();
+    }
+
+    private int readByte() throws IOException {
+        if (inputPos == inputLimit && !fill()) {
+            throw new EOFException("Conexión cerrada a mitad de una trama");
+        }
+        return input[inputPos++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(input, 0, input.length);
+        if (read <= 0) return false;
+        inputPos = 0;
+        inputLimit = read;
+        return true;
+    }
+
+    private int indexOfNewline() {
+        for (int i = inputPos; i < inputLimit; i++) {
+            if (input[i] == '\n') return i;
+        }
+        return -1;
+    }
+
+    private void append(int length, int from, int count) throws IOException {
+        int needed = length + count;
+        if (needed > MAX_FRAME_SIZE) {
+            throw new IOException("Línea excede el tamaño máximo de " + MAX_FRAME_SIZE + " bytes");
+        }
+        if (needed > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.min(Math.max(needed, buffer.length * 2), MAX_FRAME_SIZE));
+        }
+        System.arraycopy(input, from, buffer, length, count);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,217 @@
+package com.giozar04.messages.application.io;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.Deflater;
+
+import com.giozar04.binary.codec.BinaryMessageCodec;
+import com.giozar04.binary.codec.BinaryWriter;
+import com.giozar04.binary.codec.MessageOpcodes;
+import com.giozar04.json.utils.JsonUtils;
+import com.giozar04.messages.domain.enums.WireProtocol;
+import com.giozar04.messages.domain.models.Message;
+
+/**
+ * Escribe los mensajes en el socket en el protocolo acordado. Cada mensaje se escribe completo
+ * bajo un lock, así que varios hilos pueden enviar por la misma conexión sin mezclar bytes.
+ *
+ * Con compresión negociada, cada mensaje se arma primero en memoria para conocer su tamaño y
+ * los que alcanzan el umbral se envían como bloque deflate (ver MessageCompression).
+ */
+public final class MessageWriter implements Closeable {
+
+    // Búferes más grandes que esto se liberan al terminar el mensaje
+    private static final int RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final Writer text;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final BinaryWriter binary = new BinaryWriter();
+    private WireProtocol protocol = WireProtocol.JSON;
+    private MessageOpcodes opcodes = MessageOpcodes.EMPTY;
+    private MessageCompression compression = MessageCompression.NONE;
+    // Solo con compresión: línea JSON armada en memoria y salida de Deflater
+    private LineBuffer line;
+    private Writer lineText;
+    private byte[] compressed;
+
+    public MessageWriter(OutputStream out) {
+        this.out = new BufferedOutputStream(out, 64 * 1024);
+        this.text = new OutputStreamWriter(this.out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Escribe el mensaje y hace flush.
+     */
+    public void write(Message message) throws IOException {
+        lock.lock();
+        try {
+            writeLocked(message);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Escribe el mensaje con la configuración actual y cambia a la nueva para los siguientes,
+     * sin que otro hilo pueda escribir entre ambos pasos.
+     */
+    public void writeAndSwitch(Message message, WireProtocol protocol, MessageOpcodes opcodes,
+            MessageCompression compression) throws IOException {
+        lock.lock();
+        try {
+            writeLocked(message);
+            switchTo(protocol, opcodes, compression);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cambia el protocolo y la compresión a partir del siguiente mensaje.
+     */
+    public void switchTo(WireProtocol protocol, MessageOpcodes opcodes, MessageCompression compression) {
+        lock.lock();
+        try {
+            this.protocol = protocol;
+            this.opcodes = opcodes;
+            this.compression = compression;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public WireProtocol getProtocol() {
+        return protocol;
+    }
+
+    public MessageCompression getCompression() {
+        return compression;
+    }
+
+    private void writeLocked(Message message) throws IOException {
+        if (protocol == WireProtocol.BINARY) {
+            binary.reset();
+            BinaryMessageCodec.write(binary, message, opcodes);
+            if (!writeCompressed(binary.getBuffer(), binary.size())) {
+                binary.writeFrameTo(out);
+            }
+            out.flush();
+        } else if (compression.isEnabled()) {
+            writeLine(message);
+        } else {
+            JsonUtils.writeMessage(message, text);
+            text.write('\n');
+            text.flush();
+        }
+    }
+
+    /**
+     * Arma la línea JSON en memoria y la envía comprimida si conviene, o tal cual si no.
+     */
+    private void writeLine(Message message) throws IOException {
+        if (line == null) {
+            line = new LineBuffer();
+            lineText = new OutputStreamWriter(line, StandardCharsets.UTF_8);
+        }
+        try {
+            JsonUtils.writeMessage(message, lineText);
+            lineText.flush();
+            if (!writeCompressed(line.getBuffer(), line.size())) {
+                out.write(line.getBuffer(), 0, line.size());
+                out.write('\n');
+            }
+            out.flush();
+        } finally {
+            line.reset();
+            if (line.getBuffer().length > RETAINED_BUFFER_SIZE) {
+                line = null;
+                lineText = null;
+            }
+        }
+    }
+
+    /**
+     * Escribe data[0, length) como bloque comprimido si alcanza el umbral y deflate lo reduce.
+     *
+     * @return false si no se escribió nada y el mensaje debe enviarse sin comprimir.
+     */
+    private boolean writeCompressed(byte[] data, int length) throws IOException {
+        if (!compression.shouldCompress(length)) {
+            return false;
+        }
+        int size = deflate(data, length);
+        try {
+            if (size < 0) {
+                return false;
+            }
+            writeInt(size | MessageCompression.COMPRESSED_FLAG);
+            writeInt(length);
+            out.write(compressed, 0, size);
+            return true;
+        } finally {
+            if (compressed.length > RETAINED_BUFFER_SIZE) {
+                compressed = null;
+            }
+        }
+    }
+
+    /**
+     * @return Bytes comprimidos en compressed, o -1 si no resultan menos que el original.
+     */
+    private int deflate(byte[] data, int length) {
+        if (compressed == null) {
+            compressed = new byte[8192];
+        }
+        Deflater deflater = compression.acquireDeflater();
+        try {
+            deflater.setInput(data, 0, length);
+            deflater.finish();
+            int size = 0;
+            while (!deflater.finished()) {
+                if (size == compressed.length) {
+                    if (size >= length) return -1;
+                    compressed = Arrays.copyOf(compressed, Math.min(size * 2, length));
+                }
+                size += deflater.deflate(compressed, size, compressed.length - size);
+            }
+            return size < length ? size : -1;
+        } finally {
+            MessageCompression.release(deflater);
+        }
+    }
+
+    private void writeInt(int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    /**
+     * ByteArrayOutputStream que expone su arreglo para comprimirlo sin copiarlo.
+     */
+    private static final class LineBuffer extends ByteArrayOutputStream {
+
+        LineBuffer() {
+            super(8192);
+        }
+
+        byte[] getBuffer() {
+            return buf;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        text.close();
+    }
+}
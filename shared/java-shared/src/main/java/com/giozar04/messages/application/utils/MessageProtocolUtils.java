@@ -0,0 +1,186 @@
+package com.giozar04.messages.application.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.giozar04.binary.codec.MessageOpcodes;
+import com.giozar04.messages.application.io.MessageCompression;
+import com.giozar04.messages.domain.enums.WireProtocol;
+import com.giozar04.messages.domain.models.Message;
+
+/**
+ * Negociación del formato de los mensajes.
+ *
+ * 1. El servidor envía WELCOME en JSON con los protocolos que acepta en "protocols" y, si
+ *    comprime, su umbral en "compression".
+ * 2. Si ofrece el protocolo o la compresión que prefiere, el cliente envía SET_PROTOCOL en
+ *    JSON (con su propio umbral en "compression" si la pide) y no escribe nada más hasta
+ *    recibir la respuesta.
+ * 3. El servidor responde SET_PROTOCOL en JSON (con la tabla de códigos en "opcodes" si es
+ *    binario y el umbral acordado en "compression", el mayor de los dos) y desde el siguiente
+ *    mensaje lee y escribe en el protocolo acordado.
+ *
+ * Un cliente que no envía SET_PROTOCOL, o un servidor que no ofrece "protocols", siguen en JSON
+ * sin compresión.
+ */
+public class MessageProtocolUtils {
+
+    public static final String WELCOME = "WELCOME";
+    public static final String SET_PROTOCOL = "SET_PROTOCOL";
+
+    public static final String PROTOCOLS_KEY = "protocols";
+    public static final String PROTOCOL_KEY = "protocol";
+    public static final String OPCODES_KEY = "opcodes";
+    public static final String COMPRESSION_KEY = "compression";
+    public static final String ALGORITHM_KEY = "algorithm";
+    public static final String THRESHOLD_KEY = "threshold";
+    public static final String DEFLATE = "deflate";
+
+    private MessageProtocolUtils() {
+    }
+
+    public static void offerProtocols(Message welcome, List<WireProtocol> protocols) {
+        List<String> values = new ArrayList<>(protocols.size());
+        for (WireProtocol protocol : protocols) {
+            values.add(protocol.getValue());
+        }
+        welcome.addData(PROTOCOLS_KEY, values);
+    }
+
+    /**
+     * @return true si el WELCOME del servidor ofrece el protocolo.
+     */
+    public static boolean offers(Message welcome, WireProtocol protocol) {
+        if (!(welcome.getData(PROTOCOLS_KEY) instanceof List<?> offered)) {
+            return false;
+        }
+        for (Object value : offered) {
+            if (protocol.getValue().equalsIgnoreCase(String.valueOf(value))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Agrega al WELCOME el umbral de compresión del servidor, si la tiene habilitada.
+     */
+    public static void offerCompression(Message welcome, MessageCompression compression) {
+        if (compression.isEnabled()) {
+            welcome.addData(COMPRESSION_KEY, compressionData(compression));
+        }
+    }
+
+    /**
+     * @return true si el WELCOME del servidor ofrece compresión deflate.
+     */
+    public static boolean offersCompression(Message welcome) {
+        return thresholdOf(welcome) >= 0;
+    }
+
+    public static Message createProtocolRequest(WireProtocol protocol) {
+        return createProtocolRequest(protocol, MessageCompression.NONE);
+    }
+
+    /**
+     * @param compression Compresión que pide el cliente, o MessageCompression.NONE.
+     */
+    public static Message createProtocolRequest(WireProtocol protocol, MessageCompression compression) {
+        Message request = new Message(SET_PROTOCOL, null);
+        request.addData(PROTOCOL_KEY, protocol.getValue());
+        if (compression.isEnabled()) {
+            request.addData(COMPRESSION_KEY, compressionData(compression));
+        }
+        return request;
+    }
+
+    public static boolean isProtocolRequest(Message message) {
+        return SET_PROTOCOL.equals(message.getType()) && message.getStatus() == Message.Status.PENDING;
+    }
+
+    /**
+     * @return El protocolo de una solicitud o respuesta SET_PROTOCOL.
+     * @throws IllegalArgumentException Si el mensaje no trae un protocolo válido.
+     */
+    public static WireProtocol protocolOf(Message message) {
+        Object value = message.getData(PROTOCOL_KEY);
+        return WireProtocol.fromValue(value != null ? value.toString() : null);
+    }
+
+    /**
+     * Acuerda la compresión de una solicitud SET_PROTOCOL: si ambos lados la quieren, se usa el
+     * mayor de los dos umbrales con el nivel del servidor.
+     *
+     * @param offered Compresión del servidor, o MessageCompression.NONE si no la ofrece.
+     */
+    public static MessageCompression negotiateCompression(Message request, MessageCompression offered) {
+        long requested = thresholdOf(request);
+        if (!offered.isEnabled() || requested < 0) {
+            return MessageCompression.NONE;
+        }
+        int threshold = (int) Math.min(Math.max(requested, offered.getThreshold()), Integer.MAX_VALUE);
+        return MessageCompression.deflate(threshold, offered.getLevel());
+    }
+
+    public static Message createProtocolAck(Message request, WireProtocol protocol, MessageOpcodes opcodes) {
+        return createProtocolAck(request, protocol, opcodes, MessageCompression.NONE);
+    }
+
+    public static Message createProtocolAck(Message request, WireProtocol protocol, MessageOpcodes opcodes,
+            MessageCompression compression) {
+        Message ack = Message.createSuccessMessage(SET_PROTOCOL, "Protocolo " + protocol.getValue());
+        ack.setRequestId(request.getRequestId());
+        ack.addData(PROTOCOL_KEY, protocol.getValue());
+        if (protocol == WireProtocol.BINARY) {
+            ack.addData(OPCODES_KEY, opcodes.getTypes());
+        }
+        if (compression.isEnabled()) {
+            ack.addData(COMPRESSION_KEY, compressionData(compression));
+        }
+        return ack;
+    }
+
+    /**
+     * @return true si el mensaje es la respuesta afirmativa a SET_PROTOCOL; a partir del
+     *         siguiente mensaje el servidor usa el protocolo que indica.
+     */
+    public static boolean isProtocolAck(Message message) {
+        return SET_PROTOCOL.equals(message.getType()) && message.getStatus() == Message.Status.SUCCESS;
+    }
+
+    public static MessageOpcodes opcodesFrom(Message ack) {
+        return ack.getData(OPCODES_KEY) instanceof List<?> types ? MessageOpcodes.of(types) : MessageOpcodes.EMPTY;
+    }
+
+    /**
+     * @param level Nivel con el que este lado comprime lo que envía.
+     * @return La compresión acordada en la respuesta a SET_PROTOCOL, o MessageCompression.NONE.
+     */
+    public static MessageCompression compressionFrom(Message ack, int level) {
+        long threshold = thresholdOf(ack);
+        return threshold >= 0
+                ? MessageCompression.deflate((int) Math.min(threshold, Integer.MAX_VALUE), level)
+                : MessageCompression.NONE;
+    }
+
+    private static Map<String, Object> compressionData(MessageCompression compression) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put(ALGORITHM_KEY, DEFLATE);
+        data.put(THRESHOLD_KEY, compression.getThreshold());
+        return data;
+    }
+
+    /**
+     * @return El umbral de "compression" si el mensaje trae compresión deflate válida, o -1.
+     */
+    private static long thresholdOf(Message message) {
+        if (!(message.getData(COMPRESSION_KEY) instanceof Map<?, ?> data)
+                || !DEFLATE.equalsIgnoreCase(String.valueOf(data.get(ALGORITHM_KEY)))
+                || !(data.get(THRESHOLD_KEY) instanceof Number threshold)) {
+            return -1;
+        }
+        return Math.max(threshold.longValue(), 0);
+    }
+}
@@ -0,0 +1,31 @@
+package com.giozar04.messages.domain.enums;
+
+/**
+ * Formatos en que los mensajes viajan por el socket. Toda conexión empieza en JSON; el
+ * cliente puede pedir BINARY si el WELCOME del servidor lo ofrece.
+ */
+public enum WireProtocol {
+    // Una línea JSON por mensaje
+    JSON("json"),
+    // Tramas con prefijo de longitud (ver BinaryMessageCodec)
+    BINARY("binary");
+
+    private final String value;
+
+    WireProtocol(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static WireProtocol fromValue(String value) {
+        for (WireProtocol protocol : values()) {
+            if (protocol.value.equalsIgnoreCase(value)) {
+                return protocol;
+            }
+        }
+        throw new IllegalArgumentException("Protocolo no válido: " + value);
+    }
+}
@@ -13,6 +13,15 @@ public class Message implements Serializable {
     
     private static final long serialVersionUID = 1L;
     
+    /**
+     * Clave de data que marca una respuesta enviada por partes. En la solicitud vale true
+     * para pedir ese modo; en cada trama de la respuesta indica su StreamFrame.
+     */
+    public static final String STREAM_KEY = "stream";
+    
+    // Campo de data donde llegan las filas de cada lote (va en la trama BEGIN)
+    public static final String STREAM_FIELD_KEY = "field";
+    
     // Tipo de mensaje (comando)
     private String type;
     
@@ -25,6 +34,9 @@ public class Message implements Serializable {
     // Estado del mensaje (éxito, error, etc.)
     private Status status;
     
+    // Identificador que el cliente asigna a la solicitud y el servidor copia en su respuesta
+    private String requestId;
+    
     /**
      * Enumeración para representar el estado de un mensaje.
      */
@@ -34,6 +46,17 @@ public class Message implements Serializable {
         PENDING
     }
     
+    /**
+     * Tramas de una respuesta por partes. Todas comparten el tipo del mensaje:
+     * BEGIN anuncia el campo de data que traerá las filas, cada BATCH trae un lote en ese
+     * campo y END cierra la respuesta con el total ("count") y el estado final.
+     */
+    public enum StreamFrame {
+        BEGIN,
+        BATCH,
+        END
+    }
+    
     /**
      * Constructor por defecto.
      */
@@ -145,6 +168,20 @@ public class Message implements Serializable {
         this.status = status;
     }
     
+    /**
+     * @return El identificador de la solicitud, o null si el mensaje no lo lleva.
+     */
+    public String getRequestId() {
+        return requestId;
+    }
+    
+    /**
+     * @param requestId El identificador de la solicitud a establecer.
+     */
+    public void setRequestId(String requestId) {
+        this.requestId = requestId;
+    }
+    
     /**
      * Crea un mensaje de éxito.
      *
@@ -171,6 +208,40 @@ public class Message implements Serializable {
         return message;
     }
     
+    /**
+     * Crea una trama de una respuesta por partes.
+     *
+     * @param type El tipo de mensaje de la respuesta.
+     * @param frame La trama.
+     * @return Un nuevo mensaje con estado SUCCESS marcado con la trama.
+     */
+    public static Message createStreamFrame(String type, StreamFrame frame) {
+        Message message = createSuccessMessage(type, null);
+        message.addData(STREAM_KEY, frame.name());
+        return message;
+    }
+    
+    /**
+     * @return La trama de la respuesta por partes, o null si es un mensaje completo.
+     */
+    public StreamFrame getStreamFrame() {
+        if (getData(STREAM_KEY) instanceof String frame) {
+            for (StreamFrame value : StreamFrame.values()) {
+                if (value.name().equals(frame)) {
+                    return value;
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * @return true si la solicitud pide la respuesta por partes.
+     */
+    public boolean isStreamRequested() {
+        return Boolean.TRUE.equals(getData(STREAM_KEY));
+    }
+    
     @Override
     public String toString() {
         return "Message{" +
@@ -178,6 +249,7 @@ public class Message implements Serializable {
                 ", content='" + content + '\'' +
                 ", data=" + data +
                 ", status=" + status +
+                ", requestId='" + requestId + '\'' +
                 '}';
     }
     
@@ -189,11 +261,12 @@ public class Message implements Serializable {
         return Objects.equals(type, message.type) &&
                 Objects.equals(content, message.content) &&
                 Objects.equals(data, message.data) &&
-                status == message.status;
+                status == message.status &&
+                Objects.equals(requestId, message.requestId);
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(type, content, data, status);
+        return Objects.hash(type, content, data, status, requestId);
     }
 }
\ No newline at end of file
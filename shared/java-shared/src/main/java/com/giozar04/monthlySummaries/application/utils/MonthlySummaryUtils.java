@@ -0,0 +1,126 @@
+package com.giozar04.monthlySummaries.application.utils;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.monthlySummaries.domain.entities.MonthlySummary;
+import com.giozar04.monthlySummaries.domain.models.MonthlySummaryRequest;
+import com.giozar04.shared.utils.SharedUtils;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+
+/**
+ * Conversión de MonthlySummaryRequest y MonthlySummary a los datos del mensaje
+ * GET_MONTHLY_SUMMARY. Los meses viajan como "AAAA-MM" y los campos nulos se omiten.
+ */
+public class MonthlySummaryUtils {
+
+    public static final String SUMMARIES_KEY = "summaries";
+
+    public static Map<String, Object> requestToMap(MonthlySummaryRequest request) {
+        Map<String, Object> map = new HashMap<>();
+        putIfPresent(map, "userId", request.getUserId());
+        putIfPresent(map, "accountId", request.getAccountId());
+        putIfPresent(map, "category", request.getCategory());
+        if (request.getOperationType() != null) map.put("operationType", request.getOperationType().getValue());
+        if (request.getFromMonth() != null) map.put("fromMonth", request.getFromMonth().toString());
+        if (request.getToMonth() != null) map.put("toMonth", request.getToMonth().toString());
+        return map;
+    }
+
+    /**
+     * @throws IllegalArgumentException si el tipo de operación o algún mes no son válidos.
+     */
+    public static MonthlySummaryRequest mapToRequest(Map<String, Object> map) {
+        MonthlySummaryRequest request = new MonthlySummaryRequest();
+        if (map == null) {
+            return request;
+        }
+        request.setUserId(SharedUtils.parseNullableLong(map.get("userId")));
+        request.setAccountId(SharedUtils.parseNullableLong(map.get("accountId")));
+
+        Object category = map.get("category");
+        if (category != null && !category.toString().isBlank()) {
+            request.setCategory(category.toString().trim());
+        }
+        Object operationType = map.get("operationType");
+        if (operationType != null && !operationType.toString().isBlank()) {
+            request.setOperationType(OperationTypes.fromValue(operationType.toString()));
+        }
+        request.setFromMonth(parseMonth(map.get("fromMonth")));
+        request.setToMonth(parseMonth(map.get("toMonth")));
+        return request;
+    }
+
+    public static Map<String, Object> toMap(MonthlySummary summary) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("userId", summary.getUserId());
+        map.put("month", summary.getMonth().toString());
+        putIfPresent(map, "accountId", summary.getAccountId());
+        map.put("category", summary.getCategory());
+        map.put("operationType", summary.getOperationType().getValue());
+        map.put("total", summary.getTotal());
+        map.put("count", summary.getCount());
+        map.put("minAmount", summary.getMinAmount());
+        map.put("maxAmount", summary.getMaxAmount());
+        return map;
+    }
+
+    public static MonthlySummary fromMap(Map<?, ?> map) {
+        MonthlySummary summary = new MonthlySummary();
+        summary.setUserId(SharedUtils.parseLong(map.get("userId")));
+        summary.setMonth(parseMonth(map.get("month")));
+        summary.setAccountId(SharedUtils.parseNullableLong(map.get("accountId")));
+        summary.setCategory((String) map.get("category"));
+        summary.setOperationType(OperationTypes.fromValue(String.valueOf(map.get("operationType"))));
+        summary.setTotal(SharedUtils.parseBigDecimal(map.get("total")));
+        summary.setCount(SharedUtils.parseLong(map.get("count")));
+        summary.setMinAmount(SharedUtils.parseNullableBigDecimal(map.get("minAmount")));
+        summary.setMaxAmount(SharedUtils.parseNullableBigDecimal(map.get("maxAmount")));
+        return summary;
+    }
+
+    public static void addSummaryData(Message response, List<MonthlySummary> summaries) {
+        List<Map<String, Object>> list = new ArrayList<>(summaries.size());
+        for (MonthlySummary summary : summaries) {
+            list.add(toMap(summary));
+        }
+        response.addData(SUMMARIES_KEY, list);
+        response.addData("count", list.size());
+    }
+
+    /**
+     * @return Los resúmenes leídos de la respuesta, o null si no incluye la lista.
+     * @throws IllegalArgumentException si algún resumen no tiene un formato válido.
+     */
+    public static List<MonthlySummary> summariesFromMessage(Message response) {
+        if (!(response.getData(SUMMARIES_KEY) instanceof List<?> raw)) {
+            return null;
+        }
+        List<MonthlySummary> summaries = new ArrayList<>(raw.size());
+        for (Object item : raw) {
+            if (!(item instanceof Map<?, ?> map)) {
+                throw new IllegalArgumentException("Resumen mensual con formato inesperado: " + item);
+            }
+            summaries.add(fromMap(map));
+        }
+        return summaries;
+    }
+
+    private static YearMonth parseMonth(Object value) {
+        if (value == null || value.toString().isBlank()) return null;
+        try {
+            return YearMonth.parse(value.toString().trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Mes inválido (se espera AAAA-MM): " + value, e);
+        }
+    }
+
+    private static void putIfPresent(Map<String, Object> map, String key, Object value) {
+        if (value != null) map.put(key, value);
+    }
+}
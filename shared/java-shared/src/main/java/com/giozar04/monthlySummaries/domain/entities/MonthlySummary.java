@@ -0,0 +1,80 @@
+package com.giozar04.monthlySummaries.domain.entities;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+
+import com.giozar04.transactions.domain.enums.OperationTypes;
+
+/**
+ * Totales de un mes para una combinación de usuario, cuenta, categoría y tipo de operación.
+ *
+ * La cuenta de un egreso es la de origen y la de un ingreso la de destino (si falta, se usa la
+ * otra). accountId es null para las transacciones sin cuenta.
+ */
+public class MonthlySummary {
+
+    private long userId;
+    private YearMonth month;
+    private Long accountId;
+    private String category;
+    private OperationTypes operationType;
+    private BigDecimal total;
+    private long count;
+    private BigDecimal minAmount;
+    private BigDecimal maxAmount;
+
+    public MonthlySummary() {}
+
+    /**
+     * @return El monto promedio con dos decimales, o cero si no hay transacciones.
+     */
+    public BigDecimal getAverage() {
+        if (count == 0 || total == null) return BigDecimal.ZERO;
+        return total.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+
+    // Getters y setters
+
+    public long getUserId() { return userId; }
+    public void setUserId(long userId) { this.userId = userId; }
+
+    public YearMonth getMonth() { return month; }
+    public void setMonth(YearMonth month) { this.month = month; }
+
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public OperationTypes getOperationType() { return operationType; }
+    public void setOperationType(OperationTypes operationType) { this.operationType = operationType; }
+
+    public BigDecimal getTotal() { return total; }
+    public void setTotal(BigDecimal total) { this.total = total; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public BigDecimal getMinAmount() { return minAmount; }
+    public void setMinAmount(BigDecimal minAmount) { this.minAmount = minAmount; }
+
+    public BigDecimal getMaxAmount() { return maxAmount; }
+    public void setMaxAmount(BigDecimal maxAmount) { this.maxAmount = maxAmount; }
+
+    @Override
+    public String toString() {
+        return "MonthlySummary{" +
+                "userId=" + userId +
+                ", month=" + month +
+                ", accountId=" + accountId +
+                ", category='" + category + '\'' +
+                ", operationType=" + operationType +
+                ", total=" + total +
+                ", count=" + count +
+                ", minAmount=" + minAmount +
+                ", maxAmount=" + maxAmount +
+                '}';
+    }
+}
@@ -0,0 +1,20 @@
+package com.giozar04.monthlySummaries.domain.exceptions;
+
+public class MonthlySummaryExceptions {
+
+    public static class RetrievalException extends RuntimeException {
+        public RetrievalException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class UpdateException extends RuntimeException {
+        public UpdateException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class RebuildException extends RuntimeException {
+        public RebuildException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    public static class ParsingException extends RuntimeException {
+        public ParsingException(String message, Throwable cause) { super(message, cause); }
+    }
+}
@@ -0,0 +1,44 @@
+package com.giozar04.monthlySummaries.domain.models;
+
+import java.time.YearMonth;
+
+import com.giozar04.transactions.domain.enums.OperationTypes;
+
+/**
+ * Filtros de GET_MONTHLY_SUMMARY. Todos son opcionales; el rango de meses es inclusivo en
+ * ambos extremos.
+ */
+public class MonthlySummaryRequest {
+
+    // Meses que se pueden pedir en una sola solicitud (diez años)
+    public static final int MAX_MONTHS = 120;
+
+    private Long userId;
+    private Long accountId;
+    private String category;
+    private OperationTypes operationType;
+    private YearMonth fromMonth;
+    private YearMonth toMonth;
+
+    public MonthlySummaryRequest() {}
+
+    // Getters y setters
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public OperationTypes getOperationType() { return operationType; }
+    public void setOperationType(OperationTypes operationType) { this.operationType = operationType; }
+
+    public YearMonth getFromMonth() { return fromMonth; }
+    public void setFromMonth(YearMonth fromMonth) { this.fromMonth = fromMonth; }
+
+    public YearMonth getToMonth() { return toMonth; }
+    public void setToMonth(YearMonth toMonth) { this.toMonth = toMonth; }
+}
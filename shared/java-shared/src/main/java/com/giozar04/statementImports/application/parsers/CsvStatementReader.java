@@ -0,0 +1,335 @@
+package com.giozar04.statementImports.application.parsers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.giozar04.statementImports.application.utils.StatementImportUtils;
+import com.giozar04.statementImports.domain.entities.StatementRow;
+import com.giozar04.statementImports.domain.exceptions.StatementImportExceptions;
+import com.giozar04.statementImports.domain.interfaces.StatementReader;
+import com.giozar04.statementImports.domain.interfaces.StatementValueFormat;
+import com.giozar04.statementImports.domain.models.StatementImportOptions;
+
+/**
+ * Lector de estados de cuenta en CSV (RFC 4180: campos entre comillas con comillas dobles
+ * escapadas y saltos de línea dentro de las comillas).
+ *
+ * - Busca el encabezado en las primeras MAX_PREAMBLE_LINES líneas, porque muchos bancos ponen
+ *   antes los datos de la cuenta. Las columnas se reconocen por nombre (ver COLUMN_ALIASES).
+ * - Si no se indica el separador, se elige el más frecuente del encabezado entre ',', ';' y
+ *   tabulador.
+ * - Lee el archivo con un búfer fijo y entrega una fila a la vez.
+ */
+public class CsvStatementReader implements StatementReader {
+
+    public static final int MAX_PREAMBLE_LINES = 20;
+
+    private enum Column { DATE, DESCRIPTION, AMOUNT, DEBIT, CREDIT, CATEGORY, MEMO, REFERENCE }
+
+    private static final Map<String, Column> COLUMN_ALIASES = new HashMap<>();
+
+    static {
+        alias(Column.DATE, "fecha", "date", "fecha operacion", "fecha de operacion", "fecha movimiento",
+                "fecha de movimiento", "fecha aplicacion", "transaction date", "posted date", "posting date");
+        alias(Column.DESCRIPTION, "descripcion", "concepto", "description", "detalle", "movimiento",
+                "payee", "name", "nombre");
+        alias(Column.AMOUNT, "monto", "importe", "amount", "cantidad");
+        alias(Column.DEBIT, "cargo", "cargos", "retiro", "retiros", "debito", "debit", "withdrawal");
+        alias(Column.CREDIT, "abono", "abonos", "deposito", "depositos", "credito", "credit", "deposit");
+        alias(Column.CATEGORY, "categoria", "category");
+        alias(Column.MEMO, "memo", "nota", "notas", "comentarios", "observaciones");
+        alias(Column.REFERENCE, "referencia", "reference", "folio", "id");
+    }
+
+    private static void alias(Column column, String... names) {
+        for (String name : names) {
+            COLUMN_ALIASES.put(name, column);
+        }
+    }
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+
+    private char delimiter;
+    private long line = 1;
+    private long recordLine;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+
+    private final int[] columns = new int[Column.values().length];
+    private final StatementValueFormat valueFormat;
+
+    /**
+     * Lee el encabezado.
+     *
+     * @throws StatementImportExceptions.FormatException Si no se encuentra un encabezado con
+     *         fecha, descripción y monto (o cargo y abono).
+     */
+    public CsvStatementReader(Reader in, StatementImportOptions options) throws IOException {
+        this.in = in;
+        this.valueFormat = new PatternValueFormat(options.getDatePatterns(), options.isDecimalComma());
+        skipByteOrderMark();
+        readHeader(options.getCsvDelimiter());
+    }
+
+    @Override
+    public StatementValueFormat getValueFormat() {
+        return valueFormat;
+    }
+
+    @Override
+    public StatementRow next() throws IOException {
+        while (readRecord()) {
+            if (isBlankRecord()) continue;
+
+            StatementRow row = new StatementRow();
+            row.setLineNumber(recordLine);
+            row.setDate(field(Column.DATE));
+            row.setDescription(field(Column.DESCRIPTION));
+            row.setAmount(field(Column.AMOUNT));
+            row.setDebit(field(Column.DEBIT));
+            row.setCredit(field(Column.CREDIT));
+            row.setCategory(field(Column.CATEGORY));
+            row.setMemo(field(Column.MEMO));
+            row.setReference(field(Column.REFERENCE));
+            return row;
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    // ------------------------------------------------------------------
+    // Encabezado
+    // ------------------------------------------------------------------
+
+    private void readHeader(Character configuredDelimiter) throws IOException {
+        for (int i = 0; i < MAX_PREAMBLE_LINES; i++) {
+            String raw = readRawLine();
+            if (raw == null) break;
+            delimiter = configuredDelimiter != null ? configuredDelimiter : detectDelimiter(raw);
+            if (mapColumns(splitHeader(raw))) {
+                return;
+            }
+        }
+        throw new StatementImportExceptions.FormatException(
+                "No se encontró el encabezado del CSV (se necesitan columnas de fecha, descripción y monto, o cargo y abono)", null);
+    }
+
+    private static char detectDelimiter(String header) {
+        int commas = 0, semicolons = 0, tabs = 0;
+        boolean quoted = false;
+        for (int i = 0; i < header.length(); i++) {
+            char c = header.charAt(i);
+            if (c == '"') quoted = !quoted;
+            else if (!quoted && c == ',') commas++;
+            else if (!quoted && c == ';') semicolons++;
+            else if (!quoted && c == '\t') tabs++;
+        }
+        if (semicolons > commas && semicolons >= tabs) return ';';
+        if (tabs > commas) return '\t';
+        return ',';
+    }
+
+    private List<String> splitHeader(String raw) {
+        List<String> names = new ArrayList<>();
+        StringBuilder name = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == delimiter && !quoted) {
+                names.add(name.toString());
+                name.setLength(0);
+            } else {
+                name.append(c);
+            }
+        }
+        names.add(name.toString());
+        return names;
+    }
+
+    /**
+     * @return true si el encabezado tiene las columnas mínimas.
+     */
+    private boolean mapColumns(List<String> names) {
+        Arrays.fill(columns, -1);
+        for (int i = 0; i < names.size(); i++) {
+            Column column = COLUMN_ALIASES.get(StatementImportUtils.normalize(names.get(i)));
+            if (column != null && columns[column.ordinal()] < 0) {
+                columns[column.ordinal()] = i;
+            }
+        }
+        boolean hasAmount = columns[Column.AMOUNT.ordinal()] >= 0
+                || columns[Column.DEBIT.ordinal()] >= 0 || columns[Column.CREDIT.ordinal()] >= 0;
+        return columns[Column.DATE.ordinal()] >= 0 && columns[Column.DESCRIPTION.ordinal()] >= 0 && hasAmount;
+    }
+
+    // ------------------------------------------------------------------
+    // Registros
+    // ------------------------------------------------------------------
+
+    /**
+     * @return El valor recortado de la columna, o null si no existe o está vacío.
+     */
+    private String field(Column column) {
+        int index = columns[column.ordinal()];
+        if (index < 0 || index >= fields.size()) return null;
+        String value = fields.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private boolean isBlankRecord() {
+        for (String value : fields) {
+            if (!value.isBlank()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Lee un registro completo en fields.
+     *
+     * @return false al terminar el archivo.
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        int c = read();
+        if (c < 0) return false;
+
+        recordLine = line;
+        boolean quoted = false;
+        while (c >= 0) {
+            if (quoted) {
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == '\n') {
+                line++;
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return true;
+    }
+
+    /**
+     * @return La siguiente línea sin interpretar comillas, o null al terminar el archivo.
+     */
+    private String readRawLine() throws IOException {
+        int c = read();
+        if (c < 0) return null;
+        StringBuilder raw = new StringBuilder();
+        while (c >= 0 && c != '\n') {
+            if (c != '\r') raw.append((char) c);
+            c = read();
+        }
+        line++;
+        return raw.toString();
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        if (peek() == '\uFEFF') read();
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(buffer, 0, buffer.length);
+        if (n <= 0) return false;
+        position = 0;
+        limit = n;
+        return true;
+    }
+
+    /**
+     * Fechas según los patrones configurados; se prueba primero el último que funcionó, que
+     * en un mismo archivo suele ser el de todas las filas. Los estados de cuenta vienen
+     * ordenados por fecha, así que también se recuerda la última fecha convertida.
+     */
+    private static final class PatternValueFormat implements StatementValueFormat {
+
+        private record ParsedDate(String text, LocalDateTime value) {}
+
+        private final DateTimeFormatter[] formatters;
+        private final boolean decimalComma;
+        private volatile int lastMatch;
+        private volatile ParsedDate lastDate = new ParsedDate(null, null);
+
+        private PatternValueFormat(List<String> patterns, boolean decimalComma) {
+            this.formatters = new DateTimeFormatter[patterns.size()];
+            for (int i = 0; i < formatters.length; i++) {
+                formatters[i] = DateTimeFormatter.ofPattern(patterns.get(i));
+            }
+            this.decimalComma = decimalComma;
+        }
+
+        @Override
+        public LocalDateTime parseDate(String text) {
+            if (text == null) throw new IllegalArgumentException("La fecha es obligatoria");
+            ParsedDate cached = lastDate;
+            if (text.equals(cached.text())) return cached.value();
+
+            int first = lastMatch;
+            for (int i = 0; i < formatters.length; i++) {
+                int index = (first + i) % formatters.length;
+                try {
+                    TemporalAccessor parsed = formatters[index].parseBest(text, LocalDateTime::from, LocalDate::from);
+                    LocalDateTime value = parsed instanceof LocalDateTime dateTime ? dateTime : ((LocalDate) parsed).atStartOfDay();
+                    lastMatch = index;
+                    lastDate = new ParsedDate(text, value);
+                    return value;
+                } catch (DateTimeParseException ignored) {
+                    // Se prueba el siguiente patrón
+                }
+            }
+            throw new IllegalArgumentException("Fecha inválida: " + text);
+        }
+
+        @Override
+        public BigDecimal parseAmount(String text) {
+            return StatementImportUtils.parseAmount(text, decimalComma);
+        }
+    }
+}
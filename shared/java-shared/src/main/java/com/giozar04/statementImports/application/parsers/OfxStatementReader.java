@@ -0,0 +1,174 @@
+package com.giozar04.statementImports.application.parsers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import com.giozar04.statementImports.domain.entities.StatementRow;
+import com.giozar04.statementImports.domain.interfaces.StatementReader;
+import com.giozar04.statementImports.domain.interfaces.StatementValueFormat;
+
+/**
+ * Lector de estados de cuenta OFX, tanto 1.x (SGML, sin etiquetas de cierre) como 2.x (XML).
+ *
+ * Recorre las etiquetas una por una y arma una fila con cada bloque STMTTRN; el resto del
+ * documento (encabezados, saldos, datos de la cuenta) se descarta sin guardarlo.
+ */
+public class OfxStatementReader implements StatementReader {
+
+    private static final StatementValueFormat VALUE_FORMAT = new OfxValueFormat();
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private long line = 1;
+
+    private final StringBuilder text = new StringBuilder();
+
+    public OfxStatementReader(Reader in) {
+        this.in = in;
+    }
+
+    @Override
+    public StatementValueFormat getValueFormat() {
+        return VALUE_FORMAT;
+    }
+
+    @Override
+    public StatementRow next() throws IOException {
+        StatementRow row = null;
+        String tag;
+        while ((tag = nextTag()) != null) {
+            if (tag.equals("STMTTRN")) {
+                row = new StatementRow();
+                row.setLineNumber(line);
+            } else if (tag.equals("/STMTTRN")) {
+                if (row != null) return row;
+            } else if (row != null) {
+                switch (tag) {
+                    case "DTPOSTED" -> row.setDate(readValue());
+                    case "TRNAMT" -> row.setAmount(readValue());
+                    case "NAME", "PAYEE" -> {
+                        if (row.getDescription() == null) row.setDescription(readValue());
+                    }
+                    case "MEMO" -> row.setMemo(readValue());
+                    case "FITID" -> row.setReference(readValue());
+                    case "TRNTYPE" -> row.setType(readValue());
+                    default -> {
+                        // Etiqueta que no se importa
+                    }
+                }
+            }
+        }
+        // Un archivo cortado a la mitad de un STMTTRN todavía entrega esa fila
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    /**
+     * Avanza hasta la siguiente etiqueta, descartando el texto intermedio.
+     *
+     * @return El nombre en mayúsculas ("/NAME" para las de cierre), o null al terminar el archivo.
+     */
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = read()) >= 0 && c != '<') {
+            // Texto fuera de una etiqueta que importa
+        }
+        if (c < 0) return null;
+
+        text.setLength(0);
+        while ((c = read()) >= 0 && c != '>') {
+            if (!Character.isWhitespace(c)) text.append(Character.toUpperCase((char) c));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Lee el texto hasta la siguiente etiqueta, sin consumirla.
+     *
+     * @return El valor sin espacios alrededor y con las entidades XML básicas resueltas, o null si está vacío.
+     */
+    private String readValue() throws IOException {
+        text.setLength(0);
+        int c;
+        while ((c = peek()) >= 0 && c != '<') {
+            text.append((char) read());
+        }
+        String value = text.toString().strip();
+        if (value.isEmpty()) return null;
+        if (value.indexOf('&') >= 0) {
+            value = value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                    .replace("&apos;", "'").replace("&amp;", "&");
+        }
+        return value;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        char c = buffer[position++];
+        if (c == '\n') line++;
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int n = in.read(buffer, 0, buffer.length);
+        if (n <= 0) return false;
+        position = 0;
+        limit = n;
+        return true;
+    }
+
+    /**
+     * Fechas AAAAMMDD[HHMMSS[.XXX]][[-6:CST]] (la zona indicada se ignora: se toma la hora local
+     * del estado de cuenta) y montos con punto decimal (algunos bancos usan coma).
+     */
+    private static final class OfxValueFormat implements StatementValueFormat {
+
+        @Override
+        public LocalDateTime parseDate(String text) {
+            if (text == null) throw new IllegalArgumentException("La fecha es obligatoria");
+            try {
+                if (text.length() < 8) throw new IllegalArgumentException("Fecha inválida: " + text);
+                LocalDate date = LocalDate.of(
+                        Integer.parseInt(text, 0, 4, 10),
+                        Integer.parseInt(text, 4, 6, 10),
+                        Integer.parseInt(text, 6, 8, 10));
+                if (text.length() >= 14 && Character.isDigit(text.charAt(8))) {
+                    return date.atTime(LocalTime.of(
+                            Integer.parseInt(text, 8, 10, 10),
+                            Integer.parseInt(text, 10, 12, 10),
+                            Integer.parseInt(text, 12, 14, 10)));
+                }
+                return date.atStartOfDay();
+            } catch (NumberFormatException | DateTimeException e) {
+                throw new IllegalArgumentException("Fecha inválida: " + text, e);
+            }
+        }
+
+        @Override
+        public BigDecimal parseAmount(String text) {
+            if (text == null) return null;
+            String value = text.indexOf(',') >= 0 && text.indexOf('.') < 0 ? text.replace(',', '.') : text;
+            try {
+                return new BigDecimal(value.strip());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Monto inválido: " + text, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.giozar04.statementImports.application.services;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.giozar04.logging.CustomLogger;
+import com.giozar04.statementImports.domain.entities.StatementRow;
+import com.giozar04.statementImports.domain.exceptions.StatementImportExceptions;
+import com.giozar04.statementImports.domain.interfaces.StatementReader;
+import com.giozar04.statementImports.domain.interfaces.StatementValueFormat;
+import com.giozar04.statementImports.domain.interfaces.TransactionBatchSink;
+import com.giozar04.statementImports.domain.models.StatementCategorizer;
+import com.giozar04.statementImports.domain.models.StatementImportOptions;
+import com.giozar04.statementImports.domain.models.StatementImportReport;
+import com.giozar04.statementImports.domain.models.TransactionDedupeIndex;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.models.TransactionBatchResult;
+
+/**
+ * Importa un estado de cuenta en tres etapas:
+ *
+ * 1. El hilo que llama lee el archivo y arma bloques de blockSize filas.
+ * 2. Un grupo de threads hilos convierte y clasifica los bloques en paralelo (fechas, montos,
+ *    entidad externa, categoría y llave de duplicados).
+ * 3. El hilo que llama recibe los bloques en el orden del archivo, descarta los duplicados y
+ *    envía las transacciones al destino en lotes de batchSize.
+ *
+ * Como mucho hay 2 * threads bloques en proceso, así que la memoria no depende del tamaño del
+ * archivo. Los duplicados se revisan en una sola etapa y en orden, por lo que el índice no
+ * necesita bloqueos.
+ */
+public class StatementImporter {
+
+    private static final CustomLogger LOGGER = CustomLogger.getInstance();
+
+    private record Entry(long lineNumber, Transaction transaction, TransactionDedupeIndex.Key key, String error) {}
+
+    private final StatementCategorizer categorizer;
+    private final TransactionDedupeIndex dedupe;
+    private final TransactionBatchSink sink;
+    private final StatementImportOptions options;
+
+    public StatementImporter(StatementCategorizer categorizer, TransactionDedupeIndex dedupe,
+                             TransactionBatchSink sink, StatementImportOptions options) {
+        options.validate();
+        this.categorizer = categorizer;
+        this.dedupe = dedupe;
+        this.sink = sink;
+        this.options = options;
+    }
+
+    /**
+     * Lee todo el archivo. Las filas inválidas, duplicadas o rechazadas quedan en el reporte
+     * y no detienen la importación.
+     *
+     * @throws StatementImportExceptions.ImportException Si falla la lectura o el destino; las
+     *         filas enviadas hasta ese momento quedan guardadas.
+     */
+    public StatementImportReport run(StatementReader reader) {
+        long start = System.nanoTime();
+        StatementImportReport report = new StatementImportReport();
+        Pending pending = new Pending();
+        StatementValueFormat format = reader.getValueFormat();
+        int maxInFlight = options.getThreads() * 2;
+
+        ExecutorService workers = Executors.newFixedThreadPool(options.getThreads(), workerThreads());
+        Deque<Future<List<Entry>>> inFlight = new ArrayDeque<>(maxInFlight);
+        try {
+            List<StatementRow> block = new ArrayList<>(options.getBlockSize());
+            StatementRow row;
+            while ((row = reader.next()) != null) {
+                report.rowRead();
+                block.add(row);
+                if (block.size() == options.getBlockSize()) {
+                    List<StatementRow> full = block;
+                    inFlight.add(workers.submit(() -> categorize(full, format)));
+                    block = new ArrayList<>(options.getBlockSize());
+                    if (inFlight.size() >= maxInFlight) {
+                        accept(inFlight.poll().get(), pending, report);
+                    }
+                }
+            }
+            if (!block.isEmpty()) {
+                List<StatementRow> last = block;
+                inFlight.add(workers.submit(() -> categorize(last, format)));
+            }
+            while (!inFlight.isEmpty()) {
+                accept(inFlight.poll().get(), pending, report);
+            }
+            flush(pending, report);
+
+        } catch (IOException e) {
+            throw new StatementImportExceptions.ImportException(
+                    "Error al leer el estado de cuenta. " + report, e);
+        } catch (ExecutionException e) {
+            throw new StatementImportExceptions.ImportException(
+                    "Error al clasificar las filas: " + e.getCause().getMessage() + ". " + report, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StatementImportExceptions.ImportException("Importación interrumpida. " + report, e);
+        } catch (RuntimeException e) {
+            if (e instanceof StatementImportExceptions.ImportException) throw e;
+            throw new StatementImportExceptions.ImportException(
+                    "Error al guardar las transacciones: " + e.getMessage() + ". " + report, e);
+        } finally {
+            workers.shutdownNow();
+        }
+
+        report.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        LOGGER.info("Estado de cuenta importado. " + report);
+        return report;
+    }
+
+    /** Etapa 2: se ejecuta en los hilos del grupo. */
+    private List<Entry> categorize(List<StatementRow> rows, StatementValueFormat format) {
+        List<Entry> entries = new ArrayList<>(rows.size());
+        for (StatementRow row : rows) {
+            try {
+                Transaction tx = categorizer.categorize(row, format);
+                entries.add(new Entry(row.getLineNumber(), tx, dedupe.keyOf(tx), null));
+            } catch (IllegalArgumentException e) {
+                entries.add(new Entry(row.getLineNumber(), null, null, e.getMessage()));
+            }
+        }
+        return entries;
+    }
+
+    /** Etapa 3: duplicados y lotes, en el orden del archivo. */
+    private void accept(List<Entry> entries, Pending pending, StatementImportReport report) {
+        for (Entry entry : entries) {
+            if (entry.error() != null) {
+                report.invalid(entry.lineNumber(), entry.error());
+            } else if (dedupe.consume(entry.key())) {
+                report.duplicate();
+            } else {
+                pending.transactions.add(entry.transaction());
+                pending.lineNumbers.add(entry.lineNumber());
+                if (pending.transactions.size() >= options.getBatchSize()) {
+                    flush(pending, report);
+                }
+            }
+        }
+    }
+
+    private void flush(Pending pending, StatementImportReport report) {
+        if (pending.transactions.isEmpty()) return;
+
+        TransactionBatchResult result = sink.insert(pending.transactions);
+        report.created(result.getCreatedCount());
+        for (Map.Entry<Integer, String> error : result.getErrors().entrySet()) {
+            report.failed(pending.lineNumbers.get(error.getKey()), error.getValue());
+        }
+        pending.transactions = new ArrayList<>(options.getBatchSize());
+        pending.lineNumbers.clear();
+    }
+
+    /** Lote en espera de enviarse, con la línea del archivo de cada transacción. */
+    private static final class Pending {
+        private List<Transaction> transactions = new ArrayList<>();
+        private final List<Long> lineNumbers = new ArrayList<>();
+    }
+
+    private static ThreadFactory workerThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, "statement-import-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
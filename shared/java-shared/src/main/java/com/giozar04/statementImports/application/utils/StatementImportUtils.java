@@ -0,0 +1,150 @@
+package com.giozar04.statementImports.application.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.giozar04.statementImports.application.parsers.CsvStatementReader;
+import com.giozar04.statementImports.application.parsers.OfxStatementReader;
+import com.giozar04.statementImports.domain.enums.StatementFormat;
+import com.giozar04.statementImports.domain.interfaces.StatementReader;
+import com.giozar04.statementImports.domain.models.StatementImportOptions;
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+
+public class StatementImportUtils {
+
+    private StatementImportUtils() {
+    }
+
+    /**
+     * Abre el archivo con el lector de su formato (según la extensión).
+     */
+    public static StatementReader openReader(Path file, StatementImportOptions options) throws IOException {
+        StatementFormat format = StatementFormat.fromFileName(file.getFileName().toString());
+        BufferedReader in = Files.newBufferedReader(file, options.getCharset());
+        try {
+            return switch (format) {
+                case CSV -> new CsvStatementReader(in, options);
+                case OFX -> new OfxStatementReader(in);
+            };
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Texto para comparar nombres: minúsculas, sin acentos y con cualquier separador convertido
+     * en un solo espacio ("Café  OXXO-123" y "cafe oxxo 123" quedan iguales).
+     *
+     * @return El texto normalizado, o "" si es null.
+     */
+    public static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder out = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = foldAccent(Character.toLowerCase(text.charAt(i)));
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && out.length() > 0) out.append(' ');
+                pendingSpace = false;
+                out.append(c);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return out.toString();
+    }
+
+    private static char foldAccent(char c) {
+        if (c < 'à') return c;
+        return switch (c) {
+            case 'á', 'à', 'ä', 'â' -> 'a';
+            case 'é', 'è', 'ë', 'ê' -> 'e';
+            case 'í', 'ì', 'ï', 'î' -> 'i';
+            case 'ó', 'ò', 'ö', 'ô' -> 'o';
+            case 'ú', 'ù', 'ü', 'û' -> 'u';
+            case 'ñ' -> 'n';
+            case 'ç' -> 'c';
+            default -> c;
+        };
+    }
+
+    /**
+     * Quita los espacios repetidos y recorta el texto a maxLength caracteres.
+     *
+     * @return El texto limpio, o null si queda vacío.
+     */
+    public static String cleanText(String text, int maxLength) {
+        if (text == null) return null;
+        StringBuilder clean = new StringBuilder(Math.min(text.length(), maxLength));
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length() && clean.length() < maxLength; i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = clean.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    clean.append(' ');
+                    pendingSpace = false;
+                    if (clean.length() == maxLength) break;
+                }
+                clean.append(c);
+            }
+        }
+        return clean.length() == 0 ? null : clean.toString();
+    }
+
+    /**
+     * Convierte montos como "$1,234.56", "-1234.56", "(1,234.56)" o "1.234,56" (con
+     * decimalComma). Los paréntesis y el signo final ("1234.56-") indican un cargo.
+     *
+     * @return El monto, o null si el texto está vacío.
+     * @throws IllegalArgumentException Si el texto no es un monto.
+     */
+    public static BigDecimal parseAmount(String text, boolean decimalComma) {
+        if (text == null) return null;
+        StringBuilder digits = new StringBuilder(text.length());
+        boolean negative = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            } else if (c == '-' || c == '(') {
+                negative = true;
+            } else if (c == (decimalComma ? ',' : '.')) {
+                digits.append('.');
+            } else if (c == (decimalComma ? '.' : ',') || c == ')' || c == '+' || c == '$'
+                    || Character.isWhitespace(c) || Character.isLetter(c)) {
+                // Separador de miles, símbolo o moneda ("MXN")
+            } else {
+                throw new IllegalArgumentException("Monto inválido: " + text);
+            }
+        }
+        if (digits.length() == 0) {
+            if (text.isBlank()) return null;
+            throw new IllegalArgumentException("Monto inválido: " + text);
+        }
+        try {
+            BigDecimal amount = new BigDecimal(digits.toString());
+            return negative ? amount.negate() : amount;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Monto inválido: " + text, e);
+        }
+    }
+
+    /**
+     * Método de pago según el tipo de movimiento de OFX (TRNTYPE).
+     */
+    public static PaymentMethod paymentMethodFor(String type, PaymentMethod defaultMethod) {
+        if (type == null) return defaultMethod;
+        return switch (type.strip().toUpperCase()) {
+            case "POS" -> PaymentMethod.CARD;
+            case "ATM", "CASH" -> PaymentMethod.CASH;
+            case "XFER", "DIRECTDEP", "DIRECTDEBIT", "PAYMENT" -> PaymentMethod.TRANSFER;
+            default -> defaultMethod;
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.giozar04.statementImports.domain.entities;
+
+/**
+ * Fila de un estado de cuenta tal como viene en el archivo, sin convertir.
+ *
+ * Los lectores solo separan los campos; las fechas y los montos se convierten después, en
+ * paralelo, con el StatementValueFormat del lector. Los campos que no vienen son null.
+ */
+public class StatementRow {
+
+    private long lineNumber;
+    private String date;
+    private String amount;      // con signo: negativo para cargos
+    private String debit;       // cargo sin signo, si el archivo separa cargos y abonos
+    private String credit;      // abono sin signo
+    private String description;
+    private String memo;
+    private String category;
+    private String reference;   // folio o FITID
+    private String type;        // TRNTYPE en OFX
+
+    public StatementRow() {}
+
+    public long getLineNumber() { return lineNumber; }
+    public void setLineNumber(long lineNumber) { this.lineNumber = lineNumber; }
+
+    public String getDate() { return date; }
+    public void setDate(String date) { this.date = date; }
+
+    public String getAmount() { return amount; }
+    public void setAmount(String amount) { this.amount = amount; }
+
+    public String getDebit() { return debit; }
+    public void setDebit(String debit) { this.debit = debit; }
+
+    public String getCredit() { return credit; }
+    public void setCredit(String credit) { this.credit = credit; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getMemo() { return memo; }
+    public void setMemo(String memo) { this.memo = memo; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public String getReference() { return reference; }
+    public void setReference(String reference) { this.reference = reference; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+}
@@ -0,0 +1,39 @@
+package com.giozar04.statementImports.domain.enums;
+
+public enum StatementFormat {
+    CSV("csv", "CSV"),
+    OFX("ofx", "OFX");
+
+    private final String value;
+    private final String label;
+
+    StatementFormat(String value, String label) {
+        this.value = value;
+        this.label = label;
+    }
+
+    public String getValue() { return value; }
+    public String getLabel() { return label; }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    public static StatementFormat fromValue(String value) {
+        for (StatementFormat format : values()) {
+            if (format.getValue().equalsIgnoreCase(value)) return format;
+        }
+        throw new IllegalArgumentException("Formato de estado de cuenta no válido: " + value);
+    }
+
+    /**
+     * Deduce el formato por la extensión del archivo (.csv, .txt, .ofx o .qfx).
+     */
+    public static StatementFormat fromFileName(String fileName) {
+        String lower = fileName.toLowerCase();
+        if (lower.endsWith(".ofx") || lower.endsWith(".qfx")) return OFX;
+        if (lower.endsWith(".csv") || lower.endsWith(".txt")) return CSV;
+        throw new IllegalArgumentException("No se reconoce el formato del archivo: " + fileName);
+    }
+}
@@ -0,0 +1,14 @@
+package com.giozar04.statementImports.domain.exceptions;
+
+public class StatementImportExceptions {
+
+    /** El archivo no tiene la estructura esperada (por ejemplo, falta el encabezado). */
+    public static class FormatException extends RuntimeException {
+        public FormatException(String message, Throwable cause) { super(message, cause); }
+    }
+
+    /** La importación se detuvo; las filas ya enviadas quedan guardadas. */
+    public static class ImportException extends RuntimeException {
+        public ImportException(String message, Throwable cause) { super(message, cause); }
+    }
+}
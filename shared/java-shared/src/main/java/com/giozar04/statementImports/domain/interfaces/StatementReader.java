@@ -0,0 +1,22 @@
+package com.giozar04.statementImports.domain.interfaces;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import com.giozar04.statementImports.domain.entities.StatementRow;
+
+/**
+ * Lee un estado de cuenta fila por fila, sin cargar el archivo completo en memoria.
+ */
+public interface StatementReader extends Closeable {
+
+    /**
+     * @return La siguiente fila, o null al terminar el archivo.
+     */
+    StatementRow next() throws IOException;
+
+    /**
+     * @return Cómo convertir las fechas y los montos de las filas de este archivo.
+     */
+    StatementValueFormat getValueFormat();
+}
@@ -0,0 +1,23 @@
+package com.giozar04.statementImports.domain.interfaces;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Conversión de los textos de una fila según el formato del archivo. Las implementaciones no
+ * guardan estado y se usan desde varios hilos a la vez.
+ */
+public interface StatementValueFormat {
+
+    /**
+     * @return La fecha; las fechas sin hora quedan al inicio del día.
+     * @throws IllegalArgumentException Si el texto no es una fecha válida.
+     */
+    LocalDateTime parseDate(String text);
+
+    /**
+     * @return El monto, o null si el texto está vacío.
+     * @throws IllegalArgumentException Si el texto no es un monto válido.
+     */
+    BigDecimal parseAmount(String text);
+}
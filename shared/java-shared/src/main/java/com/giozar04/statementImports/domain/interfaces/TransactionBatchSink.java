@@ -0,0 +1,18 @@
+package com.giozar04.statementImports.domain.interfaces;
+
+import java.util.List;
+
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.models.TransactionBatchResult;
+
+/**
+ * Destino de las transacciones importadas, normalmente CREATE_TRANSACTIONS_BATCH.
+ */
+@FunctionalInterface
+public interface TransactionBatchSink {
+
+    /**
+     * Guarda el lote y devuelve el resultado de cada fila en el mismo orden.
+     */
+    TransactionBatchResult insert(List<Transaction> transactions);
+}
@@ -0,0 +1,178 @@
+package com.giozar04.statementImports.domain.models;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.giozar04.categories.domain.entities.Category;
+import com.giozar04.externalEntities.domain.entities.ExternalEntity;
+import com.giozar04.statementImports.application.utils.StatementImportUtils;
+import com.giozar04.statementImports.domain.entities.StatementRow;
+import com.giozar04.statementImports.domain.interfaces.StatementValueFormat;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+
+/**
+ * Convierte filas de un estado de cuenta en transacciones de la cuenta importada.
+ *
+ * - Entidad externa: la de nombre más largo que aparezca completo, palabra por palabra, en la
+ *   descripción (o en el memo). Los nombres se buscan en un índice por primera palabra, así
+ *   que el costo por fila depende de las palabras de la fila y no del número de entidades.
+ * - Categoría: la de la columna de categoría si coincide con una existente (se usa su nombre
+ *   tal como está guardado); si no, la que más se ha usado con la entidad externa en las
+ *   transacciones existentes; si no, el texto de la columna tal cual o, sin columna, la
+ *   categoría por defecto.
+ *
+ * Los índices se arman antes de importar (constructor y learn) y después solo se leen, así que
+ * categorize se puede llamar desde varios hilos a la vez.
+ */
+public class StatementCategorizer {
+
+    public static final int MAX_TEXT_LENGTH = 100;   // concept y category son VARCHAR(100)
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("9999999999.99");   // DECIMAL(12,2)
+    private static final String DEFAULT_CONCEPT = "Movimiento importado";
+
+    private record EntityName(String[] words, ExternalEntity entity) {}
+
+    private final StatementImportOptions options;
+    private final Map<String, String> categoryNames = new HashMap<>();
+    private final Map<String, List<EntityName>> entitiesByFirstWord = new HashMap<>();
+
+    // Uso de categorías por entidad externa en las transacciones existentes
+    private final Map<Long, Map<String, Integer>> categoryUse = new HashMap<>();
+    private final Map<Long, String> learnedCategory = new HashMap<>();
+
+    /**
+     * @param categories Categorías disponibles; si options trae usuario, solo se usan las suyas.
+     * @param entities Entidades externas disponibles, con el mismo filtro.
+     */
+    public StatementCategorizer(List<Category> categories, List<ExternalEntity> entities, StatementImportOptions options) {
+        this.options = options;
+        Long userId = options.getUserId();
+
+        for (Category category : categories) {
+            if (userId != null && category.getUserId() != userId) continue;
+            String key = StatementImportUtils.normalize(category.getName());
+            if (!key.isEmpty()) categoryNames.putIfAbsent(key, category.getName());
+        }
+        for (ExternalEntity entity : entities) {
+            if (userId != null && entity.getUserId() != userId) continue;
+            String key = StatementImportUtils.normalize(entity.getName());
+            if (key.isEmpty()) continue;
+            String[] words = key.split(" ");
+            entitiesByFirstWord.computeIfAbsent(words[0], k -> new ArrayList<>()).add(new EntityName(words, entity));
+        }
+    }
+
+    /**
+     * Registra la categoría de una transacción existente para su entidad externa.
+     */
+    public void learn(Transaction tx) {
+        if (tx.getExternalEntityId() == null || tx.getCategory() == null) return;
+        Long entityId = tx.getExternalEntityId();
+        Map<String, Integer> uses = categoryUse.computeIfAbsent(entityId, k -> new HashMap<>());
+        int count = uses.merge(tx.getCategory(), 1, Integer::sum);
+        String best = learnedCategory.get(entityId);
+        if (best == null || (!best.equals(tx.getCategory()) && count > uses.get(best))) {
+            learnedCategory.put(entityId, tx.getCategory());
+        }
+    }
+
+    /**
+     * @return La transacción de la fila, lista para guardar.
+     * @throws IllegalArgumentException Si la fila no tiene fecha o monto válidos.
+     */
+    public Transaction categorize(StatementRow row, StatementValueFormat format) {
+        LocalDateTime date = format.parseDate(row.getDate());
+        BigDecimal amount = signedAmount(row, format);
+
+        String concept = StatementImportUtils.cleanText(row.getDescription(), MAX_TEXT_LENGTH);
+        if (concept == null) concept = StatementImportUtils.cleanText(row.getMemo(), MAX_TEXT_LENGTH);
+        if (concept == null) concept = DEFAULT_CONCEPT;
+
+        Transaction tx = new Transaction();
+        if (amount.signum() < 0) {
+            tx.setOperationType(OperationTypes.EXPENSE);
+            tx.setSourceAccountId(options.getAccountId());
+        } else {
+            tx.setOperationType(OperationTypes.INCOME);
+            tx.setDestinationAccountId(options.getAccountId());
+        }
+        tx.setAmount(amount.abs());
+        tx.setPaymentMethod(StatementImportUtils.paymentMethodFor(row.getType(), options.getDefaultPaymentMethod()));
+        tx.setConcept(concept);
+        tx.setDescription(row.getMemo() != null && !row.getMemo().equals(row.getDescription()) ? row.getMemo() : null);
+        tx.setComments(row.getReference() != null ? "Ref. " + row.getReference() : null);
+        tx.setDate(date.atZone(options.getZone()));
+        tx.setTimezone(options.getZone().getId());
+        tx.setTags(options.getTags());
+
+        ExternalEntity entity = matchEntity(row.getDescription());
+        if (entity == null) entity = matchEntity(row.getMemo());
+        if (entity != null) tx.setExternalEntityId(entity.getId());
+        tx.setCategory(resolveCategory(row.getCategory(), entity));
+        return tx;
+    }
+
+    private static BigDecimal signedAmount(StatementRow row, StatementValueFormat format) {
+        BigDecimal amount = format.parseAmount(row.getAmount());
+        if (amount == null) {
+            BigDecimal debit = format.parseAmount(row.getDebit());
+            BigDecimal credit = format.parseAmount(row.getCredit());
+            if (debit != null && debit.signum() != 0) {
+                amount = debit.abs().negate();
+            } else if (credit != null) {
+                amount = credit.abs();
+            }
+        }
+        if (amount == null) throw new IllegalArgumentException("El monto es obligatorio");
+        amount = amount.setScale(2, RoundingMode.HALF_UP);
+        if (amount.signum() == 0) throw new IllegalArgumentException("El monto no puede ser cero");
+        if (amount.abs().compareTo(MAX_AMOUNT) > 0) {
+            throw new IllegalArgumentException("Monto fuera de rango: " + amount);
+        }
+        return amount;
+    }
+
+    private ExternalEntity matchEntity(String text) {
+        if (text == null || entitiesByFirstWord.isEmpty()) return null;
+        String[] words = StatementImportUtils.normalize(text).split(" ");
+
+        EntityName best = null;
+        for (int i = 0; i < words.length; i++) {
+            List<EntityName> candidates = entitiesByFirstWord.get(words[i]);
+            if (candidates == null) continue;
+            for (EntityName candidate : candidates) {
+                if ((best == null || candidate.words().length > best.words().length) && matchesAt(words, i, candidate.words())) {
+                    best = candidate;
+                }
+            }
+        }
+        return best != null ? best.entity() : null;
+    }
+
+    private static boolean matchesAt(String[] words, int start, String[] name) {
+        if (start + name.length > words.length) return false;
+        for (int j = 1; j < name.length; j++) {
+            if (!words[start + j].equals(name[j])) return false;
+        }
+        return true;
+    }
+
+    private String resolveCategory(String rowCategory, ExternalEntity entity) {
+        if (rowCategory != null) {
+            String known = categoryNames.get(StatementImportUtils.normalize(rowCategory));
+            if (known != null) return known;
+        }
+        if (entity != null) {
+            String learned = learnedCategory.get(entity.getId());
+            if (learned != null) return learned;
+        }
+        String text = StatementImportUtils.cleanText(rowCategory, MAX_TEXT_LENGTH);
+        return text != null ? text : options.getDefaultCategory();
+    }
+}
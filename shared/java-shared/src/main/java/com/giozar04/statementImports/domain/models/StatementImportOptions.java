@@ -0,0 +1,101 @@
+package com.giozar04.statementImports.domain.models;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.List;
+
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+
+/**
+ * Parámetros de una importación de estado de cuenta. Solo la cuenta es obligatoria.
+ */
+public class StatementImportOptions {
+
+    public static final List<String> DEFAULT_DATE_PATTERNS = List.of(
+            "yyyy-MM-dd", "dd/MM/yyyy", "dd-MM-yyyy", "d/M/yyyy", "dd/MM/yy",
+            "yyyy-MM-dd HH:mm:ss", "dd/MM/yyyy HH:mm:ss", "dd/MM/yyyy HH:mm");
+
+    private long accountId;
+    private Long userId;                 // filtra categorías y entidades externas del usuario
+    private ZoneId zone = ZoneId.systemDefault();
+    private Charset charset = StandardCharsets.UTF_8;
+
+    // Valores de las transacciones creadas
+    private PaymentMethod defaultPaymentMethod = PaymentMethod.TRANSFER;
+    private String defaultCategory = "Sin categoría";
+    private String tags = "importado";
+
+    // CSV
+    private Character csvDelimiter;      // null: se detecta en el encabezado
+    private List<String> datePatterns = DEFAULT_DATE_PATTERNS;
+    private boolean decimalComma;        // 1.234,56 en lugar de 1,234.56
+
+    // Procesamiento
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private int blockSize = 1_000;       // filas por tarea de clasificación
+    private int batchSize = 2_000;       // filas por envío al destino
+    private int chunkSize = 500;         // filas por transacción de la base de datos
+
+    public StatementImportOptions(long accountId) {
+        this.accountId = accountId;
+    }
+
+    public long getAccountId() { return accountId; }
+    public void setAccountId(long accountId) { this.accountId = accountId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public ZoneId getZone() { return zone; }
+    public void setZone(ZoneId zone) { this.zone = zone; }
+
+    public Charset getCharset() { return charset; }
+    public void setCharset(Charset charset) { this.charset = charset; }
+
+    public PaymentMethod getDefaultPaymentMethod() { return defaultPaymentMethod; }
+    public void setDefaultPaymentMethod(PaymentMethod defaultPaymentMethod) { this.defaultPaymentMethod = defaultPaymentMethod; }
+
+    public String getDefaultCategory() { return defaultCategory; }
+    public void setDefaultCategory(String defaultCategory) { this.defaultCategory = defaultCategory; }
+
+    public String getTags() { return tags; }
+    public void setTags(String tags) { this.tags = tags; }
+
+    public Character getCsvDelimiter() { return csvDelimiter; }
+    public void setCsvDelimiter(Character csvDelimiter) { this.csvDelimiter = csvDelimiter; }
+
+    public List<String> getDatePatterns() { return datePatterns; }
+    public void setDatePatterns(List<String> datePatterns) { this.datePatterns = datePatterns; }
+
+    public boolean isDecimalComma() { return decimalComma; }
+    public void setDecimalComma(boolean decimalComma) { this.decimalComma = decimalComma; }
+
+    public int getThreads() { return threads; }
+    public void setThreads(int threads) { this.threads = threads; }
+
+    public int getBlockSize() { return blockSize; }
+    public void setBlockSize(int blockSize) { this.blockSize = blockSize; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    /**
+     * @throws IllegalArgumentException Si algún valor no es válido.
+     */
+    public void validate() {
+        if (accountId <= 0)
+            throw new IllegalArgumentException("La cuenta de la importación es obligatoria");
+        if (zone == null || charset == null || defaultPaymentMethod == null)
+            throw new IllegalArgumentException("La zona horaria, la codificación y el método de pago son obligatorios");
+        if (defaultCategory == null || defaultCategory.isBlank())
+            throw new IllegalArgumentException("La categoría por defecto es obligatoria");
+        if (datePatterns == null || datePatterns.isEmpty())
+            throw new IllegalArgumentException("Se necesita al menos un formato de fecha");
+        if (threads <= 0 || blockSize <= 0 || batchSize <= 0 || chunkSize <= 0)
+            throw new IllegalArgumentException("Los hilos y los tamaños de bloque y de lote deben ser mayores que cero");
+    }
+}
@@ -0,0 +1,62 @@
+package com.giozar04.statementImports.domain.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resumen de una importación. Guarda todos los conteos pero solo los primeros MAX_ERRORS
+ * mensajes de error, para que un archivo con millones de filas inválidas no llene la memoria.
+ */
+public class StatementImportReport {
+
+    public static final int MAX_ERRORS = 100;
+
+    private long rowsRead;
+    private long invalid;
+    private long duplicates;
+    private long created;
+    private long failed;
+    private long elapsedMillis;
+    private final List<String> errors = new ArrayList<>();
+
+    public void rowRead() { rowsRead++; }
+    public void duplicate() { duplicates++; }
+    public void created(long count) { created += count; }
+
+    /** Fila que no se pudo convertir en transacción. */
+    public void invalid(long lineNumber, String message) {
+        invalid++;
+        addError(lineNumber, message);
+    }
+
+    /** Fila que el destino rechazó. */
+    public void failed(long lineNumber, String message) {
+        failed++;
+        addError(lineNumber, message);
+    }
+
+    private void addError(long lineNumber, String message) {
+        if (errors.size() < MAX_ERRORS) {
+            errors.add("Línea " + lineNumber + ": " + message);
+        }
+    }
+
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public long getRowsRead() { return rowsRead; }
+    public long getInvalid() { return invalid; }
+    public long getDuplicates() { return duplicates; }
+    public long getCreated() { return created; }
+    public long getFailed() { return failed; }
+    public long getElapsedMillis() { return elapsedMillis; }
+
+    /** Los primeros MAX_ERRORS errores, con su número de línea. */
+    public List<String> getErrors() { return Collections.unmodifiableList(errors); }
+
+    @Override
+    public String toString() {
+        return "Filas leídas: " + rowsRead + ", creadas: " + created + ", duplicadas: " + duplicates
+                + ", inválidas: " + invalid + ", rechazadas: " + failed + " (" + elapsedMillis + " ms)";
+    }
+}
@@ -0,0 +1,75 @@
+package com.giozar04.statementImports.domain.models;
+
+import java.math.RoundingMode;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.giozar04.statementImports.application.utils.StatementImportUtils;
+import com.giozar04.transactions.domain.entities.Transaction;
+
+/**
+ * Índice hash de las transacciones que ya existen en una cuenta, para no importar dos veces
+ * el mismo movimiento. La llave es (día local, monto con signo, concepto normalizado); la
+ * cuenta es la del índice, así que una transferencia cuenta como cargo o como abono según el
+ * lado de la cuenta en que esté.
+ *
+ * Se cuentan las ocurrencias: si la cuenta ya tiene un cargo igual y el archivo trae dos,
+ * solo el primero se descarta, porque dos compras iguales el mismo día son válidas.
+ *
+ * Se llena antes de importar y después solo lo usa el hilo que envía las filas.
+ */
+public class TransactionDedupeIndex {
+
+    public record Key(long epochDay, long cents, String concept) {}
+
+    private final long accountId;
+    private final ZoneId zone;
+    private final Map<Key, Integer> counts = new HashMap<>();
+
+    public TransactionDedupeIndex(long accountId, ZoneId zone) {
+        this.accountId = accountId;
+        this.zone = zone;
+    }
+
+    /** Agrega una transacción existente; las que no tocan la cuenta se ignoran. */
+    public void add(Transaction tx) {
+        Key key = keyOf(tx);
+        if (key != null) {
+            counts.merge(key, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Descarta una ocurrencia de la llave.
+     *
+     * @return true si la llave estaba, es decir, si la fila ya existe en la cuenta.
+     */
+    public boolean consume(Key key) {
+        Integer count = counts.get(key);
+        if (count == null) return false;
+        if (count == 1) {
+            counts.remove(key);
+        } else {
+            counts.put(key, count - 1);
+        }
+        return true;
+    }
+
+    /**
+     * @return La llave de la transacción vista desde la cuenta del índice, o null si no la toca.
+     */
+    public Key keyOf(Transaction tx) {
+        boolean outgoing = Long.valueOf(accountId).equals(tx.getSourceAccountId());
+        if (!outgoing && !Long.valueOf(accountId).equals(tx.getDestinationAccountId())) return null;
+        if (tx.getAmount() == null || tx.getDate() == null) return null;
+
+        long cents = tx.getAmount().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+        long day = tx.getDate().withZoneSameInstant(zone).toLocalDate().toEpochDay();
+        return new Key(day, outgoing ? -cents : cents, StatementImportUtils.normalize(tx.getConcept()));
+    }
+
+    public int size() {
+        return counts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
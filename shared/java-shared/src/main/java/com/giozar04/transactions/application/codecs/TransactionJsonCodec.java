@@ -0,0 +1,100 @@
+package com.giozar04.transactions.application.codecs;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+import com.giozar04.json.codec.JsonEntityCodec;
+import com.giozar04.json.codec.ValueReader;
+import com.giozar04.json.codec.ValueWriter;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+
+/**
+ * Códec JSON de Transaction con los mismos campos que TransactionUtils.toMap/fromMap.
+ */
+public final class TransactionJsonCodec extends JsonEntityCodec<Transaction> {
+
+    private static final TransactionJsonCodec INSTANCE = new TransactionJsonCodec();
+
+    private TransactionJsonCodec() {
+        super(Transaction.class);
+    }
+
+    public static TransactionJsonCodec getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void write(ValueWriter writer, Transaction tx) throws IOException {
+        writer.beginObject();
+        writer.name("id").value(tx.getId());
+        writer.name("operationType").value(tx.getOperationType() != null ? tx.getOperationType().getValue() : null);
+        writer.name("paymentMethod").value(tx.getPaymentMethod() != null ? tx.getPaymentMethod().getValue() : null);
+        writer.name("sourceAccountId").value(tx.getSourceAccountId());
+        writer.name("destinationAccountId").value(tx.getDestinationAccountId());
+        writer.name("externalEntityId").value(tx.getExternalEntityId());
+        writer.name("amount").value(tx.getAmount());
+        writer.name("concept").value(tx.getConcept());
+        writer.name("category").value(tx.getCategory());
+        writer.name("description").value(tx.getDescription());
+        writer.name("comments").value(tx.getComments());
+        writeDateTime(writer, "date", tx.getDate());
+        writer.name("timezone").value(tx.getTimezone());
+        writer.name("tags").value(tx.getTags());
+        writeDateTime(writer, "createdAt", tx.getCreatedAt());
+        writeDateTime(writer, "updatedAt", tx.getUpdatedAt());
+        writer.endObject();
+    }
+
+    @Override
+    protected Transaction newEntity() {
+        return new Transaction();
+    }
+
+    @Override
+    protected boolean readField(ValueReader reader, String name, Transaction tx) {
+        switch (name) {
+            case "id" -> tx.setId(readLong(reader));
+            case "operationType" -> tx.setOperationType(OperationTypes.fromValue(readString(reader)));
+            case "paymentMethod" -> tx.setPaymentMethod(PaymentMethod.fromValue(readString(reader)));
+            case "sourceAccountId" -> tx.setSourceAccountId(readNullableLong(reader));
+            case "destinationAccountId" -> tx.setDestinationAccountId(readNullableLong(reader));
+            case "externalEntityId" -> tx.setExternalEntityId(readNullableLong(reader));
+            case "amount" -> tx.setAmount(readBigDecimal(reader));
+            case "concept" -> tx.setConcept(readString(reader));
+            case "category" -> tx.setCategory(readString(reader));
+            case "description" -> tx.setDescription(readString(reader));
+            case "comments" -> tx.setComments(readString(reader));
+            case "date" -> tx.setDate(readDateTime(reader));
+            case "timezone" -> tx.setTimezone(readString(reader));
+            case "tags" -> tx.setTags(readString(reader));
+            case "createdAt" -> tx.setCreatedAt(readDateTime(reader));
+            case "updatedAt" -> tx.setUpdatedAt(readDateTime(reader));
+            default -> {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    protected void complete(Transaction tx) {
+        // fromMap exige ambos enums y usa la fecha actual para las fechas ausentes
+        if (tx.getOperationType() == null) {
+            tx.setOperationType(OperationTypes.fromValue(null));
+        }
+        if (tx.getPaymentMethod() == null) {
+            tx.setPaymentMethod(PaymentMethod.fromValue(null));
+        }
+        if (tx.getDate() == null) {
+            tx.setDate(ZonedDateTime.now());
+        }
+        if (tx.getCreatedAt() == null) {
+            tx.setCreatedAt(ZonedDateTime.now());
+        }
+        if (tx.getUpdatedAt() == null) {
+            tx.setUpdatedAt(ZonedDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.giozar04.transactions.application.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.shared.utils.SharedUtils;
+import com.giozar04.transactions.domain.models.TransactionBatchResult;
+
+/**
+ * Conversión de TransactionBatchResult a los datos de la respuesta CREATE_TRANSACTIONS_BATCH:
+ * ids (uno por fila, null si no se creó), errors ([{index, message}]), created y failed.
+ *
+ * Las filas de la solicitud viajan en el campo "rows" y no en "transactions": ese campo no
+ * tiene códec registrado, así que el servidor recibe cada fila como mapa y puede rechazar solo
+ * las que no tienen un formato válido en lugar de todo el mensaje.
+ */
+public class TransactionBatchUtils {
+
+    public static final String ROWS_KEY = "rows";
+
+    public static void addResultData(Message response, TransactionBatchResult result) {
+        List<Map<String, Object>> errors = new ArrayList<>(result.getFailedCount());
+        for (Map.Entry<Integer, String> error : result.getErrors().entrySet()) {
+            Map<String, Object> map = new HashMap<>();
+            map.put("index", error.getKey());
+            map.put("message", error.getValue());
+            errors.add(map);
+        }
+        response.addData("ids", result.getIds());
+        response.addData("errors", errors);
+        response.addData("created", result.getCreatedCount());
+        response.addData("failed", result.getFailedCount());
+    }
+
+    /**
+     * @return El resultado leído de la respuesta, o null si no incluye la lista de ids.
+     */
+    public static TransactionBatchResult resultFromMessage(Message response) {
+        if (!(response.getData("ids") instanceof List<?> ids)) {
+            return null;
+        }
+        TransactionBatchResult result = new TransactionBatchResult(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = SharedUtils.parseNullableLong(ids.get(i));
+            if (id != null) {
+                result.created(i, id);
+            }
+        }
+        if (response.getData("errors") instanceof List<?> errors) {
+            for (Object raw : errors) {
+                if (raw instanceof Map<?, ?> error) {
+                    Integer index = SharedUtils.parseNullableInt(error.get("index"));
+                    if (index != null && index >= 0 && index < ids.size()) {
+                        result.failed(index, String.valueOf(error.get("message")));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,108 @@
+package com.giozar04.transactions.application.utils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.giozar04.messages.domain.models.Message;
+import com.giozar04.shared.utils.SharedUtils;
+import com.giozar04.transactions.domain.entities.Transaction;
+import com.giozar04.transactions.domain.enums.OperationTypes;
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+import com.giozar04.transactions.domain.models.TransactionPage;
+import com.giozar04.transactions.domain.models.TransactionPageRequest;
+
+/**
+ * Conversión de TransactionPageRequest y TransactionPage a los datos del mensaje
+ * GET_TRANSACTIONS_PAGE. Los campos nulos se omiten.
+ */
+public class TransactionPageUtils {
+
+    public static Map<String, Object> requestToMap(TransactionPageRequest request) {
+        Map<String, Object> map = new HashMap<>();
+        putIfPresent(map, "userId", request.getUserId());
+        putIfPresent(map, "accountId", request.getAccountId());
+        if (request.getOperationType() != null) map.put("operationType", request.getOperationType().getValue());
+        if (request.getPaymentMethod() != null) map.put("paymentMethod", request.getPaymentMethod().getValue());
+        if (request.getDateFrom() != null) map.put("dateFrom", request.getDateFrom().format(SharedUtils.getFormatter()));
+        if (request.getDateTo() != null) map.put("dateTo", request.getDateTo().format(SharedUtils.getFormatter()));
+        putIfPresent(map, "conceptText", request.getConceptText());
+        if (request.hasCursor()) {
+            map.put("afterDate", request.getAfterDate().format(SharedUtils.getFormatter()));
+            map.put("afterId", request.getAfterId());
+        }
+        map.put("limit", request.getLimit());
+        return map;
+    }
+
+    /**
+     * @throws IllegalArgumentException si el tipo de operación o el método de pago no son válidos.
+     */
+    public static TransactionPageRequest mapToRequest(Map<String, Object> map) {
+        TransactionPageRequest request = new TransactionPageRequest();
+        if (map == null) {
+            return request;
+        }
+        request.setUserId(SharedUtils.parseNullableLong(map.get("userId")));
+        request.setAccountId(SharedUtils.parseNullableLong(map.get("accountId")));
+
+        Object operationType = map.get("operationType");
+        if (operationType != null && !operationType.toString().isBlank()) {
+            request.setOperationType(OperationTypes.fromValue(operationType.toString()));
+        }
+        Object paymentMethod = map.get("paymentMethod");
+        if (paymentMethod != null && !paymentMethod.toString().isBlank()) {
+            request.setPaymentMethod(PaymentMethod.fromValue(paymentMethod.toString()));
+        }
+
+        if (map.get("dateFrom") != null) request.setDateFrom(SharedUtils.parseZonedDateTime(map.get("dateFrom")));
+        if (map.get("dateTo") != null) request.setDateTo(SharedUtils.parseZonedDateTime(map.get("dateTo")));
+
+        Object conceptText = map.get("conceptText");
+        if (conceptText != null && !conceptText.toString().isBlank()) {
+            request.setConceptText(conceptText.toString().trim());
+        }
+
+        if (map.get("afterDate") != null && map.get("afterId") != null) {
+            request.setAfterDate(SharedUtils.parseZonedDateTime(map.get("afterDate")));
+            request.setAfterId(SharedUtils.parseNullableLong(map.get("afterId")));
+        }
+
+        Integer limit = SharedUtils.parseNullableInt(map.get("limit"));
+        request.setLimit(limit != null ? limit : TransactionPageRequest.DEFAULT_LIMIT);
+        return request;
+    }
+
+    /**
+     * Agrega la página a los datos de la respuesta: transactions, count, hasMore y el cursor
+     * nextDate/nextId cuando la página no está vacía.
+     */
+    public static void addPageData(Message response, TransactionPage page) {
+        response.addData("transactions", page.getTransactions());
+        response.addData("count", page.getTransactions().size());
+        response.addData("hasMore", page.hasMore());
+        if (page.getNextDate() != null) {
+            response.addData("nextDate", page.getNextDate().format(SharedUtils.getFormatter()));
+            response.addData("nextId", page.getNextId());
+        }
+    }
+
+    /**
+     * @return La página leída de la respuesta, o null si no incluye la lista de transacciones.
+     */
+    public static TransactionPage pageFromMessage(Message response) {
+        List<Transaction> transactions = TransactionUtils.listFromData(response.getData("transactions"));
+        if (transactions == null) {
+            return null;
+        }
+        boolean hasMore = Boolean.parseBoolean(String.valueOf(response.getData("hasMore")));
+        Object nextDate = response.getData("nextDate");
+        return new TransactionPage(transactions, hasMore,
+                nextDate != null ? SharedUtils.parseZonedDateTime(nextDate) : null,
+                SharedUtils.parseNullableLong(response.getData("nextId")));
+    }
+
+    private static void putIfPresent(Map<String, Object> map, String key, Object value) {
+        if (value != null) map.put(key, value);
+    }
+}
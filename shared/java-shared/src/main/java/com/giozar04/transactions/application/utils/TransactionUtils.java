@@ -1,7 +1,9 @@
 package com.giozar04.transactions.application.utils;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.giozar04.shared.utils.SharedUtils;
@@ -56,4 +58,28 @@ public class TransactionUtils {
         tx.setUpdatedAt(SharedUtils.parseZonedDateTime(map.get("updatedAt")));
         return tx;
     }
+
+    /**
+     * Convierte el valor de Message.data en Transaction. El códec JSON ya entrega la entidad;
+     * los mapas se siguen aceptando para mensajes construidos en memoria.
+     */
+    @SuppressWarnings("unchecked")
+    public static Transaction fromData(Object raw) {
+        if (raw instanceof Transaction tx) return tx;
+        if (raw instanceof Map<?, ?> map) return fromMap((Map<String, Object>) map);
+        return null;
+    }
+
+    /**
+     * Convierte una lista de Message.data en entidades, o devuelve null si el valor no es una lista.
+     */
+    public static List<Transaction> listFromData(Object raw) {
+        if (!(raw instanceof List<?> rawList)) return null;
+        List<Transaction> result = new ArrayList<>(rawList.size());
+        for (Object element : rawList) {
+            Transaction tx = fromData(element);
+            if (tx != null) result.add(tx);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,73 @@
+package com.giozar04.transactions.domain.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resultado de CREATE_TRANSACTIONS_BATCH: el id generado de cada fila creada y el error de
+ * cada fila rechazada, ambos por su posición en la solicitud.
+ */
+public class TransactionBatchResult {
+
+    private final Long[] ids;
+    private final Map<Integer, String> errors = new TreeMap<>();
+
+    /**
+     * @param rows Número de filas de la solicitud.
+     */
+    public TransactionBatchResult(int rows) {
+        this.ids = new Long[rows];
+    }
+
+    /** Registra la fila como creada con el id generado. */
+    public void created(int index, long id) {
+        ids[index] = id;
+        errors.remove(index);
+    }
+
+    /** Registra la fila como rechazada; un error posterior de la misma fila reemplaza al anterior. */
+    public void failed(int index, String message) {
+        ids[index] = null;
+        errors.put(index, message);
+    }
+
+    public int getRowCount() {
+        return ids.length;
+    }
+
+    /** @return Los ids por posición; null en las filas que no se crearon. */
+    public List<Long> getIds() {
+        return Collections.unmodifiableList(Arrays.asList(ids));
+    }
+
+    /** @return El id generado de la fila, o null si no se creó. */
+    public Long getId(int index) {
+        return ids[index];
+    }
+
+    /** @return Los mensajes de error por posición de fila, en orden. */
+    public Map<Integer, String> getErrors() {
+        return Collections.unmodifiableMap(errors);
+    }
+
+    public int getCreatedCount() {
+        int created = 0;
+        for (Long id : ids) {
+            if (id != null) created++;
+        }
+        return created;
+    }
+
+    public int getFailedCount() {
+        return errors.size();
+    }
+
+    /** @return Las posiciones de las filas rechazadas. */
+    public List<Integer> getFailedIndexes() {
+        return new ArrayList<>(errors.keySet());
+    }
+}
@@ -0,0 +1,57 @@
+package com.giozar04.transactions.domain.models;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import com.giozar04.transactions.domain.entities.Transaction;
+
+/**
+ * Una página de transacciones y el cursor para pedir la siguiente.
+ */
+public class TransactionPage {
+
+    private final List<Transaction> transactions;
+    private final boolean hasMore;
+    private final ZonedDateTime nextDate;
+    private final Long nextId;
+
+    public TransactionPage(List<Transaction> transactions, boolean hasMore, ZonedDateTime nextDate, Long nextId) {
+        this.transactions = transactions;
+        this.hasMore = hasMore;
+        this.nextDate = nextDate;
+        this.nextId = nextId;
+    }
+
+    /**
+     * Construye la página a partir de las filas leídas. Quien consulta pide limit + 1 filas:
+     * si llegan más de limit hay otra página y la fila extra se descarta.
+     */
+    public static TransactionPage fromRows(List<Transaction> rows, int limit) {
+        boolean hasMore = rows.size() > limit;
+        List<Transaction> transactions = hasMore ? rows.subList(0, limit) : rows;
+        if (transactions.isEmpty()) {
+            return new TransactionPage(transactions, false, null, null);
+        }
+        Transaction last = transactions.get(transactions.size() - 1);
+        return new TransactionPage(transactions, hasMore, last.getDate(), last.getId());
+    }
+
+    public List<Transaction> getTransactions() {
+        return transactions;
+    }
+
+    /** @return true si hay más transacciones después de esta página. */
+    public boolean hasMore() {
+        return hasMore;
+    }
+
+    /** @return Fecha de la última transacción de la página, o null si está vacía. */
+    public ZonedDateTime getNextDate() {
+        return nextDate;
+    }
+
+    /** @return ID de la última transacción de la página, o null si está vacía. */
+    public Long getNextId() {
+        return nextId;
+    }
+}
@@ -0,0 +1,110 @@
+package com.giozar04.transactions.domain.models;
+
+import java.time.ZonedDateTime;
+
+import com.giozar04.transactions.domain.enums.OperationTypes;
+import com.giozar04.transactions.domain.enums.PaymentMethod;
+
+/**
+ * Filtros y cursor para obtener transacciones por páginas, de la más reciente a la más antigua.
+ *
+ * La paginación es por llave (date, id): la siguiente página empieza después de la última
+ * transacción recibida, sin OFFSET. Todos los filtros son opcionales.
+ */
+public class TransactionPageRequest {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    private Long userId;
+    private Long accountId;            // cuenta origen o destino
+    private OperationTypes operationType;
+    private PaymentMethod paymentMethod;
+    private ZonedDateTime dateFrom;    // inclusivo
+    private ZonedDateTime dateTo;      // exclusivo
+    private String conceptText;        // contenido en el concepto
+
+    // Cursor: última transacción de la página anterior
+    private ZonedDateTime afterDate;
+    private Long afterId;
+
+    private int limit = DEFAULT_LIMIT;
+
+    public TransactionPageRequest() {}
+
+    /**
+     * @return Una copia con los mismos filtros cuyo cursor apunta al final de la página indicada.
+     */
+    public TransactionPageRequest nextPage(TransactionPage page) {
+        TransactionPageRequest next = new TransactionPageRequest();
+        next.userId = userId;
+        next.accountId = accountId;
+        next.operationType = operationType;
+        next.paymentMethod = paymentMethod;
+        next.dateFrom = dateFrom;
+        next.dateTo = dateTo;
+        next.conceptText = conceptText;
+        next.limit = limit;
+        next.afterDate = page.getNextDate();
+        next.afterId = page.getNextId();
+        return next;
+    }
+
+    public boolean hasCursor() {
+        return afterDate != null && afterId != null;
+    }
+
+    // Getters y setters
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getAccountId() { return accountId; }
+    public void setAccountId(Long accountId) { this.accountId = accountId; }
+
+    public OperationTypes getOperationType() { return operationType; }
+    public void setOperationType(OperationTypes operationType) { this.operationType = operationType; }
+
+    public PaymentMethod getPaymentMethod() { return paymentMethod; }
+    public void setPaymentMethod(PaymentMethod paymentMethod) { this.paymentMethod = paymentMethod; }
+
+    public ZonedDateTime getDateFrom() { return dateFrom; }
+    public void setDateFrom(ZonedDateTime dateFrom) { this.dateFrom = dateFrom; }
+
+    public ZonedDateTime getDateTo() { return dateTo; }
+    public void setDateTo(ZonedDateTime dateTo) { this.dateTo = dateTo; }
+
+    public String getConceptText() { return conceptText; }
+    public void setConceptText(String conceptText) { this.conceptText = conceptText; }
+
+    public ZonedDateTime getAfterDate() { return afterDate; }
+    public void setAfterDate(ZonedDateTime afterDate) { this.afterDate = afterDate; }
+
+    public Long getAfterId() { return afterId; }
+    public void setAfterId(Long afterId) { this.afterId = afterId; }
+
+    public int getLimit() { return limit; }
+
+    /**
+     * Ajusta el tamaño de página al rango [1, MAX_LIMIT]; un valor no positivo usa DEFAULT_LIMIT.
+     */
+    public void setLimit(int limit) {
+        this.limit = limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+
+    @Override
+    public String toString() {
+        return "TransactionPageRequest{" +
+                "userId=" + userId +
+                ", accountId=" + accountId +
+                ", operationType=" + operationType +
+                ", paymentMethod=" + paymentMethod +
+                ", dateFrom=" + dateFrom +
+                ", dateTo=" + dateTo +
+                ", conceptText='" + conceptText + '\'' +
+                ", afterDate=" + afterDate +
+                ", afterId=" + afterId +
+                ", limit=" + limit +
+                '}';
+    }
+}